@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# 빠른 기동 모드: AOT 처리된 빈 구성 + 학습 실행으로 만든 애플리케이션 CDS 아카이브
+#
+#   scripts/fast-start.sh build           # AOT 빌드 → jar 풀기 → 학습 실행(CDS 아카이브 생성)
+#   scripts/fast-start.sh run [args...]   # 예: scripts/fast-start.sh run --server.port=8080
+#
+# AOT는 빌드 시점 설정으로 빈 구성을 고정한다. 기본 프로파일 전용이며
+# replica/dataset처럼 프로파일·프로퍼티 조건으로 켜지는 빈은 반영되지 않는다.
+# 코드나 의존성이 바뀌면 build를 다시 실행한다 (클래스패스가 다르면 JVM이 아카이브를 무시한다).
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+JAR=backend-0.0.1-SNAPSHOT.jar
+OUT=target/fast-start
+
+case "${1:-run}" in
+  build)
+    mvn -B -q -Pfast-start package -DskipTests
+    rm -rf "$OUT"
+    # CDS는 중첩 jar 안의 클래스를 아카이브하지 못하므로 lib/ 구조로 푼다
+    java -Djarmode=tools -jar "target/$JAR" extract --destination "$OUT"
+    # 컨텍스트 refresh 직후 종료하면서 그때까지 로드한 클래스를 아카이브에 기록한다
+    java -XX:ArchiveClassesAtExit="$OUT/application.jsa" -Dspring.context.exit=onRefresh \
+      -Dspring.aot.enabled=true -jar "$OUT/$JAR" --server.port=0 > "$OUT/training.log" 2>&1
+    echo "CDS 아카이브: $OUT/application.jsa"
+    ;;
+  run)
+    shift $(( $# > 0 ? 1 : 0 ))
+    [ -f "$OUT/application.jsa" ] || { echo "먼저 scripts/fast-start.sh build 를 실행하세요" >&2; exit 1; }
+    exec java -XX:SharedArchiveFile="$OUT/application.jsa" -Dspring.aot.enabled=true -jar "$OUT/$JAR" "$@"
+    ;;
+  *)
+    echo "usage: $0 build|run [args...]" >&2
+    exit 1
+    ;;
+esac
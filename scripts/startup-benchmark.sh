@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# 기동 벤치마크: 프로세스 시작 → 첫 관리자 로그인 성공(시드 적재 완료)까지 걸린 시간
+#
+#   scripts/fast-start.sh build && scripts/startup-benchmark.sh [회수=3]
+#
+# 같은 jar를 네 가지 방식으로 띄워 중앙값(ms)을 비교한다
+#   baseline  : java -jar (fat jar)
+#   cds       : 풀어 둔 jar + CDS 아카이브
+#   aot       : 풀어 둔 jar + spring.aot.enabled
+#   fast-start: CDS + AOT (scripts/fast-start.sh run)
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-3}
+PORT=${PORT:-18080}
+TIMEOUT_SEC=${TIMEOUT_SEC:-300}
+JAR=backend-0.0.1-SNAPSHOT.jar
+OUT=target/fast-start
+LOGIN='{"loginId":"admin","password":"admin1234"}'
+
+[ -f "$OUT/application.jsa" ] || { echo "먼저 scripts/fast-start.sh build 를 실행하세요" >&2; exit 1; }
+
+first_success_ms() {
+  local start end pid
+  start=$(date +%s%N)
+  "$@" --server.port="$PORT" > "$OUT/benchmark.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null -X POST "http://localhost:$PORT/api/v1/auth/login" \
+      -H 'Content-Type: application/json' -d "$LOGIN"; do
+    if ! kill -0 "$pid" 2>/dev/null || (( ($(date +%s%N) - start) / 1000000000 > TIMEOUT_SEC )); then
+      echo "기동 실패: $* (로그: $OUT/benchmark.log)" >&2
+      kill "$pid" 2>/dev/null || true
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo $(( (end - start) / 1000000 ))
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_variant() {
+  local label=$1
+  shift
+  local samples=()
+  for _ in $(seq "$RUNS"); do
+    samples+=("$(first_success_ms "$@")")
+  done
+  printf '%-10s %8s ms   (%s)\n' "$label" "$(printf '%s\n' "${samples[@]}" | median)" "${samples[*]}"
+}
+
+echo "첫 요청 성공까지 (중앙값, ${RUNS}회)"
+run_variant baseline   java -jar "target/$JAR"
+run_variant cds        java -XX:SharedArchiveFile="$OUT/application.jsa" -jar "$OUT/$JAR"
+run_variant aot        java -Dspring.aot.enabled=true -jar "$OUT/$JAR"
+run_variant fast-start java -XX:SharedArchiveFile="$OUT/application.jsa" -Dspring.aot.enabled=true -jar "$OUT/$JAR"
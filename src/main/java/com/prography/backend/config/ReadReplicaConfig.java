@@ -0,0 +1,110 @@
+package com.prography.backend.config;
+
+import com.prography.backend.infrastructure.LocalReplicaSynchronizer;
+import com.prography.backend.infrastructure.ReplicaAwareJpaDialect;
+import com.prography.backend.infrastructure.ReplicaLagMonitor;
+import com.prography.backend.infrastructure.ReplicaRoutingDataSource;
+import com.prography.backend.service.ReadRoutingContext;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (app.datasource.replica.enabled=true).
+ * 애플리케이션이 쓰는 DataSource는 LazyConnectionDataSourceProxy이며, 트랜잭션이 readOnly로 시작되면
+ * 첫 쿼리 시점에 ReplicaRoutingDataSource를 거쳐 replica(또는 지연 시 primary) 커넥션을 얻는다.
+ * 쓰기 트랜잭션과 트랜잭션 밖의 커넥션(Flyway 마이그레이션 등)은 항상 primary로 간다.
+ * replica로 갈 수 있는 읽기 전용 트랜잭션은 2차 캐시/쿼리 캐시를 채우지 않는다 (ReplicaAwareJpaDialect).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username}") String username,
+                                              @Value("${app.datasource.replica.password}") String password,
+                                              @Value("${app.datasource.replica.maximum-pool-size}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${app.datasource.replica.max-lag}") Duration maxLag) {
+        return new ReplicaLagMonitor(primary, replica, maxLag);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica,
+                                                             ReplicaLagMonitor replicaLagMonitor,
+                                                             ReadRoutingContext readRoutingContext) {
+        return new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, readRoutingContext);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+
+    // Spring Boot 기본 어댑터와 같은 설정에, replica 읽기에서 캐시를 채우지 않는 JpaDialect를 끼운다
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties, ReadRoutingContext readRoutingContext) {
+        ReplicaAwareJpaDialect dialect = new ReplicaAwareJpaDialect(readRoutingContext);
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return dialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null) adapter.setDatabase(properties.getDatabase());
+        if (properties.getDatabasePlatform() != null) adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+
+    // 로컬 H2 두 개를 replica처럼 맞춰 둔다. 스키마는 Flyway가 primary에 만든 뒤 복사해야 하므로
+    // Flyway 마이그레이션이 끝난 뒤 생성되는 EMF 이후에 초기화
+    @Bean(initMethod = "initialize")
+    @DependsOn("entityManagerFactory")
+    @ConditionalOnProperty(prefix = "app.datasource.replica.local-sync", name = "enabled", havingValue = "true")
+    public LocalReplicaSynchronizer localReplicaSynchronizer(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica) {
+        return new LocalReplicaSynchronizer(primary, replica);
+    }
+}
@@ -0,0 +1,22 @@
+package com.prography.backend.config;
+
+import com.prography.backend.infrastructure.QueryCountInterceptor;
+import com.prography.backend.infrastructure.ReadYourWritesInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ReadYourWritesInterceptor readYourWritesInterceptor;
+    private final QueryCountInterceptor queryCountInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(queryCountInterceptor).addPathPatterns("/api/**");
+    }
+}
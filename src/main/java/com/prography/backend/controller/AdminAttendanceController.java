@@ -3,11 +3,24 @@ package com.prography.backend.controller;
 import com.prography.backend.common.ApiResponse;
 import com.prography.backend.dto.request.*;
 import com.prography.backend.dto.response.*;
+import com.prography.backend.infrastructure.AttendanceBoardBroadcaster;
+import com.prography.backend.service.AttendanceBatchService;
+import com.prography.backend.service.AttendanceMatrix;
 import com.prography.backend.service.AttendanceService;
+import com.prography.backend.service.CohortMemberRiskIndex;
+import com.prography.backend.service.DepositLedgerService;
+import com.prography.backend.service.IdempotencyService;
+import com.prography.backend.service.ReadRoutingContext;
+import com.prography.backend.service.ResourceVersionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -16,11 +29,32 @@ import java.util.List;
 public class AdminAttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceBatchService attendanceBatchService;
+    private final AttendanceMatrix attendanceMatrix;
+    private final CohortMemberRiskIndex cohortMemberRiskIndex;
+    private final DepositLedgerService depositLedgerService;
+    private final AttendanceBoardBroadcaster attendanceBoardBroadcaster;
+    private final ResourceVersionService resourceVersionService;
+    private final ReadRoutingContext readRoutingContext;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/attendances")
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<AttendanceResponse> register(@Valid @RequestBody RegisterAttendanceRequest request) {
-        return ApiResponse.ok(attendanceService.registerAttendance(request));
+    public ApiResponse<AttendanceResponse> register(
+            @Valid @RequestBody RegisterAttendanceRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest servletRequest) {
+        return idempotencyService.execute("admin-attendance", adminCaller(servletRequest), idempotencyKey, request,
+                () -> ApiResponse.ok(attendanceService.registerAttendance(request)));
+    }
+
+    @PostMapping("/attendances/batch")
+    public ApiResponse<BatchAttendanceResponse> batch(
+            @Valid @RequestBody BatchAttendanceRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest servletRequest) {
+        return idempotencyService.execute("admin-attendance-batch", adminCaller(servletRequest), idempotencyKey, request,
+                () -> ApiResponse.ok(attendanceBatchService.apply(request)));
     }
 
     @PutMapping("/attendances/{id}")
@@ -40,12 +74,59 @@ public class AdminAttendanceController {
     }
 
     @GetMapping("/attendances/sessions/{sessionId}")
-    public ApiResponse<SessionAttendancesResponse> sessionAttendances(@PathVariable Long sessionId) {
+    public ApiResponse<SessionAttendancesResponse> sessionAttendances(@PathVariable Long sessionId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersionService.sessionAttendancesEtag(sessionId))) return null;
         return ApiResponse.ok(attendanceService.getSessionAttendances(sessionId));
     }
 
+    @GetMapping(value = "/attendances/sessions/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter sessionAttendanceStream(@PathVariable Long sessionId) {
+        // 스냅샷 이후 delta는 아웃박스에서 오므로, 스냅샷이 replica 지연만큼 뒤처지지 않게 primary에서 읽는다
+        return attendanceBoardBroadcaster.subscribe(sessionId,
+                () -> readRoutingContext.onPrimary(() -> attendanceService.getSessionAttendances(sessionId)));
+    }
+
+    @GetMapping("/attendances/reports/sessions")
+    public ApiResponse<List<SessionAttendanceRateResponse>> sessionRates() {
+        return ApiResponse.ok(attendanceMatrix.sessionRates());
+    }
+
+    @GetMapping("/attendances/reports/parts")
+    public ApiResponse<List<GroupAttendanceRateResponse>> partRates() {
+        return ApiResponse.ok(attendanceMatrix.partRates());
+    }
+
+    @GetMapping("/attendances/reports/teams")
+    public ApiResponse<List<GroupAttendanceRateResponse>> teamRates() {
+        return ApiResponse.ok(attendanceMatrix.teamRates());
+    }
+
+    @GetMapping("/attendances/reports/streaks")
+    public ApiResponse<List<MemberStreakResponse>> streaks() {
+        return ApiResponse.ok(attendanceMatrix.streaks());
+    }
+
+    // 보증금이 depositBelow 미만이거나 공결이 excusesAtLeast회 이상인 현재 기수 회원 (둘 중 하나는 필요)
+    @GetMapping("/cohort-members/at-risk")
+    public ApiResponse<List<AtRiskMemberResponse>> atRiskMembers(
+            @RequestParam(required = false) Integer depositBelow,
+            @RequestParam(required = false) Integer excusesAtLeast) {
+        return ApiResponse.ok(cohortMemberRiskIndex.findAtRisk(depositBelow, excusesAtLeast));
+    }
+
     @GetMapping("/cohort-members/{cohortMemberId}/deposits")
     public ApiResponse<List<DepositHistoryResponse>> depositHistory(@PathVariable Long cohortMemberId) {
         return ApiResponse.ok(attendanceService.getDepositHistory(cohortMemberId));
     }
+
+    @GetMapping("/cohort-members/{cohortMemberId}/deposits/balance")
+    public ApiResponse<DepositBalanceResponse> depositBalance(
+            @PathVariable Long cohortMemberId, @RequestParam(required = false) Instant at) {
+        return ApiResponse.ok(depositLedgerService.getBalanceAt(cohortMemberId, at != null ? at : Instant.now()));
+    }
+
+    // 관리자 API에는 로그인 세션이 없으므로 클라이언트 IP를 Idempotency-Key의 호출자로 쓴다
+    private static String adminCaller(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
 }
@@ -0,0 +1,27 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.common.ApiResponse;
+import com.prography.backend.dto.response.CacheStatisticsResponse;
+import com.prography.backend.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/statistics")
+    public ApiResponse<CacheStatisticsResponse> getStatistics() {
+        return ApiResponse.ok(cacheStatisticsService.getStatistics());
+    }
+
+    // 측정 구간을 새로 시작할 때 누적 카운터를 0으로 되돌린다
+    @DeleteMapping("/statistics")
+    public ApiResponse<CacheStatisticsResponse> resetStatistics() {
+        cacheStatisticsService.reset();
+        return ApiResponse.ok(cacheStatisticsService.getStatistics());
+    }
+}
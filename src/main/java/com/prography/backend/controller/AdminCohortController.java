@@ -1,9 +1,15 @@
 package com.prography.backend.controller;
 
 import com.prography.backend.common.ApiResponse;
+import com.prography.backend.dto.request.CreatePenaltyPolicyRequest;
+import com.prography.backend.dto.request.PenaltyRecalculationRequest;
 import com.prography.backend.dto.response.*;
 import com.prography.backend.service.CohortService;
+import com.prography.backend.service.PenaltyPolicyService;
+import com.prography.backend.service.PenaltyRecalculationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
@@ -13,6 +19,8 @@ import java.util.List;
 public class AdminCohortController {
 
     private final CohortService cohortService;
+    private final PenaltyPolicyService penaltyPolicyService;
+    private final PenaltyRecalculationService penaltyRecalculationService;
 
     @GetMapping
     public ApiResponse<List<CohortResponse>> getCohorts() {
@@ -23,4 +31,45 @@ public class AdminCohortController {
     public ApiResponse<CohortDetailResponse> getCohortDetail(@PathVariable Long cohortId) {
         return ApiResponse.ok(cohortService.getCohortDetail(cohortId));
     }
+
+    @GetMapping("/{cohortId}/penalty-policies")
+    public ApiResponse<List<PenaltyPolicyResponse>> getPenaltyPolicies(@PathVariable Long cohortId) {
+        return ApiResponse.ok(penaltyPolicyService.getPolicies(cohortId));
+    }
+
+    // 정책은 수정하지 않고 새 버전을 추가한다 (이후 출결부터 적용)
+    @PostMapping("/{cohortId}/penalty-policies")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<PenaltyPolicyResponse> createPenaltyPolicy(
+            @PathVariable Long cohortId, @Valid @RequestBody CreatePenaltyPolicyRequest request) {
+        return ApiResponse.ok(penaltyPolicyService.createPolicy(cohortId, request));
+    }
+
+    // 기간 내 출결 패널티를 최신 정책으로 소급 재계산한다. dryRun이면 예상 합계만, 아니면 작업을 만들어 백그라운드로 실행
+    @PostMapping("/{cohortId}/penalty-recalculations")
+    public ApiResponse<PenaltyRecalculationResponse> recalculatePenalties(
+            @PathVariable Long cohortId, @Valid @RequestBody PenaltyRecalculationRequest request) {
+        return ApiResponse.ok(request.dryRun()
+                ? penaltyRecalculationService.preview(cohortId, request)
+                : penaltyRecalculationService.start(cohortId, request));
+    }
+
+    @GetMapping("/{cohortId}/penalty-recalculations/{jobId}")
+    public ApiResponse<PenaltyRecalculationResponse> getPenaltyRecalculation(
+            @PathVariable Long cohortId, @PathVariable Long jobId) {
+        return ApiResponse.ok(penaltyRecalculationService.getJob(cohortId, jobId));
+    }
+
+    // 실패한 작업을 마지막 체크포인트부터 다시 실행
+    @PostMapping("/{cohortId}/penalty-recalculations/{jobId}/resume")
+    public ApiResponse<PenaltyRecalculationResponse> resumePenaltyRecalculation(
+            @PathVariable Long cohortId, @PathVariable Long jobId) {
+        return ApiResponse.ok(penaltyRecalculationService.resume(cohortId, jobId));
+    }
+
+    // 기수/파트/팀 데이터를 DB에서 직접 바꾼 뒤 참조 데이터 레지스트리를 다시 읽는다
+    @PostMapping("/refresh")
+    public ApiResponse<List<CohortResponse>> refreshCohorts() {
+        return ApiResponse.ok(cohortService.refreshReferenceData());
+    }
 }
@@ -0,0 +1,20 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.common.ApiResponse;
+import com.prography.backend.dto.response.ReconciliationReportResponse;
+import com.prography.backend.service.DepositReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/deposits")
+@RequiredArgsConstructor
+public class AdminDepositController {
+
+    private final DepositReconciliationService depositReconciliationService;
+
+    @PostMapping("/reconciliation")
+    public ApiResponse<ReconciliationReportResponse> reconcile() {
+        return ApiResponse.ok(depositReconciliationService.reconcile());
+    }
+}
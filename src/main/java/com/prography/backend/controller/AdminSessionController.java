@@ -5,11 +5,15 @@ import com.prography.backend.domain.SessionStatus;
 import com.prography.backend.dto.request.*;
 import com.prography.backend.dto.response.*;
 import com.prography.backend.service.QrCodeService;
+import com.prography.backend.service.ResourceVersionService;
 import com.prography.backend.service.SessionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -20,13 +24,25 @@ public class AdminSessionController {
 
     private final SessionService sessionService;
     private final QrCodeService qrCodeService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     public ApiResponse<List<SessionResponse>> getSessions(
             @RequestParam(required = false) SessionStatus status,
             @RequestParam(required = false) LocalDate dateFrom,
-            @RequestParam(required = false) LocalDate dateTo) {
-        return ApiResponse.ok(sessionService.getAdminSessions(status, dateFrom, dateTo));
+            @RequestParam(required = false) LocalDate dateTo,
+            WebRequest webRequest) {
+        Long cohortId = sessionService.getCurrentCohortId();
+        Instant now = Instant.now();
+        String base = resourceVersionService.adminSessionsBase(cohortId);
+        String cached = resourceVersionService.validAdminSessionsEtag(
+                base, webRequest.getHeader(HttpHeaders.IF_NONE_MATCH), now);
+        if (cached != null && webRequest.checkNotModified(cached)) return null;
+
+        List<SessionResponse> sessions = sessionService.getAdminSessions(status, dateFrom, dateTo);
+        String etag = resourceVersionService.adminSessionsEtag(base, sessionService.getNextQrExpiry(cohortId, now));
+        if (webRequest.checkNotModified(etag)) return null;
+        return ApiResponse.ok(sessions);
     }
 
     @PostMapping
@@ -4,10 +4,13 @@ import com.prography.backend.common.ApiResponse;
 import com.prography.backend.dto.request.CheckInRequest;
 import com.prography.backend.dto.response.*;
 import com.prography.backend.service.AttendanceService;
+import com.prography.backend.service.IdempotencyService;
+import com.prography.backend.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -16,20 +19,27 @@ import java.util.List;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final ResourceVersionService resourceVersionService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/attendances")
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<AttendanceResponse> checkIn(@Valid @RequestBody CheckInRequest request) {
-        return ApiResponse.ok(attendanceService.checkIn(request));
+    public ApiResponse<AttendanceResponse> checkIn(
+            @Valid @RequestBody CheckInRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("check-in", "member:" + request.memberId(), idempotencyKey, request,
+                () -> ApiResponse.ok(attendanceService.checkIn(request)));
     }
 
     @GetMapping("/attendances")
-    public ApiResponse<List<MyAttendanceResponse>> getMyAttendances(@RequestParam Long memberId) {
+    public ApiResponse<List<MyAttendanceResponse>> getMyAttendances(@RequestParam Long memberId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersionService.memberAttendancesEtag(memberId))) return null;
         return ApiResponse.ok(attendanceService.getMyAttendances(memberId));
     }
 
     @GetMapping("/members/{memberId}/attendance-summary")
-    public ApiResponse<AttendanceSummaryResponse> getAttendanceSummary(@PathVariable Long memberId) {
+    public ApiResponse<AttendanceSummaryResponse> getAttendanceSummary(@PathVariable Long memberId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersionService.memberAttendancesEtag(memberId))) return null;
         return ApiResponse.ok(attendanceService.getAttendanceSummary(memberId));
     }
 }
@@ -2,7 +2,9 @@ package com.prography.backend.controller;
 
 import com.prography.backend.common.ApiResponse;
 import com.prography.backend.dto.response.MemberResponse;
+import com.prography.backend.dto.response.MemberSyncResponse;
 import com.prography.backend.service.MemberService;
+import com.prography.backend.service.MemberSyncService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,9 +14,16 @@ import org.springframework.web.bind.annotation.*;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberSyncService memberSyncService;
 
     @GetMapping("/{id}")
     public ApiResponse<MemberResponse> getMember(@PathVariable Long id) {
         return ApiResponse.ok(memberService.getMember(id));
     }
+
+    // since 토큰 이후 바뀐 일정/출결만 (since가 없으면 전체). 응답의 token을 다음 요청의 since로 보낸다
+    @GetMapping("/{id}/sync")
+    public ApiResponse<MemberSyncResponse> sync(@PathVariable Long id, @RequestParam(required = false) Long since) {
+        return ApiResponse.ok(memberSyncService.sync(id, since));
+    }
 }
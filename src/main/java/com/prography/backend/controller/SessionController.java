@@ -2,9 +2,11 @@ package com.prography.backend.controller;
 
 import com.prography.backend.common.ApiResponse;
 import com.prography.backend.dto.response.MemberSessionResponse;
+import com.prography.backend.service.ResourceVersionService;
 import com.prography.backend.service.SessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -13,9 +15,13 @@ import java.util.List;
 public class SessionController {
 
     private final SessionService sessionService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
-    public ApiResponse<List<MemberSessionResponse>> getSessions() {
+    public ApiResponse<List<MemberSessionResponse>> getSessions(WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersionService.memberSessionsEtag(sessionService.getCurrentCohortId()))) {
+            return null;
+        }
         return ApiResponse.ok(sessionService.getMemberSessions());
     }
 }
@@ -7,7 +7,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "attendances")
+@Table(name = "attendances",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendances_session_member", columnNames = {"session_id", "member_id"}),
+        indexes = {@Index(name = "idx_attendances_member_created", columnList = "member_id, created_at"),
+                @Index(name = "idx_attendances_qr_code_id", columnList = "qr_code_id"),
+                @Index(name = "idx_attendances_member_change_seq", columnList = "member_id, change_seq")})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,9 +28,9 @@ public class Attendance {
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "qr_code_id")
-    private QrCode qrCode;
+    // 만료된 QR은 qr_code_histories로 보관 후 삭제되므로 연관 대신 id만 둔다 (지워진 QR을 따라가다 EntityNotFoundException이 나지 않게)
+    @Column(name = "qr_code_id")
+    private Long qrCodeId;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -39,8 +43,15 @@ public class Attendance {
 
     private String reason;
 
+    // 패널티를 계산한 정책 버전 (0은 기본 규칙, PenaltyPolicyRegistry)
+    private Integer penaltyPolicyVersion;
+
     private Instant checkedInAt;
 
+    // 커밋 직전 ChangeSequenceService가 JDBC로 기록한다 (엔티티 값은 갱신되지 않으므로 조회 쿼리에서만 쓴다)
+    @Column(insertable = false, updatable = false)
+    private long changeSeq;
+
     @CreationTimestamp
     private Instant createdAt;
 
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "cohort_members")
+@Table(name = "cohort_members",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cohort_members_member_cohort", columnNames = {"member_id", "cohort_id"}))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
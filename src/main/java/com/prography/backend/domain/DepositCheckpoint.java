@@ -0,0 +1,45 @@
+package com.prography.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.Instant;
+
+/**
+ * CohortMember별 보증금 원장 스냅샷.
+ * lastHistoryId까지의 이력을 누적한 결과이며, 시점 조회는 가장 가까운 체크포인트 + 이후 이력으로 계산한다.
+ */
+@Entity
+@Table(name = "deposit_checkpoints",
+        indexes = @Index(name = "idx_deposit_checkpoints_cm_at", columnList = "cohort_member_id, checkpoint_at"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepositCheckpoint {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cohort_member_id", nullable = false)
+    private CohortMember cohortMember;
+
+    @Column(nullable = false)
+    private int balance;
+
+    @Column(nullable = false)
+    private long totalPenalty;
+
+    @Column(nullable = false)
+    private long totalRefund;
+
+    @Column(nullable = false)
+    private Long lastHistoryId;
+
+    // lastHistoryId 이력의 createdAt
+    @Column(name = "checkpoint_at", nullable = false)
+    private Instant checkpointAt;
+
+    @CreationTimestamp
+    private Instant createdAt;
+}
@@ -6,7 +6,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "deposit_histories")
+@Table(name = "deposit_histories",
+        indexes = {@Index(name = "idx_deposit_histories_cm_created", columnList = "cohort_member_id, created_at"),
+                @Index(name = "idx_deposit_histories_cm_id", columnList = "cohort_member_id, id")})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,20 @@
+package com.prography.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * 지각 fromMinute분을 넘긴 뒤의 분당 금액 (다음 구간 전까지)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LateFeeTier {
+    @Column(nullable = false)
+    private int fromMinute;
+
+    @Column(nullable = false)
+    private int feePerMinute;
+}
@@ -0,0 +1,44 @@
+package com.prography.backend.domain;
+
+import com.prography.backend.event.DomainEventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_published_at", columnList = "published_at, id"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventType eventType;
+
+    @Column(nullable = false)
+    private Long cohortMemberId;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    // 재시도 상한을 넘겨 전달을 멈춘 시각
+    private Instant parkedAt;
+}
@@ -2,8 +2,12 @@ package com.prography.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "part")
 @Table(name = "parts")
 @Getter @Setter
 @NoArgsConstructor
@@ -0,0 +1,49 @@
+package com.prography.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기수별 패널티 정책. 수정하지 않고 version을 올려 새로 추가한다 (출결에는 적용된 version이 남는다)
+ */
+@Entity
+@Table(name = "penalty_policies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_penalty_policies_cohort_version", columnNames = {"cohort_id", "version"}))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PenaltyPolicy {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cohort_id", nullable = false)
+    private Cohort cohort;
+
+    @Column(nullable = false)
+    private int version;
+
+    // 지각 후 이 시간(분)까지는 금액을 매기지 않는다
+    @Column(nullable = false)
+    private int graceMinutes;
+
+    @Column(nullable = false)
+    private int lateFeeCap;
+
+    @Column(nullable = false)
+    private int absentFee;
+
+    @ElementCollection
+    @CollectionTable(name = "penalty_policy_tiers", joinColumns = @JoinColumn(name = "policy_id"))
+    @OrderBy("fromMinute")
+    @Builder.Default
+    private List<LateFeeTier> lateFeeTiers = new ArrayList<>();
+
+    @CreationTimestamp
+    private Instant createdAt;
+}
@@ -0,0 +1,75 @@
+package com.prography.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 기수 패널티 소급 재계산 작업. checkpointCohortMemberId 이하의 CohortMember는 처리가 끝났고,
+ * 합계(adjustedAttendances ~ uncollected)는 회원 묶음을 반영한 트랜잭션에서 함께 더한다
+ */
+@Entity
+@Table(name = "penalty_recalculation_jobs",
+        indexes = @Index(name = "idx_penalty_recalculation_jobs_status", columnList = "status"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PenaltyRecalculationJob {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cohort_id", nullable = false)
+    private Cohort cohort;
+
+    @Column(nullable = false)
+    private LocalDate fromDate;
+
+    @Column(nullable = false)
+    private LocalDate toDate;
+
+    // 작업을 만들 때의 기수 최신 정책 버전 (재시작해도 같은 정책으로 계산)
+    @Column(nullable = false)
+    private int policyVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PenaltyRecalculationStatus status;
+
+    @Column(nullable = false)
+    private long checkpointCohortMemberId;
+
+    @Column(nullable = false)
+    private int processedMembers;
+
+    @Column(nullable = false)
+    private int adjustedAttendances;
+
+    @Column(nullable = false)
+    private long penaltyCharged;
+
+    @Column(nullable = false)
+    private long refunded;
+
+    // 보증금이 부족해 걷지 못한 추가 패널티
+    @Column(nullable = false)
+    private long uncollected;
+
+    private String lastError;
+
+    // 작업을 처리 중인 실행기와 그 임대 만료 시각 (PenaltyRecalculationRunner가 조건부 UPDATE로 차지)
+    @Column(length = 100)
+    private String owner;
+
+    private Instant leaseExpiresAt;
+
+    @CreationTimestamp
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+}
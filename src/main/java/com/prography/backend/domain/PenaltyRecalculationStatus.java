@@ -0,0 +1,3 @@
+package com.prography.backend.domain;
+
+public enum PenaltyRecalculationStatus { RUNNING, COMPLETED, FAILED }
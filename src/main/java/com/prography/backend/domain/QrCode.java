@@ -6,7 +6,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.Instant;
 
 @Entity
-@Table(name = "qr_codes")
+@Table(name = "qr_codes",
+        indexes = {@Index(name = "idx_qr_codes_session_expires", columnList = "session_id, expires_at"),
+                @Index(name = "idx_qr_codes_expires_at", columnList = "expires_at")})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,34 @@
+package com.prography.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+
+/**
+ * 만료 후 출결 기록에서 참조 중인 QR 코드의 보관본.
+ * 원본 qr_codes.id를 그대로 유지하므로 attendances.qr_code_id로 계속 추적할 수 있다.
+ */
+@Entity
+@Table(name = "qr_code_histories")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QrCodeHistory {
+    @Id
+    private Long id;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(nullable = false)
+    private String hashValue;
+
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
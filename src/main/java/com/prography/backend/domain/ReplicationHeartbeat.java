@@ -0,0 +1,22 @@
+package com.prography.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+
+/**
+ * 복제 지연 측정용 단일 행 테이블. primary에 주기적으로 현재 시각을 쓰고, replica에서 읽어 지연을 계산한다.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReplicationHeartbeat {
+    @Id
+    private Long id;
+
+    @Column(name = "beat_at", nullable = false)
+    private Instant beatAt;
+}
@@ -2,6 +2,8 @@ package com.prography.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.Instant;
@@ -9,7 +11,11 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "sessions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "session")
+@Table(name = "sessions",
+        indexes = {@Index(name = "idx_sessions_cohort_date", columnList = "cohort_id, date"),
+                @Index(name = "idx_sessions_cohort_change_seq", columnList = "cohort_id, change_seq")})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +44,14 @@ public class Session {
     @Column(nullable = false)
     private SessionStatus status;
 
+    // true면 이 일정의 출결에는 패널티를 매기지 않는다
+    @Column(nullable = false)
+    private boolean penaltyWaived;
+
+    // 커밋 직전 ChangeSequenceService가 JDBC로 기록한다 (엔티티 값은 갱신되지 않으므로 조회 쿼리에서만 쓴다)
+    @Column(insertable = false, updatable = false)
+    private long changeSeq;
+
     @CreationTimestamp
     private Instant createdAt;
 
@@ -0,0 +1,27 @@
+package com.prography.backend.dto.request;
+
+import com.prography.backend.domain.AttendanceStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 한 일정의 출결 등록/수정을 묶어 보낸다. mode가 없으면 ALL_OR_NOTHING
+ */
+public record BatchAttendanceRequest(
+    @NotNull Long sessionId, Mode mode,
+    @NotEmpty @Size(max = 500) List<@Valid @NotNull Item> items) {
+
+    public enum Mode {
+        /** 한 건이라도 실패하면 아무것도 쓰지 않는다 */
+        ALL_OR_NOTHING,
+        /** 성공한 건만 쓴다 */
+        BEST_EFFORT
+    }
+
+    /** attendanceId가 있으면 수정(PUT /attendances/{id}), 없으면 memberId로 등록(POST /attendances) */
+    public record Item(Long attendanceId, Long memberId,
+        @NotNull AttendanceStatus status, Integer lateMinutes, String reason) {}
+}
@@ -0,0 +1,19 @@
+package com.prography.backend.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.List;
+
+/**
+ * @param graceMinutes 지각 후 이 시간(분)까지는 무료
+ * @param lateFeeTiers fromMinute분을 넘긴 지각 분부터 분당 feePerMinute (비우면 지각 패널티 없음)
+ */
+public record CreatePenaltyPolicyRequest(
+    @NotNull @PositiveOrZero Integer graceMinutes,
+    @NotNull @PositiveOrZero Integer lateFeeCap,
+    @NotNull @PositiveOrZero Integer absentFee,
+    @NotNull List<@Valid @NotNull Tier> lateFeeTiers) {
+
+    public record Tier(@NotNull @PositiveOrZero Integer fromMinute, @NotNull @PositiveOrZero Integer feePerMinute) {}
+}
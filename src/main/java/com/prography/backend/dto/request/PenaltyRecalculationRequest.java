@@ -0,0 +1,11 @@
+package com.prography.backend.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+/**
+ * @param from   일정 날짜 기준 시작일 (포함)
+ * @param to     일정 날짜 기준 종료일 (포함)
+ * @param dryRun true면 쓰지 않고 보증금 변동 합계만 계산
+ */
+public record PenaltyRecalculationRequest(@NotNull LocalDate from, @NotNull LocalDate to, boolean dryRun) {}
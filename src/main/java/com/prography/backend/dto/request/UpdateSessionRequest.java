@@ -4,4 +4,5 @@ import com.prography.backend.domain.SessionStatus;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
-public record UpdateSessionRequest(String title, LocalDate date, LocalTime time, String location, SessionStatus status) {}
+public record UpdateSessionRequest(String title, LocalDate date, LocalTime time, String location, SessionStatus status,
+    Boolean penaltyWaived) {}
@@ -0,0 +1,4 @@
+package com.prography.backend.dto.response;
+
+public record AtRiskMemberResponse(Long cohortMemberId, Long memberId, String memberName,
+    String partName, String teamName, int deposit, int excuseCount) {}
@@ -0,0 +1,7 @@
+package com.prography.backend.dto.response;
+
+import com.prography.backend.domain.AttendanceStatus;
+import java.time.Instant;
+
+public record AttendanceDeltaResponse(Long attendanceId, Long sessionId, Long memberId, AttendanceStatus status,
+    Integer lateMinutes, int penaltyAmount, Instant occurredAt) {}
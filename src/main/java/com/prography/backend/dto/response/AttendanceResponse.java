@@ -4,5 +4,5 @@ import com.prography.backend.domain.AttendanceStatus;
 import java.time.Instant;
 
 public record AttendanceResponse(Long id, Long sessionId, Long memberId, AttendanceStatus status,
-    Integer lateMinutes, int penaltyAmount, String reason, Instant checkedInAt,
+    Integer lateMinutes, int penaltyAmount, Integer penaltyPolicyVersion, String reason, Instant checkedInAt,
     Instant createdAt, Instant updatedAt) {}
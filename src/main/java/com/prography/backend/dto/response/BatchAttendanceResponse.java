@@ -0,0 +1,17 @@
+package com.prography.backend.dto.response;
+
+import com.prography.backend.common.ApiResponse;
+import com.prography.backend.dto.request.BatchAttendanceRequest;
+import java.util.List;
+
+/**
+ * @param applied 쓰기가 반영됐는지 (ALL_OR_NOTHING에서 실패 건이 있으면 false)
+ * @param results 요청 items 순서와 같다
+ */
+public record BatchAttendanceResponse(Long sessionId, BatchAttendanceRequest.Mode mode, boolean applied,
+    int succeeded, int failed, List<ItemResult> results) {
+
+    public enum Outcome { CREATED, UPDATED, FAILED, NOT_APPLIED }
+
+    public record ItemResult(int index, Outcome outcome, AttendanceResponse attendance, ApiResponse.ErrorDetail error) {}
+}
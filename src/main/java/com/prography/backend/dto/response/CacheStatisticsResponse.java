@@ -0,0 +1,11 @@
+package com.prography.backend.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CacheStatisticsResponse(Instant since, long secondLevelHits, long secondLevelMisses,
+    long secondLevelPuts, long queryCacheHits, long queryCacheMisses, long queryCachePuts,
+    long queryExecutions, long prepareStatements, List<RegionStats> regions) {
+
+    public record RegionStats(String region, long hits, long misses, long puts, double hitRatio) {}
+}
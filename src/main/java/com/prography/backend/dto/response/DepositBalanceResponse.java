@@ -0,0 +1,6 @@
+package com.prography.backend.dto.response;
+
+import java.time.Instant;
+
+public record DepositBalanceResponse(Long cohortMemberId, Instant at, int balance,
+    long totalPenalty, long totalRefund, Long lastHistoryId) {}
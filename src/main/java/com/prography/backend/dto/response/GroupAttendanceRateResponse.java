@@ -0,0 +1,7 @@
+package com.prography.backend.dto.response;
+
+/**
+ * 파트/팀별 출결률. id와 name이 null이면 소속이 없는 회원 묶음
+ */
+public record GroupAttendanceRateResponse(Long id, String name, int members,
+    int present, int late, int absent, int excused, int unrecorded, Double attendanceRate) {}
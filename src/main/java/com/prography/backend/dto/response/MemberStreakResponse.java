@@ -0,0 +1,4 @@
+package com.prography.backend.dto.response;
+
+public record MemberStreakResponse(Long memberId, String memberName,
+    int currentStreak, int longestStreak, int currentAbsenceStreak) {}
@@ -0,0 +1,6 @@
+package com.prography.backend.dto.response;
+
+import java.util.List;
+
+public record MemberSyncResponse(boolean full, List<MemberSessionResponse> sessions,
+    List<MyAttendanceResponse> attendances, long token) {}
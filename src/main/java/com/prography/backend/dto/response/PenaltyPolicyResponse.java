@@ -0,0 +1,13 @@
+package com.prography.backend.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @param active 기수에 현재 적용 중인 버전인지 (최신 버전)
+ */
+public record PenaltyPolicyResponse(Long id, Long cohortId, int version, boolean active, int graceMinutes,
+    int lateFeeCap, int absentFee, List<Tier> lateFeeTiers, Instant createdAt) {
+
+    public record Tier(int fromMinute, int feePerMinute) {}
+}
@@ -0,0 +1,16 @@
+package com.prography.backend.dto.response;
+
+import com.prography.backend.domain.PenaltyRecalculationStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 패널티 재계산 결과. dryRun이면 jobId/status가 null이고 값은 예상치
+ *
+ * @param depositDelta 회원 보증금 변동 합계 (환급 - 추가 차감)
+ * @param uncollected  보증금이 부족해 걷지 못한 (걷지 못할) 추가 패널티
+ */
+public record PenaltyRecalculationResponse(Long jobId, Long cohortId, LocalDate from, LocalDate to,
+    int policyVersion, boolean dryRun, PenaltyRecalculationStatus status, int processedMembers,
+    int adjustedAttendances, long penaltyCharged, long refunded, long depositDelta, long uncollected,
+    String lastError, Instant createdAt, Instant updatedAt) {}
@@ -0,0 +1,12 @@
+package com.prography.backend.dto.response;
+
+import java.util.List;
+
+public record ReconciliationReportResponse(int cohortMembers, long histories, int driftCount,
+    List<Drift> drifts, long elapsedMs) {
+
+    public enum DriftType { BALANCE_CHAIN_BROKEN, FINAL_BALANCE_MISMATCH, PENALTY_MISMATCH, MISSING_LEDGER }
+
+    public record Drift(DriftType type, Long cohortMemberId, Long historyId, Long attendanceId,
+        long expected, long actual) {}
+}
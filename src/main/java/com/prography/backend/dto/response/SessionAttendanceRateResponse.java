@@ -0,0 +1,7 @@
+package com.prography.backend.dto.response;
+
+import java.time.LocalDate;
+
+public record SessionAttendanceRateResponse(Long sessionId, String title, LocalDate date,
+    int present, int late, int absent, int excused, int unrecorded,
+    Double attendanceRate, Double averageLateMinutes) {}
@@ -6,7 +6,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 public record SessionResponse(Long id, Long cohortId, String title, LocalDate date, LocalTime time,
-    String location, SessionStatus status, AttendanceSummary attendanceSummary,
+    String location, SessionStatus status, boolean penaltyWaived, AttendanceSummary attendanceSummary,
     boolean qrActive, Instant createdAt, Instant updatedAt) {
     public record AttendanceSummary(int present, int absent, int late, int excused, int total) {}
 }
@@ -0,0 +1,14 @@
+package com.prography.backend.event;
+
+import com.prography.backend.domain.Attendance;
+import com.prography.backend.domain.AttendanceStatus;
+import java.time.Instant;
+
+public record AttendanceRecorded(Long attendanceId, Long sessionId, Long memberId, Long cohortMemberId,
+    AttendanceStatus status, Integer lateMinutes, int penaltyAmount, Instant occurredAt) implements DomainEvent {
+
+    public static AttendanceRecorded of(Attendance a, Long cohortMemberId) {
+        return new AttendanceRecorded(a.getId(), a.getSession().getId(), a.getMember().getId(), cohortMemberId,
+                a.getStatus(), a.getLateMinutes(), a.getPenaltyAmount(), Instant.now());
+    }
+}
@@ -0,0 +1,17 @@
+package com.prography.backend.event;
+
+import com.prography.backend.domain.Attendance;
+import com.prography.backend.domain.AttendanceStatus;
+import java.time.Instant;
+
+public record AttendanceUpdated(Long attendanceId, Long sessionId, Long memberId, Long cohortMemberId,
+    AttendanceStatus previousStatus, int previousPenaltyAmount,
+    AttendanceStatus status, Integer lateMinutes, int penaltyAmount, Instant occurredAt) implements DomainEvent {
+
+    public static AttendanceUpdated of(Attendance a, Long cohortMemberId,
+                                       AttendanceStatus previousStatus, int previousPenaltyAmount) {
+        return new AttendanceUpdated(a.getId(), a.getSession().getId(), a.getMember().getId(), cohortMemberId,
+                previousStatus, previousPenaltyAmount, a.getStatus(), a.getLateMinutes(), a.getPenaltyAmount(),
+                Instant.now());
+    }
+}
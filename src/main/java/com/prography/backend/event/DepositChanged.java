@@ -0,0 +1,14 @@
+package com.prography.backend.event;
+
+import com.prography.backend.domain.DepositHistory;
+import com.prography.backend.domain.DepositType;
+import java.time.Instant;
+
+public record DepositChanged(Long cohortMemberId, Long depositHistoryId, DepositType type, int amount,
+    int balanceAfter, Long attendanceId, Instant occurredAt) implements DomainEvent {
+
+    public static DepositChanged of(DepositHistory dh) {
+        return new DepositChanged(dh.getCohortMember().getId(), dh.getId(), dh.getType(), dh.getAmount(),
+                dh.getBalanceAfter(), dh.getAttendance() != null ? dh.getAttendance().getId() : null, Instant.now());
+    }
+}
@@ -0,0 +1,11 @@
+package com.prography.backend.event;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스에 기록되는 도메인 이벤트. 같은 cohortMemberId의 이벤트는 기록 순서대로 전달된다.
+ */
+public sealed interface DomainEvent permits AttendanceRecorded, AttendanceUpdated, DepositChanged {
+    Long cohortMemberId();
+    Instant occurredAt();
+}
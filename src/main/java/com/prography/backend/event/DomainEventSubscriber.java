@@ -0,0 +1,9 @@
+package com.prography.backend.event;
+
+/**
+ * 아웃박스 이벤트 구독자. 전달은 at-least-once이므로 eventId 기준으로 멱등하게 처리해야 한다.
+ * 예외를 던지면 해당 cohortMember의 이후 이벤트는 다음 폴링까지 보류된다.
+ */
+public interface DomainEventSubscriber {
+    void handle(long eventId, DomainEvent event);
+}
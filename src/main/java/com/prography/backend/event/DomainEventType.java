@@ -0,0 +1,21 @@
+package com.prography.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DomainEventType {
+    ATTENDANCE_RECORDED(AttendanceRecorded.class),
+    ATTENDANCE_UPDATED(AttendanceUpdated.class),
+    DEPOSIT_CHANGED(DepositChanged.class);
+
+    private final Class<? extends DomainEvent> payloadType;
+
+    public static DomainEventType of(DomainEvent event) {
+        for (DomainEventType type : values()) {
+            if (type.payloadType == event.getClass()) return type;
+        }
+        throw new IllegalArgumentException("Unknown domain event: " + event.getClass());
+    }
+}
@@ -9,6 +9,10 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "입력값이 올바르지 않습니다"),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다"),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청을 처리 중입니다"),
+    IDEMPOTENCY_STORE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "재시도 보관소가 가득 찼습니다. 잠시 후 다시 시도해주세요"),
     LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "로그인 아이디 또는 비밀번호가 올바르지 않습니다"),
     MEMBER_WITHDRAWN(HttpStatus.FORBIDDEN, "탈퇴한 회원입니다"),
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다"),
@@ -28,7 +32,10 @@ public enum ErrorCode {
     ATTENDANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "출결 기록을 찾을 수 없습니다"),
     ATTENDANCE_ALREADY_CHECKED(HttpStatus.CONFLICT, "이미 출결 체크가 완료되었습니다"),
     EXCUSE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "공결 횟수를 초과했습니다 (최대 3회)"),
-    DEPOSIT_INSUFFICIENT(HttpStatus.BAD_REQUEST, "보증금 잔액이 부족합니다");
+    DEPOSIT_INSUFFICIENT(HttpStatus.BAD_REQUEST, "보증금 잔액이 부족합니다"),
+    PENALTY_RECALCULATION_NOT_FOUND(HttpStatus.NOT_FOUND, "패널티 재계산 작업을 찾을 수 없습니다"),
+    PENALTY_RECALCULATION_IN_PROGRESS(HttpStatus.CONFLICT, "진행 중인 패널티 재계산 작업이 있습니다"),
+    PENALTY_POLICY_VERSION_CONFLICT(HttpStatus.CONFLICT, "같은 기수의 정책이 동시에 추가되었습니다. 다시 시도해주세요");
 
     private final HttpStatus httpStatus;
     private final String message;
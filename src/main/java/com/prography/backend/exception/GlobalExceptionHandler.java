@@ -1,17 +1,24 @@
 package com.prography.backend.exception;
 
 import com.prography.backend.common.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(AppException.class)
     public ResponseEntity<ApiResponse<?>> handleAppException(AppException e) {
         ErrorCode code = e.getErrorCode();
+        count(code);
         return ResponseEntity
                 .status(code.getHttpStatus())
                 .body(ApiResponse.fail(code.name(), code.getMessage()));
@@ -23,6 +30,7 @@ public class GlobalExceptionHandler {
                 .findFirst()
                 .map(fe -> fe.getDefaultMessage())
                 .orElse(ErrorCode.INVALID_INPUT.getMessage());
+        count(ErrorCode.INVALID_INPUT);
         return ResponseEntity
                 .badRequest()
                 .body(ApiResponse.fail(ErrorCode.INVALID_INPUT.name(), message));
@@ -30,8 +38,18 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleException(Exception e) {
+        count(ErrorCode.INTERNAL_ERROR);
         return ResponseEntity
                 .internalServerError()
                 .body(ApiResponse.fail(ErrorCode.INTERNAL_ERROR.name(), ErrorCode.INTERNAL_ERROR.getMessage()));
     }
+
+    // 응답 코드별 오류 수 (app.errors{code=...}), MeterRegistry가 같은 태그의 Counter를 재사용한다
+    private void count(ErrorCode code) {
+        Counter.builder("app.errors")
+                .description("GlobalExceptionHandler가 반환한 오류 응답 수")
+                .tag("code", code.name())
+                .register(meterRegistry)
+                .increment();
+    }
 }
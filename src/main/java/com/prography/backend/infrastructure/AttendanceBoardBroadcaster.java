@@ -0,0 +1,198 @@
+package com.prography.backend.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prography.backend.dto.response.AttendanceDeltaResponse;
+import com.prography.backend.event.AttendanceRecorded;
+import com.prography.backend.event.AttendanceUpdated;
+import com.prography.backend.event.DomainEvent;
+import com.prography.backend.event.DomainEventSubscriber;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 일정별 실시간 출결 보드(SSE) 브로드캐스터.
+ * 아웃박스의 출결 이벤트를 받아 구독 중인 클라이언트에 delta로 전달한다.
+ * 클라이언트마다 버퍼 크기가 제한된 큐와 전송 작업을 두어, 느린 클라이언트가 다른 클라이언트나
+ * 아웃박스 디스패처를 막지 않는다. 버퍼가 넘친 클라이언트는 연결을 끊고, 재연결 시 스냅샷을 다시 받는다.
+ * delta는 디스패처가 이벤트를 꺼내 갈 때 나가므로 커밋 후 최대 app.outbox.poll-interval만큼 늦게 도착한다.
+ * 구독은 이 인스턴스 메모리에만 있고 아웃박스 이벤트는 전달을 임대한 한 인스턴스에만 전달되므로(OutboxDispatcher),
+ * 여러 인스턴스로 운영하면 다른 인스턴스에 연결된 클라이언트는 그 delta를 받지 못한다 (단일 인스턴스 전제, 재연결 시 스냅샷으로 맞춰진다).
+ */
+@Slf4j
+@Component
+public class AttendanceBoardBroadcaster implements DomainEventSubscriber {
+
+    private final Map<Long, Set<Client>> clientsBySession = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    public AttendanceBoardBroadcaster(ObjectMapper objectMapper,
+                                      @Value("${app.attendance-board.sender-threads}") int senderThreads,
+                                      @Value("${app.attendance-board.buffer-size}") int bufferSize,
+                                      @Value("${app.attendance-board.timeout}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        AtomicInteger seq = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "attendance-board-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 클라이언트를 먼저 등록한 뒤 스냅샷을 조회한다. 스냅샷 조회 중에 들어온 delta는 큐에 쌓였다가
+     * 스냅샷 뒤에 전달되므로 누락이 없다 (중복 가능, 클라이언트는 attendanceId 기준으로 덮어쓴다).
+     */
+    public SseEmitter subscribe(Long sessionId, Supplier<?> snapshot) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Client client = new Client(sessionId, emitter);
+        clientsBySession.computeIfAbsent(sessionId, k -> ConcurrentHashMap.newKeySet()).add(client);
+        emitter.onCompletion(() -> remove(client));
+        emitter.onTimeout(() -> remove(client));
+        emitter.onError(e -> remove(client));
+        try {
+            client.start(SseEmitter.event().name("snapshot").data(snapshot.get(), MediaType.APPLICATION_JSON));
+        } catch (RuntimeException e) {
+            remove(client);
+            throw e;
+        }
+        return emitter;
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        AttendanceDeltaResponse delta;
+        if (event instanceof AttendanceRecorded e) {
+            delta = new AttendanceDeltaResponse(e.attendanceId(), e.sessionId(), e.memberId(), e.status(),
+                    e.lateMinutes(), e.penaltyAmount(), e.occurredAt());
+        } else if (event instanceof AttendanceUpdated e) {
+            delta = new AttendanceDeltaResponse(e.attendanceId(), e.sessionId(), e.memberId(), e.status(),
+                    e.lateMinutes(), e.penaltyAmount(), e.occurredAt());
+        } else {
+            return;
+        }
+
+        Set<Client> clients = clientsBySession.get(delta.sessionId());
+        if (clients == null || clients.isEmpty()) return;
+        String json = toJson(delta); // 클라이언트 수와 무관하게 한 번만 직렬화
+        for (Client client : clients) {
+            client.offer(SseEmitter.event().id(String.valueOf(eventId)).name("attendance")
+                    .data(json, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.attendance-board.heartbeat-interval}")
+    public void heartbeat() {
+        clientsBySession.values().forEach(clients ->
+                clients.forEach(c -> c.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int clientCount(Long sessionId) {
+        Set<Client> clients = clientsBySession.get(sessionId);
+        return clients != null ? clients.size() : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void remove(Client client) {
+        client.closed = true;
+        clientsBySession.computeIfPresent(client.sessionId, (k, clients) -> {
+            clients.remove(client);
+            return clients.isEmpty() ? null : clients;
+        });
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize attendance delta", e);
+        }
+    }
+
+    private final class Client {
+        private final Long sessionId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile SseEmitter.SseEventBuilder snapshot;
+        private volatile boolean started;
+        private volatile boolean closed;
+        private volatile boolean overflowed;
+
+        Client(Long sessionId, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void start(SseEmitter.SseEventBuilder snapshot) {
+            this.snapshot = snapshot;
+            this.started = true;
+            schedule();
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) return;
+            if (!queue.offer(event)) {
+                // emitter.complete()는 전송 중인 스레드와 락을 공유하므로 여기서 직접 호출하지 않는다
+                log.info("출결 보드 클라이언트 버퍼 초과로 연결 종료 - sessionId={}", sessionId);
+                overflowed = true;
+                remove(this);
+                queue.clear();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (started && draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                if (snapshot != null) {
+                    emitter.send(snapshot);
+                    snapshot = null;
+                }
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+                if (overflowed) emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !queue.isEmpty()) schedule();
+        }
+    }
+}
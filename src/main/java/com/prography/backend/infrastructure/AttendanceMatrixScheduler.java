@@ -0,0 +1,28 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.AttendanceMatrix;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정/회원 구성이 바뀌어 invalidate()된 출결 행렬을 다시 만들고,
+ * 다른 인스턴스에 전달된 출결 이벤트를 따라잡도록 rebuild-interval마다 통째로 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceMatrixScheduler {
+
+    private final AttendanceMatrix attendanceMatrix;
+
+    @Scheduled(fixedDelayString = "${app.attendance-matrix.refresh-interval}")
+    public void refresh() {
+        attendanceMatrix.rebuildIfStale();
+    }
+
+    @Scheduled(fixedDelayString = "${app.attendance-matrix.rebuild-interval}",
+            initialDelayString = "${app.attendance-matrix.rebuild-interval}")
+    public void rebuild() {
+        attendanceMatrix.rebuild();
+    }
+}
@@ -0,0 +1,27 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.ChangeSequenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChangeLogPurger {
+
+    private final ChangeSequenceService changeSequenceService;
+
+    @Value("${app.sync.retention}")
+    private Duration retention;
+
+    @Scheduled(cron = "${app.sync.purge-cron}", zone = "Asia/Seoul")
+    public void purge() {
+        int deleted = changeSequenceService.purge(Instant.now().minus(retention));
+        log.info("변경 순번 기록 {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,22 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.CohortMemberRiskIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에 전달된 보증금/출결 이벤트와 회원 변경을 따라잡도록 위험 회원 색인을 rebuild-interval마다 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CohortMemberRiskIndexScheduler {
+
+    private final CohortMemberRiskIndex cohortMemberRiskIndex;
+
+    @Scheduled(fixedDelayString = "${app.risk-index.rebuild-interval}",
+            initialDelayString = "${app.risk-index.rebuild-interval}")
+    public void rebuild() {
+        cohortMemberRiskIndex.rebuild();
+    }
+}
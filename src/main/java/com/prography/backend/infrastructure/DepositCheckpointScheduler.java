@@ -0,0 +1,38 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.repository.CohortMemberRepository;
+import com.prography.backend.service.DepositLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepositCheckpointScheduler {
+
+    private final CohortMemberRepository cohortMemberRepository;
+    private final DepositLedgerService depositLedgerService;
+
+    @Value("${app.deposit-checkpoint.min-entries}")
+    private int minEntries;
+
+    @Value("${app.deposit-checkpoint.settle}")
+    private Duration settle;
+
+    @Scheduled(cron = "${app.deposit-checkpoint.cron}", zone = "Asia/Seoul")
+    public void checkpoint() {
+        long start = System.nanoTime();
+        Instant settledBefore = Instant.now().minus(settle);
+        int created = 0;
+        for (Long cohortMemberId : cohortMemberRepository.findAllIds()) {
+            created += depositLedgerService.checkpoint(cohortMemberId, settledBefore, minEntries);
+        }
+        log.info("보증금 체크포인트 생성 {}건, {}ms", created,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+}
@@ -0,0 +1,92 @@
+package com.prography.backend.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 개발용 H2 replica 동기화 (replica 프로파일).
+ * 실제 MySQL 복제를 흉내 내기 위해 primary의 일관된 스냅샷을 주기적으로 replica에 통째로 복사한다.
+ * replica 쪽은 한 트랜잭션으로 교체하므로 조회 중인 커넥션은 이전 스냅샷을 끝까지 본다.
+ * 전체 복사라 데이터가 커지면 비용도 커지므로 운영에서는 사용하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LocalReplicaSynchronizer {
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    /**
+     * primary 스키마를 replica에 만든다. replica는 읽기 전용이고 테이블 단위로 교체하므로 외래키는 옮기지 않는다.
+     */
+    public void initialize() throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Connection p = primary.getConnection();
+             Statement st = p.createStatement();
+             ResultSet rs = st.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (sql.startsWith("CREATE USER") || sql.contains("FOREIGN KEY") || sql.startsWith("--")) continue;
+                ddl.add(sql);
+            }
+        }
+        try (Connection r = replica.getConnection(); Statement st = r.createStatement()) {
+            st.execute("DROP ALL OBJECTS");
+            for (String sql : ddl) st.execute(sql);
+        }
+        sync();
+        log.info("로컬 replica 스키마 생성 - 구문 {}개", ddl.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.local-sync.interval}")
+    public void sync() throws SQLException {
+        try (Connection p = primary.getConnection(); Connection r = replica.getConnection()) {
+            p.setReadOnly(true);
+            p.setAutoCommit(false);
+            p.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            r.setAutoCommit(false);
+            try {
+                for (String table : tables(r)) copy(p, r, table);
+                r.commit();
+            } catch (SQLException e) {
+                r.rollback();
+                throw e;
+            } finally {
+                p.rollback();
+            }
+        }
+    }
+
+    private static List<String> tables(Connection r) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = r.getMetaData().getTables(null, "PUBLIC", null, new String[]{"TABLE"})) {
+            while (rs.next()) tables.add(rs.getString("TABLE_NAME"));
+        }
+        return tables;
+    }
+
+    private static void copy(Connection p, Connection r, String table) throws SQLException {
+        try (Statement del = r.createStatement()) {
+            del.executeUpdate("DELETE FROM \"" + table + "\"");
+        }
+        try (Statement sel = p.createStatement();
+             ResultSet rs = sel.executeQuery("SELECT * FROM \"" + table + "\"")) {
+            int columns = rs.getMetaData().getColumnCount();
+            String insert = "INSERT INTO \"" + table + "\" VALUES (" + "?,".repeat(columns - 1) + "?)";
+            try (PreparedStatement ins = r.prepareStatement(insert)) {
+                int pending = 0;
+                while (rs.next()) {
+                    for (int i = 1; i <= columns; i++) ins.setObject(i, rs.getObject(i));
+                    ins.addBatch();
+                    if (++pending % 500 == 0) ins.executeBatch();
+                }
+                ins.executeBatch();
+            }
+        }
+    }
+}
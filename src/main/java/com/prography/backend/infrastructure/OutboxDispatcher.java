@@ -0,0 +1,58 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 미발행 아웃박스 이벤트를 구독자에게 전달한다.
+ * 여러 인스턴스가 같은 이벤트를 전달하지 않도록 전달을 lease 동안 임대하고 배치마다 연장한다.
+ * 임대를 잃으면(다른 인스턴스가 넘겨받음) 이번 주기 전달을 멈춘다. 배치 하나가 lease보다 오래 걸리면
+ * 넘겨받은 인스턴스가 아직 발행 표시되지 않은 그 배치의 이벤트를 다시 전달할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+    // 인스턴스마다 다른 전달기 id
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    @Value("${app.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-poll}")
+    private int maxBatchesPerPoll;
+
+    @Value("${app.outbox.lease}")
+    private Duration lease;
+
+    @Value("${app.outbox.retention}")
+    private Duration retention;
+
+    // 임대한 인스턴스의 단일 스케줄러 스레드에서만 전달하므로 cohortMember별 순서가 유지된다
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval}")
+    public void dispatch() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            if (!outboxService.claimDispatch(owner, lease)) {
+                log.debug("아웃박스 전달 - 다른 전달기가 임대 중");
+                return;
+            }
+            if (outboxService.dispatchBatch(batchSize) < batchSize) break;
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron}", zone = "Asia/Seoul")
+    public void purge() {
+        int deleted = outboxService.purgePublished(Instant.now().minus(retention));
+        log.info("발행 완료 아웃박스 이벤트 {}건 삭제", deleted);
+    }
+}
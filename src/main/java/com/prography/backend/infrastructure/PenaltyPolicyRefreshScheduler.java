@@ -0,0 +1,22 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.PenaltyPolicyRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 추가된 패널티 정책 버전을 refresh-interval마다 확인해 레지스트리에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PenaltyPolicyRefreshScheduler {
+
+    private final PenaltyPolicyRegistry penaltyPolicies;
+
+    @Scheduled(fixedDelayString = "${app.penalty-policy.refresh-interval}",
+            initialDelayString = "${app.penalty-policy.refresh-interval}")
+    public void refresh() {
+        penaltyPolicies.refreshIfChanged();
+    }
+}
@@ -0,0 +1,123 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.PenaltyRecalculationService;
+import com.prography.backend.service.PenaltyRecalculationService.ChunkResult;
+import com.prography.backend.service.PenaltyRecalculationService.Wave;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RUNNING 상태의 패널티 재계산 작업을 이어서 실행한다.
+ * 체크포인트 다음 회원 chunkSize × parallelism명을 한 번(wave)에 가져와 chunkSize명씩 병렬로 반영하고,
+ * 모든 묶음이 커밋된 뒤에만 체크포인트를 옮긴다. 도중에 프로세스가 죽으면 재시작 후 마지막 체크포인트부터 다시 처리한다
+ * (이미 반영된 묶음은 차액이 0이라 다시 처리해도 결과가 같다).
+ * 여러 인스턴스가 같은 작업을 처리하지 않도록 작업을 lease 동안 임대하고 wave마다 연장한다.
+ * 임대를 잃으면(오래 멈춰 다른 인스턴스가 넘겨받음) 체크포인트를 옮기지 못하고 그 자리에서 멈춘다.
+ */
+@Slf4j
+@Component
+public class PenaltyRecalculationRunner {
+
+    private final PenaltyRecalculationService penaltyRecalculationService;
+    private final ExecutorService workers;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration lease;
+    // 인스턴스마다 다른 실행기 id
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    @Value("${app.penalty-recalculation.enabled}")
+    private boolean enabled;
+
+    public PenaltyRecalculationRunner(PenaltyRecalculationService penaltyRecalculationService,
+                                      @Value("${app.penalty-recalculation.chunk-size}") int chunkSize,
+                                      @Value("${app.penalty-recalculation.parallelism}") int parallelism,
+                                      @Value("${app.penalty-recalculation.lease}") Duration lease) {
+        this.penaltyRecalculationService = penaltyRecalculationService;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.lease = lease;
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "penalty-recalculation-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.penalty-recalculation.poll-interval}")
+    public void poll() {
+        if (enabled) runPending();
+    }
+
+    public void runPending() {
+        for (Long jobId : penaltyRecalculationService.findRunningJobIds()) {
+            if (!penaltyRecalculationService.claim(jobId, owner, lease)) {
+                log.debug("패널티 재계산 작업 {} - 다른 실행기가 임대 중", jobId);
+                continue;
+            }
+            try {
+                run(jobId);
+            } catch (RuntimeException e) {
+                log.warn("패널티 재계산 작업 {} 실패 - 마지막 체크포인트에서 중단", jobId, e);
+                penaltyRecalculationService.fail(jobId, owner, e.toString());
+            }
+        }
+    }
+
+    private void run(Long jobId) {
+        long start = System.nanoTime();
+        ChunkResult total = ChunkResult.EMPTY;
+        while (true) {
+            if (!penaltyRecalculationService.claim(jobId, owner, lease)) {
+                log.info("패널티 재계산 작업 {} - 임대를 잃어 중단", jobId);
+                return;
+            }
+            Wave wave = penaltyRecalculationService.nextWave(jobId, chunkSize * parallelism);
+            if (wave.cohortMemberIds().isEmpty()) break;
+
+            List<Future<ChunkResult>> futures = new ArrayList<>();
+            List<Long> ids = wave.cohortMemberIds();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                futures.add(workers.submit(() -> penaltyRecalculationService.applyChunk(jobId, chunk)));
+            }
+            for (Future<ChunkResult> future : futures) total = total.merge(await(future));
+
+            if (!penaltyRecalculationService.advance(jobId, wave, owner)) {
+                log.info("패널티 재계산 작업 {} - 다른 실행기가 처리 중이거나 중단됨", jobId);
+                return;
+            }
+        }
+        penaltyRecalculationService.complete(jobId, owner);
+        log.info("패널티 재계산 작업 {} 완료 - 이번 실행 출결 {}건 조정, 추가 차감 {}원, 환급 {}원, 미수 {}원, {}ms",
+                jobId, total.adjusted(), total.charged(), total.refunded(), total.uncollected(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static ChunkResult await(Future<ChunkResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,49 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.QrCodePurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QrCodePurgeScheduler {
+
+    private final QrCodePurgeService qrCodePurgeService;
+
+    @Value("${app.qr-purge.retention}")
+    private Duration retention;
+
+    @Value("${app.qr-purge.batch-size}")
+    private int batchSize;
+
+    @Value("${app.qr-purge.max-batches}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${app.qr-purge.cron}", zone = "Asia/Seoul")
+    public void purge() {
+        long start = System.nanoTime();
+        Instant cutoff = Instant.now().minus(retention);
+        int deleted = 0;
+        int archived = 0;
+        int batches = 0;
+
+        // 배치마다 트랜잭션을 분리해 락 점유 시간과 undo 크기를 제한한다
+        while (batches < maxBatches) {
+            QrCodePurgeService.BatchResult result = qrCodePurgeService.purgeBatch(cutoff, batchSize);
+            deleted += result.deleted();
+            archived += result.archived();
+            batches++;
+            if (result.total() < batchSize) break;
+        }
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        log.info("만료 QR 정리 완료 - 삭제 {}건, 보관 {}건, 배치 {}회, {}ms (cutoff={})",
+                deleted, archived, batches, elapsedMs, cutoff);
+    }
+}
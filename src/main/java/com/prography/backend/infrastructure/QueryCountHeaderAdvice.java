@@ -0,0 +1,34 @@
+package com.prography.backend.infrastructure;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 개발 모드에서 응답 본문을 쓰기 직전까지 실행된 SQL 수를 X-Query-Count 헤더로 내려준다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.query-guard.response-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryCountInspector.Scope scope = QueryCountInspector.current();
+        if (scope != null) response.getHeaders().set(HEADER, String.valueOf(scope.count()));
+        return body;
+    }
+}
@@ -0,0 +1,95 @@
+package com.prography.backend.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate가 준비하는 SQL을 현재 스레드에 열린 Scope(요청, 테스트)마다 센다.
+ * hibernate.session_factory.statement_inspector로 등록되며 Hibernate가 직접 생성하므로 상태는 스레드 로컬에 둔다.
+ * JdbcTemplate로 직접 실행하는 SQL은 세지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Deque<Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LITERAL = Pattern.compile("'[^']*'|\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("in ?\\((\\?, ?)+\\?\\)");
+    private static final int MAX_SHAPE_LENGTH = 200;
+
+    @Override
+    public String inspect(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (!scopes.isEmpty()) {
+            String shape = shape(sql);
+            for (Scope scope : scopes) scope.record(shape);
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 새 Scope를 연다. 바깥 Scope(예: 테스트)는 안쪽 Scope(요청)의 SQL도 함께 센다.
+     */
+    public static Scope begin() {
+        Scope scope = new Scope();
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return SCOPES.get().peek();
+    }
+
+    /**
+     * 바인딩 값/IN 목록 길이와 무관하게 같은 형태의 SQL이 같은 키가 되도록 정규화한다.
+     */
+    static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        shape = LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+
+    public record ShapeCount(String shape, int count) {
+    }
+
+    public static class Scope implements AutoCloseable {
+
+        private final Map<String, Integer> countsByShape = new HashMap<>();
+        private int count;
+
+        void record(String shape) {
+            count++;
+            countsByShape.merge(shape, 1, Integer::sum);
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * 가장 많이 반복된 SQL 형태 (N+1 후보)
+         */
+        public List<ShapeCount> topShapes(int limit) {
+            return countsByShape.entrySet().stream()
+                    .map(e -> new ShapeCount(e.getKey(), e.getValue()))
+                    .sorted(Comparator.comparingInt(ShapeCount::count).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = SCOPES.get();
+            scopes.remove(this);
+            if (scopes.isEmpty()) SCOPES.remove();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.prography.backend.infrastructure;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import java.util.List;
+
+/**
+ * 요청마다 Hibernate SQL 수를 세고, 많거나 같은 형태가 반복되면(N+1 의심) 상위 SQL 형태와 함께 경고한다.
+ */
+@Slf4j
+@Component
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryCountInterceptor.class.getName() + ".scope";
+    private static final int REPORTED_SHAPES = 3;
+
+    @Value("${app.query-guard.warn-threshold}")
+    private int warnThreshold;
+
+    @Value("${app.query-guard.repeat-threshold}")
+    private int repeatThreshold;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(SCOPE_ATTRIBUTE, QueryCountInspector.begin());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCountInspector.Scope scope = (QueryCountInspector.Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope == null) return;
+        scope.close();
+        report(request, scope);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // SSE 등 비동기 요청은 요청 스레드를 떠나므로 여기서 닫는다
+        QueryCountInspector.Scope scope = (QueryCountInspector.Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope != null) scope.close();
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+    }
+
+    private void report(HttpServletRequest request, QueryCountInspector.Scope scope) {
+        List<QueryCountInspector.ShapeCount> top = scope.topShapes(REPORTED_SHAPES);
+        boolean repeated = !top.isEmpty() && top.get(0).count() >= repeatThreshold;
+        if (scope.count() >= warnThreshold || repeated) {
+            log.warn("{} {} - SQL {}회{}, 반복 상위: {}", request.getMethod(), request.getRequestURI(),
+                    scope.count(), repeated ? " (N+1 의심)" : "", top);
+        } else {
+            log.debug("{} {} - SQL {}회", request.getMethod(), request.getRequestURI(), scope.count());
+        }
+    }
+}
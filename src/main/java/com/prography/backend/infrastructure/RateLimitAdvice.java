@@ -0,0 +1,91 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.dto.request.CheckInRequest;
+import com.prography.backend.dto.request.LoginRequest;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import java.lang.reflect.Type;
+import java.time.Duration;
+
+/**
+ * QR 체크인/로그인 요청을 클라이언트 IP별, (회원, IP)별 토큰 버킷으로 제한한다.
+ * 요청 본문을 읽은 직후(검증·컨트롤러·서비스 이전)에 검사하므로 초과 요청은 DB 조회나 BCrypt 검증 없이 RATE_LIMITED로 끝난다.
+ * memberId/loginId는 인증 전 본문 값이라 누구나 남의 값을 보낼 수 있으므로, 회원 버킷은 IP와 묶어
+ * 다른 곳에서 보낸 요청이 그 회원의 한도를 소진하지 못하게 한다. IP 한도는 행사장 NAT 뒤의 기수 전체를 감안해 잡는다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class RateLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private final boolean enabled;
+    private final TokenBuckets checkInByIp;
+    private final TokenBuckets checkInByMember;
+    private final TokenBuckets loginByIp;
+    private final TokenBuckets loginByLoginId;
+
+    public RateLimitAdvice(@Value("${app.rate-limit.enabled}") boolean enabled,
+                           @Value("${app.rate-limit.stripes}") int stripes,
+                           @Value("${app.rate-limit.max-keys}") int maxKeys,
+                           @Value("${app.rate-limit.period}") Duration period,
+                           @Value("${app.rate-limit.check-in.per-ip}") int checkInPerIp,
+                           @Value("${app.rate-limit.check-in.per-member}") int checkInPerMember,
+                           @Value("${app.rate-limit.login.per-ip}") int loginPerIp,
+                           @Value("${app.rate-limit.login.per-login-id}") int loginPerLoginId) {
+        this.enabled = enabled;
+        this.checkInByIp = new TokenBuckets(checkInPerIp, period, stripes, maxKeys);
+        this.checkInByMember = new TokenBuckets(checkInPerMember, period, stripes, maxKeys);
+        this.loginByIp = new TokenBuckets(loginPerIp, period, stripes, maxKeys);
+        this.loginByLoginId = new TokenBuckets(loginPerLoginId, period, stripes, maxKeys);
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled && (targetType == CheckInRequest.class || targetType == LoginRequest.class);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        String ip = clientIp();
+        if (body instanceof CheckInRequest request) {
+            acquire(checkInByIp, ip, "체크인 IP");
+            if (request.memberId() != null) acquire(checkInByMember, request.memberId() + "@" + ip, "체크인 회원");
+        } else if (body instanceof LoginRequest request) {
+            acquire(loginByIp, ip, "로그인 IP");
+            if (request.loginId() != null) acquire(loginByLoginId, request.loginId() + "@" + ip, "로그인 아이디");
+        }
+        return body;
+    }
+
+    // 가득 찬 버킷은 지워도 결과가 같으므로 주기적으로 비워 메모리를 돌려준다
+    @Scheduled(fixedDelayString = "${app.rate-limit.evict-interval}")
+    public void evictIdle() {
+        int removed = checkInByIp.evictIdle() + checkInByMember.evictIdle()
+                + loginByIp.evictIdle() + loginByLoginId.evictIdle();
+        if (removed > 0) log.debug("유휴 토큰 버킷 {}개 제거", removed);
+    }
+
+    private static void acquire(TokenBuckets buckets, String key, String label) {
+        if (!buckets.tryAcquire(key)) {
+            log.debug("요청 제한 초과 - {} {} (허용 {}회)", label, key, buckets.capacity());
+            throw new AppException(ErrorCode.RATE_LIMITED);
+        }
+    }
+
+    private static String clientIp() {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        return request.getRemoteAddr();
+    }
+}
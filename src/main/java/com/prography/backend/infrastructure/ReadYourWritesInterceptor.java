@@ -0,0 +1,59 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.ReadRoutingContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import java.util.Map;
+
+/**
+ * 요청이 어떤 회원 기준 조회인지(memberId 경로 변수 또는 쿼리 파라미터) 읽기 라우팅 문맥에 묶는다.
+ * 회원 본인 API(/api/v1/members/{id}/**)는 id 경로 변수가 회원 id다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String MEMBER_ROUTE = "/api/v1/members/{id}";
+
+    private final ReadRoutingContext readRoutingContext;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long memberId = memberId(request);
+        if (memberId != null) readRoutingContext.bindMember(memberId);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        readRoutingContext.unbindMember();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        readRoutingContext.unbindMember();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long memberId(HttpServletRequest request) {
+        Map<String, String> vars = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = vars != null ? vars.get("memberId") : null;
+        if (value == null && vars != null && isMemberRoute(request)) value = vars.get("id");
+        if (value == null) value = request.getParameter("memberId");
+        if (value == null) return null;
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isMemberRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null && (pattern.equals(MEMBER_ROUTE) || pattern.toString().startsWith(MEMBER_ROUTE + "/"));
+    }
+}
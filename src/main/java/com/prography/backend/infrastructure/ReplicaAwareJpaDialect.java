@@ -0,0 +1,35 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.ReadRoutingContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import java.sql.SQLException;
+
+/**
+ * replica로 갈 수 있는 읽기 전용 트랜잭션은 2차 캐시/쿼리 캐시를 읽기만 하고 채우지 않는다 (CacheMode.GET).
+ * replica는 primary보다 늦을 수 있으므로, 거기서 읽은 행이 캐시에 들어가면 primary 기준 조회까지 옛 값을 보게 된다.
+ * 라우팅은 첫 쿼리 시점에 정해지므로 시작 시점에는 read-your-writes 여부(requiresPrimary)만 보고,
+ * 지연으로 primary에 떨어지는 경우도 캐시를 채우지 않는 쪽으로 둔다.
+ * 같은 EntityManager가 다음 트랜잭션에 다시 쓰일 수 있으므로 매 트랜잭션 시작 시 모드를 다시 정한다.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    private final ReadRoutingContext readRoutingContext;
+
+    public ReplicaAwareJpaDialect(ReadRoutingContext readRoutingContext) {
+        this.readRoutingContext = readRoutingContext;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        boolean replicaEligible = definition.isReadOnly() && !readRoutingContext.requiresPrimary();
+        entityManager.unwrap(Session.class).setCacheMode(replicaEligible ? CacheMode.GET : CacheMode.NORMAL);
+        return transactionData;
+    }
+}
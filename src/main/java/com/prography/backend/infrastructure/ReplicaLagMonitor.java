@@ -0,0 +1,75 @@
+package com.prography.backend.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * primary에 heartbeat 시각을 기록하고 replica에 복제된 값을 읽어 복제 지연을 잰다.
+ * replica에서 보이는 heartbeat 시각(watermark) 이전에 커밋된 쓰기는 replica에도 반영돼 있다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long HEARTBEAT_ID = 1L;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+
+    private volatile Instant watermark;
+    private volatile boolean lagging = true;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-interval}")
+    public void heartbeat() {
+        try {
+            Timestamp now = Timestamp.from(Instant.now());
+            if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = ?", now, HEARTBEAT_ID) == 0) {
+                primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (?, ?)", HEARTBEAT_ID, now);
+            }
+        } catch (Exception e) {
+            log.warn("복제 heartbeat 기록 실패", e);
+        }
+        observe();
+    }
+
+    public boolean isReplicaUsable() {
+        Duration lag = currentLag();
+        boolean usable = lag != null && lag.compareTo(maxLag) <= 0;
+        if (usable == lagging) {
+            lagging = !usable;
+            if (lagging) log.warn("replica 지연 {} - 허용치 {} 초과, 읽기를 primary로 전환", lag, maxLag);
+            else log.info("replica 지연 {} - 읽기를 replica로 복귀", lag);
+        }
+        return usable;
+    }
+
+    /** replica에서 마지막으로 관측한 heartbeat 기준 지연. 아직 관측하지 못했으면 null */
+    public Duration currentLag() {
+        Instant w = watermark;
+        return w != null ? Duration.between(w, Instant.now()) : null;
+    }
+
+    private void observe() {
+        try {
+            List<Timestamp> beats = replica.queryForList(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = ?", Timestamp.class, HEARTBEAT_ID);
+            if (beats.isEmpty()) return;
+            watermark = beats.get(0).toInstant();
+        } catch (Exception e) {
+            // replica에 닿지 않으면 watermark가 더 이상 갱신되지 않으므로 지연이 커져 자연히 primary로 전환된다
+            log.warn("replica heartbeat 조회 실패", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.ReadRoutingContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 커넥션의 실제 대상을 고른다. LazyConnectionDataSourceProxy의 readOnlyDataSource로 쓰이므로
+ * 트랜잭션이 readOnly로 시작된 뒤 첫 쿼리 시점에 호출된다.
+ * replica 지연이 허용치를 넘었거나 read-your-writes 구간이면 primary 커넥션을 돌려준다.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadRoutingContext readRoutingContext;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    public long getPrimaryFallbacks() {
+        return primaryFallbacks.sum();
+    }
+
+    private DataSource target() {
+        if (readRoutingContext.requiresPrimary() || !lagMonitor.isReplicaUsable()) {
+            primaryFallbacks.increment();
+            return primary;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+}
@@ -0,0 +1,41 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.SessionLifecycleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionLifecycleScheduler {
+
+    private final SessionLifecycleService sessionLifecycleService;
+
+    @Value("${app.session-lifecycle.enabled}")
+    private boolean enabled;
+
+    @Scheduled(fixedDelayString = "${app.session-lifecycle.interval}")
+    public void advance() {
+        if (!enabled) return;
+        Instant now = Instant.now();
+
+        int started = sessionLifecycleService.startDueSessions(now);
+        if (started > 0) log.info("일정 {}개 시작 (IN_PROGRESS)", started);
+
+        // 일정마다 트랜잭션을 나눠 한 일정의 실패가 다른 일정 종료를 막지 않게 한다
+        for (Long sessionId : sessionLifecycleService.findSessionIdsToComplete(now)) {
+            try {
+                long start = System.nanoTime();
+                SessionLifecycleService.Completion result = sessionLifecycleService.completeSession(sessionId, now);
+                log.info("일정 {} 종료 - 결석 {}건, 패널티 {}건 / {}원, {}ms", sessionId, result.absences(),
+                        result.penalized(), result.totalPenalty(), (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                log.warn("일정 {} 종료 처리 실패 - 다음 주기에 다시 시도", sessionId, e);
+            }
+        }
+    }
+}
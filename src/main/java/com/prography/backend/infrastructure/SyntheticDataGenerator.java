@@ -0,0 +1,98 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.SyntheticDatasetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import java.nio.file.Path;
+
+/**
+ * dataset 프로파일: 기본 시드(DataInitializer) 위에 대량 합성 데이터를 만든다.
+ * 이미 생성된 DB면 건너뛰고, 파일 H2면 생성 후 설정별 이름으로 스냅샷(zip)을 남긴다
+ */
+@Slf4j
+@Component
+@Profile("dataset")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // 기본 시드 직후, JIT 워밍업(WarmUpRunner) 이전
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private final SyntheticDatasetService datasetService;
+    private final int currentCohortGeneration;
+
+    @Value("${app.dataset.cohorts}")
+    private int cohorts;
+
+    @Value("${app.dataset.members-per-cohort}")
+    private int membersPerCohort;
+
+    @Value("${app.dataset.sessions-per-cohort}")
+    private int sessionsPerCohort;
+
+    @Value("${app.dataset.status-mix.present}")
+    private double presentRatio;
+
+    @Value("${app.dataset.status-mix.late}")
+    private double lateRatio;
+
+    @Value("${app.dataset.status-mix.absent}")
+    private double absentRatio;
+
+    @Value("${app.dataset.status-mix.excused}")
+    private double excusedRatio;
+
+    @Value("${app.dataset.withdrawn-ratio}")
+    private double withdrawnRatio;
+
+    @Value("${app.dataset.member-password}")
+    private String memberPassword;
+
+    @Value("${app.dataset.seed}")
+    private long seed;
+
+    @Value("${app.dataset.batch-size}")
+    private int batchSize;
+
+    @Value("${app.dataset.snapshot-dir}")
+    private Path snapshotDir;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (datasetService.isGenerated()) {
+            log.info("합성 데이터가 이미 있어 생성을 건너뜁니다");
+            return;
+        }
+
+        SyntheticDatasetService.Spec spec = new SyntheticDatasetService.Spec(cohorts, membersPerCohort,
+                sessionsPerCohort, presentRatio, lateRatio, absentRatio, excusedRatio, withdrawnRatio,
+                memberPassword, seed, batchSize);
+        SyntheticDatasetService.Run run = datasetService.begin(spec);
+        // 회원 배치마다 트랜잭션을 분리해 undo 크기와 메모리 사용을 제한한다
+        for (int generation = currentCohortGeneration - cohorts + 1; generation <= currentCohortGeneration; generation++) {
+            SyntheticDatasetService.CohortPlan cohort = datasetService.prepareCohort(run, generation);
+            for (int written = 0; written < membersPerCohort; ) {
+                written += datasetService.writeMembers(run, cohort, Math.min(batchSize, membersPerCohort - written));
+            }
+            log.info("합성 데이터 {}기 완료 - 누적 회원 {}명, 출결 {}건, {}ms", generation, run.getMembers(),
+                    run.getAttendances(), run.elapsed().toMillis());
+        }
+        datasetService.finish(run);
+        log.info("합성 데이터 생성 완료 - 기수 {}개, 회원 {}명, 일정 {}개, 출결 {}건, 보증금 이력 {}건, {}ms",
+                cohorts, run.getMembers(), run.getSessions(), run.getAttendances(), run.getDepositHistories(),
+                run.elapsed().toMillis());
+
+        if (datasetService.supportsSnapshot()) {
+            Path snapshot = snapshotDir.resolve(spec.snapshotName());
+            long start = System.nanoTime();
+            datasetService.writeSnapshot(snapshot);
+            log.info("합성 데이터 스냅샷 저장 - {}, {}ms (재사용: 서버 중지 후 unzip -o {} -d data)",
+                    snapshot, (System.nanoTime() - start) / 1_000_000, snapshot);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.prography.backend.infrastructure;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(회원, 클라이언트 IP)별 토큰 버킷.
+ *
+ * 버킷 상태는 GCRA 방식으로 "다음 토큰이 완전히 찬 것으로 보는 시각"(TAT) 하나를 AtomicLong에 두고 CAS로만 갱신한다.
+ * TAT가 현재 시각 이전이면 버킷이 가득 찬 상태와 같으므로 그런 키는 언제 지워도 결과가 같다 (유휴 제거).
+ * 키는 해시로 나눈 stripe(ConcurrentHashMap)마다 최대 maxKeysPerStripe개까지만 보관한다.
+ * 이미 있는 키의 요청은 잠금 없이 조회 + CAS로 끝나고, stripe 잠금은 새 키를 넣을 때만 잡는다.
+ * stripe가 가득 찼으면 EVICTION_SAMPLE개까지 제한되지 않은 버킷을 살펴 마지막 사용 시각이 가장 오래된 것을 지운다 (근사 LRU).
+ * 토큰이 없는(제한 중인) 키는 지우면 제한이 풀리므로 지우지 않고, stripe가 제한 중인 키로만 차 있으면 새 키를 거부한다.
+ * 지우는 순간 다른 스레드가 그 버킷에서 토큰을 꺼내면 그 키는 가득 찬 새 버킷으로 다시 시작할 수 있다 (유휴 제거와 같은 근사).
+ */
+public class TokenBuckets {
+
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeysPerStripe;
+    private final ConcurrentHashMap<String, Bucket>[] stripes;
+    private final LongSupplier nanoClock;
+
+    public TokenBuckets(int capacity, Duration period, int stripeCount, int maxKeys) {
+        this(capacity, period, stripeCount, maxKeys, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TokenBuckets(int capacity, Duration period, int stripeCount, int maxKeys, LongSupplier nanoClock) {
+        if (capacity <= 0 || stripeCount <= 0 || maxKeys < stripeCount)
+            throw new IllegalArgumentException("capacity/stripes/max-keys 설정이 올바르지 않습니다");
+        this.capacity = capacity;
+        this.intervalNanos = period.toNanos() / capacity;
+        this.burstNanos = intervalNanos * capacity;
+        this.maxKeysPerStripe = maxKeys / stripeCount;
+        this.nanoClock = nanoClock;
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) stripes[i] = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다. 남은 토큰이 없으면 false (상태는 바뀌지 않음).
+     */
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = bucket(key, now);
+        if (bucket == null) return false;
+        bucket.lastUsed = now;
+        while (true) {
+            long current = bucket.tat.get();
+            long start = Math.max(current, now);
+            long next = start + intervalNanos;
+            if (next - now > burstNanos) return false;
+            if (bucket.tat.compareAndSet(current, next)) return true;
+        }
+    }
+
+    /**
+     * 가득 찬(= 유휴) 버킷을 제거한다.
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) {
+            for (Map.Entry<String, Bucket> entry : stripe.entrySet()) {
+                if (entry.getValue().tat.get() - now <= 0 && stripe.remove(entry.getKey(), entry.getValue())) removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, Bucket> stripe : stripes) size += stripe.size();
+        return size;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    // 키가 없고 stripe가 제한 중인 키로만 차 있으면 null
+    private Bucket bucket(String key, long now) {
+        ConcurrentHashMap<String, Bucket> stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        Bucket bucket = stripe.get(key);
+        if (bucket != null) return bucket;
+        // 넣는 쪽만 잠가 stripe 크기 확인과 삽입 사이에 다른 키가 끼어들지 않게 한다
+        synchronized (stripe) {
+            bucket = stripe.get(key);
+            if (bucket != null) return bucket;
+            if (stripe.size() >= maxKeysPerStripe && !evictLeastRecentUnthrottled(stripe, now)) return null;
+            bucket = new Bucket(now);
+            stripe.put(key, bucket);
+            return bucket;
+        }
+    }
+
+    // 토큰이 하나라도 남은 버킷을 EVICTION_SAMPLE개까지 보고 가장 오래 안 쓴 것을 지운다 (지운 키는 가득 찬 버킷으로 다시 시작)
+    private boolean evictLeastRecentUnthrottled(ConcurrentHashMap<String, Bucket> stripe, long now) {
+        Map.Entry<String, Bucket> oldest = null;
+        int sampled = 0;
+        for (Map.Entry<String, Bucket> entry : stripe.entrySet()) {
+            Bucket bucket = entry.getValue();
+            if (bucket.tat.get() + intervalNanos - now > burstNanos) continue;
+            if (oldest == null || bucket.lastUsed - oldest.getValue().lastUsed < 0) oldest = entry;
+            if (++sampled == EVICTION_SAMPLE) break;
+        }
+        return oldest != null && stripe.remove(oldest.getKey(), oldest.getValue());
+    }
+
+    private static final class Bucket {
+        final AtomicLong tat;
+        // 근사 LRU용. 잠금 없이 덮어쓰므로 동시 요청끼리는 어느 쪽 값이 남아도 된다
+        volatile long lastUsed;
+
+        Bucket(long now) {
+            this.tat = new AtomicLong(now);
+            this.lastUsed = now;
+        }
+    }
+}
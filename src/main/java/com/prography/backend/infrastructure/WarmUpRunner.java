@@ -0,0 +1,74 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.CheckInMetrics;
+import com.prography.backend.service.WarmUpService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+/**
+ * 기동 직후 JIT 워밍업. 시드/합성 데이터 적재 후 마지막 러너로 실행된다.
+ * Spring Boot는 모든 러너가 끝난 뒤에 readiness를 ACCEPTING_TRAFFIC으로 바꾸므로,
+ * 워밍업 동안 /actuator/health/readiness는 OUT_OF_SERVICE(503)이고 로드밸런서가 트래픽을 보내지 않는다
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final WarmUpService warmUpService;
+    private final CheckInMetrics checkInMetrics;
+
+    @Value("${app.warm-up.enabled}")
+    private boolean enabled;
+
+    @Value("${app.warm-up.iterations}")
+    private int iterations;
+
+    @Value("${app.warm-up.members-per-round}")
+    private int membersPerRound;
+
+    @Value("${app.warm-up.max-duration}")
+    private Duration maxDuration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || iterations <= 0) return;
+
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        int rounds = 0;
+        int checkIns = 0;
+        int reads = 0;
+        long bytes = 0;
+        log.info("JIT 워밍업 시작 - 목표 체크인 {}건 (라운드당 {}명), 최대 {}", iterations, membersPerRound, maxDuration);
+
+        // 라운드마다 트랜잭션을 분리(롤백)해 영속성 컨텍스트와 잠금 범위를 작게 유지한다
+        while (checkIns < iterations && System.nanoTime() < deadline) {
+            try {
+                // 워밍업 체크인은 단계별 Timer에 남기지 않는다 (처리량 지표는 롤백이라 원래 제외)
+                int members = Math.min(membersPerRound, iterations - checkIns);
+                WarmUpService.RoundResult result = checkInMetrics.withoutRecording(() -> warmUpService.runRound(members));
+                checkIns += result.checkIns();
+                reads += result.reads();
+                bytes += result.serializedBytes();
+                rounds++;
+            } catch (RuntimeException e) {
+                // 워밍업은 최적화일 뿐이므로 실패해도 기동은 계속한다
+                log.warn("JIT 워밍업 중단 - {}", e.toString());
+                break;
+            }
+        }
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        log.info("JIT 워밍업 완료 - 라운드 {}회, 체크인 {}건, 요약 조회 {}건, 직렬화 {}KB, {}ms{}", rounds, checkIns,
+                reads, bytes / 1024, elapsedMs, checkIns < iterations ? " (최대 시간 도달)" : "");
+    }
+}
@@ -1,13 +1,172 @@
 package com.prography.backend.repository;
 
 import com.prography.backend.domain.Attendance;
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.MemberStatus;
+import com.prography.backend.dto.response.AttendanceResponse;
+import com.prography.backend.dto.response.MyAttendanceResponse;
+import com.prography.backend.repository.projection.AbsenceRow;
+import com.prography.backend.repository.projection.AttendanceCountRow;
+import com.prography.backend.repository.projection.MatrixCellRow;
+import com.prography.backend.repository.projection.RecalculationRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+    // 파생 쿼리(findBySessionId 등)는 연관 테이블을 LEFT JOIN 한 뒤 조인 쪽 id로 거르므로 FK 인덱스를 타지 못한다.
+    // FK 컬럼을 직접 비교하도록 JPQL로 명시한다 (RepositoryIndexUsageTest 참고)
+    @Query("SELECT COUNT(a) > 0 FROM Attendance a WHERE a.session.id = :sessionId AND a.member.id = :memberId")
     boolean existsBySessionIdAndMemberId(Long sessionId, Long memberId);
+
+    @Query("SELECT a FROM Attendance a WHERE a.session.id = :sessionId AND a.member.id = :memberId")
     Optional<Attendance> findBySessionIdAndMemberId(Long sessionId, Long memberId);
-    List<Attendance> findByMemberId(Long memberId);
-    List<Attendance> findBySessionId(Long sessionId);
+
+    // 조회 API는 응답 DTO를 생성자 표현식으로 바로 만든다 (엔티티를 영속성 컨텍스트에 올리지 않고, 연관 지연 로딩도 없음)
+    @Query("""
+        SELECT new com.prography.backend.dto.response.MyAttendanceResponse(
+            a.id, s.id, s.title, a.status, a.lateMinutes, a.penaltyAmount, a.reason, a.checkedInAt, a.createdAt)
+        FROM Attendance a JOIN a.session s
+        WHERE a.member.id = :memberId
+        ORDER BY a.id
+        """)
+    List<MyAttendanceResponse> findMyAttendances(Long memberId);
+
+    @Query("""
+        SELECT new com.prography.backend.dto.response.MyAttendanceResponse(
+            a.id, s.id, s.title, a.status, a.lateMinutes, a.penaltyAmount, a.reason, a.checkedInAt, a.createdAt)
+        FROM Attendance a JOIN a.session s
+        WHERE a.member.id = :memberId AND a.changeSeq > :since AND a.changeSeq <= :until
+        ORDER BY a.id
+        """)
+    List<MyAttendanceResponse> findMyAttendancesChangedSince(Long memberId, long since, long until);
+
+    @Query("""
+        SELECT new com.prography.backend.dto.response.AttendanceResponse(
+            a.id, a.session.id, a.member.id, a.status, a.lateMinutes, a.penaltyAmount, a.penaltyPolicyVersion,
+            a.reason, a.checkedInAt, a.createdAt, a.updatedAt)
+        FROM Attendance a WHERE a.member.id = :memberId
+        ORDER BY a.id
+        """)
+    List<AttendanceResponse> findResponsesByMemberId(Long memberId);
+
+    @Query("""
+        SELECT new com.prography.backend.dto.response.AttendanceResponse(
+            a.id, a.session.id, a.member.id, a.status, a.lateMinutes, a.penaltyAmount, a.penaltyPolicyVersion,
+            a.reason, a.checkedInAt, a.createdAt, a.updatedAt)
+        FROM Attendance a WHERE a.session.id = :sessionId
+        ORDER BY a.id
+        """)
+    List<AttendanceResponse> findResponsesBySessionId(Long sessionId);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.AttendanceCountRow(
+            a.member.id, a.status, COUNT(a), SUM(a.penaltyAmount))
+        FROM Attendance a WHERE a.member.id = :memberId
+        GROUP BY a.member.id, a.status
+        """)
+    List<AttendanceCountRow> countByMemberId(Long memberId);
+
+    // 기수 회원 전원의 (기수와 무관한) 전체 출결 집계
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.AttendanceCountRow(
+            a.member.id, a.status, COUNT(a), SUM(a.penaltyAmount))
+        FROM Attendance a
+        WHERE a.member.id IN (SELECT cm.member.id FROM CohortMember cm WHERE cm.cohort.id = :cohortId)
+        GROUP BY a.member.id, a.status
+        """)
+    List<AttendanceCountRow> countByCohortMembers(Long cohortId);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.AttendanceCountRow(
+            a.session.id, a.status, COUNT(a), SUM(a.penaltyAmount))
+        FROM Attendance a WHERE a.session.id IN :sessionIds
+        GROUP BY a.session.id, a.status
+        """)
+    List<AttendanceCountRow> countBySessionIds(Collection<Long> sessionIds);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.MatrixCellRow(a.session.id, a.member.id, a.status, a.lateMinutes)
+        FROM Attendance a WHERE a.session.id IN (SELECT s.id FROM Session s WHERE s.cohort.id = :cohortId)
+        """)
+    List<MatrixCellRow> findCellsByCohortId(Long cohortId);
+
+    @Query("SELECT a FROM Attendance a WHERE a.session.id = :sessionId AND (a.id IN :ids OR a.member.id IN :memberIds)")
+    List<Attendance> findBySessionIdAndIdInOrMemberIdIn(Long sessionId, Collection<Long> ids, Collection<Long> memberIds);
+
+    @Query("SELECT DISTINCT a.qrCodeId FROM Attendance a WHERE a.qrCodeId IN :qrCodeIds")
+    List<Long> findReferencedQrCodeIds(List<Long> qrCodeIds);
+
+    @Query("""
+        SELECT a.id FROM Attendance a WHERE a.penaltyAmount > 0
+        AND NOT EXISTS (SELECT dh.id FROM DepositHistory dh WHERE dh.attendance = a)
+        """)
+    List<Long> findPenalizedIdsWithoutLedger();
+
+    // 일정 기수의 회원(excluded 상태 제외) 중 출결이 없는 회원
+    @Query("""
+        SELECT cm.member.id FROM Session s JOIN CohortMember cm ON cm.cohort = s.cohort
+        WHERE s.id = :sessionId AND cm.member.status <> :excluded
+        AND NOT EXISTS (SELECT a.id FROM Attendance a WHERE a.session = s AND a.member = cm.member)
+        """)
+    List<Long> findMemberIdsWithoutAttendance(Long sessionId, MemberStatus excluded);
+
+    /**
+     * memberIds 중 출결이 없는 회원 전원에게 결석을 한 번에 기록한다. 패널티는 남은 보증금을 넘지 않는다.
+     * (일정, 회원)은 유일하므로 만든 행은 findIdsBySessionAndMembers로 다시 찾는다.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO Attendance (session, member, status, penaltyAmount, penaltyPolicyVersion, reason, createdAt, updatedAt)
+        SELECT s, cm.member, :status, least(cm.deposit, :penalty), :policyVersion, :reason, :now, :now
+        FROM Session s JOIN CohortMember cm ON cm.cohort = s.cohort
+        WHERE s.id = :sessionId AND cm.member.id IN :memberIds
+        AND NOT EXISTS (SELECT a.id FROM Attendance a WHERE a.session = s AND a.member = cm.member)
+        """)
+    int insertAbsences(Long sessionId, Collection<Long> memberIds, AttendanceStatus status, int penalty,
+                       int policyVersion, String reason, Instant now);
+
+    @Query("SELECT a.id FROM Attendance a WHERE a.session.id = :sessionId AND a.member.id IN :memberIds ORDER BY a.id")
+    List<Long> findIdsBySessionAndMembers(Long sessionId, Collection<Long> memberIds);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.AbsenceRow(
+            a.id, a.member.id, cm.id, a.penaltyAmount, dh.id, dh.balanceAfter)
+        FROM Attendance a
+        JOIN CohortMember cm ON cm.member = a.member AND cm.cohort.id = :cohortId
+        LEFT JOIN DepositHistory dh ON dh.attendance = a
+        WHERE a.id IN :attendanceIds
+        ORDER BY a.id
+        """)
+    List<AbsenceRow> findAbsenceBatch(Collection<Long> attendanceIds, Long cohortId);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.RecalculationRow(
+            a.id, cm.id, a.member.id, s.id, s.penaltyWaived, a.status, a.lateMinutes, a.penaltyAmount,
+            a.penaltyPolicyVersion)
+        FROM Attendance a
+        JOIN a.session s
+        JOIN CohortMember cm ON cm.member = a.member AND cm.cohort = s.cohort
+        WHERE cm.id IN :cohortMemberIds AND s.date BETWEEN :from AND :to
+        ORDER BY cm.id, s.date, a.id
+        """)
+    List<RecalculationRow> findForRecalculation(Collection<Long> cohortMemberIds, LocalDate from, LocalDate to);
+
+    // 미리보기: 기수 전체를 한 번에 읽는다 (CohortMember, 일정 날짜 순)
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.RecalculationRow(
+            a.id, cm.id, a.member.id, s.id, s.penaltyWaived, a.status, a.lateMinutes, a.penaltyAmount,
+            a.penaltyPolicyVersion)
+        FROM Attendance a
+        JOIN a.session s
+        JOIN CohortMember cm ON cm.member = a.member AND cm.cohort = s.cohort
+        WHERE s.cohort.id = :cohortId AND s.date BETWEEN :from AND :to
+        ORDER BY cm.id, s.date, a.id
+        """)
+    List<RecalculationRow> findForRecalculationByCohortId(Long cohortId, LocalDate from, LocalDate to);
 }
@@ -2,16 +2,107 @@ package com.prography.backend.repository;
 
 import com.prography.backend.domain.CohortMember;
 import com.prography.backend.domain.Member;
+import com.prography.backend.repository.projection.CohortMemberAffiliationRow;
+import com.prography.backend.repository.projection.CohortMemberDepositRow;
+import com.prography.backend.repository.projection.CohortMemberRiskRow;
+import com.prography.backend.repository.projection.CohortMemberStateRow;
+import com.prography.backend.repository.projection.CohortRosterRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CohortMemberRepository extends JpaRepository<CohortMember, Long> {
     Optional<CohortMember> findByMemberAndCohortId(Member member, Long cohortId);
+
+    @Query("SELECT cm FROM CohortMember cm WHERE cm.member.id = :memberId AND cm.cohort.id = :cohortId")
     Optional<CohortMember> findByMemberIdAndCohortId(Long memberId, Long cohortId);
-    List<CohortMember> findByCohortId(Long cohortId);
+
+    // 보증금/공결 횟수를 읽고 고쳐 쓰는 단건 경로용. 일괄 처리(findAllByIdForUpdate)와 같은 행 잠금으로 차감이 덮이지 않게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cm FROM CohortMember cm WHERE cm.member.id = :memberId AND cm.cohort.id = :cohortId")
+    Optional<CohortMember> findByMemberIdAndCohortIdForUpdate(Long memberId, Long cohortId);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.CohortRosterRow(m.id, m.name, cm.deposit)
+        FROM CohortMember cm JOIN cm.member m WHERE cm.cohort.id = :cohortId
+        ORDER BY cm.id
+        """)
+    List<CohortRosterRow> findRosterByCohortId(Long cohortId);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.CohortMemberAffiliationRow(
+            m.id, m.name, m.status, cm.part.id, cm.team.id)
+        FROM CohortMember cm JOIN cm.member m WHERE cm.cohort.id = :cohortId
+        ORDER BY cm.id
+        """)
+    List<CohortMemberAffiliationRow> findAffiliationsByCohortId(Long cohortId);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.CohortMemberRiskRow(
+            cm.id, cm.cohort.id, m.id, m.name, m.status, p.name, t.name, cm.deposit, cm.excuseCount)
+        FROM CohortMember cm JOIN cm.member m LEFT JOIN cm.part p LEFT JOIN cm.team t
+        WHERE cm.cohort.id = :cohortId
+        """)
+    List<CohortMemberRiskRow> findRiskRowsByCohortId(Long cohortId);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.CohortMemberRiskRow(
+            cm.id, cm.cohort.id, m.id, m.name, m.status, p.name, t.name, cm.deposit, cm.excuseCount)
+        FROM CohortMember cm JOIN cm.member m LEFT JOIN cm.part p LEFT JOIN cm.team t
+        WHERE cm.id = :id
+        """)
+    Optional<CohortMemberRiskRow> findRiskRowById(Long id);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.CohortMemberRiskRow(
+            cm.id, cm.cohort.id, m.id, m.name, m.status, p.name, t.name, cm.deposit, cm.excuseCount)
+        FROM CohortMember cm JOIN cm.member m LEFT JOIN cm.part p LEFT JOIN cm.team t
+        WHERE m.id = :memberId AND cm.cohort.id = :cohortId
+        """)
+    Optional<CohortMemberRiskRow> findRiskRowByMemberIdAndCohortId(Long memberId, Long cohortId);
 
     @Query("SELECT cm FROM CohortMember cm WHERE cm.member.id = :memberId ORDER BY cm.cohort.generation DESC")
     List<CohortMember> findByMemberIdOrderByGenerationDesc(Long memberId);
+
+    @Query("SELECT cm.id FROM CohortMember cm ORDER BY cm.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT cm.id FROM CohortMember cm WHERE cm.cohort.id = :cohortId AND cm.id > :afterId ORDER BY cm.id")
+    List<Long> findIdsByCohortIdAfter(Long cohortId, Long afterId, Pageable pageable);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.CohortMemberDepositRow(cm.id, cm.deposit)
+        FROM CohortMember cm WHERE cm.cohort.id = :cohortId ORDER BY cm.id
+        """)
+    List<CohortMemberDepositRow> findDepositsByCohortId(Long cohortId);
+
+    // id 순서로 잠가 병렬로 처리하는 다른 묶음/트랜잭션과 교착을 피한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cm FROM CohortMember cm WHERE cm.id IN :ids ORDER BY cm.id")
+    List<CohortMember> findAllByIdForUpdate(Collection<Long> ids);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.CohortMemberStateRow(m.id, cm.id, cm.deposit, cm.excuseCount)
+        FROM Member m LEFT JOIN CohortMember cm ON cm.member = m AND cm.cohort.id = :cohortId
+        WHERE m.id IN :memberIds
+        """)
+    List<CohortMemberStateRow> findStatesByMemberIds(Long cohortId, Collection<Long> memberIds);
+
+    /**
+     * AttendanceRepository.insertAbsences로 만든 결석(attendanceIds)의 패널티만큼 보증금을 한 번에 차감한다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE CohortMember cm SET cm.deposit = cm.deposit - (
+            SELECT a.penaltyAmount FROM Attendance a WHERE a.id IN :attendanceIds AND a.member = cm.member)
+        WHERE cm.cohort.id = :cohortId AND EXISTS (
+            SELECT a.id FROM Attendance a WHERE a.id IN :attendanceIds AND a.member = cm.member AND a.penaltyAmount > 0)
+        """)
+    int debitAbsences(Collection<Long> attendanceIds, Long cohortId);
 }
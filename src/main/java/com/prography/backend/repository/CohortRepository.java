@@ -1,9 +1,22 @@
 package com.prography.backend.repository;
 
 import com.prography.backend.domain.Cohort;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 
 public interface CohortRepository extends JpaRepository<Cohort, Long> {
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "cohort-by-generation-query")})
     Optional<Cohort> findByGeneration(int generation);
+
+    // 같은 기수에 패널티 정책 버전을 동시에 매기지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cohort c WHERE c.id = :id")
+    Optional<Cohort> findByIdForUpdate(Long id);
 }
@@ -0,0 +1,23 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.DepositCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface DepositCheckpointRepository extends JpaRepository<DepositCheckpoint, Long> {
+    // 가장 최근 이력까지 반영한 체크포인트
+    @Query("""
+        SELECT c FROM DepositCheckpoint c WHERE c.cohortMember.id = :cohortMemberId
+        ORDER BY c.lastHistoryId DESC LIMIT 1
+        """)
+    Optional<DepositCheckpoint> latestCheckpoint(Long cohortMemberId);
+
+    // at 시점 이전에 찍은 가장 최근 체크포인트
+    @Query("""
+        SELECT c FROM DepositCheckpoint c WHERE c.cohortMember.id = :cohortMemberId AND c.checkpointAt <= :at
+        ORDER BY c.checkpointAt DESC LIMIT 1
+        """)
+    Optional<DepositCheckpoint> latestCheckpointAtOrBefore(Long cohortMemberId, Instant at);
+}
@@ -1,9 +1,60 @@
 package com.prography.backend.repository;
 
 import com.prography.backend.domain.DepositHistory;
+import com.prography.backend.domain.DepositType;
+import com.prography.backend.dto.response.DepositHistoryResponse;
+import com.prography.backend.repository.projection.LedgerEntryRow;
+import com.prography.backend.repository.projection.LedgerRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface DepositHistoryRepository extends JpaRepository<DepositHistory, Long> {
-    List<DepositHistory> findByCohortMemberIdOrderByCreatedAtAsc(Long cohortMemberId);
+    // attendance.id는 FK 컬럼을 그대로 읽으므로 조인/지연 로딩 없이 null도 유지된다
+    @Query("""
+        SELECT new com.prography.backend.dto.response.DepositHistoryResponse(
+            dh.id, dh.cohortMember.id, dh.type, dh.amount, dh.balanceAfter, dh.attendance.id,
+            dh.description, dh.createdAt)
+        FROM DepositHistory dh WHERE dh.cohortMember.id = :cohortMemberId
+        ORDER BY dh.createdAt, dh.id
+        """)
+    List<DepositHistoryResponse> findResponsesByCohortMemberId(Long cohortMemberId);
+
+    // 체크포인트 이후 이력 (cohort_member_id, id) 인덱스로 afterId 뒤쪽만 탐색
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.LedgerEntryRow(
+            dh.id, dh.type, dh.amount, dh.balanceAfter, dh.createdAt)
+        FROM DepositHistory dh
+        WHERE dh.cohortMember.id = :cohortMemberId AND dh.id > :afterId AND dh.createdAt <= :at
+        ORDER BY dh.id
+        """)
+    List<LedgerEntryRow> findLedgerEntriesAfter(Long cohortMemberId, Long afterId, Instant at);
+
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.LedgerRow(
+            cm.id, cm.deposit, dh.id, dh.type, dh.amount, dh.balanceAfter, a.id, a.penaltyAmount)
+        FROM CohortMember cm
+        LEFT JOIN DepositHistory dh ON dh.cohortMember = cm
+        LEFT JOIN dh.attendance a
+        WHERE cm.id IN :cohortMemberIds
+        ORDER BY cm.id, dh.id
+        """)
+    List<LedgerRow> findLedgerRows(List<Long> cohortMemberIds);
+
+    /**
+     * AttendanceRepository.insertAbsences로 만든 결석(attendanceIds) 중 패널티가 있는 행의 차감 이력을 한 번에 남긴다.
+     * balanceAfter는 차감 전 보증금 기준이므로 CohortMemberRepository.debitAbsences보다 먼저 실행해야 한다.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO DepositHistory (cohortMember, type, amount, balanceAfter, attendance, description, createdAt)
+        SELECT cm, :type, -a.penaltyAmount, cm.deposit - a.penaltyAmount, a, :description, :now
+        FROM Attendance a JOIN CohortMember cm ON cm.member = a.member AND cm.cohort.id = :cohortId
+        WHERE a.id IN :attendanceIds AND a.penaltyAmount > 0
+        """)
+    int insertAbsencePenalties(Collection<Long> attendanceIds, Long cohortId, Instant now,
+                               DepositType type, String description);
 }
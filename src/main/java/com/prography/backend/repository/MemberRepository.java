@@ -2,19 +2,54 @@ package com.prography.backend.repository;
 
 import com.prography.backend.domain.Member;
 import com.prography.backend.domain.MemberStatus;
+import com.prography.backend.dto.response.MemberDashboardResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByLoginId(String loginId);
     Optional<Member> findByLoginId(String loginId);
-    Page<Member> findByStatus(MemberStatus status, Pageable pageable);
-    Page<Member> findByNameContaining(String name, Pageable pageable);
-    Page<Member> findByLoginIdContaining(String loginId, Pageable pageable);
-    Page<Member> findByPhoneContaining(String phone, Pageable pageable);
-    Page<Member> findByStatusAndNameContaining(MemberStatus status, String name, Pageable pageable);
-    Page<Member> findByStatusAndLoginIdContaining(MemberStatus status, String loginId, Pageable pageable);
-    Page<Member> findByStatusAndPhoneContaining(MemberStatus status, String phone, Pageable pageable);
+
+    /**
+     * 관리자 대시보드. 회원마다 가장 최근 기수의 CohortMember를 붙이고, 검색/기수/파트/팀 조건을 모두 DB에서 걸러
+     * 페이지와 totalElements가 필터 결과 기준이 되도록 한다. 검색어 파라미터는 null이면 조건에서 빠진다.
+     */
+    @Query(value = """
+        SELECT new com.prography.backend.dto.response.MemberDashboardResponse(
+            m.id, m.loginId, m.name, m.phone, m.status, m.role, c.generation, p.name, t.name, cm.deposit,
+            m.createdAt, m.updatedAt)
+        FROM Member m
+        LEFT JOIN CohortMember cm ON cm.member = m
+        LEFT JOIN cm.cohort c LEFT JOIN cm.part p LEFT JOIN cm.team t
+        WHERE (cm.id IS NULL OR NOT EXISTS (
+            SELECT n.id FROM CohortMember n JOIN n.cohort nc WHERE n.member = m AND nc.generation > c.generation))
+        AND (:status IS NULL OR m.status = :status)
+        AND (:name IS NULL OR m.name LIKE CONCAT('%', :name, '%'))
+        AND (:loginId IS NULL OR m.loginId LIKE CONCAT('%', :loginId, '%'))
+        AND (:phone IS NULL OR m.phone LIKE CONCAT('%', :phone, '%'))
+        AND (:generation IS NULL OR c.generation = :generation)
+        AND (:partName IS NULL OR p.name = :partName)
+        AND (:teamName IS NULL OR t.name = :teamName)
+        ORDER BY m.id
+        """, countQuery = """
+        SELECT COUNT(m)
+        FROM Member m
+        LEFT JOIN CohortMember cm ON cm.member = m
+        LEFT JOIN cm.cohort c LEFT JOIN cm.part p LEFT JOIN cm.team t
+        WHERE (cm.id IS NULL OR NOT EXISTS (
+            SELECT n.id FROM CohortMember n JOIN n.cohort nc WHERE n.member = m AND nc.generation > c.generation))
+        AND (:status IS NULL OR m.status = :status)
+        AND (:name IS NULL OR m.name LIKE CONCAT('%', :name, '%'))
+        AND (:loginId IS NULL OR m.loginId LIKE CONCAT('%', :loginId, '%'))
+        AND (:phone IS NULL OR m.phone LIKE CONCAT('%', :phone, '%'))
+        AND (:generation IS NULL OR c.generation = :generation)
+        AND (:partName IS NULL OR p.name = :partName)
+        AND (:teamName IS NULL OR t.name = :teamName)
+        """)
+    Page<MemberDashboardResponse> findDashboard(MemberStatus status, String name, String loginId, String phone,
+                                                Integer generation, String partName, String teamName,
+                                                Pageable pageable);
 }
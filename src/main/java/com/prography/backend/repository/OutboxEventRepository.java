@@ -0,0 +1,38 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // 읽기 전용 트랜잭션이면 replica로 갈 수 있으므로, 발행 여부는 항상 primary 기준으로 읽는다
+    // blocked는 비어 있으면 안 된다 (NOT IN () 방지) - 호출 측에서 존재하지 않는 id를 넣어 둔다
+    @Transactional
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.publishedAt IS NULL AND e.parkedAt IS NULL
+              AND e.id > :afterId AND e.cohortMemberId NOT IN :blocked
+            ORDER BY e.id""")
+    List<OutboxEvent> findDeliverable(long afterId, Collection<Long> blocked, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(List<Long> ids, Instant publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.parkedAt = :parkedAt WHERE e.id = :id")
+    int markFailed(Long id, String error, Instant parkedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(Instant cutoff);
+}
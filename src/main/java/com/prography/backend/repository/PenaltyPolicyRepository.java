@@ -0,0 +1,22 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.PenaltyPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+
+public interface PenaltyPolicyRepository extends JpaRepository<PenaltyPolicy, Long> {
+    // 레지스트리 로드용 (구간까지 한 번에)
+    @Query("SELECT DISTINCT p FROM PenaltyPolicy p LEFT JOIN FETCH p.lateFeeTiers ORDER BY p.version")
+    List<PenaltyPolicy> findAllWithTiers();
+
+    @Query("SELECT DISTINCT p FROM PenaltyPolicy p LEFT JOIN FETCH p.lateFeeTiers WHERE p.cohort.id = :cohortId ORDER BY p.version DESC")
+    List<PenaltyPolicy> findByCohortIdWithTiers(Long cohortId);
+
+    @Query("SELECT COALESCE(MAX(p.version), 0) FROM PenaltyPolicy p WHERE p.cohort.id = :cohortId")
+    int findLatestVersion(Long cohortId);
+
+    // 정책은 추가만 되므로 건수가 바뀌었는지로 다른 인스턴스의 추가를 알아챈다
+    @Query("SELECT COUNT(p) FROM PenaltyPolicy p")
+    long countAll();
+}
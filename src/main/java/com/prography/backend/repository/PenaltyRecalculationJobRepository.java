@@ -0,0 +1,54 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.PenaltyRecalculationJob;
+import com.prography.backend.domain.PenaltyRecalculationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
+import java.util.List;
+
+public interface PenaltyRecalculationJobRepository extends JpaRepository<PenaltyRecalculationJob, Long> {
+    @Query("SELECT j.id FROM PenaltyRecalculationJob j WHERE j.status = :status ORDER BY j.id")
+    List<Long> findIdsByStatus(PenaltyRecalculationStatus status);
+
+    @Query("SELECT COUNT(j) > 0 FROM PenaltyRecalculationJob j WHERE j.cohort.id = :cohortId AND j.status = :status")
+    boolean existsByCohortIdAndStatus(Long cohortId, PenaltyRecalculationStatus status);
+
+    /**
+     * 작업이 비어 있거나(owner 없음), 이미 owner가 차지했거나, 임대가 끝났으면 owner가 until까지 차지한다. 다른 실행기가 처리 중이면 0
+     */
+    @Modifying
+    @Query("""
+        UPDATE PenaltyRecalculationJob j
+        SET j.owner = :owner, j.leaseExpiresAt = :until
+        WHERE j.id = :id AND j.status = :status
+          AND (j.owner IS NULL OR j.owner = :owner OR j.leaseExpiresAt < :now)
+        """)
+    int claim(Long id, String owner, Instant until, Instant now, PenaltyRecalculationStatus status);
+
+    /**
+     * 체크포인트를 from에서 to로 옮긴다. 다른 실행기가 먼저 옮겼거나, 임대를 넘겨받았거나, 작업이 멈췄으면 0
+     */
+    @Modifying
+    @Query("""
+        UPDATE PenaltyRecalculationJob j
+        SET j.checkpointCohortMemberId = :to, j.processedMembers = j.processedMembers + :members, j.updatedAt = :now
+        WHERE j.id = :id AND j.checkpointCohortMemberId = :from AND j.status = :status AND j.owner = :owner
+        """)
+    int advanceCheckpoint(Long id, long from, long to, int members, String owner, PenaltyRecalculationStatus status,
+                          Instant now);
+
+    /**
+     * 회원 묶음 하나의 결과를 더한다. 묶음의 출결/보증금 쓰기와 같은 트랜잭션이므로 재시작 후 다시 처리해도 두 번 더해지지 않는다
+     * (이미 반영된 출결은 차액이 0이다).
+     */
+    @Modifying
+    @Query("""
+        UPDATE PenaltyRecalculationJob j
+        SET j.adjustedAttendances = j.adjustedAttendances + :adjusted, j.penaltyCharged = j.penaltyCharged + :charged,
+            j.refunded = j.refunded + :refunded, j.uncollected = j.uncollected + :uncollected, j.updatedAt = :now
+        WHERE j.id = :id
+        """)
+    int addTotals(Long id, int adjusted, long charged, long refunded, long uncollected, Instant now);
+}
@@ -0,0 +1,19 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.QrCodeHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
+import java.util.List;
+
+public interface QrCodeHistoryRepository extends JpaRepository<QrCodeHistory, Long> {
+
+    @Modifying
+    @Query("""
+        INSERT INTO QrCodeHistory (id, sessionId, hashValue, createdAt, expiresAt, archivedAt)
+        SELECT q.id, q.session.id, q.hashValue, q.createdAt, q.expiresAt, :archivedAt
+        FROM QrCode q WHERE q.id IN :ids
+        """)
+    int archiveByIds(List<Long> ids, Instant archivedAt);
+}
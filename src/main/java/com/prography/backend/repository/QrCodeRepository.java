@@ -1,13 +1,34 @@
 package com.prography.backend.repository;
 
 import com.prography.backend.domain.QrCode;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface QrCodeRepository extends JpaRepository<QrCode, Long> {
     Optional<QrCode> findByHashValue(String hashValue);
+
+    @Query("SELECT COUNT(q) > 0 FROM QrCode q WHERE q.session.id = :sessionId AND q.expiresAt > :now")
     boolean existsBySessionIdAndExpiresAtAfter(Long sessionId, Instant now);
+
+    @Query("SELECT q FROM QrCode q WHERE q.session.id = :sessionId AND q.expiresAt > :now")
     List<QrCode> findBySessionIdAndExpiresAtAfter(Long sessionId, Instant now);
+
+    @Query("SELECT DISTINCT q.session.id FROM QrCode q WHERE q.session.id IN :sessionIds AND q.expiresAt > :now")
+    List<Long> findSessionIdsWithActiveQr(Collection<Long> sessionIds, Instant now);
+
+    @Query("SELECT MIN(q.expiresAt) FROM QrCode q WHERE q.session.cohort.id = :cohortId AND q.expiresAt > :now")
+    Instant findNextExpiry(Long cohortId, Instant now);
+
+    @Query("SELECT q.id FROM QrCode q WHERE q.expiresAt < :cutoff ORDER BY q.id")
+    List<Long> findExpiredIds(Instant cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM QrCode q WHERE q.id IN :ids")
+    int deleteByIds(List<Long> ids);
 }
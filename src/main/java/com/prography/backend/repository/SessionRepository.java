@@ -2,14 +2,37 @@ package com.prography.backend.repository;
 
 import com.prography.backend.domain.Session;
 import com.prography.backend.domain.SessionStatus;
+import com.prography.backend.dto.response.MemberSessionResponse;
+import com.prography.backend.repository.projection.MatrixSessionRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface SessionRepository extends JpaRepository<Session, Long> {
+    // sessions 테이블이 갱신되면 update-timestamps 리전에 의해 자동 무효화된다
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "sessions-by-cohort-query")})
+    @Query("SELECT s FROM Session s WHERE s.cohort.id = :cohortId AND s.status <> :status")
     List<Session> findByCohortIdAndStatusNot(Long cohortId, SessionStatus status);
 
+    long countByStatus(SessionStatus status);
+
+    // 상태 전환 후보 (시각 비교는 Asia/Seoul 기준으로 서비스에서 한다)
+    @Query("SELECT s FROM Session s WHERE s.status = :status AND s.date <= :date ORDER BY s.date, s.time")
+    List<Session> findByStatusAndDateOnOrBefore(SessionStatus status, LocalDate date);
+
+    // 여러 인스턴스가 같은 일정을 동시에 종료 처리하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Session s WHERE s.id = :id")
+    Optional<Session> findByIdForUpdate(Long id);
+
     @Query("""
         SELECT s FROM Session s WHERE s.cohort.id = :cohortId
         AND (:status IS NULL OR s.status = :status)
@@ -19,4 +42,21 @@ public interface SessionRepository extends JpaRepository<Session, Long> {
         """)
     List<Session> findByCohortIdWithFilters(Long cohortId, SessionStatus status,
                                              LocalDate dateFrom, LocalDate dateTo);
+
+    // 출결 행렬 재구성용. 엔티티를 읽지 않아 2차 캐시를 채우지 않는다
+    @Query("""
+        SELECT new com.prography.backend.repository.projection.MatrixSessionRow(s.id, s.title, s.date, s.status)
+        FROM Session s WHERE s.cohort.id = :cohortId
+        ORDER BY s.date, s.time, s.id
+        """)
+    List<MatrixSessionRow> findMatrixRowsByCohortId(Long cohortId);
+
+    // 증분 동기화: since < change_seq <= until (until은 조회 시작 시 읽은 커밋된 순번)
+    @Query("""
+        SELECT new com.prography.backend.dto.response.MemberSessionResponse(
+            s.id, s.title, s.date, s.time, s.location, s.status, s.createdAt, s.updatedAt)
+        FROM Session s WHERE s.cohort.id = :cohortId AND s.changeSeq > :since AND s.changeSeq <= :until
+        ORDER BY s.date, s.time, s.id
+        """)
+    List<MemberSessionResponse> findChangedSince(Long cohortId, long since, long until);
 }
@@ -0,0 +1,7 @@
+package com.prography.backend.repository.projection;
+
+/**
+ * 일정 종료 시 일괄 생성한 결석 행. 패널티가 0원(보증금 소진)이면 depositHistoryId 이하가 null이다.
+ */
+public record AbsenceRow(Long attendanceId, Long memberId, Long cohortMemberId, int penaltyAmount,
+    Long depositHistoryId, Integer balanceAfter) {}
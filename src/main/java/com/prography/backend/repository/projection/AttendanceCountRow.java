@@ -0,0 +1,8 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.AttendanceStatus;
+
+/**
+ * 출결 상태별 집계 행. ownerId는 GROUP BY 기준(회원 또는 일정) id이다.
+ */
+public record AttendanceCountRow(Long ownerId, AttendanceStatus status, long count, long penaltyAmount) {}
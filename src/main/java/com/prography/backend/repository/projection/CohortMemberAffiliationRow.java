@@ -0,0 +1,9 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.MemberStatus;
+
+/**
+ * 기수 회원의 소속 (파트/팀이 없으면 null)
+ */
+public record CohortMemberAffiliationRow(Long memberId, String memberName, MemberStatus memberStatus,
+    Long partId, Long teamId) {}
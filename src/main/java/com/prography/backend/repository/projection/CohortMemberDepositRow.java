@@ -0,0 +1,6 @@
+package com.prography.backend.repository.projection;
+
+/**
+ * 패널티 재계산 미리보기용 CohortMember 보증금
+ */
+public record CohortMemberDepositRow(Long cohortMemberId, int deposit) {}
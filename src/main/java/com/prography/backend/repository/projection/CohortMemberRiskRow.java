@@ -0,0 +1,9 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.MemberStatus;
+
+/**
+ * 위험 회원 색인의 한 항목 (보증금/공결 횟수와 표시용 이름, 파트/팀이 없으면 null)
+ */
+public record CohortMemberRiskRow(Long cohortMemberId, Long cohortId, Long memberId, String memberName,
+    MemberStatus memberStatus, String partName, String teamName, int deposit, int excuseCount) {}
@@ -0,0 +1,6 @@
+package com.prography.backend.repository.projection;
+
+/**
+ * 회원과 (있으면) 해당 기수 CohortMember의 보증금/공결 횟수. CohortMember가 없으면 cohortMemberId가 null
+ */
+public record CohortMemberStateRow(Long memberId, Long cohortMemberId, Integer deposit, Integer excuseCount) {}
@@ -0,0 +1,6 @@
+package com.prography.backend.repository.projection;
+
+/**
+ * 기수 명단 행 (회원 id/이름과 해당 기수 보증금)
+ */
+public record CohortRosterRow(Long memberId, String memberName, int deposit) {}
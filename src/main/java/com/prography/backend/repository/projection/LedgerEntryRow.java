@@ -0,0 +1,9 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.DepositType;
+import java.time.Instant;
+
+/**
+ * 시점 잔액/체크포인트 계산용 이력 행 (잔액 계산에 필요한 컬럼만)
+ */
+public record LedgerEntryRow(Long id, DepositType type, int amount, int balanceAfter, Instant createdAt) {}
@@ -0,0 +1,9 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.DepositType;
+
+/**
+ * 원장 대사용 행. 이력이 없는 CohortMember는 historyId 이하가 null이다.
+ */
+public record LedgerRow(Long cohortMemberId, int deposit, Long historyId, DepositType type,
+    Integer amount, Integer balanceAfter, Long attendanceId, Integer penaltyAmount) {}
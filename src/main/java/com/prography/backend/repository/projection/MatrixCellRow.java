@@ -0,0 +1,8 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.AttendanceStatus;
+
+/**
+ * 출결 행렬 한 칸 (일정 × 회원의 출결 상태와 지각 분)
+ */
+public record MatrixCellRow(Long sessionId, Long memberId, AttendanceStatus status, Integer lateMinutes) {}
@@ -0,0 +1,9 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.SessionStatus;
+import java.time.LocalDate;
+
+/**
+ * 출결 행렬의 한 행 (일정 id, 제목, 날짜, 상태)
+ */
+public record MatrixSessionRow(Long id, String title, LocalDate date, SessionStatus status) {}
@@ -0,0 +1,10 @@
+package com.prography.backend.repository.projection;
+
+import com.prography.backend.domain.AttendanceStatus;
+
+/**
+ * 패널티 재계산 대상 출결 (CohortMember, 일정 날짜 순)
+ */
+public record RecalculationRow(Long attendanceId, Long cohortMemberId, Long memberId, Long sessionId,
+                               boolean penaltyWaived, AttendanceStatus status, Integer lateMinutes,
+                               int penaltyAmount, Integer penaltyPolicyVersion) {}
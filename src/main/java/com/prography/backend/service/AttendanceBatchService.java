@@ -0,0 +1,333 @@
+package com.prography.backend.service;
+
+import com.prography.backend.common.ApiResponse;
+import com.prography.backend.domain.*;
+import com.prography.backend.dto.request.BatchAttendanceRequest;
+import com.prography.backend.dto.request.BatchAttendanceRequest.Item;
+import com.prography.backend.dto.request.BatchAttendanceRequest.Mode;
+import com.prography.backend.dto.response.AttendanceResponse;
+import com.prography.backend.dto.response.BatchAttendanceResponse;
+import com.prography.backend.dto.response.BatchAttendanceResponse.ItemResult;
+import com.prography.backend.dto.response.BatchAttendanceResponse.Outcome;
+import com.prography.backend.event.*;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.*;
+import com.prography.backend.repository.projection.CohortMemberStateRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import static com.prography.backend.service.JdbcBatches.insertReturningIds;
+import static com.prography.backend.service.JdbcBatches.utc;
+
+/**
+ * 한 일정의 관리자 출결 등록/수정을 묶어서 처리한다 (POST /api/v1/admin/attendances/batch).
+ *
+ * - 읽기: 대상 출결 1회 + 대상 회원/CohortMember 1회 + CohortMember 행 잠금 1회 (일정/기수는 2차 캐시)
+ * - 보증금/공결 횟수는 잠근 CohortMember 행에서 읽으므로, 동시에 들어온 체크인이나 다른 배치의 변경을 덮어쓰지 않는다
+ * - 공결 한도와 보증금 규칙, 패널티 정책은 AttendanceService.registerAttendance/updateAttendance와 같고, 항목 순서대로 메모리에서 적용한다
+ * - 쓰기: 출결 INSERT/UPDATE, 보증금 이력 INSERT, CohortMember UPDATE, 아웃박스 INSERT를 테이블마다 JDBC 배치 한 번으로 보낸다
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceBatchService {
+
+    private static final int MAX_EXCUSE_COUNT = 3;
+
+    private static final String INSERT_ATTENDANCE = """
+            INSERT INTO attendances (session_id, member_id, status, late_minutes, penalty_amount,
+                                     penalty_policy_version, reason, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String UPDATE_ATTENDANCE = """
+            UPDATE attendances SET status = ?, late_minutes = ?, penalty_amount = ?, penalty_policy_version = ?,
+                                   reason = ?, updated_at = ?
+            WHERE id = ?""";
+    private static final String INSERT_DEPOSIT_HISTORY = """
+            INSERT INTO deposit_histories (cohort_member_id, type, amount, balance_after, attendance_id,
+                                           description, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String UPDATE_COHORT_MEMBER = "UPDATE cohort_members SET deposit = ?, excuse_count = ? WHERE id = ?";
+
+    private final SessionRepository sessionRepository;
+    private final CohortRepository cohortRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final CohortMemberRepository cohortMemberRepository;
+    private final OutboxService outboxService;
+    private final ChangeSequenceService changeSequence;
+    private final PenaltyPolicyRegistry penaltyPolicies;
+    private final JdbcTemplate jdbcTemplate;
+    private final int currentCohortGeneration;
+
+    /** 배치 안에서 바뀌어 가는 CohortMember 상태 */
+    private static class Ledger {
+        final Long cohortMemberId;
+        int deposit;
+        int excuseCount;
+        boolean dirty;
+
+        Ledger(CohortMember cm) {
+            this.cohortMemberId = cm.getId();
+            this.deposit = cm.getDeposit();
+            this.excuseCount = cm.getExcuseCount();
+        }
+    }
+
+    /** 배치 안에서 바뀌어 가는 출결 행 (새 행은 INSERT 후 id가 채워진다) */
+    private static class Row {
+        Long id;
+        final Long memberId;
+        final boolean created;
+        final Instant checkedInAt;
+        final Instant createdAt;
+        AttendanceStatus status;
+        Integer lateMinutes;
+        int penaltyAmount;
+        Integer penaltyPolicyVersion;
+        String reason;
+        boolean dirty;
+
+        Row(Attendance a) {
+            this.id = a.getId();
+            this.memberId = a.getMember().getId();
+            this.created = false;
+            this.checkedInAt = a.getCheckedInAt();
+            this.createdAt = a.getCreatedAt();
+            this.status = a.getStatus();
+            this.lateMinutes = a.getLateMinutes();
+            this.penaltyAmount = a.getPenaltyAmount();
+            this.penaltyPolicyVersion = a.getPenaltyPolicyVersion();
+            this.reason = a.getReason();
+        }
+
+        Row(Long memberId, Instant now) {
+            this.memberId = memberId;
+            this.created = true;
+            this.checkedInAt = null;
+            this.createdAt = now;
+        }
+    }
+
+    private record History(Row row, Ledger ledger, DepositType type, int amount, int balanceAfter, String description) {}
+
+    /** 항목 하나를 적용한 결과 (이벤트 값은 적용 시점 기준) */
+    private record Applied(int index, Row row, Ledger ledger, AttendanceStatus previousStatus, int previousPenalty,
+                           AttendanceStatus status, Integer lateMinutes, int penaltyAmount, History history) {}
+
+    @Transactional
+    public BatchAttendanceResponse apply(BatchAttendanceRequest request) {
+        Session session = sessionRepository.findById(request.sessionId())
+                .orElseThrow(() -> new AppException(ErrorCode.SESSION_NOT_FOUND));
+        Cohort currentCohort = cohortRepository.findByGeneration(currentCohortGeneration)
+                .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
+        Mode mode = request.mode() != null ? request.mode() : Mode.ALL_OR_NOTHING;
+        CompiledPenaltyPolicy policy = penaltyPolicies.forSession(session);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        // 1. 대상 출결 (수정 대상 id + 등록 대상 회원의 기존 출결)
+        Set<Long> attendanceIds = new HashSet<>();
+        Set<Long> memberIds = new HashSet<>();
+        for (Item item : request.items()) {
+            if (item.attendanceId() != null) attendanceIds.add(item.attendanceId());
+            else if (item.memberId() != null) memberIds.add(item.memberId());
+        }
+        Map<Long, Row> rowsById = new HashMap<>();
+        Map<Long, Row> rowsByMember = new HashMap<>();
+        for (Attendance a : attendanceRepository.findBySessionIdAndIdInOrMemberIdIn(session.getId(), attendanceIds, memberIds)) {
+            Row row = new Row(a);
+            rowsById.put(row.id, row);
+            rowsByMember.put(row.memberId, row);
+            memberIds.add(row.memberId);
+        }
+
+        // 2. 대상 회원과 현재 기수 CohortMember (회원이 없으면 행이 없고, CohortMember가 없으면 ledger가 null)
+        //    보증금/공결 횟수는 CohortMember 행을 id 순으로 잠근 뒤 읽은 값을 쓴다 (커밋까지 다른 쓰기를 막아 덮어쓰기 방지)
+        Set<Long> knownMembers = new HashSet<>();
+        Map<Long, Long> memberByCohortMember = new HashMap<>();
+        for (CohortMemberStateRow state : cohortMemberRepository.findStatesByMemberIds(currentCohort.getId(), memberIds)) {
+            knownMembers.add(state.memberId());
+            if (state.cohortMemberId() != null) memberByCohortMember.put(state.cohortMemberId(), state.memberId());
+        }
+        Map<Long, Ledger> ledgers = new HashMap<>();
+        if (!memberByCohortMember.isEmpty()) {
+            for (CohortMember cm : cohortMemberRepository.findAllByIdForUpdate(memberByCohortMember.keySet())) {
+                ledgers.put(memberByCohortMember.get(cm.getId()), new Ledger(cm));
+            }
+        }
+
+        // 3. 항목 순서대로 메모리에서 적용 (실패한 항목은 상태를 바꾸지 않는다)
+        List<Applied> applied = new ArrayList<>();
+        ItemResult[] results = new ItemResult[request.items().size()];
+        for (int i = 0; i < request.items().size(); i++) {
+            Item item = request.items().get(i);
+            try {
+                applied.add(item.attendanceId() != null
+                        ? update(i, item, rowsById.get(item.attendanceId()), ledgers, policy)
+                        : register(i, item, rowsByMember, knownMembers, ledgers, policy, now));
+            } catch (AppException e) {
+                ErrorCode code = e.getErrorCode();
+                results[i] = new ItemResult(i, Outcome.FAILED, null, new ApiResponse.ErrorDetail(code.name(), code.getMessage()));
+            }
+        }
+
+        int failed = request.items().size() - applied.size();
+        if (mode == Mode.ALL_OR_NOTHING && failed > 0) {
+            for (Applied a : applied) results[a.index()] = new ItemResult(a.index(), Outcome.NOT_APPLIED, null, null);
+            return new BatchAttendanceResponse(session.getId(), mode, false, 0, failed, List.of(results));
+        }
+
+        // 4. JDBC 배치 쓰기 (FK 순서: 출결 → 보증금 이력 → CohortMember → 아웃박스)
+        List<Row> rows = applied.stream().map(Applied::row).distinct().toList();
+        insertAttendances(session.getId(), rows.stream().filter(r -> r.created).toList(), now);
+        updateAttendances(rows.stream().filter(r -> !r.created && r.dirty).toList(), now);
+        List<History> histories = applied.stream().map(Applied::history).filter(Objects::nonNull).toList();
+        Map<History, Long> historyIds = insertHistories(histories, now);
+        updateLedgers(ledgers.values().stream().filter(l -> l.dirty).toList());
+
+        List<DomainEvent> events = new ArrayList<>();
+        for (Applied a : applied) {
+            events.add(a.row().created
+                    ? new AttendanceRecorded(a.row().id, session.getId(), a.row().memberId, a.ledger().cohortMemberId,
+                            a.status(), a.lateMinutes(), a.penaltyAmount(), now)
+                    : new AttendanceUpdated(a.row().id, session.getId(), a.row().memberId, a.ledger().cohortMemberId,
+                            a.previousStatus(), a.previousPenalty(), a.status(), a.lateMinutes(), a.penaltyAmount(), now));
+            History h = a.history();
+            if (h != null) events.add(new DepositChanged(h.ledger().cohortMemberId, historyIds.get(h), h.type(),
+                    h.amount(), h.balanceAfter(), h.row().id, now));
+            results[a.index()] = new ItemResult(a.index(), a.row().created ? Outcome.CREATED : Outcome.UPDATED,
+                    toAttendanceResponse(session.getId(), a, now), null);
+        }
+        outboxService.recordAll(events);
+        if (!applied.isEmpty()) {
+            changeSequence.attendancesChanged(rows.stream().map(r -> r.id).toList());
+        }
+
+        return new BatchAttendanceResponse(session.getId(), mode, true, applied.size(), failed, List.of(results));
+    }
+
+    private Applied register(int index, Item item, Map<Long, Row> rowsByMember, Set<Long> knownMembers,
+                             Map<Long, Ledger> ledgers, CompiledPenaltyPolicy policy, Instant now) {
+        if (item.memberId() == null) throw new AppException(ErrorCode.INVALID_INPUT);
+        if (!knownMembers.contains(item.memberId())) throw new AppException(ErrorCode.MEMBER_NOT_FOUND);
+        if (rowsByMember.containsKey(item.memberId())) throw new AppException(ErrorCode.ATTENDANCE_ALREADY_CHECKED);
+        Ledger ledger = ledgers.get(item.memberId());
+        if (ledger == null) throw new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND);
+
+        boolean excused = item.status() == AttendanceStatus.EXCUSED;
+        if (excused && ledger.excuseCount >= MAX_EXCUSE_COUNT) throw new AppException(ErrorCode.EXCUSE_LIMIT_EXCEEDED);
+        int penalty = policy.charge(item.status(), item.lateMinutes());
+        if (penalty > 0 && ledger.deposit < penalty) throw new AppException(ErrorCode.DEPOSIT_INSUFFICIENT);
+
+        if (excused) ledger.excuseCount++;
+        Row row = new Row(item.memberId(), now);
+        row.status = item.status();
+        row.lateMinutes = item.lateMinutes();
+        row.penaltyAmount = penalty;
+        row.penaltyPolicyVersion = policy.version();
+        row.reason = item.reason();
+        rowsByMember.put(row.memberId, row);
+        History history = null;
+        if (penalty > 0) {
+            ledger.deposit -= penalty;
+            history = new History(row, ledger, DepositType.PENALTY, -penalty, ledger.deposit,
+                    "출결 등록 - " + item.status() + " 패널티 " + penalty + "원");
+        }
+        ledger.dirty |= excused || penalty > 0;
+        return new Applied(index, row, ledger, null, 0, row.status, row.lateMinutes, penalty, history);
+    }
+
+    private Applied update(int index, Item item, Row row, Map<Long, Ledger> ledgers, CompiledPenaltyPolicy policy) {
+        if (row == null) throw new AppException(ErrorCode.ATTENDANCE_NOT_FOUND);
+        Ledger ledger = ledgers.get(row.memberId);
+        if (ledger == null) throw new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND);
+
+        AttendanceStatus oldStatus = row.status;
+        int oldPenalty = row.penaltyAmount;
+        AttendanceStatus newStatus = item.status();
+        int newPenalty = policy.charge(newStatus, item.lateMinutes());
+        int diff = newPenalty - oldPenalty;
+
+        boolean becomesExcused = oldStatus != AttendanceStatus.EXCUSED && newStatus == AttendanceStatus.EXCUSED;
+        boolean leavesExcused = oldStatus == AttendanceStatus.EXCUSED && newStatus != AttendanceStatus.EXCUSED;
+        if (becomesExcused && ledger.excuseCount >= MAX_EXCUSE_COUNT) throw new AppException(ErrorCode.EXCUSE_LIMIT_EXCEEDED);
+        if (diff > 0 && ledger.deposit < diff) throw new AppException(ErrorCode.DEPOSIT_INSUFFICIENT);
+
+        if (becomesExcused) ledger.excuseCount++;
+        else if (leavesExcused) ledger.excuseCount = Math.max(0, ledger.excuseCount - 1);
+        History history = null;
+        if (diff > 0) {
+            ledger.deposit -= diff;
+            history = new History(row, ledger, DepositType.PENALTY, -diff, ledger.deposit,
+                    "출결 수정 - 추가 패널티 " + diff + "원");
+        } else if (diff < 0) {
+            ledger.deposit -= diff;
+            history = new History(row, ledger, DepositType.REFUND, -diff, ledger.deposit,
+                    "출결 수정 - 환급 " + -diff + "원");
+        }
+        ledger.dirty |= becomesExcused || leavesExcused || diff != 0;
+
+        row.status = newStatus;
+        row.lateMinutes = item.lateMinutes();
+        row.penaltyAmount = newPenalty;
+        row.penaltyPolicyVersion = policy.version();
+        if (item.reason() != null) row.reason = item.reason();
+        row.dirty = true;
+        return new Applied(index, row, ledger, oldStatus, oldPenalty, newStatus, row.lateMinutes, newPenalty, history);
+    }
+
+    private void insertAttendances(Long sessionId, List<Row> rows, Instant now) {
+        List<Long> ids = insertReturningIds(jdbcTemplate, INSERT_ATTENDANCE, rows, (ps, r) -> {
+            ps.setLong(1, sessionId);
+            ps.setLong(2, r.memberId);
+            ps.setString(3, r.status.name());
+            ps.setObject(4, r.lateMinutes, Types.INTEGER);
+            ps.setInt(5, r.penaltyAmount);
+            ps.setObject(6, r.penaltyPolicyVersion, Types.INTEGER);
+            ps.setString(7, r.reason);
+            ps.setObject(8, utc(now));
+            ps.setObject(9, utc(now));
+        });
+        for (int i = 0; i < rows.size(); i++) rows.get(i).id = ids.get(i);
+    }
+
+    private void updateAttendances(List<Row> rows, Instant now) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_ATTENDANCE, rows.stream()
+                .map(r -> new Object[]{r.status.name(), r.lateMinutes, r.penaltyAmount, r.penaltyPolicyVersion, r.reason,
+                        utc(now), r.id})
+                .toList());
+    }
+
+    private Map<History, Long> insertHistories(List<History> histories, Instant now) {
+        List<Long> ids = insertReturningIds(jdbcTemplate, INSERT_DEPOSIT_HISTORY, histories, (ps, h) -> {
+            ps.setLong(1, h.ledger().cohortMemberId);
+            ps.setString(2, h.type().name());
+            ps.setInt(3, h.amount());
+            ps.setInt(4, h.balanceAfter());
+            ps.setLong(5, h.row().id);
+            ps.setString(6, h.description());
+            ps.setObject(7, utc(now));
+        });
+        Map<History, Long> historyIds = new IdentityHashMap<>();
+        for (int i = 0; i < histories.size(); i++) historyIds.put(histories.get(i), ids.get(i));
+        return historyIds;
+    }
+
+    private void updateLedgers(List<Ledger> ledgers) {
+        if (ledgers.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_COHORT_MEMBER, ledgers.stream()
+                .map(l -> new Object[]{l.deposit, l.excuseCount, l.cohortMemberId})
+                .toList());
+    }
+
+    private static AttendanceResponse toAttendanceResponse(Long sessionId, Applied a, Instant now) {
+        Row r = a.row();
+        return new AttendanceResponse(r.id, sessionId, r.memberId, a.status(), a.lateMinutes(), a.penaltyAmount(),
+                r.penaltyPolicyVersion, r.reason, r.checkedInAt, r.createdAt, now);
+    }
+
+}
@@ -0,0 +1,315 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.MemberStatus;
+import com.prography.backend.domain.SessionStatus;
+import com.prography.backend.dto.response.GroupAttendanceRateResponse;
+import com.prography.backend.dto.response.MemberStreakResponse;
+import com.prography.backend.dto.response.SessionAttendanceRateResponse;
+import com.prography.backend.event.AttendanceRecorded;
+import com.prography.backend.event.AttendanceUpdated;
+import com.prography.backend.event.DomainEvent;
+import com.prography.backend.event.DomainEventSubscriber;
+import com.prography.backend.repository.AttendanceRepository;
+import com.prography.backend.repository.CohortMemberRepository;
+import com.prography.backend.repository.SessionRepository;
+import com.prography.backend.repository.projection.CohortMemberAffiliationRow;
+import com.prography.backend.repository.projection.MatrixCellRow;
+import com.prography.backend.repository.projection.MatrixSessionRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 현재 기수의 회원 × 일정 출결 행렬 (관리자 출결 리포트용).
+ * 칸마다 상태 코드(byte, 0 = 기록 없음)와 지각 분(short)을 일정별로 이어 붙인 배열에 두고
+ * (일정 i, 회원 j → i × 회원 수 + j), 회원/일정 id → 번호 맵으로 찾는다.
+ * 기동 시 한 번 만들고, 이후 출결 변경은 아웃박스 이벤트로 해당 칸만 덮어쓴다.
+ * 일정/회원 구성이 바뀌면(일정 생성·수정·취소, 회원 추가·소속 변경·탈퇴) invalidate()로 표시해 두고
+ * AttendanceMatrixScheduler가 통째로 다시 만든다. 리포트는 DB를 읽지 않고 배열을 병렬로 훑으며,
+ * 취소된 일정과 탈퇴한 회원은 제외한다.
+ * 아웃박스 이벤트는 전달을 임대한 인스턴스 하나에만 전달되고(OutboxDispatcher) invalidate()도 변경한 인스턴스에서만 불리므로,
+ * 다른 인스턴스에서 바뀐 출결/구성은 AttendanceMatrixScheduler의 주기적 전체 재구성(rebuild-interval)으로 따라잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceMatrix implements DomainEventSubscriber {
+
+    // 상태 코드 = ordinal + 1. 집계 배열은 [상태별 건수(ordinal 순), 기록 없음, 지각 분 합계]
+    private static final int PRESENT = AttendanceStatus.PRESENT.ordinal();
+    private static final int ABSENT = AttendanceStatus.ABSENT.ordinal();
+    private static final int LATE = AttendanceStatus.LATE.ordinal();
+    private static final int EXCUSED = AttendanceStatus.EXCUSED.ordinal();
+    private static final int UNRECORDED = AttendanceStatus.values().length;
+    private static final int LATE_SUM = UNRECORDED + 1;
+    private static final int WIDTH = LATE_SUM + 1;
+
+    private static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new LocalDate[0], new boolean[0],
+            new long[0], new String[0], new boolean[0], new Groups(new int[0], new Long[0], new String[0]),
+            new Groups(new int[0], new Long[0], new String[0]), Map.of(), Map.of(), new byte[0], new short[0]);
+
+    private final SessionRepository sessionRepository;
+    private final CohortMemberRepository cohortMemberRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final int currentCohortGeneration;
+
+    // 재구성과 이벤트 반영을 직렬화한다. 재구성 중에 도착한 이벤트는 새 행렬에 반영된다
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = EMPTY;
+    private volatile boolean stale;
+
+    private record Snapshot(long[] sessionIds, String[] sessionTitles, LocalDate[] sessionDates, boolean[] cancelled,
+                            long[] memberIds, String[] memberNames, boolean[] withdrawn, Groups parts, Groups teams,
+                            Map<Long, Integer> sessionIndex, Map<Long, Integer> memberIndex,
+                            byte[] status, short[] lateMinutes) {
+        int sessions() {
+            return sessionIds.length;
+        }
+
+        int members() {
+            return memberIds.length;
+        }
+    }
+
+    // of[회원 번호] = 묶음 번호. ids/names는 묶음 번호 순이고 소속 없음은 id/name이 null
+    private record Groups(int[] of, Long[] ids, String[] names) {}
+
+    // DataInitializer 등 ApplicationRunner가 시드를 넣은 뒤 만든다 (primary에서 읽도록 읽기 전용 트랜잭션이 아님)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        synchronized (writeLock) {
+            stale = false;
+            long start = System.nanoTime();
+            Snapshot built = referenceData.findCohortByGeneration(currentCohortGeneration)
+                    .map(c -> load(c.id())).orElse(EMPTY);
+            snapshot = built;
+            log.info("출결 행렬 구성 - 일정 {}개 × 회원 {}명, {}ms", built.sessions(), built.members(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @Transactional
+    public void rebuildIfStale() {
+        if (stale) rebuild();
+    }
+
+    /**
+     * 일정/회원 구성이 바뀌었음을 표시한다. 트랜잭션 안이면 커밋 이후에 표시해 재구성이 변경을 읽도록 한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale = true;
+                }
+            });
+        } else {
+            stale = true;
+        }
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        if (event instanceof AttendanceRecorded e) {
+            apply(e.sessionId(), e.memberId(), e.status(), e.lateMinutes());
+        } else if (event instanceof AttendanceUpdated e) {
+            apply(e.sessionId(), e.memberId(), e.status(), e.lateMinutes());
+        }
+    }
+
+    public List<SessionAttendanceRateResponse> sessionRates() {
+        Snapshot s = snapshot;
+        int m = s.members();
+        return IntStream.range(0, s.sessions()).parallel()
+                .filter(i -> !s.cancelled()[i])
+                .mapToObj(i -> {
+                    long[] c = new long[WIDTH];
+                    for (int j = 0, cell = i * m; j < m; j++, cell++) {
+                        if (!s.withdrawn()[j]) count(c, 0, s, cell);
+                    }
+                    return new SessionAttendanceRateResponse(s.sessionIds()[i], s.sessionTitles()[i], s.sessionDates()[i],
+                            (int) c[PRESENT], (int) c[LATE], (int) c[ABSENT], (int) c[EXCUSED], (int) c[UNRECORDED],
+                            rate(c, 0), c[LATE] == 0 ? null : Math.round(c[LATE_SUM] * 10.0 / c[LATE]) / 10.0);
+                }).toList();
+    }
+
+    public List<GroupAttendanceRateResponse> partRates() {
+        Snapshot s = snapshot;
+        return groupRates(s, s.parts());
+    }
+
+    public List<GroupAttendanceRateResponse> teamRates() {
+        Snapshot s = snapshot;
+        return groupRates(s, s.teams());
+    }
+
+    /**
+     * 회원별 연속 출석(출석/지각) 기록. 일정 순서대로 보며 결석이면 끊기고,
+     * 공결과 기록 없음(아직 열리지 않은 일정 등)은 끊지도 늘리지도 않는다.
+     */
+    public List<MemberStreakResponse> streaks() {
+        Snapshot s = snapshot;
+        int m = s.members(), n = s.sessions();
+        byte present = code(PRESENT), late = code(LATE), absent = code(ABSENT);
+        return IntStream.range(0, m).parallel()
+                .filter(j -> !s.withdrawn()[j])
+                .mapToObj(j -> {
+                    int current = 0, longest = 0, absences = 0;
+                    for (int i = 0, cell = j; i < n; i++, cell += m) {
+                        if (s.cancelled()[i]) continue;
+                        byte code = s.status()[cell];
+                        if (code == present || code == late) {
+                            longest = Math.max(longest, ++current);
+                            absences = 0;
+                        } else if (code == absent) {
+                            current = 0;
+                            absences++;
+                        }
+                    }
+                    return new MemberStreakResponse(s.memberIds()[j], s.memberNames()[j], current, longest, absences);
+                })
+                .sorted(Comparator.comparingInt(MemberStreakResponse::currentStreak).reversed()
+                        .thenComparing(Comparator.comparingInt(MemberStreakResponse::longestStreak).reversed())
+                        .thenComparing(MemberStreakResponse::memberId))
+                .toList();
+    }
+
+    private void apply(Long sessionId, Long memberId, AttendanceStatus status, Integer lateMinutes) {
+        synchronized (writeLock) {
+            Snapshot s = snapshot;
+            Integer session = s.sessionIndex().get(sessionId);
+            Integer member = s.memberIndex().get(memberId);
+            // 다른 기수의 출결이거나 아직 재구성되지 않은 일정/회원 (재구성 때 DB에서 읽힌다)
+            if (session == null || member == null) return;
+            write(s.status(), s.lateMinutes(), session * s.members() + member, status, lateMinutes);
+            snapshot = s; // volatile 재기록으로 덮어쓴 칸이 읽는 스레드에 보이게 한다
+        }
+    }
+
+    // 회원 단위로 나눠 병렬로 훑고, 스레드별 집계 배열(묶음마다 [WIDTH칸 + 인원])을 합친다
+    private static List<GroupAttendanceRateResponse> groupRates(Snapshot s, Groups g) {
+        int stride = WIDTH + 1, m = s.members(), n = s.sessions();
+        long[] totals = IntStream.range(0, m).parallel()
+                .filter(j -> !s.withdrawn()[j])
+                .collect(() -> new long[g.ids().length * stride], (acc, j) -> {
+                    int base = g.of()[j] * stride;
+                    acc[base + WIDTH]++;
+                    for (int i = 0, cell = j; i < n; i++, cell += m) {
+                        if (!s.cancelled()[i]) count(acc, base, s, cell);
+                    }
+                }, (a, b) -> {
+                    for (int k = 0; k < a.length; k++) a[k] += b[k];
+                });
+
+        List<GroupAttendanceRateResponse> result = new ArrayList<>();
+        for (int k = 0; k < g.ids().length; k++) {
+            int base = k * stride;
+            if (totals[base + WIDTH] == 0) continue;
+            result.add(new GroupAttendanceRateResponse(g.ids()[k], g.names()[k], (int) totals[base + WIDTH],
+                    (int) totals[base + PRESENT], (int) totals[base + LATE], (int) totals[base + ABSENT],
+                    (int) totals[base + EXCUSED], (int) totals[base + UNRECORDED], rate(totals, base)));
+        }
+        return result;
+    }
+
+    private static void count(long[] acc, int base, Snapshot s, int cell) {
+        byte code = s.status()[cell];
+        if (code == 0) {
+            acc[base + UNRECORDED]++;
+            return;
+        }
+        acc[base + code - 1]++;
+        if (code - 1 == LATE) acc[base + LATE_SUM] += s.lateMinutes()[cell];
+    }
+
+    // 출석률 = (출석 + 지각) / (출석 + 지각 + 결석). 공결과 기록 없음은 제외
+    private static Double rate(long[] c, int base) {
+        long attended = c[base + PRESENT] + c[base + LATE];
+        long total = attended + c[base + ABSENT];
+        return total == 0 ? null : Math.round(attended * 1000.0 / total) / 1000.0;
+    }
+
+    private Snapshot load(Long cohortId) {
+        List<MatrixSessionRow> sessions = sessionRepository.findMatrixRowsByCohortId(cohortId);
+        List<CohortMemberAffiliationRow> members = cohortMemberRepository.findAffiliationsByCohortId(cohortId);
+        int n = sessions.size(), m = members.size();
+        if ((long) n * m > Integer.MAX_VALUE)
+            throw new IllegalStateException("attendance matrix too large: " + n + " x " + m);
+
+        long[] sessionIds = new long[n];
+        String[] titles = new String[n];
+        LocalDate[] dates = new LocalDate[n];
+        boolean[] cancelled = new boolean[n];
+        Map<Long, Integer> sessionIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            MatrixSessionRow row = sessions.get(i);
+            sessionIds[i] = row.id();
+            titles[i] = row.title();
+            dates[i] = row.date();
+            cancelled[i] = row.status() == SessionStatus.CANCELLED;
+            sessionIndex.put(row.id(), i);
+        }
+
+        long[] memberIds = new long[m];
+        String[] names = new String[m];
+        boolean[] withdrawn = new boolean[m];
+        Map<Long, Integer> memberIndex = new HashMap<>();
+        for (int j = 0; j < m; j++) {
+            CohortMemberAffiliationRow row = members.get(j);
+            memberIds[j] = row.memberId();
+            names[j] = row.memberName();
+            withdrawn[j] = row.memberStatus() == MemberStatus.WITHDRAWN;
+            memberIndex.put(row.memberId(), j);
+        }
+
+        byte[] status = new byte[n * m];
+        short[] lateMinutes = new short[n * m];
+        for (MatrixCellRow cell : attendanceRepository.findCellsByCohortId(cohortId)) {
+            Integer i = sessionIndex.get(cell.sessionId());
+            Integer j = memberIndex.get(cell.memberId());
+            if (i != null && j != null) write(status, lateMinutes, i * m + j, cell.status(), cell.lateMinutes());
+        }
+
+        Groups parts = groups(members, CohortMemberAffiliationRow::partId, referenceData.getParts(cohortId).stream()
+                .collect(Collectors.toMap(ReferenceDataRegistry.PartRef::id, ReferenceDataRegistry.PartRef::name)));
+        Groups teams = groups(members, CohortMemberAffiliationRow::teamId, referenceData.getTeams(cohortId).stream()
+                .collect(Collectors.toMap(ReferenceDataRegistry.TeamRef::id, ReferenceDataRegistry.TeamRef::name)));
+        return new Snapshot(sessionIds, titles, dates, cancelled, memberIds, names, withdrawn, parts, teams,
+                Map.copyOf(sessionIndex), Map.copyOf(memberIndex), status, lateMinutes);
+    }
+
+    private static Groups groups(List<CohortMemberAffiliationRow> members,
+                                 Function<CohortMemberAffiliationRow, Long> groupOf, Map<Long, String> names) {
+        List<Long> ids = members.stream().map(groupOf).distinct()
+                .sorted(Comparator.nullsLast(Comparator.naturalOrder())).toList();
+        Map<Long, Integer> index = new HashMap<>();
+        for (int k = 0; k < ids.size(); k++) index.put(ids.get(k), k);
+        int[] of = new int[members.size()];
+        for (int j = 0; j < of.length; j++) of[j] = index.get(groupOf.apply(members.get(j)));
+        return new Groups(of, ids.toArray(Long[]::new),
+                ids.stream().map(id -> id != null ? names.get(id) : null).toArray(String[]::new));
+    }
+
+    private static void write(byte[] status, short[] lateMinutes, int cell, AttendanceStatus value, Integer late) {
+        status[cell] = code(value.ordinal());
+        lateMinutes[cell] = late != null ? (short) Math.min(late, Short.MAX_VALUE) : 0;
+    }
+
+    private static byte code(int ordinal) {
+        return (byte) (ordinal + 1);
+    }
+}
@@ -3,15 +3,18 @@ package com.prography.backend.service;
 import com.prography.backend.domain.*;
 import com.prography.backend.dto.request.*;
 import com.prography.backend.dto.response.*;
+import com.prography.backend.event.*;
 import com.prography.backend.exception.AppException;
 import com.prography.backend.exception.ErrorCode;
 import com.prography.backend.repository.*;
+import com.prography.backend.repository.projection.CohortMemberStateRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -27,34 +30,47 @@ public class AttendanceService {
     private final CohortMemberRepository cohortMemberRepository;
     private final DepositHistoryRepository depositHistoryRepository;
     private final CohortRepository cohortRepository;
+    private final OutboxService outboxService;
+    private final ChangeSequenceService changeSequence;
+    private final ReferenceDataRegistry referenceData;
+    private final PenaltyPolicyRegistry penaltyPolicies;
+    private final ReadRoutingContext readRoutingContext;
+    private final CheckInMetrics checkInMetrics;
     private final int currentCohortGeneration;
 
     @Transactional
     public AttendanceResponse checkIn(CheckInRequest request) {
+        CheckInMetrics.Stopwatch stopwatch = checkInMetrics.start();
         // 1. QR hashValue 조회
         QrCode qrCode = qrCodeRepository.findByHashValue(request.hashValue())
                 .orElseThrow(() -> new AppException(ErrorCode.QR_INVALID));
+        stopwatch.lap(CheckInMetrics.Stage.QR_LOOKUP);
         // 2. QR 만료
         if (qrCode.isExpired()) throw new AppException(ErrorCode.QR_EXPIRED);
+        stopwatch.lap(CheckInMetrics.Stage.QR_EXPIRY);
         // 3. 일정 IN_PROGRESS
         Session session = qrCode.getSession();
         if (session.getStatus() != SessionStatus.IN_PROGRESS)
             throw new AppException(ErrorCode.SESSION_NOT_IN_PROGRESS);
+        stopwatch.lap(CheckInMetrics.Stage.SESSION_STATE);
         // 4. 회원 존재
         Member member = memberRepository.findById(request.memberId())
                 .orElseThrow(() -> new AppException(ErrorCode.MEMBER_NOT_FOUND));
         // 5. 회원 탈퇴
         if (member.getStatus() == MemberStatus.WITHDRAWN)
             throw new AppException(ErrorCode.MEMBER_WITHDRAWN);
+        stopwatch.lap(CheckInMetrics.Stage.MEMBER_LOOKUP);
         // 6. 중복 출결
         if (attendanceRepository.existsBySessionIdAndMemberId(session.getId(), member.getId()))
             throw new AppException(ErrorCode.ATTENDANCE_ALREADY_CHECKED);
+        stopwatch.lap(CheckInMetrics.Stage.DUPLICATE_CHECK);
         // 7. CohortMember 존재
         Cohort currentCohort = cohortRepository.findByGeneration(currentCohortGeneration)
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
         CohortMember cohortMember = cohortMemberRepository
-                .findByMemberIdAndCohortId(member.getId(), currentCohort.getId())
+                .findByMemberIdAndCohortIdForUpdate(member.getId(), currentCohort.getId())
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND));
+        stopwatch.lap(CheckInMetrics.Stage.COHORT_MEMBER_LOOKUP);
 
         // 지각 판정 (Asia/Seoul)
         LocalDateTime sessionDateTime = LocalDateTime.of(session.getDate(), session.getTime());
@@ -69,24 +85,35 @@ public class AttendanceService {
             status = AttendanceStatus.PRESENT;
         }
 
-        int penalty = PenaltyCalculator.calculate(status, lateMinutes);
+        CompiledPenaltyPolicy policy = penaltyPolicies.forSession(session);
+        int penalty = policy.charge(status, lateMinutes);
         if (penalty > 0) {
             if (cohortMember.getDeposit() < penalty) throw new AppException(ErrorCode.DEPOSIT_INSUFFICIENT);
             cohortMember.setDeposit(cohortMember.getDeposit() - penalty);
         }
+        stopwatch.lap(CheckInMetrics.Stage.PENALTY_DEPOSIT);
 
         Attendance attendance = attendanceRepository.save(Attendance.builder()
-                .session(session).member(member).qrCode(qrCode)
+                .session(session).member(member).qrCodeId(qrCode.getId())
                 .status(status).lateMinutes(lateMinutes).penaltyAmount(penalty)
+                .penaltyPolicyVersion(policy.version())
                 .checkedInAt(Instant.now()).build());
+        outboxService.record(AttendanceRecorded.of(attendance, cohortMember.getId()));
+        changeSequence.attendanceChanged(attendance.getId());
+        // 본인 체크인 직후 내 출결 조회는 replica 지연과 무관하게 primary에서 읽는다
+        readRoutingContext.memberWrote(member.getId());
 
         if (penalty > 0) {
-            depositHistoryRepository.save(DepositHistory.builder()
+            DepositHistory history = DepositHistory.builder()
                     .cohortMember(cohortMember).type(DepositType.PENALTY)
                     .amount(-penalty).balanceAfter(cohortMember.getDeposit())
                     .attendance(attendance)
-                    .description("QR 체크인 - " + status + " 패널티 " + penalty + "원").build());
+                    .description("QR 체크인 - " + status + " 패널티 " + penalty + "원").build();
+            depositHistoryRepository.save(history);
+            outboxService.record(DepositChanged.of(history));
         }
+        stopwatch.lap(CheckInMetrics.Stage.INSERT);
+        checkInMetrics.checkInRecorded();
 
         return toAttendanceResponse(attendance);
     }
@@ -95,31 +122,20 @@ public class AttendanceService {
     public List<MyAttendanceResponse> getMyAttendances(Long memberId) {
         memberRepository.findById(memberId)
                 .orElseThrow(() -> new AppException(ErrorCode.MEMBER_NOT_FOUND));
-        return attendanceRepository.findByMemberId(memberId).stream()
-                .map(a -> new MyAttendanceResponse(a.getId(), a.getSession().getId(),
-                        a.getSession().getTitle(), a.getStatus(), a.getLateMinutes(),
-                        a.getPenaltyAmount(), a.getReason(), a.getCheckedInAt(), a.getCreatedAt()))
-                .toList();
+        return attendanceRepository.findMyAttendances(memberId);
     }
 
     @Transactional(readOnly = true)
     public AttendanceSummaryResponse getAttendanceSummary(Long memberId) {
         memberRepository.findById(memberId)
                 .orElseThrow(() -> new AppException(ErrorCode.MEMBER_NOT_FOUND));
-        List<Attendance> attendances = attendanceRepository.findByMemberId(memberId);
-        int present = (int) attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.PRESENT).count();
-        int absent = (int) attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.ABSENT).count();
-        int late = (int) attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.LATE).count();
-        int excused = (int) attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.EXCUSED).count();
-        int totalPenalty = attendances.stream().mapToInt(Attendance::getPenaltyAmount).sum();
-
-        Cohort currentCohort = cohortRepository.findByGeneration(currentCohortGeneration).orElse(null);
-        Integer deposit = null;
-        if (currentCohort != null) {
-            deposit = cohortMemberRepository.findByMemberIdAndCohortId(memberId, currentCohort.getId())
-                    .map(CohortMember::getDeposit).orElse(null);
-        }
-        return new AttendanceSummaryResponse(memberId, present, absent, late, excused, totalPenalty, deposit);
+        AttendanceTally tally = AttendanceTally.of(attendanceRepository.countByMemberId(memberId));
+
+        Integer deposit = referenceData.findCohortByGeneration(currentCohortGeneration)
+                .flatMap(c -> cohortMemberRepository.findStatesByMemberIds(c.id(), List.of(memberId)).stream().findFirst())
+                .map(CohortMemberStateRow::deposit).orElse(null);
+        return new AttendanceSummaryResponse(memberId, tally.present(), tally.absent(), tally.late(), tally.excused(),
+                tally.totalPenalty(), deposit);
     }
 
     @Transactional
@@ -134,7 +150,7 @@ public class AttendanceService {
         Cohort currentCohort = cohortRepository.findByGeneration(currentCohortGeneration)
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
         CohortMember cohortMember = cohortMemberRepository
-                .findByMemberIdAndCohortId(member.getId(), currentCohort.getId())
+                .findByMemberIdAndCohortIdForUpdate(member.getId(), currentCohort.getId())
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND));
 
         if (request.status() == AttendanceStatus.EXCUSED) {
@@ -143,7 +159,8 @@ public class AttendanceService {
             cohortMember.setExcuseCount(cohortMember.getExcuseCount() + 1);
         }
 
-        int penalty = PenaltyCalculator.calculate(request.status(), request.lateMinutes());
+        CompiledPenaltyPolicy policy = penaltyPolicies.forSession(session);
+        int penalty = policy.charge(request.status(), request.lateMinutes());
         if (penalty > 0) {
             if (cohortMember.getDeposit() < penalty) throw new AppException(ErrorCode.DEPOSIT_INSUFFICIENT);
             cohortMember.setDeposit(cohortMember.getDeposit() - penalty);
@@ -152,14 +169,19 @@ public class AttendanceService {
         Attendance attendance = attendanceRepository.save(Attendance.builder()
                 .session(session).member(member).status(request.status())
                 .lateMinutes(request.lateMinutes()).penaltyAmount(penalty)
+                .penaltyPolicyVersion(policy.version())
                 .reason(request.reason()).build());
+        outboxService.record(AttendanceRecorded.of(attendance, cohortMember.getId()));
+        changeSequence.attendanceChanged(attendance.getId());
 
         if (penalty > 0) {
-            depositHistoryRepository.save(DepositHistory.builder()
+            DepositHistory history = DepositHistory.builder()
                     .cohortMember(cohortMember).type(DepositType.PENALTY)
                     .amount(-penalty).balanceAfter(cohortMember.getDeposit())
                     .attendance(attendance)
-                    .description("출결 등록 - " + request.status() + " 패널티 " + penalty + "원").build());
+                    .description("출결 등록 - " + request.status() + " 패널티 " + penalty + "원").build();
+            depositHistoryRepository.save(history);
+            outboxService.record(DepositChanged.of(history));
         }
 
         return toAttendanceResponse(attendance);
@@ -173,14 +195,16 @@ public class AttendanceService {
         Cohort currentCohort = cohortRepository.findByGeneration(currentCohortGeneration)
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
         CohortMember cohortMember = cohortMemberRepository
-                .findByMemberIdAndCohortId(attendance.getMember().getId(), currentCohort.getId())
+                .findByMemberIdAndCohortIdForUpdate(attendance.getMember().getId(), currentCohort.getId())
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND));
 
         AttendanceStatus oldStatus = attendance.getStatus();
         int oldPenalty = attendance.getPenaltyAmount();
         AttendanceStatus newStatus = request.status();
         Integer newLateMinutes = request.lateMinutes();
-        int newPenalty = PenaltyCalculator.calculate(newStatus, newLateMinutes);
+        // 수정 시점의 정책으로 다시 계산한다
+        CompiledPenaltyPolicy policy = penaltyPolicies.forSession(attendance.getSession());
+        int newPenalty = policy.charge(newStatus, newLateMinutes);
 
         // 공결 상태 전환 처리
         if (oldStatus != AttendanceStatus.EXCUSED && newStatus == AttendanceStatus.EXCUSED) {
@@ -193,46 +217,52 @@ public class AttendanceService {
 
         // 보증금 조정
         int diff = newPenalty - oldPenalty;
+        DepositHistory history = null;
         if (diff > 0) {
             if (cohortMember.getDeposit() < diff) throw new AppException(ErrorCode.DEPOSIT_INSUFFICIENT);
             cohortMember.setDeposit(cohortMember.getDeposit() - diff);
-            depositHistoryRepository.save(DepositHistory.builder()
+            history = DepositHistory.builder()
                     .cohortMember(cohortMember).type(DepositType.PENALTY)
                     .amount(-diff).balanceAfter(cohortMember.getDeposit())
-                    .attendance(attendance).description("출결 수정 - 추가 패널티 " + diff + "원").build());
+                    .attendance(attendance).description("출결 수정 - 추가 패널티 " + diff + "원").build();
+            depositHistoryRepository.save(history);
         } else if (diff < 0) {
             int refund = -diff;
             cohortMember.setDeposit(cohortMember.getDeposit() + refund);
-            depositHistoryRepository.save(DepositHistory.builder()
+            history = DepositHistory.builder()
                     .cohortMember(cohortMember).type(DepositType.REFUND)
                     .amount(refund).balanceAfter(cohortMember.getDeposit())
-                    .attendance(attendance).description("출결 수정 - 환급 " + refund + "원").build());
+                    .attendance(attendance).description("출결 수정 - 환급 " + refund + "원").build();
+            depositHistoryRepository.save(history);
         }
 
         attendance.setStatus(newStatus);
         attendance.setLateMinutes(newLateMinutes);
         attendance.setPenaltyAmount(newPenalty);
+        attendance.setPenaltyPolicyVersion(policy.version());
         if (request.reason() != null) attendance.setReason(request.reason());
 
+        outboxService.record(AttendanceUpdated.of(attendance, cohortMember.getId(), oldStatus, oldPenalty));
+        if (history != null) outboxService.record(DepositChanged.of(history));
+        changeSequence.attendanceChanged(attendance.getId());
+
         return toAttendanceResponse(attendance);
     }
 
+    // 명단 1회 + 상태별 집계 1회로 회원 수와 무관하게 SQL 수가 일정하다
     @Transactional(readOnly = true)
     public List<SessionAttendanceSummaryResponse> getSessionAttendanceSummary(Long sessionId) {
         sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new AppException(ErrorCode.SESSION_NOT_FOUND));
-        Cohort currentCohort = cohortRepository.findByGeneration(currentCohortGeneration)
+        Long cohortId = referenceData.findCohortByGeneration(currentCohortGeneration)
+                .map(ReferenceDataRegistry.CohortRef::id)
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
-        return cohortMemberRepository.findByCohortId(currentCohort.getId()).stream()
-                .map(cm -> {
-                    Member m = cm.getMember();
-                    List<Attendance> atts = attendanceRepository.findByMemberId(m.getId());
-                    int p = (int) atts.stream().filter(a -> a.getStatus() == AttendanceStatus.PRESENT).count();
-                    int ab = (int) atts.stream().filter(a -> a.getStatus() == AttendanceStatus.ABSENT).count();
-                    int l = (int) atts.stream().filter(a -> a.getStatus() == AttendanceStatus.LATE).count();
-                    int ex = (int) atts.stream().filter(a -> a.getStatus() == AttendanceStatus.EXCUSED).count();
-                    int totalPenalty = atts.stream().mapToInt(Attendance::getPenaltyAmount).sum();
-                    return new SessionAttendanceSummaryResponse(m.getId(), m.getName(), p, ab, l, ex, totalPenalty, cm.getDeposit());
+        Map<Long, AttendanceTally> tallies = AttendanceTally.byOwner(attendanceRepository.countByCohortMembers(cohortId));
+        return cohortMemberRepository.findRosterByCohortId(cohortId).stream()
+                .map(r -> {
+                    AttendanceTally t = tallies.getOrDefault(r.memberId(), AttendanceTally.EMPTY);
+                    return new SessionAttendanceSummaryResponse(r.memberId(), r.memberName(), t.present(), t.absent(),
+                            t.late(), t.excused(), t.totalPenalty(), r.deposit());
                 }).toList();
     }
 
@@ -240,16 +270,15 @@ public class AttendanceService {
     public MemberAttendanceDetailResponse getMemberAttendanceDetail(Long memberId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new AppException(ErrorCode.MEMBER_NOT_FOUND));
-        Cohort currentCohort = cohortRepository.findByGeneration(currentCohortGeneration).orElse(null);
-        CohortMember cm = currentCohort != null ?
-                cohortMemberRepository.findByMemberIdAndCohortId(memberId, currentCohort.getId()).orElse(null) : null;
-        List<AttendanceResponse> attendances = attendanceRepository.findByMemberId(memberId).stream()
-                .map(this::toAttendanceResponse).toList();
+        // 기수/파트/팀 이름은 CohortMember의 FK id로 참조 데이터 레지스트리에서 찾는다 (연관 엔티티를 읽지 않음)
+        CohortMember cm = referenceData.findCohortByGeneration(currentCohortGeneration)
+                .flatMap(c -> cohortMemberRepository.findByMemberIdAndCohortId(memberId, c.id()))
+                .orElse(null);
+        List<AttendanceResponse> attendances = attendanceRepository.findResponsesByMemberId(memberId);
+        ReferenceDataRegistry.Affiliation aff = referenceData.affiliationOf(cm);
         return new MemberAttendanceDetailResponse(
                 member.getId(), member.getName(),
-                cm != null ? cm.getCohort().getGeneration() : null,
-                cm != null && cm.getPart() != null ? cm.getPart().getName() : null,
-                cm != null && cm.getTeam() != null ? cm.getTeam().getName() : null,
+                aff.generation(), aff.partName(), aff.teamName(),
                 cm != null ? cm.getDeposit() : null,
                 cm != null ? cm.getExcuseCount() : null,
                 attendances);
@@ -259,26 +288,20 @@ public class AttendanceService {
     public SessionAttendancesResponse getSessionAttendances(Long sessionId) {
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new AppException(ErrorCode.SESSION_NOT_FOUND));
-        List<AttendanceResponse> attendances = attendanceRepository.findBySessionId(sessionId).stream()
-                .map(this::toAttendanceResponse).toList();
-        return new SessionAttendancesResponse(sessionId, session.getTitle(), attendances);
+        return new SessionAttendancesResponse(sessionId, session.getTitle(),
+                attendanceRepository.findResponsesBySessionId(sessionId));
     }
 
     @Transactional(readOnly = true)
     public List<DepositHistoryResponse> getDepositHistory(Long cohortMemberId) {
-        cohortMemberRepository.findById(cohortMemberId)
-                .orElseThrow(() -> new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND));
-        return depositHistoryRepository.findByCohortMemberIdOrderByCreatedAtAsc(cohortMemberId).stream()
-                .map(dh -> new DepositHistoryResponse(dh.getId(), dh.getCohortMember().getId(),
-                        dh.getType(), dh.getAmount(), dh.getBalanceAfter(),
-                        dh.getAttendance() != null ? dh.getAttendance().getId() : null,
-                        dh.getDescription(), dh.getCreatedAt()))
-                .toList();
+        if (!cohortMemberRepository.existsById(cohortMemberId))
+            throw new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND);
+        return depositHistoryRepository.findResponsesByCohortMemberId(cohortMemberId);
     }
 
     private AttendanceResponse toAttendanceResponse(Attendance a) {
         return new AttendanceResponse(a.getId(), a.getSession().getId(), a.getMember().getId(),
-                a.getStatus(), a.getLateMinutes(), a.getPenaltyAmount(), a.getReason(),
+                a.getStatus(), a.getLateMinutes(), a.getPenaltyAmount(), a.getPenaltyPolicyVersion(), a.getReason(),
                 a.getCheckedInAt(), a.getCreatedAt(), a.getUpdatedAt());
     }
 }
@@ -0,0 +1,46 @@
+package com.prography.backend.service;
+
+import com.prography.backend.repository.projection.AttendanceCountRow;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 출결 상태별 건수와 패널티 합계. 상태별 GROUP BY 결과(AttendanceCountRow)를 기준 id별로 접어 만든다.
+ */
+record AttendanceTally(int present, int absent, int late, int excused, int totalPenalty) {
+
+    static final AttendanceTally EMPTY = new AttendanceTally(0, 0, 0, 0, 0);
+
+    static Map<Long, AttendanceTally> byOwner(List<AttendanceCountRow> rows) {
+        Map<Long, AttendanceTally> tallies = new HashMap<>();
+        rows.forEach(r -> tallies.merge(r.ownerId(), EMPTY.add(r), (a, b) -> a.add(b)));
+        return tallies;
+    }
+
+    static AttendanceTally of(List<AttendanceCountRow> rows) {
+        AttendanceTally tally = EMPTY;
+        for (AttendanceCountRow r : rows) tally = tally.add(r);
+        return tally;
+    }
+
+    int total() {
+        return present + absent + late + excused;
+    }
+
+    private AttendanceTally add(AttendanceCountRow r) {
+        int n = (int) r.count();
+        int penalty = totalPenalty + (int) r.penaltyAmount();
+        return switch (r.status()) {
+            case PRESENT -> new AttendanceTally(present + n, absent, late, excused, penalty);
+            case ABSENT -> new AttendanceTally(present, absent + n, late, excused, penalty);
+            case LATE -> new AttendanceTally(present, absent, late + n, excused, penalty);
+            case EXCUSED -> new AttendanceTally(present, absent, late, excused + n, penalty);
+        };
+    }
+
+    private AttendanceTally add(AttendanceTally o) {
+        return new AttendanceTally(present + o.present, absent + o.absent, late + o.late,
+                excused + o.excused, totalPenalty + o.totalPenalty);
+    }
+}
@@ -0,0 +1,54 @@
+package com.prography.backend.service;
+
+import com.prography.backend.dto.response.CacheStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hibernate 2차 캐시/쿼리 캐시 히트율 조회 (hibernate.generate_statistics 필요).
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatisticsResponse getStatistics() {
+        Statistics stats = statistics();
+        List<CacheStatisticsResponse.RegionStats> regions = Arrays.stream(stats.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> {
+                    CacheRegionStatistics r = stats.getCacheRegionStatistics(name);
+                    return r == null ? null : new CacheStatisticsResponse.RegionStats(name,
+                            r.getHitCount(), r.getMissCount(), r.getPutCount(),
+                            ratio(r.getHitCount(), r.getMissCount()));
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        return new CacheStatisticsResponse(stats.getStart(),
+                stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount(),
+                stats.getSecondLevelCachePutCount(),
+                stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount(), stats.getQueryCachePutCount(),
+                stats.getQueryExecutionCount(), stats.getPrepareStatementCount(), regions);
+    }
+
+    public void reset() {
+        statistics().clear();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
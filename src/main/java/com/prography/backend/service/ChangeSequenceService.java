@@ -0,0 +1,107 @@
+package com.prography.backend.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import static com.prography.backend.service.JdbcBatches.insertReturningIds;
+import static com.prography.backend.service.JdbcBatches.utc;
+
+/**
+ * 일정/출결 행의 변경 순번(change_seq)을 매긴다 (모바일 증분 동기화용).
+ * 트랜잭션 안에서 바뀐 행 id를 모아 두었다가 커밋 직전에 change_log에 한 행을 넣어 AUTO_INCREMENT 순번을 받고 모은 행에 기록한다.
+ * 공유 행을 잠그지 않으므로 쓰기 트랜잭션끼리 줄을 서지 않는 대신, 순번 순서와 커밋 순서가 어긋날 수 있다.
+ * 그래서 토큰(current())은 commit-grace보다 오래전에 받은 순번 중 가장 큰 값으로 내준다 (안전 하한선).
+ * 순번을 받은 뒤 커밋까지 commit-grace 안에 끝난다면 그 이하 순번은 모두 커밋됐거나 롤백됐다.
+ * commit-grace는 커밋 지연과 인스턴스 간 시계 차이보다 커야 하고, 그만큼 동기화에 늦게 보인다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeSequenceService {
+
+    private static final String NEXT = "INSERT INTO change_log (created_at) VALUES (?)";
+    private static final String LOW_WATERMARK =
+            "SELECT seq FROM change_log WHERE created_at <= ? ORDER BY seq DESC LIMIT 1";
+    private static final String STAMP_SESSION = "UPDATE sessions SET change_seq = ? WHERE id = ?";
+    private static final String STAMP_ATTENDANCE = "UPDATE attendances SET change_seq = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${app.sync.commit-grace}")
+    private Duration commitGrace;
+
+    public void sessionChanged(Long sessionId) {
+        pending().sessionIds.add(sessionId);
+    }
+
+    public void attendanceChanged(Long attendanceId) {
+        pending().attendanceIds.add(attendanceId);
+    }
+
+    public void attendancesChanged(Collection<Long> attendanceIds) {
+        if (!attendanceIds.isEmpty()) pending().attendanceIds.addAll(attendanceIds);
+    }
+
+    /** 이 값 이하의 순번은 모두 커밋(또는 롤백)이 끝났다 */
+    public long current() {
+        List<Long> seq = jdbcTemplate.queryForList(LOW_WATERMARK, Long.class, utc(Instant.now().minus(commitGrace)));
+        return seq.isEmpty() ? 0 : seq.get(0);
+    }
+
+    /**
+     * cutoff 이전 순번 기록을 지운다. 가장 큰 순번은 토큰의 기준이므로 남긴다
+     */
+    public int purge(Instant cutoff) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM change_log", Long.class);
+        if (max == null) return 0;
+        return jdbcTemplate.update("DELETE FROM change_log WHERE seq < ? AND created_at < ?", max, utc(cutoff));
+    }
+
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            throw new IllegalStateException("Change sequence requires an active transaction");
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private class Pending implements TransactionSynchronization {
+        final Set<Long> sessionIds = new LinkedHashSet<>();
+        final Set<Long> attendanceIds = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 엔티티 변경을 먼저 내보내 순번을 받은 뒤에는 커밋만 남게 한다 (순번을 받은 시각부터 커밋까지를 짧게)
+            entityManager.flush();
+            long seq = insertReturningIds(jdbcTemplate, NEXT, List.of(Instant.now()),
+                    (ps, now) -> ps.setObject(1, utc(now))).get(0);
+            stamp(STAMP_SESSION, sessionIds, seq);
+            stamp(STAMP_ATTENDANCE, attendanceIds, seq);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequenceService.this);
+        }
+
+        private void stamp(String sql, Set<Long> ids, long seq) {
+            if (ids.isEmpty()) return;
+            List<Object[]> args = ids.stream().map(id -> new Object[]{seq, id}).toList();
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.SessionStatus;
+import com.prography.backend.repository.SessionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * QR 체크인 단계별 소요 시간과 처리량 지표.
+ *
+ * - attendance.checkin.stage{stage=...}: 단계별 Timer (percentile histogram → Prometheus histogram_quantile)
+ * - attendance.checkins.per_minute: 최근 60초 동안 커밋된 체크인 수
+ * - attendance.sessions.in_progress: IN_PROGRESS 일정 수 (in-progress-refresh 동안 조회 결과를 재사용, scrape마다 조회하지 않음)
+ * 워밍업(withoutRecording) 중의 단계 시간은 기록하지 않는다. JIT 이전의 느린 실행이 histogram에 섞이지 않도록.
+ */
+@Component
+public class CheckInMetrics {
+
+    public enum Stage {
+        QR_LOOKUP, QR_EXPIRY, SESSION_STATE, MEMBER_LOOKUP, DUPLICATE_CHECK,
+        COHORT_MEMBER_LOOKUP, PENALTY_DEPOSIT, INSERT;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final int WINDOW_SECONDS = 60;
+    private static final ThreadLocal<Boolean> SUPPRESSED = ThreadLocal.withInitial(() -> false);
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+    private final SessionRepository sessionRepository;
+    private final Duration inProgressRefresh;
+    private final Clock clock;
+
+    private long inProgress;
+    private long inProgressExpiresAt = Long.MIN_VALUE;
+
+    // 초 단위 링 버퍼: slotSecond[i]에 해당하는 초의 체크인 수가 counts[i]
+    private final long[] slotSecond = new long[WINDOW_SECONDS];
+    private final int[] counts = new int[WINDOW_SECONDS];
+
+    @Autowired
+    public CheckInMetrics(MeterRegistry registry, SessionRepository sessionRepository,
+                          @Value("${app.metrics.in-progress-refresh}") Duration inProgressRefresh) {
+        this(registry, sessionRepository, inProgressRefresh, Clock.systemUTC());
+    }
+
+    CheckInMetrics(MeterRegistry registry, SessionRepository sessionRepository, Duration inProgressRefresh, Clock clock) {
+        this.sessionRepository = sessionRepository;
+        this.inProgressRefresh = inProgressRefresh;
+        this.clock = clock;
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder("attendance.checkin.stage")
+                    .description("QR 체크인 단계별 소요 시간")
+                    .tag("stage", stage.tag())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        Gauge.builder("attendance.checkins.per_minute", this, CheckInMetrics::checkInsLastMinute)
+                .description("최근 60초 동안 커밋된 QR 체크인 수")
+                .register(registry);
+        Gauge.builder("attendance.sessions.in_progress", this, CheckInMetrics::sessionsInProgress)
+                .description("진행 중(IN_PROGRESS) 일정 수")
+                .register(registry);
+    }
+
+    public Stopwatch start() {
+        return new Stopwatch();
+    }
+
+    /**
+     * action 동안 이 스레드의 단계 시간은 기록하지 않는다 (WarmUpRunner)
+     */
+    public <T> T withoutRecording(Supplier<T> action) {
+        SUPPRESSED.set(true);
+        try {
+            return action.get();
+        } finally {
+            SUPPRESSED.remove();
+        }
+    }
+
+    /**
+     * 체크인 트랜잭션이 커밋되면 처리량에 반영한다 (롤백된 워밍업/실패 체크인은 제외).
+     */
+    public void checkInRecorded() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment();
+                }
+            });
+        } else {
+            increment();
+        }
+    }
+
+    synchronized void increment() {
+        long second = clock.millis() / 1000;
+        int slot = (int) (second % WINDOW_SECONDS);
+        if (slotSecond[slot] != second) {
+            slotSecond[slot] = second;
+            counts[slot] = 0;
+        }
+        counts[slot]++;
+    }
+
+    synchronized int checkInsLastMinute() {
+        long now = clock.millis() / 1000;
+        int total = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            if (now - slotSecond[i] < WINDOW_SECONDS) total += counts[i];
+        }
+        return total;
+    }
+
+    synchronized long sessionsInProgress() {
+        long now = clock.millis();
+        if (now >= inProgressExpiresAt) {
+            inProgress = sessionRepository.countByStatus(SessionStatus.IN_PROGRESS);
+            inProgressExpiresAt = now + inProgressRefresh.toMillis();
+        }
+        return inProgress;
+    }
+
+    /**
+     * 직전 lap 이후 경과 시간을 해당 단계 Timer에 기록한다. 예외로 끝난 단계는 기록되지 않는다.
+     */
+    public class Stopwatch {
+
+        private final boolean recording = !SUPPRESSED.get();
+        private long last = System.nanoTime();
+
+        public void lap(Stage stage) {
+            if (!recording) return;
+            long now = System.nanoTime();
+            timers.get(stage).record(now - last, TimeUnit.NANOSECONDS);
+            last = now;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.MemberStatus;
+import com.prography.backend.dto.response.AtRiskMemberResponse;
+import com.prography.backend.event.AttendanceRecorded;
+import com.prography.backend.event.AttendanceUpdated;
+import com.prography.backend.event.DepositChanged;
+import com.prography.backend.event.DomainEvent;
+import com.prography.backend.event.DomainEventSubscriber;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.CohortMemberRepository;
+import com.prography.backend.repository.projection.CohortMemberRiskRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 현재 기수 회원의 보증금/공결 횟수 정렬 색인 (관리자 위험 회원 조회용).
+ * (보증금, id)와 (공결 횟수 내림차순, id) 순으로 정렬된 집합 두 개를 두어 기준값 앞쪽만 잘라 읽는다 (O(log n + k)).
+ * 기동 시 한 번 만들고, 이후에는 아웃박스 이벤트로 갱신한다.
+ * - DepositChanged: balanceAfter로 보증금만 바꾼다
+ * - 공결로 바뀌거나 공결에서 벗어난 출결 이벤트: 공결 횟수는 이벤트에 없으므로 그 회원 한 명을 다시 읽는다
+ * 회원 추가/수정/탈퇴는 MemberService가 memberChanged()로 알려 커밋 후 바로 다시 읽는다. 탈퇴 회원은 색인에서 뺀다.
+ * 아웃박스 이벤트는 전달을 임대한 인스턴스(OutboxDispatcher)에서만, memberChanged()는 변경을 처리한 인스턴스에서만 반영되므로,
+ * 다른 인스턴스의 변경은 CohortMemberRiskIndexScheduler의 주기적 전체 재구성(rebuild-interval)으로 따라잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CohortMemberRiskIndex implements DomainEventSubscriber {
+
+    private final CohortMemberRepository cohortMemberRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final ReadRoutingContext readRoutingContext;
+    private final int currentCohortGeneration;
+
+    // 재구성과 항목 교체를 직렬화한다. 읽기는 잠금 없이 정렬 집합을 그대로 훑는다
+    private final Object writeLock = new Object();
+    private volatile Index index = new Index(null);
+
+    private record Entry(long cohortMemberId, Long memberId, String memberName, String partName, String teamName,
+                         int deposit, int excuseCount) {
+        static Entry of(CohortMemberRiskRow row) {
+            return new Entry(row.cohortMemberId(), row.memberId(), row.memberName(), row.partName(), row.teamName(),
+                    row.deposit(), row.excuseCount());
+        }
+
+        // 정렬 집합에서 기준값 위치를 찾기 위한 탐색 키
+        static Entry probe(int deposit, int excuseCount, long cohortMemberId) {
+            return new Entry(cohortMemberId, null, null, null, null, deposit, excuseCount);
+        }
+
+        Entry withDeposit(int deposit) {
+            return new Entry(cohortMemberId, memberId, memberName, partName, teamName, deposit, excuseCount);
+        }
+
+        AtRiskMemberResponse toResponse() {
+            return new AtRiskMemberResponse(cohortMemberId, memberId, memberName, partName, teamName,
+                    deposit, excuseCount);
+        }
+    }
+
+    private static final class Index {
+        final Long cohortId;
+        final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        final NavigableSet<Entry> byDeposit = new ConcurrentSkipListSet<>(
+                Comparator.comparingInt(Entry::deposit).thenComparingLong(Entry::cohortMemberId));
+        final NavigableSet<Entry> byExcuses = new ConcurrentSkipListSet<>(
+                Comparator.comparingInt(Entry::excuseCount).reversed().thenComparingLong(Entry::cohortMemberId));
+
+        Index(Long cohortId) {
+            this.cohortId = cohortId;
+        }
+
+        // 기존 항목을 두 집합에서 빼고 새 값으로 넣는다 (entry가 null이면 제거만)
+        void put(long cohortMemberId, Entry entry) {
+            Entry old = entry != null ? entries.put(cohortMemberId, entry) : entries.remove(cohortMemberId);
+            if (old != null) {
+                byDeposit.remove(old);
+                byExcuses.remove(old);
+            }
+            if (entry != null) {
+                byDeposit.add(entry);
+                byExcuses.add(entry);
+            }
+        }
+    }
+
+    // 읽기 전용 트랜잭션이 아니므로 replica가 아닌 primary에서 읽는다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        synchronized (writeLock) {
+            Index built = new Index(referenceData.findCohortByGeneration(currentCohortGeneration)
+                    .map(ReferenceDataRegistry.CohortRef::id).orElse(null));
+            if (built.cohortId != null) {
+                for (CohortMemberRiskRow row : cohortMemberRepository.findRiskRowsByCohortId(built.cohortId)) {
+                    if (row.memberStatus() != MemberStatus.WITHDRAWN) built.put(row.cohortMemberId(), Entry.of(row));
+                }
+            }
+            index = built;
+            log.info("위험 회원 색인 구성 - 회원 {}명", built.entries.size());
+        }
+    }
+
+    /**
+     * 보증금이 depositBelow 미만이거나 공결 횟수가 excusesAtLeast 이상인 현재 기수 회원.
+     * 보증금 기준 결과(보증금 오름차순) 뒤에 공결 기준으로만 걸린 회원(공결 많은 순)을 붙인다.
+     */
+    public List<AtRiskMemberResponse> findAtRisk(Integer depositBelow, Integer excusesAtLeast) {
+        if (depositBelow == null && excusesAtLeast == null) throw new AppException(ErrorCode.INVALID_INPUT);
+        Index idx = index;
+        Map<Long, AtRiskMemberResponse> found = new LinkedHashMap<>();
+        if (depositBelow != null) {
+            for (Entry e : idx.byDeposit.headSet(Entry.probe(depositBelow, 0, Long.MIN_VALUE), false)) {
+                found.put(e.cohortMemberId(), e.toResponse());
+            }
+        }
+        if (excusesAtLeast != null) {
+            for (Entry e : idx.byExcuses.headSet(Entry.probe(0, excusesAtLeast, Long.MAX_VALUE), true)) {
+                found.putIfAbsent(e.cohortMemberId(), e.toResponse());
+            }
+        }
+        return List.copyOf(found.values());
+    }
+
+    /**
+     * 회원 정보(이름/소속/탈퇴)나 현재 기수 등록이 바뀌었음을 알린다. 트랜잭션 안이면 커밋 후에 다시 읽는다.
+     */
+    public void memberChanged(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadMember(memberId);
+                }
+            });
+        } else {
+            reloadMember(memberId);
+        }
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        if (event.cohortMemberId() == null) return;
+        if (event instanceof DepositChanged e) {
+            synchronized (writeLock) {
+                Index idx = index;
+                Entry entry = idx.entries.get(e.cohortMemberId());
+                if (entry != null) {
+                    idx.put(entry.cohortMemberId(), entry.withDeposit(e.balanceAfter()));
+                    return;
+                }
+            }
+            // 색인에 없는 회원 (방금 추가됐거나 다른 기수)
+            reload(e.cohortMemberId());
+        } else if (event instanceof AttendanceRecorded e) {
+            if (e.status() == AttendanceStatus.EXCUSED) reload(e.cohortMemberId());
+        } else if (event instanceof AttendanceUpdated e) {
+            if ((e.previousStatus() == AttendanceStatus.EXCUSED) != (e.status() == AttendanceStatus.EXCUSED)) {
+                reload(e.cohortMemberId());
+            }
+        }
+    }
+
+    private void reload(Long cohortMemberId) {
+        readRoutingContext.onPrimary(() -> cohortMemberRepository.findRiskRowById(cohortMemberId))
+                .ifPresent(this::apply);
+    }
+
+    private void reloadMember(Long memberId) {
+        Long cohortId = index.cohortId;
+        if (cohortId == null) return;
+        readRoutingContext.onPrimary(() -> cohortMemberRepository.findRiskRowByMemberIdAndCohortId(memberId, cohortId))
+                .ifPresent(this::apply);
+    }
+
+    private void apply(CohortMemberRiskRow row) {
+        synchronized (writeLock) {
+            Index idx = index;
+            if (!row.cohortId().equals(idx.cohortId)) return;
+            idx.put(row.cohortMemberId(), row.memberStatus() == MemberStatus.WITHDRAWN ? null : Entry.of(row));
+        }
+    }
+}
@@ -1,38 +1,37 @@
 package com.prography.backend.service;
 
-import com.prography.backend.domain.*;
 import com.prography.backend.dto.response.*;
 import com.prography.backend.exception.AppException;
 import com.prography.backend.exception.ErrorCode;
-import com.prography.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
+// 기수/파트/팀은 참조 데이터 레지스트리에서 바로 응답한다 (쿼리 없음)
 @Service
 @RequiredArgsConstructor
 public class CohortService {
 
-    private final CohortRepository cohortRepository;
-    private final PartRepository partRepository;
-    private final TeamRepository teamRepository;
+    private final ReferenceDataRegistry referenceData;
 
-    @Transactional(readOnly = true)
     public List<CohortResponse> getCohorts() {
-        return cohortRepository.findAll().stream()
-                .map(CohortResponse::from).toList();
+        return referenceData.getCohorts().stream()
+                .map(c -> new CohortResponse(c.id(), c.generation(), c.name(), c.createdAt())).toList();
     }
 
-    @Transactional(readOnly = true)
     public CohortDetailResponse getCohortDetail(Long cohortId) {
-        Cohort cohort = cohortRepository.findById(cohortId)
+        ReferenceDataRegistry.CohortRef cohort = referenceData.findCohort(cohortId)
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
-        List<CohortDetailResponse.PartInfo> parts = partRepository.findByCohortId(cohortId).stream()
-                .map(p -> new CohortDetailResponse.PartInfo(p.getId(), p.getName())).toList();
-        List<CohortDetailResponse.TeamInfo> teams = teamRepository.findByCohortId(cohortId).stream()
-                .map(t -> new CohortDetailResponse.TeamInfo(t.getId(), t.getName())).toList();
-        return new CohortDetailResponse(cohort.getId(), cohort.getGeneration(), cohort.getName(),
-                parts, teams, cohort.getCreatedAt());
+        List<CohortDetailResponse.PartInfo> parts = referenceData.getParts(cohortId).stream()
+                .map(p -> new CohortDetailResponse.PartInfo(p.id(), p.name())).toList();
+        List<CohortDetailResponse.TeamInfo> teams = referenceData.getTeams(cohortId).stream()
+                .map(t -> new CohortDetailResponse.TeamInfo(t.id(), t.name())).toList();
+        return new CohortDetailResponse(cohort.id(), cohort.generation(), cohort.name(),
+                parts, teams, cohort.createdAt());
+    }
+
+    public List<CohortResponse> refreshReferenceData() {
+        referenceData.refresh();
+        return getCohorts();
     }
 }
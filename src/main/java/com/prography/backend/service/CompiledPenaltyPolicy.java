@@ -0,0 +1,85 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.LateFeeTier;
+import com.prography.backend.domain.PenaltyPolicy;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 패널티 정책을 미리 계산한 조회 테이블.
+ *
+ * - lateFees[m] = 지각 m분의 금액. 상한에 닿거나 더 이상 늘지 않는 지점까지만 만들고, 그 뒤는 마지막 값을 쓴다
+ * - 출석/결석/공결은 상태별 상수
+ * - charge()는 배열 조회만 하므로 체크인마다 객체를 만들지 않는다
+ */
+public final class CompiledPenaltyPolicy {
+
+    // 테이블 길이 상한 (하루). 상한이 없거나 매우 큰 정책도 이 이후는 같은 금액
+    static final int MAX_LATE_MINUTES = 24 * 60;
+    private static final int[] NO_LATE_FEES = {0};
+
+    private final int version;
+    private final int[] lateFees;
+    private final int[] statusFees;
+    private final CompiledPenaltyPolicy waived;
+
+    private CompiledPenaltyPolicy(int version, int[] lateFees, int absentFee) {
+        this.version = version;
+        this.lateFees = lateFees;
+        this.statusFees = new int[AttendanceStatus.values().length];
+        this.statusFees[AttendanceStatus.ABSENT.ordinal()] = absentFee;
+        this.waived = lateFees == NO_LATE_FEES && absentFee == 0 ? this : new CompiledPenaltyPolicy(version, NO_LATE_FEES, 0);
+    }
+
+    public static CompiledPenaltyPolicy compile(PenaltyPolicy policy) {
+        return compile(policy.getVersion(), policy.getGraceMinutes(), policy.getLateFeeCap(), policy.getAbsentFee(),
+                policy.getLateFeeTiers());
+    }
+
+    /**
+     * @param graceMinutes 지각 후 이 시간(분)까지는 무료, 이후 분부터 구간 금액을 더한다
+     * @param tiers        fromMinute분을 넘긴 지각 분부터 feePerMinute (다음 구간 전까지)
+     */
+    public static CompiledPenaltyPolicy compile(int version, int graceMinutes, int lateFeeCap, int absentFee,
+                                                List<LateFeeTier> tiers) {
+        List<LateFeeTier> sorted = tiers.stream().sorted(Comparator.comparingInt(LateFeeTier::getFromMinute)).toList();
+        int[] fees = new int[MAX_LATE_MINUTES + 1];
+        int length = 1;
+        int tier = -1;
+        long fee = 0;
+        for (int minute = 1; minute <= MAX_LATE_MINUTES; minute++) {
+            while (tier + 1 < sorted.size() && sorted.get(tier + 1).getFromMinute() < minute) tier++;
+            if (minute > graceMinutes && tier >= 0) fee += sorted.get(tier).getFeePerMinute();
+            fees[minute] = (int) Math.min(fee, lateFeeCap);
+            length = minute + 1;
+            // 상한에 닿았거나, 유예와 모든 구간이 지난 뒤 분당 금액이 0이면 이후 값은 모두 같다
+            boolean settled = tier == sorted.size() - 1 && minute >= graceMinutes
+                    && (tier < 0 || sorted.get(tier).getFeePerMinute() == 0);
+            if (fees[minute] == lateFeeCap || settled) break;
+        }
+        // 금액은 분이 늘수록 줄지 않으므로 마지막 값이 0이면 지각 패널티가 없는 정책
+        int[] lateFees = fees[length - 1] == 0 ? NO_LATE_FEES : Arrays.copyOf(fees, length);
+        return new CompiledPenaltyPolicy(version, lateFees, absentFee);
+    }
+
+    public int charge(AttendanceStatus status, Integer lateMinutes) {
+        if (status != AttendanceStatus.LATE) return statusFees[status.ordinal()];
+        int minute = lateMinutes != null ? lateMinutes : 0;
+        return lateFees[Math.max(0, Math.min(minute, lateFees.length - 1))];
+    }
+
+    public int version() {
+        return version;
+    }
+
+    /** 같은 버전으로 모든 금액이 0인 정책 (패널티 면제 일정) */
+    public CompiledPenaltyPolicy waived() {
+        return waived;
+    }
+
+    int tableLength() {
+        return lateFees.length;
+    }
+}
@@ -0,0 +1,84 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.dto.response.DepositBalanceResponse;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.*;
+import com.prography.backend.repository.projection.LedgerEntryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DepositLedgerService {
+
+    private final CohortMemberRepository cohortMemberRepository;
+    private final DepositHistoryRepository depositHistoryRepository;
+    private final DepositCheckpointRepository depositCheckpointRepository;
+
+    /**
+     * at 시점의 보증금 잔액과 누적 패널티/환급액.
+     * at 이전의 가장 가까운 체크포인트에서 시작해 그 이후 이력만 더한다.
+     * 체크포인트는 이력 minEntries건마다 있으므로, at이 마지막 체크포인트 이전이면 더하는 이력은 minEntries건 미만이다.
+     * 마지막 체크포인트 이후 시점은 그 뒤에 쌓인 이력(최대 체크포인트 주기 하루치)을 모두 더한다.
+     */
+    @Transactional(readOnly = true)
+    public DepositBalanceResponse getBalanceAt(Long cohortMemberId, Instant at) {
+        cohortMemberRepository.findById(cohortMemberId)
+                .orElseThrow(() -> new AppException(ErrorCode.COHORT_MEMBER_NOT_FOUND));
+
+        DepositCheckpoint checkpoint = depositCheckpointRepository.latestCheckpointAtOrBefore(cohortMemberId, at)
+                .orElse(null);
+        Ledger ledger = checkpoint != null ? Ledger.from(checkpoint) : Ledger.EMPTY;
+
+        List<LedgerEntryRow> tail = depositHistoryRepository.findLedgerEntriesAfter(
+                cohortMemberId, ledger.lastHistoryId() != null ? ledger.lastHistoryId() : 0L, at);
+        for (LedgerEntryRow entry : tail) ledger = ledger.apply(entry);
+
+        return new DepositBalanceResponse(cohortMemberId, at, ledger.balance(),
+                ledger.totalPenalty(), ledger.totalRefund(), ledger.lastHistoryId());
+    }
+
+    /**
+     * 마지막 체크포인트 이후 settledBefore까지 쌓인 이력에 minEntries건마다 체크포인트를 만들고 만든 개수를 돌려준다.
+     * 체크포인트 사이 이력이 minEntries건을 넘지 않으므로 시점 잔액 조회가 더하는 이력 수가 제한된다.
+     * 커밋 순서가 id 순서와 어긋날 수 있는 최근 이력은 settledBefore로 제외한다.
+     */
+    @Transactional
+    public int checkpoint(Long cohortMemberId, Instant settledBefore, int minEntries) {
+        DepositCheckpoint last = depositCheckpointRepository.latestCheckpoint(cohortMemberId).orElse(null);
+        Ledger ledger = last != null ? Ledger.from(last) : Ledger.EMPTY;
+
+        List<LedgerEntryRow> tail = depositHistoryRepository.findLedgerEntriesAfter(
+                cohortMemberId, ledger.lastHistoryId() != null ? ledger.lastHistoryId() : 0L, settledBefore);
+        int created = 0;
+        for (int i = 0; i + minEntries <= tail.size(); i += minEntries) {
+            for (LedgerEntryRow entry : tail.subList(i, i + minEntries)) ledger = ledger.apply(entry);
+            LedgerEntryRow lastEntry = tail.get(i + minEntries - 1);
+            depositCheckpointRepository.save(DepositCheckpoint.builder()
+                    .cohortMember(cohortMemberRepository.getReferenceById(cohortMemberId))
+                    .balance(ledger.balance()).totalPenalty(ledger.totalPenalty()).totalRefund(ledger.totalRefund())
+                    .lastHistoryId(lastEntry.id()).checkpointAt(lastEntry.createdAt()).build());
+            created++;
+        }
+        return created;
+    }
+
+    private record Ledger(int balance, long totalPenalty, long totalRefund, Long lastHistoryId) {
+        static final Ledger EMPTY = new Ledger(0, 0, 0, null);
+
+        static Ledger from(DepositCheckpoint cp) {
+            return new Ledger(cp.getBalance(), cp.getTotalPenalty(), cp.getTotalRefund(), cp.getLastHistoryId());
+        }
+
+        Ledger apply(LedgerEntryRow entry) {
+            long penalty = totalPenalty + (entry.type() == DepositType.PENALTY ? -entry.amount() : 0);
+            long refund = totalRefund + (entry.type() == DepositType.REFUND ? entry.amount() : 0);
+            return new Ledger(entry.balanceAfter(), penalty, refund, entry.id());
+        }
+    }
+}
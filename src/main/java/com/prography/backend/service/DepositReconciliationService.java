@@ -0,0 +1,152 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.DepositType;
+import com.prography.backend.dto.response.ReconciliationReportResponse;
+import com.prography.backend.dto.response.ReconciliationReportResponse.Drift;
+import com.prography.backend.dto.response.ReconciliationReportResponse.DriftType;
+import com.prography.backend.repository.*;
+import com.prography.backend.repository.projection.LedgerRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DepositReconciliationService {
+
+    private final CohortMemberRepository cohortMemberRepository;
+    private final DepositHistoryRepository depositHistoryRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    @Value("${app.reconciliation.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.reconciliation.parallelism}")
+    private int parallelism;
+
+    @Value("${app.reconciliation.max-reported-drifts}")
+    private int maxReportedDrifts;
+
+    /**
+     * 전체 CohortMember 원장을 chunkSize 단위로 나눠 병렬 검증한다.
+     * - balanceAfter 체인: 직전 잔액 + amount
+     * - 최종 잔액 = CohortMember.deposit
+     * - 출결별 PENALTY/REFUND 합계 = Attendance.penaltyAmount
+     */
+    public ReconciliationReportResponse reconcile() {
+        long start = System.nanoTime();
+        List<Long> ids = cohortMemberRepository.findAllIds();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ChunkResult result;
+        try {
+            result = pool.invoke(new ChunkTask(ids, 0, ids.size()));
+        } finally {
+            pool.shutdown();
+        }
+
+        // 패널티가 있는데 원장에 한 줄도 없는 출결은 CohortMember 단위 검증으로는 보이지 않는다
+        // 모두 모은 뒤 한 번만 합치고 보고 상한을 적용한다 (건마다 합치면 목록 복사가 누적된다)
+        List<Drift> missing = attendanceRepository.findPenalizedIdsWithoutLedger().stream()
+                .map(attendanceId -> new Drift(DriftType.MISSING_LEDGER, null, null, attendanceId, 0, 0)).toList();
+        if (!missing.isEmpty()) {
+            ChunkResult merged = result.merge(new ChunkResult(0, missing.size(), cap(missing)));
+            result = new ChunkResult(merged.histories(), merged.driftCount(), cap(merged.drifts()));
+        }
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        log.info("보증금 원장 대사 완료 - 회원 {}명, 이력 {}건, 불일치 {}건, {}ms",
+                ids.size(), result.histories(), result.driftCount(), elapsedMs);
+        return new ReconciliationReportResponse(ids.size(), result.histories(), result.driftCount(),
+                result.drifts(), elapsedMs);
+    }
+
+    ChunkResult verify(List<LedgerRow> rows) {
+        List<Drift> drifts = new ArrayList<>();
+        long histories = 0;
+        Map<Long, Long> chargedByAttendance = new HashMap<>();
+        Map<Long, Integer> penaltyByAttendance = new HashMap<>();
+        Map<Long, Long> cohortMemberByAttendance = new HashMap<>();
+
+        int i = 0;
+        while (i < rows.size()) {
+            Long cohortMemberId = rows.get(i).cohortMemberId();
+            int deposit = rows.get(i).deposit();
+            long balance = 0;
+            for (; i < rows.size() && rows.get(i).cohortMemberId().equals(cohortMemberId); i++) {
+                LedgerRow row = rows.get(i);
+                if (row.historyId() == null) continue;
+                histories++;
+                long expected = balance + row.amount();
+                if (row.balanceAfter() != expected) {
+                    drifts.add(new Drift(DriftType.BALANCE_CHAIN_BROKEN, cohortMemberId, row.historyId(),
+                            row.attendanceId(), expected, row.balanceAfter()));
+                }
+                balance = row.balanceAfter();
+
+                if (row.attendanceId() != null
+                        && (row.type() == DepositType.PENALTY || row.type() == DepositType.REFUND)) {
+                    chargedByAttendance.merge(row.attendanceId(), (long) -row.amount(), Long::sum);
+                    penaltyByAttendance.put(row.attendanceId(), row.penaltyAmount());
+                    cohortMemberByAttendance.put(row.attendanceId(), cohortMemberId);
+                }
+            }
+            if (balance != deposit) {
+                drifts.add(new Drift(DriftType.FINAL_BALANCE_MISMATCH, cohortMemberId, null, null, deposit, balance));
+            }
+        }
+
+        chargedByAttendance.forEach((attendanceId, charged) -> {
+            int penalty = penaltyByAttendance.get(attendanceId);
+            if (charged != penalty) {
+                drifts.add(new Drift(DriftType.PENALTY_MISMATCH, cohortMemberByAttendance.get(attendanceId),
+                        null, attendanceId, penalty, charged));
+            }
+        });
+        return new ChunkResult(histories, drifts.size(), cap(drifts));
+    }
+
+    private List<Drift> cap(List<Drift> drifts) {
+        return drifts.size() > maxReportedDrifts ? List.copyOf(drifts.subList(0, maxReportedDrifts)) : drifts;
+    }
+
+    record ChunkResult(long histories, int driftCount, List<Drift> drifts) {
+        ChunkResult merge(ChunkResult other) {
+            List<Drift> merged = new ArrayList<>(drifts);
+            merged.addAll(other.drifts);
+            return new ChunkResult(histories + other.histories, driftCount + other.driftCount, merged);
+        }
+    }
+
+    private class ChunkTask extends RecursiveTask<ChunkResult> {
+        private final List<Long> ids;
+        private final int from;
+        private final int to;
+
+        ChunkTask(List<Long> ids, int from, int to) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (to - from <= chunkSize) {
+                if (from == to) return new ChunkResult(0, 0, List.of());
+                return verify(depositHistoryRepository.findLedgerRows(ids.subList(from, to)));
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(ids, from, mid);
+            left.fork();
+            ChunkResult right = new ChunkTask(ids, mid, to).compute();
+            ChunkResult merged = left.join().merge(right);
+            return new ChunkResult(merged.histories(), merged.driftCount(), cap(merged.drifts()));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.prography.backend.service;
+
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 기준으로 쓰기 요청 결과를 메모리에 보관했다가 재시도에 그대로 돌려준다.
+ *
+ * - 같은 키가 다시 오면 DB를 거치지 않고 첫 응답을 재생한다 (TTL 동안)
+ * - 같은 키가 동시에 오면 먼저 온 요청만 실행하고 나머지는 그 결과를 기다린다
+ * - 실패한 요청은 보관하지 않는다 (기다리던 요청은 같은 예외를 받고, 이후 재시도는 다시 실행)
+ * - 같은 키로 본문이 다른 요청이 오면 IDEMPOTENCY_KEY_REUSED
+ * - 키는 호출자(회원/클라이언트)별로 나뉘므로, 다른 호출자가 같은 키를 보내도 남의 응답을 받거나 키를 선점하지 못한다
+ * - 보관 한도(max-entries)를 넘으면 키 없이 실행하지 않고 IDEMPOTENCY_STORE_FULL(503)로 거절한다 (재시도 안전을 조용히 잃지 않도록)
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    @Value("${app.idempotency.ttl}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.wait-timeout}")
+    private Duration waitTimeout;
+
+    @Value("${app.idempotency.max-entries}")
+    private int maxEntries;
+
+    public IdempotencyService() {
+        this(Clock.systemUTC());
+    }
+
+    IdempotencyService(Clock clock) {
+        this.clock = clock;
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> result, Instant createdAt) {
+
+        boolean expired(Instant now, Duration ttl) {
+            return result.isDone() && createdAt.plus(ttl).isBefore(now);
+        }
+    }
+
+    /**
+     * @param scope  엔드포인트 구분 (같은 키라도 엔드포인트가 다르면 별개)
+     * @param caller 호출자 구분 (회원 id, 클라이언트 IP 등. 같은 키라도 호출자가 다르면 별개)
+     * @param key    Idempotency-Key 헤더 값, 없으면 그냥 실행
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String caller, String key, Object request, Supplier<T> action) {
+        if (key == null || key.isBlank()) return action.get();
+
+        Instant now = clock.instant();
+        if (entries.size() >= maxEntries) purgeExpired();
+        if (entries.size() >= maxEntries) {
+            log.warn("Idempotency 보관 한도({}) 초과 - {} 요청 거절", maxEntries, scope);
+            throw new AppException(ErrorCode.IDEMPOTENCY_STORE_FULL);
+        }
+
+        String storeKey = scope + ":" + caller + ":" + key;
+        Entry fresh = new Entry(request, new CompletableFuture<>(), now);
+        Entry entry = entries.compute(storeKey,
+                (k, existing) -> existing == null || existing.expired(now, ttl) ? fresh : existing);
+        if (entry != fresh) {
+            if (!entry.request().equals(request)) throw new AppException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return (T) await(entry.result());
+        }
+
+        try {
+            T result = action.get();
+            fresh.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(storeKey, fresh);
+            fresh.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        entries.values().removeIf(entry -> entry.expired(now, ttl));
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new AppException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.prography.backend.service;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * IDENTITY id라 Hibernate가 INSERT를 배치로 묶지 못하는 쓰기를 JDBC 배치로 보낼 때 쓰는 공통 코드
+ */
+final class JdbcBatches {
+
+    private static final ZoneOffset STORAGE_OFFSET = ZoneOffset.UTC; // hibernate.jdbc.time_zone과 동일
+
+    private JdbcBatches() {
+    }
+
+    interface RowBinder<T> {
+        void bind(PreparedStatement ps, T item) throws SQLException;
+    }
+
+    /** 배치 INSERT 후 생성된 id를 items 순서대로 돌려준다 */
+    static <T> List<Long> insertReturningIds(JdbcTemplate jdbcTemplate, String sql, List<T> items, RowBinder<T> binder) {
+        if (items.isEmpty()) return List.of();
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        binder.bind(ps, items.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                }, keyHolder);
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        if (ids.size() != items.size())
+            throw new IllegalStateException("Expected " + items.size() + " generated keys but got " + ids.size());
+        return ids;
+    }
+
+    static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, STORAGE_OFFSET);
+    }
+}
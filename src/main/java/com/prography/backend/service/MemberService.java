@@ -3,6 +3,7 @@ package com.prography.backend.service;
 import com.prography.backend.domain.*;
 import com.prography.backend.dto.request.*;
 import com.prography.backend.dto.response.*;
+import com.prography.backend.event.DepositChanged;
 import com.prography.backend.exception.AppException;
 import com.prography.backend.exception.ErrorCode;
 import com.prography.backend.repository.*;
@@ -12,7 +13,6 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +25,10 @@ public class MemberService {
     private final CohortMemberRepository cohortMemberRepository;
     private final DepositHistoryRepository depositHistoryRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final OutboxService outboxService;
+    private final ReferenceDataRegistry referenceData;
+    private final AttendanceMatrix attendanceMatrix;
+    private final CohortMemberRiskIndex cohortMemberRiskIndex;
     private final int currentCohortGeneration;
 
     @Transactional(readOnly = true)
@@ -65,9 +69,13 @@ public class MemberService {
                 .member(member).cohort(cohort).part(part).team(team)
                 .deposit(100_000).excuseCount(0).build());
 
-        depositHistoryRepository.save(DepositHistory.builder()
+        DepositHistory initial = DepositHistory.builder()
                 .cohortMember(cohortMember).type(DepositType.INITIAL)
-                .amount(100_000).balanceAfter(100_000).description("초기 보증금").build());
+                .amount(100_000).balanceAfter(100_000).description("초기 보증금").build();
+        depositHistoryRepository.save(initial);
+        outboxService.record(DepositChanged.of(initial));
+        attendanceMatrix.invalidate();
+        cohortMemberRiskIndex.memberChanged(member.getId());
 
         return toMemberDetailResponse(member, cohortMember);
     }
@@ -77,46 +85,14 @@ public class MemberService {
             int page, int size, String searchType, String searchValue,
             Integer generation, String partName, String teamName, MemberStatus status) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Member> memberPage;
-
-        if (status != null && searchType != null && searchValue != null) {
-            memberPage = switch (searchType) {
-                case "name" -> memberRepository.findByStatusAndNameContaining(status, searchValue, pageable);
-                case "loginId" -> memberRepository.findByStatusAndLoginIdContaining(status, searchValue, pageable);
-                case "phone" -> memberRepository.findByStatusAndPhoneContaining(status, searchValue, pageable);
-                default -> memberRepository.findByStatus(status, pageable);
-            };
-        } else if (status != null) {
-            memberPage = memberRepository.findByStatus(status, pageable);
-        } else if (searchType != null && searchValue != null) {
-            memberPage = switch (searchType) {
-                case "name" -> memberRepository.findByNameContaining(searchValue, pageable);
-                case "loginId" -> memberRepository.findByLoginIdContaining(searchValue, pageable);
-                case "phone" -> memberRepository.findByPhoneContaining(searchValue, pageable);
-                default -> memberRepository.findAll(pageable);
-            };
-        } else {
-            memberPage = memberRepository.findAll(pageable);
-        }
-
-        // 메모리 레벨 필터 (generation, partName, teamName)
-        List<MemberDashboardResponse> filtered = memberPage.getContent().stream()
-                .map(m -> {
-                    List<CohortMember> cms = cohortMemberRepository.findByMemberIdOrderByGenerationDesc(m.getId());
-                    CohortMember latestCm = cms.isEmpty() ? null : cms.get(0);
-                    return toMemberDashboardResponse(m, latestCm);
-                })
-                .filter(r -> generation == null || Objects.equals(r.generation(), generation))
-                .filter(r -> partName == null || partName.equals(r.partName()))
-                .filter(r -> teamName == null || teamName.equals(r.teamName()))
-                .collect(Collectors.toList());
-
-        int totalPages = (int) Math.ceil((double) filtered.size() / size);
-        List<MemberDashboardResponse> paged = filtered.stream()
-                .skip((long) page * size).limit(size).collect(Collectors.toList());
-
-        return new PageResponse<>(paged, page, size, filtered.size(), totalPages);
+        // 알 수 없는 searchType이나 값이 없는 검색은 조건 없이 조회
+        String search = searchType != null ? searchValue : null;
+        Page<MemberDashboardResponse> result = memberRepository.findDashboard(status,
+                "name".equals(searchType) ? search : null,
+                "loginId".equals(searchType) ? search : null,
+                "phone".equals(searchType) ? search : null,
+                generation, partName, teamName, PageRequest.of(page, size));
+        return new PageResponse<>(result.getContent(), page, size, result.getTotalElements(), result.getTotalPages());
     }
 
     @Transactional(readOnly = true)
@@ -155,14 +131,23 @@ public class MemberService {
                 cohortMember.setPart(part);
                 cohortMember.setTeam(team);
             } else {
-                cohortMember = cohortMemberRepository.save(CohortMember.builder()
+                cohortMember = CohortMember.builder()
                         .member(member).cohort(cohort).part(part).team(team)
-                        .deposit(100_000).excuseCount(0).build());
+                        .deposit(100_000).excuseCount(0).build();
+                cohortMemberRepository.save(cohortMember);
+                // 새 기수 합류도 등록과 같이 초기 보증금 이력을 남긴다 (보증금 정합성 검사의 시작 잔액)
+                DepositHistory initial = DepositHistory.builder()
+                        .cohortMember(cohortMember).type(DepositType.INITIAL)
+                        .amount(100_000).balanceAfter(100_000).description("초기 보증금").build();
+                depositHistoryRepository.save(initial);
+                outboxService.record(DepositChanged.of(initial));
             }
         } else {
             List<CohortMember> cms = cohortMemberRepository.findByMemberIdOrderByGenerationDesc(id);
             cohortMember = cms.isEmpty() ? null : cms.get(0);
         }
+        attendanceMatrix.invalidate(); // 이름/소속 변경
+        cohortMemberRiskIndex.memberChanged(id);
         return toMemberDetailResponse(member, cohortMember);
     }
 
@@ -174,25 +159,16 @@ public class MemberService {
             throw new AppException(ErrorCode.MEMBER_ALREADY_WITHDRAWN);
         }
         member.setStatus(MemberStatus.WITHDRAWN);
+        attendanceMatrix.invalidate();
+        cohortMemberRiskIndex.memberChanged(id);
         return DeleteMemberResponse.from(member);
     }
 
     private MemberDetailResponse toMemberDetailResponse(Member m, CohortMember cm) {
+        ReferenceDataRegistry.Affiliation aff = referenceData.affiliationOf(cm);
         return new MemberDetailResponse(
                 m.getId(), m.getLoginId(), m.getName(), m.getPhone(), m.getStatus(), m.getRole(),
-                cm != null ? cm.getCohort().getGeneration() : null,
-                cm != null && cm.getPart() != null ? cm.getPart().getName() : null,
-                cm != null && cm.getTeam() != null ? cm.getTeam().getName() : null,
-                m.getCreatedAt(), m.getUpdatedAt());
-    }
-
-    private MemberDashboardResponse toMemberDashboardResponse(Member m, CohortMember cm) {
-        return new MemberDashboardResponse(
-                m.getId(), m.getLoginId(), m.getName(), m.getPhone(), m.getStatus(), m.getRole(),
-                cm != null ? cm.getCohort().getGeneration() : null,
-                cm != null && cm.getPart() != null ? cm.getPart().getName() : null,
-                cm != null && cm.getTeam() != null ? cm.getTeam().getName() : null,
-                cm != null ? cm.getDeposit() : null,
+                aff.generation(), aff.partName(), aff.teamName(),
                 m.getCreatedAt(), m.getUpdatedAt());
     }
 }
@@ -0,0 +1,56 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.SessionStatus;
+import com.prography.backend.dto.response.MemberSessionResponse;
+import com.prography.backend.dto.response.MemberSyncResponse;
+import com.prography.backend.dto.response.MyAttendanceResponse;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.AttendanceRepository;
+import com.prography.backend.repository.MemberRepository;
+import com.prography.backend.repository.SessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+/**
+ * 모바일 앱 증분 동기화. 토큰은 ChangeSequenceService의 안전 하한선(그 이하 순번은 모두 커밋 완료)이다.
+ * - since 없음: 현재 기수 일정(취소 제외)과 회원 출결 전체
+ * - since 있음: since 이후 생성/수정/취소된 일정과 출결만 (취소된 일정은 status=CANCELLED로 내려 앱이 지운다)
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberSyncService {
+
+    private final MemberRepository memberRepository;
+    private final SessionRepository sessionRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final ChangeSequenceService changeSequence;
+    private final ReferenceDataRegistry referenceData;
+    private final int currentCohortGeneration;
+
+    @Transactional(readOnly = true)
+    public MemberSyncResponse sync(Long memberId, Long since) {
+        if (since != null && since < 0) throw new AppException(ErrorCode.INVALID_INPUT);
+        memberRepository.findById(memberId)
+                .orElseThrow(() -> new AppException(ErrorCode.MEMBER_NOT_FOUND));
+        Long cohortId = referenceData.findCohortByGeneration(currentCohortGeneration)
+                .map(ReferenceDataRegistry.CohortRef::id)
+                .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
+
+        // 하한선을 먼저 읽고 그 이하만 돌려준다 (이하 순번은 모두 커밋됨, 이후 순번은 다음 동기화에서 받는다)
+        long until = changeSequence.current();
+        if (since != null && since >= until) {
+            // 바뀐 것이 없거나, 아직 토큰 시점까지 따라오지 못한 replica에서 읽은 경우 → 토큰을 그대로 돌려준다
+            return new MemberSyncResponse(false, List.of(), List.of(), since);
+        }
+
+        boolean full = since == null;
+        long from = full ? -1 : since; // 마이그레이션 이전 행은 change_seq = 0
+        List<MemberSessionResponse> sessions = sessionRepository.findChangedSince(cohortId, from, until);
+        if (full) sessions = sessions.stream().filter(s -> s.status() != SessionStatus.CANCELLED).toList();
+        List<MyAttendanceResponse> attendances = attendanceRepository.findMyAttendancesChangedSince(memberId, from, until);
+        return new MemberSyncResponse(full, sessions, attendances, until);
+    }
+}
@@ -0,0 +1,143 @@
+package com.prography.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prography.backend.domain.OutboxEvent;
+import com.prography.backend.event.DomainEvent;
+import com.prography.backend.event.DomainEventSubscriber;
+import com.prography.backend.event.DomainEventType;
+import com.prography.backend.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO outbox_events (event_type, cohort_member_id, payload, attempts, created_at) VALUES (?, ?, ?, 0, ?)";
+    private static final String CLAIM_DISPATCH = """
+            UPDATE outbox_dispatch_lease SET owner = ?, lease_expires_at = ?
+            WHERE id = 1 AND (owner IS NULL OR owner = ? OR lease_expires_at < ?)""";
+
+    // cohort_member_id NOT IN (...)이 비지 않도록 넣어 두는 자리표시 (id는 1부터)
+    private static final Long NO_MEMBER = 0L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<DomainEventSubscriber> subscribers;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.outbox.max-attempts}")
+    private int maxAttempts;
+
+    /**
+     * 호출한 쓰기 트랜잭션 안에서 이벤트를 기록한다. 트랜잭션 밖에서 호출하면 예외가 발생한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEvent event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(DomainEventType.of(event))
+                .cohortMemberId(event.cohortMemberId())
+                .payload(serialize(event)).build());
+    }
+
+    /**
+     * 여러 이벤트를 JDBC 배치 INSERT 한 번으로 기록한다 (IDENTITY id라 Hibernate는 INSERT를 배치로 묶지 못함).
+     * 순서대로 id가 매겨지므로 같은 cohortMember의 전달 순서는 record를 여러 번 부른 것과 같다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC); // hibernate.jdbc.time_zone과 동일
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events.stream()
+                .map(e -> new Object[]{DomainEventType.of(e).name(), e.cohortMemberId(), serialize(e), now})
+                .toList());
+    }
+
+    /**
+     * owner가 아웃박스 전달을 lease 동안 차지하거나 임대를 연장한다. 다른 인스턴스의 전달기가 임대 중이면 false.
+     * 임대한 전달기 하나만 dispatchBatch를 부르므로 이벤트는 클러스터에서 한 인스턴스에만 전달된다.
+     */
+    @Transactional
+    public boolean claimDispatch(String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC); // hibernate.jdbc.time_zone과 동일
+        return jdbcTemplate.update(CLAIM_DISPATCH, owner, now.plus(lease), owner, now) == 1;
+    }
+
+    /**
+     * 미발행 이벤트를 id 순으로 최대 batchSize개 구독자에게 전달한다.
+     * 전달에 실패한 cohortMember의 이후 이벤트는 순서 보장을 위해 이번 배치에서 건너뛰고,
+     * 다음 페이지는 마지막으로 읽은 id 이후부터 그 회원을 빼고 읽어 실패가 쌓인 회원이 다른 회원의 전달을 막지 않게 한다.
+     * maxAttempts번 실패한 이벤트는 parked_at을 찍어 더 이상 전달하지 않는다 (같은 회원의 이후 이벤트는 다음 배치부터 전달).
+     *
+     * @return 전달을 시도한 이벤트 수 (건너뛴 이벤트 제외)
+     */
+    public int dispatchBatch(int batchSize) {
+        List<Long> published = new ArrayList<>();
+        Set<Long> blocked = new HashSet<>(Set.of(NO_MEMBER));
+        long afterId = 0;
+        int attempted = 0;
+
+        while (attempted < batchSize) {
+            int limit = batchSize - attempted;
+            List<OutboxEvent> events = outboxEventRepository.findDeliverable(afterId, blocked, PageRequest.of(0, limit));
+            for (OutboxEvent e : events) {
+                afterId = e.getId();
+                if (blocked.contains(e.getCohortMemberId())) continue;
+                attempted++;
+                try {
+                    DomainEvent event = objectMapper.readValue(e.getPayload(), e.getEventType().getPayloadType());
+                    subscribers.orderedStream().forEach(s -> s.handle(e.getId(), event));
+                    published.add(e.getId());
+                } catch (Exception ex) {
+                    blocked.add(e.getCohortMemberId());
+                    int attempts = e.getAttempts() + 1;
+                    boolean park = attempts >= maxAttempts;
+                    if (park) {
+                        log.error("아웃박스 이벤트 전달 중단(parked) - id={}, type={}, attempts={}",
+                                e.getId(), e.getEventType(), attempts, ex);
+                    } else {
+                        log.warn("아웃박스 이벤트 전달 실패 - id={}, type={}, attempts={}",
+                                e.getId(), e.getEventType(), attempts, ex);
+                    }
+                    outboxEventRepository.markFailed(e.getId(), abbreviate(String.valueOf(ex.getMessage())),
+                            park ? Instant.now() : null);
+                }
+            }
+            if (events.size() < limit) break;
+        }
+
+        if (!published.isEmpty()) outboxEventRepository.markPublished(published, Instant.now());
+        return attempted;
+    }
+
+    public int purgePublished(Instant cutoff) {
+        return outboxEventRepository.deletePublishedBefore(cutoff);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize domain event " + event, e);
+        }
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
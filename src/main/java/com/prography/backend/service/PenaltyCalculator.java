@@ -1,13 +1,18 @@
 package com.prography.backend.service;
 
 import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.LateFeeTier;
+import java.util.List;
 
+/**
+ * 정책을 등록하지 않은 기수에 적용하는 기본 규칙 (버전 0): 지각 분당 500원, 최대 10,000원, 결석 10,000원
+ */
 public class PenaltyCalculator {
+
+    public static final CompiledPenaltyPolicy DEFAULT_POLICY =
+            CompiledPenaltyPolicy.compile(0, 0, 10_000, 10_000, List.of(new LateFeeTier(0, 500)));
+
     public static int calculate(AttendanceStatus status, Integer lateMinutes) {
-        return switch (status) {
-            case PRESENT, EXCUSED -> 0;
-            case ABSENT -> 10_000;
-            case LATE -> Math.min((lateMinutes != null ? lateMinutes : 0) * 500, 10_000);
-        };
+        return DEFAULT_POLICY.charge(status, lateMinutes);
     }
 }
@@ -0,0 +1,81 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.PenaltyPolicy;
+import com.prography.backend.domain.Session;
+import com.prography.backend.repository.PenaltyPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+
+/**
+ * 기수별 패널티 정책을 버전마다 CompiledPenaltyPolicy로 컴파일해 들고 있는 불변 스냅샷.
+ * 정책은 거의 바뀌지 않으므로 기동 시 한 번 읽고, 새 버전이 추가되면 refresh()로 통째로 교체한다 (ReferenceDataRegistry와 같은 방식).
+ * 추가한 인스턴스는 커밋 직후 refresh()하고, 다른 인스턴스는 refreshIfChanged()가 정책 건수를 확인해 따라잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PenaltyPolicyRegistry {
+
+    private final PenaltyPolicyRepository penaltyPolicyRepository;
+
+    // cohortId → 버전 순 정책 (버전 0 = PenaltyCalculator.DEFAULT_POLICY는 넣지 않는다)
+    private volatile Map<Long, List<CompiledPenaltyPolicy>> policies;
+    // 마지막으로 읽은 정책 건수 (정책은 추가만 되므로 건수가 같으면 바뀐 것이 없다)
+    private volatile long loadedCount = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void refresh() {
+        Map<Long, List<CompiledPenaltyPolicy>> compiled = new HashMap<>();
+        List<PenaltyPolicy> all = penaltyPolicyRepository.findAllWithTiers();
+        for (PenaltyPolicy policy : all) {
+            compiled.computeIfAbsent(policy.getCohort().getId(), k -> new ArrayList<>())
+                    .add(CompiledPenaltyPolicy.compile(policy));
+        }
+        compiled.replaceAll((k, v) -> List.copyOf(v));
+        policies = Map.copyOf(compiled);
+        loadedCount = all.size();
+        log.info("패널티 정책 로드 - 기수 {}개, 정책 {}개", compiled.size(), all.size());
+    }
+
+    /**
+     * 정책 건수가 마지막으로 읽은 뒤 바뀌었을 때만 다시 읽는다 (다른 인스턴스에서 추가된 버전 반영)
+     */
+    @Transactional
+    public void refreshIfChanged() {
+        if (penaltyPolicyRepository.countAll() != loadedCount) refresh();
+    }
+
+    /** 기수의 최신 정책, 없으면 기본 규칙(버전 0) */
+    public CompiledPenaltyPolicy latest(Long cohortId) {
+        List<CompiledPenaltyPolicy> versions = policies().get(cohortId);
+        return versions != null ? versions.get(versions.size() - 1) : PenaltyCalculator.DEFAULT_POLICY;
+    }
+
+    public Optional<CompiledPenaltyPolicy> find(Long cohortId, int version) {
+        if (version == 0) return Optional.of(PenaltyCalculator.DEFAULT_POLICY);
+        return policies().getOrDefault(cohortId, List.of()).stream().filter(p -> p.version() == version).findFirst();
+    }
+
+    /** 일정에 적용할 정책. 면제 일정이면 같은 버전의 0원 정책 */
+    public CompiledPenaltyPolicy forSession(Session session) {
+        CompiledPenaltyPolicy policy = latest(session.getCohort().getId());
+        return session.isPenaltyWaived() ? policy.waived() : policy;
+    }
+
+    private Map<Long, List<CompiledPenaltyPolicy>> policies() {
+        Map<Long, List<CompiledPenaltyPolicy>> p = policies;
+        if (p == null) {
+            synchronized (this) {
+                if (policies == null) refresh();
+                p = policies;
+            }
+        }
+        return p;
+    }
+}
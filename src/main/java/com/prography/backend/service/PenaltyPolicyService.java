@@ -0,0 +1,83 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.Cohort;
+import com.prography.backend.domain.LateFeeTier;
+import com.prography.backend.domain.PenaltyPolicy;
+import com.prography.backend.dto.request.CreatePenaltyPolicyRequest;
+import com.prography.backend.dto.response.PenaltyPolicyResponse;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.CohortRepository;
+import com.prography.backend.repository.PenaltyPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PenaltyPolicyService {
+
+    private final PenaltyPolicyRepository penaltyPolicyRepository;
+    private final CohortRepository cohortRepository;
+    private final PenaltyPolicyRegistry penaltyPolicies;
+
+    /**
+     * 기수 정책의 새 버전을 추가한다. 커밋 후 레지스트리를 다시 읽어 이후 출결부터 적용된다.
+     * 기수 행을 잠가 같은 기수의 추가를 줄 세우고, 그래도 (cohort_id, version)이 겹치면 409로 돌려준다.
+     * 다른 인스턴스는 PenaltyPolicyRefreshScheduler의 건수 확인으로 새 버전을 읽는다.
+     */
+    @Transactional
+    public PenaltyPolicyResponse createPolicy(Long cohortId, CreatePenaltyPolicyRequest request) {
+        Cohort cohort = cohortRepository.findByIdForUpdate(cohortId)
+                .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
+        long distinctFrom = request.lateFeeTiers().stream().map(CreatePenaltyPolicyRequest.Tier::fromMinute).distinct().count();
+        if (distinctFrom != request.lateFeeTiers().size()) throw new AppException(ErrorCode.INVALID_INPUT);
+
+        List<LateFeeTier> tiers = new ArrayList<>(request.lateFeeTiers().stream()
+                .map(t -> new LateFeeTier(t.fromMinute(), t.feePerMinute())).toList());
+        PenaltyPolicy policy;
+        try {
+            policy = penaltyPolicyRepository.saveAndFlush(PenaltyPolicy.builder()
+                    .cohort(cohort)
+                    .version(penaltyPolicyRepository.findLatestVersion(cohortId) + 1)
+                    .graceMinutes(request.graceMinutes())
+                    .lateFeeCap(request.lateFeeCap())
+                    .absentFee(request.absentFee())
+                    .lateFeeTiers(tiers).build());
+        } catch (DataIntegrityViolationException e) {
+            throw new AppException(ErrorCode.PENALTY_POLICY_VERSION_CONFLICT);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    penaltyPolicies.refresh();
+                }
+            });
+        } else {
+            penaltyPolicies.refresh();
+        }
+        return toResponse(policy, true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PenaltyPolicyResponse> getPolicies(Long cohortId) {
+        cohortRepository.findById(cohortId).orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
+        List<PenaltyPolicy> policies = penaltyPolicyRepository.findByCohortIdWithTiers(cohortId);
+        return policies.stream().map(p -> toResponse(p, p == policies.get(0))).toList();
+    }
+
+    private static PenaltyPolicyResponse toResponse(PenaltyPolicy p, boolean active) {
+        return new PenaltyPolicyResponse(p.getId(), p.getCohort().getId(), p.getVersion(), active,
+                p.getGraceMinutes(), p.getLateFeeCap(), p.getAbsentFee(),
+                p.getLateFeeTiers().stream().map(t -> new PenaltyPolicyResponse.Tier(t.getFromMinute(), t.getFeePerMinute()))
+                        .sorted((a, b) -> Integer.compare(a.fromMinute(), b.fromMinute())).toList(),
+                p.getCreatedAt());
+    }
+}
@@ -0,0 +1,329 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.dto.request.PenaltyRecalculationRequest;
+import com.prography.backend.dto.response.PenaltyRecalculationResponse;
+import com.prography.backend.event.AttendanceUpdated;
+import com.prography.backend.event.DepositChanged;
+import com.prography.backend.event.DomainEvent;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.*;
+import com.prography.backend.repository.projection.RecalculationRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import static com.prography.backend.service.JdbcBatches.insertReturningIds;
+import static com.prography.backend.service.JdbcBatches.utc;
+
+/**
+ * 기수 패널티 소급 재계산.
+ *
+ * - 기간(일정 날짜) 안의 출결 패널티를 작업 생성 시점의 기수 최신 정책으로 다시 계산하고, 차액만큼 PENALTY/REFUND 이력과 보증금 조정을 남긴다
+ * - 추가 패널티는 남은 보증금까지만 걷는다 (일정 종료 자동 결석과 같은 규칙). 못 걷은 금액은 uncollected로 집계하고,
+ *   출결에는 정책 버전을 기록해 같은 버전으로 다시 실행할 때 그 차액을 또 걷거나 집계하지 않는다
+ * - 작업은 CohortMember id 순 묶음 단위로 처리한다 (applyChunk). 묶음마다 회원 행을 잠그고 현재 패널티 기준 차액을 계산하므로
+ *   같은 묶음을 다시 처리해도 이미 반영된 출결은 차액이 0이다. 묶음 병렬 실행과 체크포인트 이동은 PenaltyRecalculationRunner가 한다
+ * - 여러 인스턴스가 떠 있어도 작업은 임대(claim)한 실행기 하나만 처리하고, 임대가 끝나면 다른 인스턴스가 넘겨받는다
+ * - dryRun은 쓰지 않고 같은 계산으로 예상 합계만 돌려준다
+ */
+@Service
+@RequiredArgsConstructor
+public class PenaltyRecalculationService {
+
+    private static final String UPDATE_ATTENDANCE = """
+            UPDATE attendances SET penalty_amount = ?, penalty_policy_version = ?, updated_at = ? WHERE id = ?""";
+    private static final String INSERT_DEPOSIT_HISTORY = """
+            INSERT INTO deposit_histories (cohort_member_id, type, amount, balance_after, attendance_id,
+                                           description, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String UPDATE_COHORT_MEMBER = "UPDATE cohort_members SET deposit = ? WHERE id = ?";
+
+    private final CohortRepository cohortRepository;
+    private final CohortMemberRepository cohortMemberRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final PenaltyRecalculationJobRepository jobRepository;
+    private final PenaltyPolicyRegistry penaltyPolicies;
+    private final OutboxService outboxService;
+    private final ChangeSequenceService changeSequence;
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ChunkResult(int members, int adjusted, long charged, long refunded, long uncollected) {
+        public static final ChunkResult EMPTY = new ChunkResult(0, 0, 0, 0, 0);
+
+        public ChunkResult merge(ChunkResult other) {
+            return new ChunkResult(members + other.members, adjusted + other.adjusted, charged + other.charged,
+                    refunded + other.refunded, uncollected + other.uncollected);
+        }
+    }
+
+    /** 체크포인트 다음 CohortMember id 묶음 (비었으면 끝) */
+    public record Wave(long checkpoint, List<Long> cohortMemberIds) {}
+
+    /** 묶음 안에서 바뀌어 가는 보증금 */
+    private static class Ledger {
+        final Long cohortMemberId;
+        int deposit;
+        boolean dirty;
+
+        Ledger(Long cohortMemberId, int deposit) {
+            this.cohortMemberId = cohortMemberId;
+            this.deposit = deposit;
+        }
+    }
+
+    private record Adjustment(RecalculationRow row, int penaltyAmount) {}
+
+    private record History(Adjustment adjustment, Ledger ledger, DepositType type, int amount, int balanceAfter) {}
+
+    private record Plan(List<Adjustment> adjustments, List<History> histories, Collection<Ledger> ledgers,
+                        ChunkResult result) {}
+
+    /**
+     * 쓰지 않고 합계만 계산한다. 잠그지 않으므로 기수 보증금과 기간 내 출결을 쿼리 두 번으로 한꺼번에 읽는다
+     */
+    @Transactional(readOnly = true)
+    public PenaltyRecalculationResponse preview(Long cohortId, PenaltyRecalculationRequest request) {
+        validate(cohortId, request);
+        CompiledPenaltyPolicy policy = penaltyPolicies.latest(cohortId);
+
+        List<Ledger> ledgers = cohortMemberRepository.findDepositsByCohortId(cohortId).stream()
+                .map(r -> new Ledger(r.cohortMemberId(), r.deposit()))
+                .toList();
+        ChunkResult total = plan(ledgers,
+                attendanceRepository.findForRecalculationByCohortId(cohortId, request.from(), request.to()), policy).result();
+        return new PenaltyRecalculationResponse(null, cohortId, request.from(), request.to(), policy.version(), true,
+                null, total.members(), total.adjusted(), total.charged(), total.refunded(),
+                total.refunded() - total.charged(), total.uncollected(), null, null, null);
+    }
+
+    /**
+     * 작업을 RUNNING으로 만든다. 처리는 PenaltyRecalculationRunner가 다음 주기에 시작한다
+     */
+    @Transactional
+    public PenaltyRecalculationResponse start(Long cohortId, PenaltyRecalculationRequest request) {
+        Cohort cohort = validate(cohortId, request);
+        if (jobRepository.existsByCohortIdAndStatus(cohortId, PenaltyRecalculationStatus.RUNNING))
+            throw new AppException(ErrorCode.PENALTY_RECALCULATION_IN_PROGRESS);
+
+        PenaltyRecalculationJob job = jobRepository.save(PenaltyRecalculationJob.builder()
+                .cohort(cohort)
+                .fromDate(request.from())
+                .toDate(request.to())
+                .policyVersion(penaltyPolicies.latest(cohortId).version())
+                .status(PenaltyRecalculationStatus.RUNNING).build());
+        return toResponse(job);
+    }
+
+    /**
+     * 실패한 작업을 마지막 체크포인트부터 다시 실행한다
+     */
+    @Transactional
+    public PenaltyRecalculationResponse resume(Long cohortId, Long jobId) {
+        PenaltyRecalculationJob job = findJob(cohortId, jobId);
+        if (job.getStatus() == PenaltyRecalculationStatus.FAILED) {
+            if (jobRepository.existsByCohortIdAndStatus(cohortId, PenaltyRecalculationStatus.RUNNING))
+                throw new AppException(ErrorCode.PENALTY_RECALCULATION_IN_PROGRESS);
+            job.setStatus(PenaltyRecalculationStatus.RUNNING);
+            job.setLastError(null);
+        }
+        return toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public PenaltyRecalculationResponse getJob(Long cohortId, Long jobId) {
+        return toResponse(findJob(cohortId, jobId));
+    }
+
+    // 작업 상태/체크포인트는 replica가 아닌 primary에서 읽는다 (readOnly = false)
+    @Transactional
+    public List<Long> findRunningJobIds() {
+        return jobRepository.findIdsByStatus(PenaltyRecalculationStatus.RUNNING);
+    }
+
+    /**
+     * owner가 작업을 lease 동안 차지하거나 임대를 연장한다. 다른 실행기가 임대 중이면 false
+     */
+    @Transactional
+    public boolean claim(Long jobId, String owner, Duration lease) {
+        Instant now = Instant.now();
+        return jobRepository.claim(jobId, owner, now.plus(lease), now, PenaltyRecalculationStatus.RUNNING) == 1;
+    }
+
+    @Transactional
+    public Wave nextWave(Long jobId, int size) {
+        PenaltyRecalculationJob job = jobRepository.findById(jobId).orElseThrow();
+        if (job.getStatus() != PenaltyRecalculationStatus.RUNNING) return new Wave(job.getCheckpointCohortMemberId(), List.of());
+        return new Wave(job.getCheckpointCohortMemberId(), cohortMemberRepository.findIdsByCohortIdAfter(
+                job.getCohort().getId(), job.getCheckpointCohortMemberId(), PageRequest.of(0, size)));
+    }
+
+    /**
+     * CohortMember 묶음 하나를 재계산해 반영하고 작업 합계에 더한다 (한 트랜잭션)
+     */
+    @Transactional
+    public ChunkResult applyChunk(Long jobId, List<Long> cohortMemberIds) {
+        PenaltyRecalculationJob job = jobRepository.findById(jobId).orElseThrow();
+        if (job.getStatus() != PenaltyRecalculationStatus.RUNNING) return ChunkResult.EMPTY;
+        Long cohortId = job.getCohort().getId();
+        CompiledPenaltyPolicy policy = penaltyPolicies.find(cohortId, job.getPolicyVersion())
+                .orElseThrow(() -> new IllegalStateException("Penalty policy v" + job.getPolicyVersion()
+                        + " of cohort " + cohortId + " is not loaded"));
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        List<Ledger> ledgers = cohortMemberRepository.findAllByIdForUpdate(cohortMemberIds).stream()
+                .map(cm -> new Ledger(cm.getId(), cm.getDeposit()))
+                .toList();
+        Plan plan = plan(ledgers, attendanceRepository.findForRecalculation(cohortMemberIds, job.getFromDate(),
+                job.getToDate()), policy);
+
+        jdbcTemplate.batchUpdate(UPDATE_ATTENDANCE, plan.adjustments().stream()
+                .map(a -> new Object[]{a.penaltyAmount(), policy.version(), utc(now), a.row().attendanceId()})
+                .toList());
+        List<Long> historyIds = insertReturningIds(jdbcTemplate, INSERT_DEPOSIT_HISTORY, plan.histories(), (ps, h) -> {
+            ps.setLong(1, h.ledger().cohortMemberId);
+            ps.setString(2, h.type().name());
+            ps.setInt(3, h.amount());
+            ps.setInt(4, h.balanceAfter());
+            ps.setLong(5, h.adjustment().row().attendanceId());
+            ps.setString(6, "패널티 재계산 (정책 v" + policy.version() + ") - "
+                    + (h.type() == DepositType.PENALTY ? "추가 패널티 " + -h.amount() : "환급 " + h.amount()) + "원");
+            ps.setObject(7, utc(now));
+        });
+        List<Ledger> dirty = plan.ledgers().stream().filter(l -> l.dirty).toList();
+        if (!dirty.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_COHORT_MEMBER, dirty.stream()
+                    .map(l -> new Object[]{l.deposit, l.cohortMemberId})
+                    .toList());
+        }
+
+        List<DomainEvent> events = new ArrayList<>();
+        List<Long> attendanceIds = new ArrayList<>();
+        for (Adjustment a : plan.adjustments()) {
+            RecalculationRow row = a.row();
+            if (a.penaltyAmount() == row.penaltyAmount()) continue; // 정책 버전만 바뀐 출결
+            events.add(new AttendanceUpdated(row.attendanceId(), row.sessionId(), row.memberId(), row.cohortMemberId(),
+                    row.status(), row.penaltyAmount(), row.status(), row.lateMinutes(), a.penaltyAmount(), now));
+            attendanceIds.add(row.attendanceId());
+        }
+        for (int i = 0; i < plan.histories().size(); i++) {
+            History h = plan.histories().get(i);
+            events.add(new DepositChanged(h.ledger().cohortMemberId, historyIds.get(i), h.type(), h.amount(),
+                    h.balanceAfter(), h.adjustment().row().attendanceId(), now));
+        }
+        if (!events.isEmpty()) outboxService.recordAll(events);
+        changeSequence.attendancesChanged(attendanceIds);
+
+        ChunkResult result = plan.result();
+        jobRepository.addTotals(jobId, result.adjusted(), result.charged(), result.refunded(), result.uncollected(), now);
+        return result;
+    }
+
+    /**
+     * 묶음이 모두 반영된 뒤 체크포인트를 옮긴다. 다른 실행기가 먼저 옮겼거나 임대를 넘겨받았으면 false
+     */
+    @Transactional
+    public boolean advance(Long jobId, Wave wave, String owner) {
+        List<Long> ids = wave.cohortMemberIds();
+        return jobRepository.advanceCheckpoint(jobId, wave.checkpoint(), ids.get(ids.size() - 1), ids.size(), owner,
+                PenaltyRecalculationStatus.RUNNING, Instant.now()) == 1;
+    }
+
+    @Transactional
+    public void complete(Long jobId, String owner) {
+        jobRepository.findById(jobId)
+                .filter(job -> job.getStatus() == PenaltyRecalculationStatus.RUNNING && owner.equals(job.getOwner()))
+                .ifPresent(job -> {
+                    job.setStatus(PenaltyRecalculationStatus.COMPLETED);
+                    release(job);
+                });
+    }
+
+    @Transactional
+    public void fail(Long jobId, String owner, String error) {
+        jobRepository.findById(jobId)
+                .filter(job -> owner.equals(job.getOwner()))
+                .ifPresent(job -> {
+                    job.setStatus(PenaltyRecalculationStatus.FAILED);
+                    job.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+                    release(job);
+                });
+    }
+
+    private static void release(PenaltyRecalculationJob job) {
+        job.setOwner(null);
+        job.setLeaseExpiresAt(null);
+    }
+
+    /**
+     * 회원들의 기간 내 출결을 정책으로 다시 계산한다. 출결은 회원별 일정 날짜 순이므로 이력의 balanceAfter가 순서대로 이어진다
+     */
+    private Plan plan(List<Ledger> members, List<RecalculationRow> rows, CompiledPenaltyPolicy policy) {
+        Map<Long, Ledger> ledgers = new LinkedHashMap<>();
+        for (Ledger ledger : members) ledgers.put(ledger.cohortMemberId, ledger);
+        if (ledgers.isEmpty()) return new Plan(List.of(), List.of(), List.of(), ChunkResult.EMPTY);
+
+        List<Adjustment> adjustments = new ArrayList<>();
+        List<History> histories = new ArrayList<>();
+        int adjusted = 0;
+        long charged = 0;
+        long refunded = 0;
+        long uncollected = 0;
+        for (RecalculationRow row : rows) {
+            Ledger ledger = ledgers.get(row.cohortMemberId());
+            CompiledPenaltyPolicy p = row.penaltyWaived() ? policy.waived() : policy;
+            int diff = p.charge(row.status(), row.lateMinutes()) - row.penaltyAmount();
+            boolean versionChanged = !Objects.equals(row.penaltyPolicyVersion(), policy.version());
+            // 이미 이 정책 버전으로 계산된 출결은 추가로 걷지 않는다.
+            // 남은 차액은 보증금 부족으로 덜 걷은 금액이고 그때 uncollected로 집계했으므로, 다시 실행해도 두 번 세지 않는다 (환급은 반영)
+            if (diff > 0 && !versionChanged) continue;
+            if (diff > 0 && ledger.deposit < diff) {
+                uncollected += diff - ledger.deposit;
+                diff = ledger.deposit;
+            }
+            if (diff == 0 && !versionChanged) continue;
+
+            Adjustment adjustment = new Adjustment(row, row.penaltyAmount() + diff);
+            adjustments.add(adjustment);
+            if (diff == 0) continue;
+            adjusted++;
+            ledger.deposit -= diff;
+            ledger.dirty = true;
+            if (diff > 0) {
+                charged += diff;
+                histories.add(new History(adjustment, ledger, DepositType.PENALTY, -diff, ledger.deposit));
+            } else {
+                refunded += -diff;
+                histories.add(new History(adjustment, ledger, DepositType.REFUND, -diff, ledger.deposit));
+            }
+        }
+        return new Plan(adjustments, histories, ledgers.values(),
+                new ChunkResult(ledgers.size(), adjusted, charged, refunded, uncollected));
+    }
+
+    private Cohort validate(Long cohortId, PenaltyRecalculationRequest request) {
+        Cohort cohort = cohortRepository.findById(cohortId)
+                .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
+        if (request.from().isAfter(request.to())) throw new AppException(ErrorCode.INVALID_INPUT);
+        return cohort;
+    }
+
+    private PenaltyRecalculationJob findJob(Long cohortId, Long jobId) {
+        return jobRepository.findById(jobId)
+                .filter(job -> job.getCohort().getId().equals(cohortId))
+                .orElseThrow(() -> new AppException(ErrorCode.PENALTY_RECALCULATION_NOT_FOUND));
+    }
+
+    private static PenaltyRecalculationResponse toResponse(PenaltyRecalculationJob job) {
+        return new PenaltyRecalculationResponse(job.getId(), job.getCohort().getId(), job.getFromDate(), job.getToDate(),
+                job.getPolicyVersion(), false, job.getStatus(), job.getProcessedMembers(), job.getAdjustedAttendances(),
+                job.getPenaltyCharged(), job.getRefunded(), job.getRefunded() - job.getPenaltyCharged(),
+                job.getUncollected(), job.getLastError(), job.getCreatedAt(), job.getUpdatedAt());
+    }
+}
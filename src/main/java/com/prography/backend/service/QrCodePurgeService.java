@@ -0,0 +1,41 @@
+package com.prography.backend.service;
+
+import com.prography.backend.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class QrCodePurgeService {
+
+    private final QrCodeRepository qrCodeRepository;
+    private final QrCodeHistoryRepository qrCodeHistoryRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    public record BatchResult(int deleted, int archived) {
+        public int total() {
+            return deleted + archived;
+        }
+    }
+
+    /**
+     * cutoff 이전에 만료된 QR을 최대 batchSize개 정리한다.
+     * 출결 기록이 참조하는 QR은 qr_code_histories로 옮긴 뒤 삭제하고, 나머지는 바로 삭제한다.
+     */
+    @Transactional
+    public BatchResult purgeBatch(Instant cutoff, int batchSize) {
+        List<Long> ids = qrCodeRepository.findExpiredIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) return new BatchResult(0, 0);
+
+        List<Long> referenced = attendanceRepository.findReferencedQrCodeIds(ids);
+        if (!referenced.isEmpty()) {
+            qrCodeHistoryRepository.archiveByIds(referenced, Instant.now());
+        }
+        qrCodeRepository.deleteByIds(ids);
+        return new BatchResult(ids.size() - referenced.size(), referenced.size());
+    }
+}
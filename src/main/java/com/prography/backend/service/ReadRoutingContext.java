@@ -0,0 +1,78 @@
+package com.prography.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 대신 primary로 보내야 하는지 판단하는 요청 단위 문맥.
+ * - 회원 본인의 출석 체크 직후 일정 시간 동안은 그 회원 기준 조회를 primary에서 읽는다 (read-your-writes)
+ * - onPrimary()로 감싼 구간은 항상 primary에서 읽는다 (아웃박스 발행 직후 스냅샷 등)
+ */
+@Component
+public class ReadRoutingContext {
+
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final Map<Long, Long> recentWriters = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> requestMember = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> primaryOnly = new ThreadLocal<>();
+
+    @Value("${app.datasource.replica.read-your-writes-window}")
+    private Duration readYourWritesWindow;
+
+    public void memberWrote(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pin(memberId);
+                }
+            });
+        } else {
+            pin(memberId);
+        }
+    }
+
+    public void bindMember(Long memberId) {
+        requestMember.set(memberId);
+    }
+
+    public void unbindMember() {
+        requestMember.remove();
+    }
+
+    public <T> T onPrimary(Supplier<T> supplier) {
+        Boolean previous = primaryOnly.get();
+        primaryOnly.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) primaryOnly.remove(); else primaryOnly.set(previous);
+        }
+    }
+
+    public boolean requiresPrimary() {
+        if (primaryOnly.get() != null) return true;
+        Long memberId = requestMember.get();
+        if (memberId == null) return false;
+        Long deadline = recentWriters.get(memberId);
+        if (deadline == null) return false;
+        if (deadline - System.nanoTime() > 0) return true;
+        recentWriters.remove(memberId, deadline);
+        return false;
+    }
+
+    private void pin(Long memberId) {
+        long now = System.nanoTime();
+        recentWriters.put(memberId, now + readYourWritesWindow.toNanos());
+        if (recentWriters.size() > SWEEP_THRESHOLD) {
+            recentWriters.values().removeIf(deadline -> deadline - now <= 0);
+        }
+    }
+}
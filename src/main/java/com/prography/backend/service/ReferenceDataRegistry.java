@@ -0,0 +1,120 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기수/파트/팀 참조 데이터의 불변 스냅샷.
+ * 거의 바뀌지 않는 데이터이므로 기동 시 한 번 읽어 id 기준 맵으로 들고 있고, 변경 시 refresh()로 통째로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+
+    private final CohortRepository cohortRepository;
+    private final PartRepository partRepository;
+    private final TeamRepository teamRepository;
+
+    private volatile Snapshot snapshot;
+
+    public record CohortRef(Long id, int generation, String name, Instant createdAt) {}
+    public record PartRef(Long id, Long cohortId, String name) {}
+    public record TeamRef(Long id, Long cohortId, String name) {}
+    public record Affiliation(Integer generation, String partName, String teamName) {}
+
+    private static final Affiliation NO_AFFILIATION = new Affiliation(null, null, null);
+
+    private record Snapshot(List<CohortRef> cohorts, Map<Long, CohortRef> cohortsById,
+                            Map<Integer, CohortRef> cohortsByGeneration,
+                            Map<Long, PartRef> parts, Map<Long, TeamRef> teams,
+                            Map<Long, List<PartRef>> partsByCohort, Map<Long, List<TeamRef>> teamsByCohort) {}
+
+    // DataInitializer 등 ApplicationRunner가 시드를 넣은 뒤 다시 읽는다
+    // (읽기 전용 트랜잭션이 아니므로 replica가 아직 따라잡지 못했어도 primary에서 읽는다)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void refresh() {
+        List<CohortRef> cohorts = cohortRepository.findAll().stream()
+                .map(c -> new CohortRef(c.getId(), c.getGeneration(), c.getName(), c.getCreatedAt())).toList();
+        List<PartRef> parts = partRepository.findAll().stream()
+                .map(p -> new PartRef(p.getId(), p.getCohort().getId(), p.getName())).toList();
+        List<TeamRef> teams = teamRepository.findAll().stream()
+                .map(t -> new TeamRef(t.getId(), t.getCohort().getId(), t.getName())).toList();
+
+        snapshot = new Snapshot(cohorts,
+                index(cohorts, CohortRef::id),
+                index(cohorts, CohortRef::generation),
+                index(parts, PartRef::id),
+                index(teams, TeamRef::id),
+                group(parts, PartRef::cohortId),
+                group(teams, TeamRef::cohortId));
+        log.info("참조 데이터 로드 - 기수 {}개, 파트 {}개, 팀 {}개", cohorts.size(), parts.size(), teams.size());
+    }
+
+    public List<CohortRef> getCohorts() {
+        return snapshot().cohorts();
+    }
+
+    public Optional<CohortRef> findCohort(Long id) {
+        return Optional.ofNullable(snapshot().cohortsById().get(id));
+    }
+
+    public Optional<CohortRef> findCohortByGeneration(int generation) {
+        return Optional.ofNullable(snapshot().cohortsByGeneration().get(generation));
+    }
+
+    public List<PartRef> getParts(Long cohortId) {
+        return snapshot().partsByCohort().getOrDefault(cohortId, List.of());
+    }
+
+    public List<TeamRef> getTeams(Long cohortId) {
+        return snapshot().teamsByCohort().getOrDefault(cohortId, List.of());
+    }
+
+    /**
+     * CohortMember의 기수/파트/팀 표시값. 연관 엔티티는 프록시 id만 읽으므로 지연 로딩이 일어나지 않는다.
+     */
+    public Affiliation affiliationOf(CohortMember cm) {
+        if (cm == null) return NO_AFFILIATION;
+        Snapshot s = snapshot();
+        CohortRef cohort = s.cohortsById().get(cm.getCohort().getId());
+        PartRef part = cm.getPart() != null ? s.parts().get(cm.getPart().getId()) : null;
+        TeamRef team = cm.getTeam() != null ? s.teams().get(cm.getTeam().getId()) : null;
+        return new Affiliation(cohort != null ? cohort.generation() : null,
+                part != null ? part.name() : null,
+                team != null ? team.name() : null);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (this) {
+                if (snapshot == null) refresh();
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+        return Map.copyOf(values.stream().collect(Collectors.toMap(key, Function.identity())));
+    }
+
+    private static <K, V> Map<K, List<V>> group(List<V> values, Function<V, K> key) {
+        Map<K, List<V>> grouped = new HashMap<>();
+        values.forEach(v -> grouped.computeIfAbsent(key.apply(v), k -> new ArrayList<>()).add(v));
+        grouped.replaceAll((k, v) -> List.copyOf(v));
+        return Map.copyOf(grouped);
+    }
+}
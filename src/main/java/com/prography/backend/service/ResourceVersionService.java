@@ -0,0 +1,90 @@
+package com.prography.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+
+/**
+ * 조회 응답의 weak ETag. 버전은 인스턴스 메모리가 아니라 DB에 남은 상태에서 만들므로 어느 인스턴스가 바꿨든 모든 인스턴스에 보인다.
+ * 일정/출결 행은 바뀔 때마다 직전 값보다 큰 change_seq를 받으므로(ChangeSequenceService) 행 수와 change_seq 합은
+ * 커밋된 변경마다 달라진다. 가장 큰 순번과 달리 순번 순서와 커밋 순서가 어긋나도 늦게 커밋된 변경을 놓치지 않는다.
+ * QR은 발급/재발급마다 새 행이 생기므로 행 수와 id 합을 쓴다.
+ * 버전은 읽기 전용 트랜잭션에서 데이터보다 먼저 읽는다. 데이터 조회와 같은 곳(replica 또는 primary)으로 가므로
+ * 새 데이터에 옛 ETag가 붙을 수는 있어도 옛 데이터에 새 ETag가 붙지는 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    private static final String MEMBER_SESSIONS =
+            "SELECT COUNT(*), COALESCE(SUM(change_seq), 0) FROM sessions WHERE cohort_id = ?";
+    // 요약의 보증금은 출결 변경과 함께 바뀌고, 그 밖에는 기수 합류(CohortMember 생성)로만 생긴다
+    private static final String MEMBER_ATTENDANCES = """
+            SELECT (SELECT COUNT(*) FROM cohort_members WHERE member_id = ?), COUNT(*), COALESCE(SUM(change_seq), 0)
+            FROM attendances WHERE member_id = ?""";
+    private static final String SESSION_ATTENDANCES = """
+            SELECT (SELECT change_seq FROM sessions WHERE id = ?), COUNT(*), COALESCE(SUM(change_seq), 0)
+            FROM attendances WHERE session_id = ?""";
+    private static final String ADMIN_SESSIONS = """
+            SELECT s.n, s.seq, a.n, a.seq, q.n, q.ids
+            FROM (SELECT COUNT(*) n, COALESCE(SUM(change_seq), 0) seq FROM sessions WHERE cohort_id = ?) s
+            CROSS JOIN (SELECT COUNT(*) n, COALESCE(SUM(a.change_seq), 0) seq
+                        FROM attendances a JOIN sessions x ON x.id = a.session_id WHERE x.cohort_id = ?) a
+            CROSS JOIN (SELECT COUNT(*) n, COALESCE(SUM(q.id), 0) ids
+                        FROM qr_codes q JOIN sessions x ON x.id = q.session_id WHERE x.cohort_id = ?) q""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public String memberSessionsEtag(Long cohortId) {
+        return tagBody(MEMBER_SESSIONS, cohortId) + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public String memberAttendancesEtag(Long memberId) {
+        return tagBody(MEMBER_ATTENDANCES, memberId, memberId) + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public String sessionAttendancesEtag(Long sessionId) {
+        return tagBody(SESSION_ATTENDANCES, sessionId, sessionId) + "\"";
+    }
+
+    /**
+     * 관리자 일정 목록은 QR 활성 여부가 시간에 따라 바뀌므로, 버전 외에 다음 QR 만료 시각까지만 유효하다.
+     * 클라이언트가 보낸 ETag가 현재 버전과 같고 만료 시각이 지나지 않았으면 그 ETag를 그대로 돌려준다.
+     */
+    public String adminSessionsEtag(String base, Instant nextQrExpiry) {
+        return base + "-e" + (nextQrExpiry != null ? nextQrExpiry.getEpochSecond() : "none") + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public String adminSessionsBase(Long cohortId) {
+        return tagBody(ADMIN_SESSIONS, cohortId, cohortId, cohortId);
+    }
+
+    public String validAdminSessionsEtag(String base, String ifNoneMatch, Instant now) {
+        if (ifNoneMatch == null || !ifNoneMatch.startsWith(base + "-e") || !ifNoneMatch.endsWith("\"")) return null;
+        String expiry = ifNoneMatch.substring(base.length() + 2, ifNoneMatch.length() - 1);
+        if (expiry.equals("none")) return ifNoneMatch;
+        try {
+            return Long.parseLong(expiry) > now.getEpochSecond() ? ifNoneMatch : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String tagBody(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            StringBuilder sb = new StringBuilder("W/\"");
+            int columns = rs.getMetaData().getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) sb.append('-');
+                sb.append(rs.getLong(i));
+            }
+            return sb.toString();
+        }, args);
+    }
+}
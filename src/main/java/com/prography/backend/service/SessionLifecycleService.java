@@ -0,0 +1,135 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.event.AttendanceRecorded;
+import com.prography.backend.event.DepositChanged;
+import com.prography.backend.repository.AttendanceRepository;
+import com.prography.backend.repository.CohortMemberRepository;
+import com.prography.backend.repository.DepositHistoryRepository;
+import com.prography.backend.repository.SessionRepository;
+import com.prography.backend.repository.projection.AbsenceRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.*;
+import java.util.List;
+
+/**
+ * 일정 시각에 따라 SCHEDULED → IN_PROGRESS → COMPLETED로 상태를 옮기고,
+ * 종료 시 체크하지 않은 기수 회원 전원을 결석 처리한다 (SessionLifecycleScheduler가 호출).
+ *
+ * 결석/패널티 이력/보증금 차감은 회원별 registerAttendance 대신 일정마다 INSERT ... SELECT, UPDATE 세 문장으로 처리한다.
+ * 결석 대상 회원을 먼저 읽고, 만든 결석 행은 (일정, 회원)으로 id를 다시 찾아 이력/차감이 이번 배치의 행만 대상으로 하게 한다.
+ * 패널티는 남은 보증금을 넘지 않는다 (잔액 부족으로 배치 전체가 실패하지 않도록).
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionLifecycleService {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    static final String ABSENCE_REASON = "미체크 자동 결석";
+
+    private final SessionRepository sessionRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final DepositHistoryRepository depositHistoryRepository;
+    private final CohortMemberRepository cohortMemberRepository;
+    private final OutboxService outboxService;
+    private final ChangeSequenceService changeSequence;
+    private final PenaltyPolicyRegistry penaltyPolicies;
+
+    @Value("${app.session-lifecycle.open-before}")
+    private Duration openBefore;
+
+    @Value("${app.session-lifecycle.duration}")
+    private Duration duration;
+
+    public record Completion(int absences, int penalized, long totalPenalty) {
+        static final Completion SKIPPED = new Completion(0, 0, 0);
+    }
+
+    /**
+     * 시작 open-before 전이 된 SCHEDULED 일정을 IN_PROGRESS로 바꾼다.
+     *
+     * @return 시작된 일정 수
+     */
+    @Transactional
+    public int startDueSessions(Instant now) {
+        Instant openUntil = now.plus(openBefore);
+        List<Session> due = sessionRepository
+                .findByStatusAndDateOnOrBefore(SessionStatus.SCHEDULED, openUntil.atZone(SEOUL).toLocalDate()).stream()
+                .filter(s -> !startAt(s).isAfter(openUntil))
+                .toList();
+        for (Session session : due) {
+            session.setStatus(SessionStatus.IN_PROGRESS);
+            changeSequence.sessionChanged(session.getId());
+        }
+        return due.size();
+    }
+
+    /**
+     * 시작 + duration이 지난 IN_PROGRESS 일정 id (종료 처리는 completeSession에서 일정마다 트랜잭션을 나눠 한다)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findSessionIdsToComplete(Instant now) {
+        return sessionRepository
+                .findByStatusAndDateOnOrBefore(SessionStatus.IN_PROGRESS, now.atZone(SEOUL).toLocalDate()).stream()
+                .filter(s -> !startAt(s).plus(duration).isAfter(now))
+                .map(Session::getId)
+                .toList();
+    }
+
+    /**
+     * 일정을 COMPLETED로 바꾸고 출결이 없는 기수 회원(탈퇴 제외)을 결석 처리한다.
+     * 일정 행을 잠근 뒤 상태를 다시 확인하므로 여러 인스턴스가 동시에 호출해도 한 번만 처리된다.
+     */
+    @Transactional
+    public Completion completeSession(Long sessionId, Instant now) {
+        Session session = sessionRepository.findByIdForUpdate(sessionId).orElse(null);
+        if (session == null || session.getStatus() != SessionStatus.IN_PROGRESS) return Completion.SKIPPED;
+
+        Long cohortId = session.getCohort().getId();
+        CompiledPenaltyPolicy policy = penaltyPolicies.forSession(session);
+        int penalty = policy.charge(AttendanceStatus.ABSENT, null);
+
+        List<Long> memberIds = attendanceRepository.findMemberIdsWithoutAttendance(sessionId, MemberStatus.WITHDRAWN);
+        int absences = 0;
+        int penalized = 0;
+        long totalPenalty = 0;
+        if (!memberIds.isEmpty()) {
+            absences = attendanceRepository.insertAbsences(sessionId, memberIds, AttendanceStatus.ABSENT, penalty,
+                    policy.version(), ABSENCE_REASON, now);
+            // 그 사이 다른 트랜잭션이 출결을 등록했으면 (일정, 회원)으로 찾은 행이 이번 배치 것이 아니므로 다음 주기에 다시 한다
+            if (absences != memberIds.size()) {
+                throw new IllegalStateException("일정 %d 결석 처리 중 출결이 바뀜 - 대상 %d명, 기록 %d건"
+                        .formatted(sessionId, memberIds.size(), absences));
+            }
+            List<Long> attendanceIds = attendanceRepository.findIdsBySessionAndMembers(sessionId, memberIds);
+            // 이력의 balanceAfter가 차감 전 보증금 기준이므로 이력 → 차감 순서
+            depositHistoryRepository.insertAbsencePenalties(attendanceIds, cohortId, now,
+                    DepositType.PENALTY, "일정 종료 - 미체크 결석 패널티");
+            cohortMemberRepository.debitAbsences(attendanceIds, cohortId);
+
+            List<AbsenceRow> rows = attendanceRepository.findAbsenceBatch(attendanceIds, cohortId);
+            for (AbsenceRow row : rows) {
+                outboxService.record(new AttendanceRecorded(row.attendanceId(), sessionId, row.memberId(),
+                        row.cohortMemberId(), AttendanceStatus.ABSENT, null, row.penaltyAmount(), now));
+                if (row.depositHistoryId() != null) {
+                    outboxService.record(new DepositChanged(row.cohortMemberId(), row.depositHistoryId(),
+                            DepositType.PENALTY, -row.penaltyAmount(), row.balanceAfter(), row.attendanceId(), now));
+                    penalized++;
+                    totalPenalty += row.penaltyAmount();
+                }
+            }
+            changeSequence.attendancesChanged(rows.stream().map(AbsenceRow::attendanceId).toList());
+        }
+
+        session.setStatus(SessionStatus.COMPLETED);
+        changeSequence.sessionChanged(session.getId());
+        return new Completion(absences, penalized, totalPenalty);
+    }
+
+    private static Instant startAt(Session session) {
+        return LocalDateTime.of(session.getDate(), session.getTime()).atZone(SEOUL).toInstant();
+    }
+}
@@ -11,8 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +21,9 @@ public class SessionService {
     private final CohortRepository cohortRepository;
     private final QrCodeRepository qrCodeRepository;
     private final AttendanceRepository attendanceRepository;
+    private final ChangeSequenceService changeSequence;
+    private final ReferenceDataRegistry referenceData;
+    private final AttendanceMatrix attendanceMatrix;
     private final int currentCohortGeneration;
 
     private Cohort getCurrentCohort() {
@@ -29,6 +31,18 @@ public class SessionService {
                 .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
     }
 
+    // 참조 데이터 레지스트리에서 읽는다 (조건부 GET이 리포지토리 호출 없이 ETag를 만들 수 있도록)
+    public Long getCurrentCohortId() {
+        return referenceData.findCohortByGeneration(currentCohortGeneration)
+                .map(ReferenceDataRegistry.CohortRef::id)
+                .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
+    }
+
+    @Transactional(readOnly = true)
+    public Instant getNextQrExpiry(Long cohortId, Instant now) {
+        return qrCodeRepository.findNextExpiry(cohortId, now);
+    }
+
     @Transactional(readOnly = true)
     public List<MemberSessionResponse> getMemberSessions() {
         Cohort cohort = getCurrentCohort();
@@ -38,9 +52,7 @@ public class SessionService {
 
     @Transactional(readOnly = true)
     public List<SessionResponse> getAdminSessions(SessionStatus status, LocalDate dateFrom, LocalDate dateTo) {
-        Cohort cohort = getCurrentCohort();
-        return sessionRepository.findByCohortIdWithFilters(cohort.getId(), status, dateFrom, dateTo)
-                .stream().map(this::toSessionResponse).toList();
+        return toSessionResponses(sessionRepository.findByCohortIdWithFilters(getCurrentCohortId(), status, dateFrom, dateTo));
     }
 
     @Transactional
@@ -55,6 +67,8 @@ public class SessionService {
                 .session(session).hashValue(UUID.randomUUID().toString())
                 .expiresAt(Instant.now().plusSeconds(86400)).build());
 
+        changeSequence.sessionChanged(session.getId());
+        attendanceMatrix.invalidate();
         return toSessionResponse(session);
     }
 
@@ -70,6 +84,10 @@ public class SessionService {
         if (request.time() != null) session.setTime(request.time());
         if (request.location() != null) session.setLocation(request.location());
         if (request.status() != null) session.setStatus(request.status());
+        // 이후 체크인/등록/수정/자동 결석부터 적용 (이미 부과된 패널티는 그대로)
+        if (request.penaltyWaived() != null) session.setPenaltyWaived(request.penaltyWaived());
+        changeSequence.sessionChanged(session.getId());
+        attendanceMatrix.invalidate();
         return toSessionResponse(session);
     }
 
@@ -83,21 +101,28 @@ public class SessionService {
         session.setStatus(SessionStatus.CANCELLED);
         qrCodeRepository.findBySessionIdAndExpiresAtAfter(session.getId(), Instant.now())
                 .forEach(qr -> qr.setExpiresAt(Instant.now()));
+        changeSequence.sessionChanged(session.getId());
+        attendanceMatrix.invalidate();
         return toSessionResponse(session);
     }
 
     private SessionResponse toSessionResponse(Session s) {
-        List<Attendance> attendances = attendanceRepository.findBySessionId(s.getId());
-        long present = attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.PRESENT).count();
-        long absent = attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.ABSENT).count();
-        long late = attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.LATE).count();
-        long excused = attendances.stream().filter(a -> a.getStatus() == AttendanceStatus.EXCUSED).count();
-        boolean qrActive = qrCodeRepository.existsBySessionIdAndExpiresAtAfter(s.getId(), Instant.now());
-
-        return new SessionResponse(s.getId(), s.getCohort().getId(), s.getTitle(), s.getDate(), s.getTime(),
-                s.getLocation(), s.getStatus(),
-                new SessionResponse.AttendanceSummary((int) present, (int) absent, (int) late, (int) excused, attendances.size()),
-                qrActive, s.getCreatedAt(), s.getUpdatedAt());
+        return toSessionResponses(List.of(s)).get(0);
+    }
+
+    // 일정 수와 무관하게 상태별 출결 집계 1회 + 활성 QR 조회 1회
+    private List<SessionResponse> toSessionResponses(List<Session> sessions) {
+        if (sessions.isEmpty()) return List.of();
+        List<Long> ids = sessions.stream().map(Session::getId).toList();
+        Map<Long, AttendanceTally> tallies = AttendanceTally.byOwner(attendanceRepository.countBySessionIds(ids));
+        Set<Long> qrActive = new HashSet<>(qrCodeRepository.findSessionIdsWithActiveQr(ids, Instant.now()));
+        return sessions.stream().map(s -> {
+            AttendanceTally t = tallies.getOrDefault(s.getId(), AttendanceTally.EMPTY);
+            return new SessionResponse(s.getId(), s.getCohort().getId(), s.getTitle(), s.getDate(), s.getTime(),
+                    s.getLocation(), s.getStatus(), s.isPenaltyWaived(),
+                    new SessionResponse.AttendanceSummary(t.present(), t.absent(), t.late(), t.excused(), t.total()),
+                    qrActive.contains(s.getId()), s.getCreatedAt(), s.getUpdatedAt());
+        }).toList();
     }
 
     private MemberSessionResponse toMemberSessionResponse(Session s) {
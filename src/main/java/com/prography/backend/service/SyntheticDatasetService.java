@@ -0,0 +1,359 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.*;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.*;
+import java.util.*;
+
+/**
+ * 성능 측정용 합성 데이터 생성 (dataset 프로파일에서 SyntheticDataGenerator가 호출)
+ *
+ * - JPA를 거치지 않고 JDBC 배치 INSERT로 쓴다. id는 MAX(id) 이후로 직접 할당해 생성 키 조회 왕복을 없앤다
+ * - 비밀번호 해시는 실행마다 한 번만 계산해 모든 회원이 공유한다 (BCrypt cost 12 ≈ 회원당 250ms 절약)
+ * - 출결/패널티/보증금 이력은 AttendanceService 규칙(PenaltyCalculator, 공결 3회, 잔액 부족 시 차감 불가)을 따른다
+ * - 같은 Spec(seed 포함)이면 같은 데이터가 만들어진다 (세션 날짜는 실행일 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyntheticDatasetService {
+
+    public static final String LOGIN_ID_PREFIX = "gen";
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneOffset STORAGE_OFFSET = ZoneOffset.UTC; // hibernate.jdbc.time_zone과 동일
+    private static final LocalTime SESSION_TIME = LocalTime.of(14, 0);
+    private static final int INITIAL_DEPOSIT = 100_000;
+    private static final int MAX_EXCUSE_COUNT = 3;
+    private static final int WEEKS_PER_COHORT = 26;
+    private static final String[] PART_NAMES = {"SERVER", "WEB", "iOS", "ANDROID", "DESIGN"};
+    private static final String[] TEAM_NAMES = {"Team A", "Team B", "Team C"};
+    private static final String[] LOCATIONS = {"강남 스터디룸", "판교 오피스", "온라인 (Zoom)"};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지우", "주원", "서윤", "하준", "지민"};
+    private static final String[] TABLES = {"cohorts", "parts", "teams", "members", "cohort_members",
+            "sessions", "qr_codes", "attendances", "deposit_histories"};
+
+    private static final String INSERT_COHORT = "INSERT INTO cohorts (id, generation, name, created_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_PART = "INSERT INTO parts (id, cohort_id, name) VALUES (?, ?, ?)";
+    private static final String INSERT_TEAM = "INSERT INTO teams (id, cohort_id, name) VALUES (?, ?, ?)";
+    private static final String INSERT_SESSION = """
+            INSERT INTO sessions (id, cohort_id, title, date, time, location, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_QR_CODE =
+            "INSERT INTO qr_codes (id, session_id, hash_value, created_at, expires_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_MEMBER = """
+            INSERT INTO members (id, login_id, password, name, phone, status, role, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_COHORT_MEMBER = """
+            INSERT INTO cohort_members (id, member_id, cohort_id, part_id, team_id, deposit, excuse_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_ATTENDANCE = """
+            INSERT INTO attendances (id, session_id, member_id, qr_code_id, status, late_minutes, penalty_amount,
+                                     reason, checked_in_at, created_at, updated_at, penalty_policy_version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)""";
+    private static final String INSERT_DEPOSIT_HISTORY = """
+            INSERT INTO deposit_histories (id, cohort_member_id, type, amount, balance_after, attendance_id,
+                                           description, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int currentCohortGeneration;
+
+    /**
+     * 생성 규모와 분포. 상태 비율은 합이 1이 아니어도 되며 상대 가중치로 쓴다
+     */
+    public record Spec(int cohorts, int membersPerCohort, int sessionsPerCohort,
+                       double presentRatio, double lateRatio, double absentRatio, double excusedRatio,
+                       double withdrawnRatio, String memberPassword, long seed, int batchSize) {
+
+        /** 같은 설정이면 같은 이름 → 스냅샷 재사용 키 */
+        public String snapshotName() {
+            int fingerprint = Objects.hash(presentRatio, lateRatio, absentRatio, excusedRatio,
+                    withdrawnRatio, memberPassword, seed);
+            return "dataset-%dx%dx%d-%08x.zip".formatted(cohorts, membersPerCohort, sessionsPerCohort, fingerprint);
+        }
+    }
+
+    /** 생성 한 번의 진행 상태 (id 커서, 난수, 공유 비밀번호 해시, 건수) */
+    @Getter
+    public static class Run {
+        private final Spec spec;
+        private final Random random;
+        private final String passwordHash;
+        private final Map<String, Long> lastIds = new HashMap<>();
+        private final LocalDate today = LocalDate.now(SEOUL);
+        private final long startedAt = System.nanoTime();
+        private long members;
+        private long sessions;
+        private long attendances;
+        private long depositHistories;
+
+        private Run(Spec spec, String passwordHash) {
+            this.spec = spec;
+            this.random = new Random(spec.seed());
+            this.passwordHash = passwordHash;
+        }
+
+        private long nextId(String table) {
+            return lastIds.merge(table, 1L, Long::sum);
+        }
+
+        public Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        }
+    }
+
+    public record SessionPlan(long id, Long qrCodeId, Instant startsAt) {}
+
+    public record CohortPlan(int generation, long cohortId, List<Long> partIds, List<Long> teamIds,
+                             Instant joinedAt, List<SessionPlan> completedSessions) {}
+
+    private record Outcome(AttendanceStatus status, Integer lateMinutes, int penalty) {}
+
+    @Transactional
+    public boolean isGenerated() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM members WHERE login_id LIKE ?", Long.class, LOGIN_ID_PREFIX + "%");
+        return count != null && count > 0;
+    }
+
+    @Transactional
+    public Run begin(Spec spec) {
+        Run run = new Run(spec, passwordEncoder.encode(spec.memberPassword()));
+        for (String table : TABLES) {
+            Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            run.lastIds.put(table, max != null ? max : 0L);
+        }
+        return run;
+    }
+
+    /**
+     * 현재 기수부터 거꾸로 spec.cohorts()개 기수를 준비한다. 시드로 이미 있는 기수는 파트/팀을 재사용한다.
+     * 현재 기수는 일정의 절반이 지난 상태(나머지는 SCHEDULED), 이전 기수는 모두 COMPLETED
+     */
+    @Transactional
+    public CohortPlan prepareCohort(Run run, int generation) {
+        int weeksAgo = (currentCohortGeneration - generation) * WEEKS_PER_COHORT;
+        LocalDate firstSession = run.today.minusWeeks(run.spec.sessionsPerCohort() / 2 + weeksAgo);
+        Instant joinedAt = firstSession.minusWeeks(1).atStartOfDay(SEOUL).toInstant();
+
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT id FROM cohorts WHERE generation = ?", Long.class, generation);
+        long cohortId;
+        List<Long> partIds;
+        List<Long> teamIds;
+        if (existing.isEmpty()) {
+            cohortId = run.nextId("cohorts");
+            jdbcTemplate.update(INSERT_COHORT, cohortId, generation, generation + "기", utc(joinedAt));
+            partIds = insertNamed(run, INSERT_PART, "parts", cohortId, PART_NAMES);
+            teamIds = insertNamed(run, INSERT_TEAM, "teams", cohortId, TEAM_NAMES);
+        } else {
+            cohortId = existing.get(0);
+            partIds = jdbcTemplate.queryForList("SELECT id FROM parts WHERE cohort_id = ?", Long.class, cohortId);
+            teamIds = jdbcTemplate.queryForList("SELECT id FROM teams WHERE cohort_id = ?", Long.class, cohortId);
+        }
+
+        List<Object[]> sessionRows = new ArrayList<>();
+        List<Object[]> qrRows = new ArrayList<>();
+        List<SessionPlan> completed = new ArrayList<>();
+        for (int week = 0; week < run.spec.sessionsPerCohort(); week++) {
+            LocalDate date = firstSession.plusWeeks(week);
+            Instant startsAt = LocalDateTime.of(date, SESSION_TIME).atZone(SEOUL).toInstant();
+            boolean past = date.isBefore(run.today);
+            long sessionId = run.nextId("sessions");
+            Instant createdAt = startsAt.minus(Duration.ofDays(14));
+            sessionRows.add(new Object[]{sessionId, cohortId, generation + "기 " + (week + 1) + "주차 정기 모임", date,
+                    SESSION_TIME, LOCATIONS[week % LOCATIONS.length],
+                    (past ? SessionStatus.COMPLETED : SessionStatus.SCHEDULED).name(), utc(createdAt), utc(createdAt)});
+            if (!past) continue;
+
+            // 지난 일정은 시작 10분 전에 발급된 QR 하나로 체크인했다고 본다 (QrCodeService와 같은 24시간 유효)
+            long qrCodeId = run.nextId("qr_codes");
+            Instant issuedAt = startsAt.minus(Duration.ofMinutes(10));
+            qrRows.add(new Object[]{qrCodeId, sessionId, new UUID(run.random.nextLong(), run.random.nextLong()).toString(),
+                    utc(issuedAt), utc(issuedAt.plus(Duration.ofDays(1)))});
+            completed.add(new SessionPlan(sessionId, qrCodeId, startsAt));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SESSION, sessionRows);
+        jdbcTemplate.batchUpdate(INSERT_QR_CODE, qrRows);
+        run.sessions += sessionRows.size();
+        return new CohortPlan(generation, cohortId, partIds, teamIds, joinedAt, completed);
+    }
+
+    /**
+     * 회원 count명과 그 CohortMember, 지난 일정 출결, 보증금 이력을 배치로 쓴다.
+     * FK 순서(members → cohort_members → attendances → deposit_histories)대로 INSERT 한다
+     */
+    @Transactional
+    public int writeMembers(Run run, CohortPlan cohort, int count) {
+        boolean current = cohort.generation() == currentCohortGeneration;
+        List<Object[]> memberRows = new ArrayList<>(count);
+        List<Object[]> cohortMemberRows = new ArrayList<>(count);
+        List<Object[]> attendanceRows = new ArrayList<>(count * cohort.completedSessions().size());
+        List<Object[]> historyRows = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Random random = run.random;
+            long memberId = run.nextId("members");
+            long cohortMemberId = run.nextId("cohort_members");
+            MemberStatus status = !current ? MemberStatus.INACTIVE
+                    : random.nextDouble() < run.spec.withdrawnRatio() ? MemberStatus.WITHDRAWN : MemberStatus.ACTIVE;
+            Instant joinedAt = cohort.joinedAt();
+            memberRows.add(new Object[]{memberId, LOGIN_ID_PREFIX + cohort.generation() + "_" + memberId,
+                    run.passwordHash, FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)]
+                    + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)],
+                    "010-%04d-%04d".formatted(memberId / 10_000 % 10_000, memberId % 10_000),
+                    status.name(), MemberRole.MEMBER.name(), utc(joinedAt), utc(joinedAt)});
+
+            int deposit = INITIAL_DEPOSIT;
+            int excuseCount = 0;
+            historyRows.add(new Object[]{run.nextId("deposit_histories"), cohortMemberId, DepositType.INITIAL.name(),
+                    INITIAL_DEPOSIT, INITIAL_DEPOSIT, null, "초기 보증금", utc(joinedAt)});
+
+            for (SessionPlan session : cohort.completedSessions()) {
+                Outcome outcome = drawOutcome(run, excuseCount, deposit);
+                AttendanceStatus attendanceStatus = outcome.status();
+                if (attendanceStatus == AttendanceStatus.EXCUSED) excuseCount++;
+                deposit -= outcome.penalty();
+
+                // 출석/지각은 QR 체크인, 결석/공결은 일정 종료 후 관리자 등록으로 본다
+                boolean checkedIn = attendanceStatus == AttendanceStatus.PRESENT || attendanceStatus == AttendanceStatus.LATE;
+                Instant checkedInAt = attendanceStatus == AttendanceStatus.LATE
+                        ? session.startsAt().plus(Duration.ofMinutes(outcome.lateMinutes()))
+                        : session.startsAt().minus(Duration.ofMinutes(random.nextInt(10)));
+                Instant recordedAt = checkedIn ? checkedInAt : session.startsAt().plus(Duration.ofHours(3));
+                long attendanceId = run.nextId("attendances");
+                attendanceRows.add(new Object[]{attendanceId, session.id(), memberId,
+                        checkedIn ? session.qrCodeId() : null, attendanceStatus.name(), outcome.lateMinutes(),
+                        outcome.penalty(), attendanceStatus == AttendanceStatus.EXCUSED ? "개인 사정 (공결 신청)" : null,
+                        checkedIn ? utc(checkedInAt) : null, utc(recordedAt), utc(recordedAt)});
+
+                if (outcome.penalty() > 0) {
+                    String description = (checkedIn ? "QR 체크인 - " : "출결 등록 - ")
+                            + attendanceStatus + " 패널티 " + outcome.penalty() + "원";
+                    historyRows.add(new Object[]{run.nextId("deposit_histories"), cohortMemberId,
+                            DepositType.PENALTY.name(), -outcome.penalty(), deposit, attendanceId, description,
+                            utc(recordedAt)});
+                }
+            }
+
+            cohortMemberRows.add(new Object[]{cohortMemberId, memberId, cohort.cohortId(),
+                    pick(random, cohort.partIds()), pick(random, cohort.teamIds()), deposit, excuseCount});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_MEMBER, memberRows);
+        jdbcTemplate.batchUpdate(INSERT_COHORT_MEMBER, cohortMemberRows);
+        jdbcTemplate.batchUpdate(INSERT_ATTENDANCE, attendanceRows);
+        jdbcTemplate.batchUpdate(INSERT_DEPOSIT_HISTORY, historyRows);
+        run.members += count;
+        run.attendances += attendanceRows.size();
+        run.depositHistories += historyRows.size();
+        return count;
+    }
+
+    /**
+     * id를 직접 넣었으므로 H2의 IDENTITY 시작값을 맞추고 (MySQL은 AUTO_INCREMENT가 알아서 따라온다),
+     * JPA를 우회해 바뀐 데이터가 2차 캐시에 남지 않도록 비운다
+     */
+    @Transactional
+    public void finish(Run run) {
+        if (isH2()) {
+            run.lastIds.forEach((table, lastId) -> jdbcTemplate.execute(
+                    "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1)));
+        }
+        evictSecondLevelCache();
+    }
+
+    /**
+     * 스냅샷은 파일 H2의 BACKUP(DB 파일 복사)으로 만든다. 압축을 풀어 data/에 두면 그대로 재사용된다.
+     * SCRIPT/RUNSCRIPT는 행 단위 재삽입이라 복원이 생성만큼 느려서 쓰지 않는다.
+     * 메모리 H2는 백업할 파일이 없고, MySQL은 mysqldump 등 외부 도구를 쓴다
+     */
+    public boolean supportsSnapshot() {
+        String url = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+        return isH2() && url != null && !url.startsWith("jdbc:h2:mem:");
+    }
+
+    public void writeSnapshot(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        jdbcTemplate.execute("BACKUP TO " + quote(file));
+    }
+
+    private Outcome drawOutcome(Run run, int excuseCount, int deposit) {
+        Spec spec = run.spec;
+        double total = spec.presentRatio() + spec.lateRatio() + spec.absentRatio() + spec.excusedRatio();
+        double roll = run.random.nextDouble() * total;
+        AttendanceStatus status;
+        Integer lateMinutes = null;
+        if ((roll -= spec.presentRatio()) < 0) {
+            status = AttendanceStatus.PRESENT;
+        } else if ((roll -= spec.lateRatio()) < 0) {
+            status = AttendanceStatus.LATE;
+            // 대부분 몇 분 늦고 가끔 크게 늦는 분포 (평균 약 8분, 최대 60분)
+            lateMinutes = Math.min(60, 1 + (int) (-Math.log(1 - run.random.nextDouble()) * 7));
+        } else if ((roll -= spec.absentRatio()) < 0) {
+            status = AttendanceStatus.ABSENT;
+        } else {
+            // 공결 한도를 넘긴 신청은 서비스에서 거절되므로 결석으로 처리한다
+            status = excuseCount < MAX_EXCUSE_COUNT ? AttendanceStatus.EXCUSED : AttendanceStatus.ABSENT;
+        }
+
+        int penalty = PenaltyCalculator.calculate(status, lateMinutes);
+        // 잔액이 부족하면 서비스가 등록을 거절하므로, 그 회차는 정상 출석으로 남긴다
+        if (penalty > deposit) return new Outcome(AttendanceStatus.PRESENT, null, 0);
+        return new Outcome(status, lateMinutes, penalty);
+    }
+
+    private List<Long> insertNamed(Run run, String sql, String table, long cohortId, String[] names) {
+        List<Long> ids = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (String name : names) {
+            long id = run.nextId(table);
+            ids.add(id);
+            rows.add(new Object[]{id, cohortId, name});
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+        return ids;
+    }
+
+    private static Long pick(Random random, List<Long> ids) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, STORAGE_OFFSET);
+    }
+
+    private static String quote(Path file) {
+        return "'" + file.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
+
+    private boolean isH2() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "H2".equals(product);
+    }
+
+    private void evictSecondLevelCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
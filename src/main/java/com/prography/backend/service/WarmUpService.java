@@ -0,0 +1,92 @@
+package com.prography.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prography.backend.common.ApiResponse;
+import com.prography.backend.domain.*;
+import com.prography.backend.dto.request.CheckInRequest;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 기동 직후 JIT 워밍업 한 라운드 (WarmUpRunner가 반복 호출)
+ *
+ * - 현재 기수에 임시 일정(IN_PROGRESS)/QR/회원을 만들고 실제 체크인 → 관리자 요약 조회 → JSON 직렬화를 실행
+ * - 트랜잭션은 항상 롤백한다. ETag 버전 증가, read-your-writes 고정, 2차 캐시 반영은
+ *   모두 커밋 이후에만 일어나므로 워밍업 흔적이 남지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+public class WarmUpService {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final CohortRepository cohortRepository;
+    private final MemberRepository memberRepository;
+    private final CohortMemberRepository cohortMemberRepository;
+    private final SessionRepository sessionRepository;
+    private final QrCodeRepository qrCodeRepository;
+    private final AttendanceService attendanceService;
+    private final ObjectMapper objectMapper;
+    private final int currentCohortGeneration;
+
+    public record RoundResult(int checkIns, int reads, long serializedBytes) {}
+
+    @Transactional
+    public RoundResult runRound(int members) {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+
+        Cohort cohort = cohortRepository.findByGeneration(currentCohortGeneration)
+                .orElseThrow(() -> new AppException(ErrorCode.COHORT_NOT_FOUND));
+        // 5분 전에 시작한 일정 → 체크인이 지각 패널티/보증금 이력/outbox 기록 경로까지 탄다
+        ZonedDateTime startedAt = ZonedDateTime.now(SEOUL).minusMinutes(5);
+        Session session = sessionRepository.save(Session.builder()
+                .cohort(cohort).title("warm-up").location("warm-up")
+                .date(startedAt.toLocalDate()).time(startedAt.toLocalTime().withNano(0))
+                .status(SessionStatus.IN_PROGRESS).build());
+        QrCode qrCode = qrCodeRepository.save(QrCode.builder()
+                .session(session).hashValue(UUID.randomUUID().toString())
+                .expiresAt(Instant.now().plusSeconds(600)).build());
+
+        String prefix = "warm-up-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        List<Long> memberIds = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .loginId(prefix + i).password("-").name("warm-up").phone("010-0000-0000")
+                    .status(MemberStatus.ACTIVE).role(MemberRole.MEMBER).build());
+            cohortMemberRepository.save(CohortMember.builder()
+                    .member(member).cohort(cohort).deposit(100_000).excuseCount(0).build());
+            memberIds.add(member.getId());
+        }
+
+        long bytes = 0;
+        for (Long memberId : memberIds) {
+            bytes += serialize(attendanceService.checkIn(new CheckInRequest(qrCode.getHashValue(), memberId)));
+        }
+        bytes += serialize(attendanceService.getSessionAttendanceSummary(session.getId()));
+        bytes += serialize(attendanceService.getSessionAttendances(session.getId()));
+        bytes += serialize(attendanceService.getMemberAttendanceDetail(memberIds.get(0)));
+        bytes += serialize(attendanceService.getAttendanceSummary(memberIds.get(0)));
+        return new RoundResult(members, 4, bytes);
+    }
+
+    private long serialize(Object data) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.ok(data)).length;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- 아웃박스 전달 임대(lease)
+-- 여러 인스턴스 중 조건부 UPDATE로 임대를 먼저 차지한 전달기(owner)만 lease_expires_at까지 이벤트를 전달한다.
+-- 한 인스턴스만 전달하므로 이벤트가 인스턴스마다 중복 전달되지 않고 cohortMember별 순서도 유지된다.
+-- 전달기가 죽어 임대가 끝나면 다른 인스턴스가 넘겨받아 아직 발행 표시되지 않은 이벤트부터 이어서 전달한다
+
+CREATE TABLE outbox_dispatch_lease (
+    id               INT          NOT NULL PRIMARY KEY,
+    owner            VARCHAR(100),
+    lease_expires_at DATETIME(6)
+);
+
+INSERT INTO outbox_dispatch_lease (id) VALUES (1);
@@ -0,0 +1,143 @@
+-- 초기 스키마 (H2 MySQL 모드 / MySQL 8 공용)
+-- Instant 컬럼은 UTC 기준 DATETIME(6) (hibernate.type.preferred_instant_jdbc_type=TIMESTAMP, jdbc.time_zone=UTC)
+
+CREATE TABLE cohorts (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    generation INT          NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    CONSTRAINT uk_cohorts_generation UNIQUE (generation)
+);
+
+CREATE TABLE parts (
+    id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cohort_id BIGINT       NOT NULL,
+    name      VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_parts_cohort FOREIGN KEY (cohort_id) REFERENCES cohorts (id)
+);
+
+CREATE TABLE teams (
+    id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cohort_id BIGINT       NOT NULL,
+    name      VARCHAR(255) NOT NULL,
+    CONSTRAINT fk_teams_cohort FOREIGN KEY (cohort_id) REFERENCES cohorts (id)
+);
+
+CREATE TABLE members (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    login_id   VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    phone      VARCHAR(255) NOT NULL,
+    status     ENUM ('ACTIVE', 'INACTIVE', 'WITHDRAWN') NOT NULL,
+    role       ENUM ('MEMBER', 'ADMIN') NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    CONSTRAINT uk_members_login_id UNIQUE (login_id)
+);
+
+CREATE TABLE cohort_members (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id    BIGINT NOT NULL,
+    cohort_id    BIGINT NOT NULL,
+    part_id      BIGINT,
+    team_id      BIGINT,
+    deposit      INT    NOT NULL,
+    excuse_count INT    NOT NULL,
+    CONSTRAINT fk_cohort_members_member FOREIGN KEY (member_id) REFERENCES members (id),
+    CONSTRAINT fk_cohort_members_cohort FOREIGN KEY (cohort_id) REFERENCES cohorts (id),
+    CONSTRAINT fk_cohort_members_part FOREIGN KEY (part_id) REFERENCES parts (id),
+    CONSTRAINT fk_cohort_members_team FOREIGN KEY (team_id) REFERENCES teams (id)
+);
+
+CREATE TABLE sessions (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cohort_id  BIGINT       NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    date       DATE         NOT NULL,
+    time       TIME(6)      NOT NULL,
+    location   VARCHAR(255) NOT NULL,
+    status     ENUM ('SCHEDULED', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED') NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    CONSTRAINT fk_sessions_cohort FOREIGN KEY (cohort_id) REFERENCES cohorts (id)
+);
+
+CREATE TABLE qr_codes (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    session_id BIGINT       NOT NULL,
+    hash_value VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    expires_at DATETIME(6)  NOT NULL,
+    CONSTRAINT uk_qr_codes_hash_value UNIQUE (hash_value),
+    CONSTRAINT fk_qr_codes_session FOREIGN KEY (session_id) REFERENCES sessions (id)
+);
+
+-- 만료 QR 보관소. id는 원본 qr_codes.id를 그대로 쓰며, 출결의 qr_code_id는 외래키 없이 두 테이블 중 한쪽을 가리킨다
+CREATE TABLE qr_code_histories (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    session_id  BIGINT       NOT NULL,
+    hash_value  VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6),
+    expires_at  DATETIME(6)  NOT NULL,
+    archived_at DATETIME(6)  NOT NULL
+);
+
+CREATE TABLE attendances (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    session_id     BIGINT NOT NULL,
+    member_id      BIGINT NOT NULL,
+    qr_code_id     BIGINT,
+    status         ENUM ('PRESENT', 'ABSENT', 'LATE', 'EXCUSED') NOT NULL,
+    late_minutes   INT,
+    penalty_amount INT    NOT NULL,
+    reason         VARCHAR(255),
+    checked_in_at  DATETIME(6),
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    CONSTRAINT fk_attendances_session FOREIGN KEY (session_id) REFERENCES sessions (id),
+    CONSTRAINT fk_attendances_member FOREIGN KEY (member_id) REFERENCES members (id)
+);
+
+CREATE TABLE deposit_histories (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cohort_member_id BIGINT NOT NULL,
+    type             ENUM ('INITIAL', 'PENALTY', 'REFUND') NOT NULL,
+    amount           INT    NOT NULL,
+    balance_after    INT    NOT NULL,
+    attendance_id    BIGINT,
+    description      VARCHAR(255),
+    created_at       DATETIME(6),
+    CONSTRAINT fk_deposit_histories_cohort_member FOREIGN KEY (cohort_member_id) REFERENCES cohort_members (id),
+    CONSTRAINT fk_deposit_histories_attendance FOREIGN KEY (attendance_id) REFERENCES attendances (id)
+);
+
+CREATE TABLE deposit_checkpoints (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cohort_member_id BIGINT      NOT NULL,
+    balance          INT         NOT NULL,
+    total_penalty    BIGINT      NOT NULL,
+    total_refund     BIGINT      NOT NULL,
+    last_history_id  BIGINT      NOT NULL,
+    checkpoint_at    DATETIME(6) NOT NULL,
+    created_at       DATETIME(6),
+    CONSTRAINT fk_deposit_checkpoints_cohort_member FOREIGN KEY (cohort_member_id) REFERENCES cohort_members (id)
+);
+CREATE INDEX idx_deposit_checkpoints_cm_at ON deposit_checkpoints (cohort_member_id, checkpoint_at);
+
+CREATE TABLE outbox_events (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type       ENUM ('ATTENDANCE_RECORDED', 'ATTENDANCE_UPDATED', 'DEPOSIT_CHANGED') NOT NULL,
+    cohort_member_id BIGINT        NOT NULL,
+    payload          VARCHAR(4000) NOT NULL,
+    attempts         INT           NOT NULL,
+    last_error       VARCHAR(500),
+    created_at       DATETIME(6),
+    published_at     DATETIME(6)
+);
+CREATE INDEX idx_outbox_events_published_at ON outbox_events (published_at, id);
+
+CREATE TABLE replication_heartbeat (
+    id      BIGINT      NOT NULL PRIMARY KEY,
+    beat_at DATETIME(6) NOT NULL
+);
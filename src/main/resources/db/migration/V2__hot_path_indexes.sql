@@ -0,0 +1,23 @@
+-- 조회 경로에 맞춘 복합 인덱스
+-- 한 회원은 일정당 출결 1건, 기수당 소속 1건이므로 두 인덱스는 유니크로 둔다 (동시 체크인 중복도 DB에서 막힌다)
+
+-- 중복 체크인 확인, 일정별 출결 목록 (선두 컬럼 session_id)
+CREATE UNIQUE INDEX uk_attendances_session_member ON attendances (session_id, member_id);
+-- 회원별 출결 목록/요약
+CREATE INDEX idx_attendances_member_created ON attendances (member_id, created_at);
+-- 만료 QR 보관 시 출결 참조 여부 확인 (외래키가 없어 자동 인덱스가 없음)
+CREATE INDEX idx_attendances_qr_code_id ON attendances (qr_code_id);
+
+-- 현재 기수 소속 조회, 회원별 최신 기수 조회 (선두 컬럼 member_id)
+CREATE UNIQUE INDEX uk_cohort_members_member_cohort ON cohort_members (member_id, cohort_id);
+
+-- 보증금 이력 시간순 조회, 체크포인트 이후 이력 조회
+CREATE INDEX idx_deposit_histories_cm_created ON deposit_histories (cohort_member_id, created_at);
+
+-- 일정별 활성 QR 조회
+CREATE INDEX idx_qr_codes_session_expires ON qr_codes (session_id, expires_at);
+-- 만료 QR 정리 배치
+CREATE INDEX idx_qr_codes_expires_at ON qr_codes (expires_at);
+
+-- 기수별 일정 목록 (날짜 정렬/기간 필터)
+CREATE INDEX idx_sessions_cohort_date ON sessions (cohort_id, date);
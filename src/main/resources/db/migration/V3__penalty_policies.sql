@@ -0,0 +1,29 @@
+-- 기수별 패널티 정책 (버전 관리)
+-- 정책은 수정하지 않고 새 버전을 추가한다. 기수의 최신 버전이 적용되고, 정책이 없는 기수는 기본 규칙(버전 0)을 쓴다
+
+CREATE TABLE penalty_policies (
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cohort_id     BIGINT NOT NULL,
+    version       INT    NOT NULL,
+    grace_minutes INT    NOT NULL,
+    late_fee_cap  INT    NOT NULL,
+    absent_fee    INT    NOT NULL,
+    created_at    DATETIME(6),
+    CONSTRAINT uk_penalty_policies_cohort_version UNIQUE (cohort_id, version),
+    CONSTRAINT fk_penalty_policies_cohort FOREIGN KEY (cohort_id) REFERENCES cohorts (id)
+);
+
+-- 지각 구간별 분당 금액 (from_minute 분을 넘긴 지각 분부터 적용)
+CREATE TABLE penalty_policy_tiers (
+    policy_id      BIGINT NOT NULL,
+    from_minute    INT    NOT NULL,
+    fee_per_minute INT    NOT NULL,
+    CONSTRAINT uk_penalty_policy_tiers_policy_from UNIQUE (policy_id, from_minute),
+    CONSTRAINT fk_penalty_policy_tiers_policy FOREIGN KEY (policy_id) REFERENCES penalty_policies (id)
+);
+
+-- 패널티 면제 일정
+ALTER TABLE sessions ADD COLUMN penalty_waived BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- 출결에 적용된 정책 버전 (이 마이그레이션 이전 출결은 NULL)
+ALTER TABLE attendances ADD COLUMN penalty_policy_version INT;
@@ -0,0 +1,23 @@
+-- 기수 패널티 소급 재계산 작업
+-- checkpoint_cohort_member_id 이하의 CohortMember는 처리가 끝났다. 재시작하면 그 다음 회원부터 이어서 처리한다
+
+CREATE TABLE penalty_recalculation_jobs (
+    id                          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cohort_id                   BIGINT NOT NULL,
+    from_date                   DATE   NOT NULL,
+    to_date                     DATE   NOT NULL,
+    policy_version              INT    NOT NULL,
+    status                      ENUM ('RUNNING', 'COMPLETED', 'FAILED') NOT NULL,
+    checkpoint_cohort_member_id BIGINT NOT NULL DEFAULT 0,
+    processed_members           INT    NOT NULL DEFAULT 0,
+    adjusted_attendances        INT    NOT NULL DEFAULT 0,
+    penalty_charged             BIGINT NOT NULL DEFAULT 0,
+    refunded                    BIGINT NOT NULL DEFAULT 0,
+    uncollected                 BIGINT NOT NULL DEFAULT 0,
+    last_error                  VARCHAR(500),
+    created_at                  DATETIME(6),
+    updated_at                  DATETIME(6),
+    CONSTRAINT fk_penalty_recalculation_jobs_cohort FOREIGN KEY (cohort_id) REFERENCES cohorts (id)
+);
+
+CREATE INDEX idx_penalty_recalculation_jobs_status ON penalty_recalculation_jobs (status);
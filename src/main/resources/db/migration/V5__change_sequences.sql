@@ -0,0 +1,18 @@
+-- 모바일 증분 동기화(GET /api/v1/members/{id}/sync)용 변경 순번
+-- 일정/출결을 바꾼 트랜잭션은 커밋 직전에 change_sequence를 1 올리고 바뀐 행의 change_seq에 그 값을 기록한다.
+-- 카운터 행 잠금이 커밋까지 유지되므로 순번은 커밋 순서와 같다 (읽은 카운터 값 이하의 순번은 모두 커밋된 상태)
+-- 기존 행은 0 (처음 동기화할 때 전체를 내려받는다)
+
+CREATE TABLE change_sequence (
+    id          INT    PRIMARY KEY,
+    current_seq BIGINT NOT NULL
+);
+
+INSERT INTO change_sequence (id, current_seq) VALUES (1, 0);
+
+ALTER TABLE sessions ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE attendances ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- 기수별 / 회원별 변경분 조회
+CREATE INDEX idx_sessions_cohort_change_seq ON sessions (cohort_id, change_seq);
+CREATE INDEX idx_attendances_member_change_seq ON attendances (member_id, change_seq);
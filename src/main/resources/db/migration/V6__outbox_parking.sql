@@ -0,0 +1,5 @@
+-- 아웃박스 이벤트 전달 재시도 상한
+-- app.outbox.max-attempts번 실패한 이벤트는 parked_at을 찍어 전달 대상에서 뺀다 (published_at은 비워 두어 보관 삭제 대상도 아님).
+-- 운영자가 원인을 고친 뒤 parked_at을 NULL로 되돌리면 다시 전달된다
+
+ALTER TABLE outbox_events ADD COLUMN parked_at DATETIME(6);
@@ -0,0 +1,6 @@
+-- 패널티 재계산 작업 실행 임대(lease)
+-- 여러 인스턴스 중 조건부 UPDATE로 작업을 먼저 차지한 실행기(owner)만 lease_expires_at까지 처리한다.
+-- 실행기가 죽어 임대가 끝나면 다른 인스턴스가 넘겨받아 마지막 체크포인트부터 이어서 처리한다
+
+ALTER TABLE penalty_recalculation_jobs ADD COLUMN owner VARCHAR(100);
+ALTER TABLE penalty_recalculation_jobs ADD COLUMN lease_expires_at DATETIME(6);
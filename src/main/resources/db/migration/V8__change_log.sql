@@ -0,0 +1,15 @@
+-- 변경 순번을 단일 카운터 행(change_sequence) 대신 AUTO_INCREMENT로 받는다.
+-- 카운터 행 잠금은 커밋까지 유지돼 체크인을 포함한 모든 출결 쓰기를 클러스터 전체에서 한 줄로 세웠다.
+-- 이제 트랜잭션은 커밋 직전에 change_log에 한 행을 넣어 순번을 받고(잠금 없음), 토큰은
+-- commit-grace보다 오래전에 받은 순번 중 가장 큰 값(그 이하는 모두 커밋 완료)으로 내준다 (ChangeSequenceService)
+
+CREATE TABLE change_log (
+    seq        BIGINT      AUTO_INCREMENT PRIMARY KEY,
+    created_at DATETIME(6) NOT NULL
+);
+
+-- 이미 내준 토큰보다 큰 순번부터 이어지도록 마지막 카운터 값을 옮긴다
+INSERT INTO change_log (seq, created_at)
+SELECT current_seq, CURRENT_TIMESTAMP(6) FROM change_sequence WHERE id = 1 AND current_seq > 0;
+
+DROP TABLE change_sequence;
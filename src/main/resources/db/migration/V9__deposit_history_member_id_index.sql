@@ -0,0 +1,4 @@
+-- 체크포인트 이후 이력(tail)은 (cohort_member_id, id > 체크포인트의 마지막 이력 id)로 읽는다.
+-- (cohort_member_id, created_at) 인덱스로는 at 이전 이력 전체를 훑은 뒤 id로 걸러야 했으므로,
+-- id 순 인덱스로 체크포인트 뒤쪽만 탐색한다
+CREATE INDEX idx_deposit_histories_cm_id ON deposit_histories (cohort_member_id, id);
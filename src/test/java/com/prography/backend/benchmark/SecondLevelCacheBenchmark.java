@@ -0,0 +1,116 @@
+package com.prography.backend.benchmark;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.dto.request.*;
+import com.prography.backend.service.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 2차 캐시 적용 전후 조회 API의 SQL 실행 수 비교 (mvn test -Pbenchmark)
+ *
+ * - cold: 모든 캐시 리전을 비운 직후 1회 호출 → 캐시가 없을 때와 같은 쿼리 수
+ * - warm: 한 번 호출해 캐시를 채운 뒤 반복 호출한 평균 쿼리 수
+ * - 통계는 전역이므로 아웃박스 디스패처 폴링을 사실상 끈 상태로 측정
+ */
+@SpringBootTest(properties = {"app.outbox.poll-interval=1h", "app.warm-up.enabled=false"})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SecondLevelCacheBenchmark {
+
+    private static final int MEMBERS = 20;
+    private static final int SESSIONS = 8;
+    private static final int WARM_ITERATIONS = 20;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired MemberService memberService;
+    @Autowired SessionService sessionService;
+    @Autowired AttendanceService attendanceService;
+
+    Long memberId;
+    Long sessionId;
+
+    @BeforeAll
+    void seed() {
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            memberIds.add(memberService.createMember(new CreateMemberRequest("bench" + i, "password",
+                    "회원" + i, "010-0000-" + String.format("%04d", i), 2L, 2L + (i % 5) * 2, 1L + i % 3)).id());
+        }
+        List<Long> sessionIds = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            sessionIds.add(sessionService.createSession(new CreateSessionRequest("정기 모임 " + i,
+                    LocalDate.now().plusDays(i), LocalTime.of(14, 0), "강남")).id());
+        }
+        for (Long sid : sessionIds) {
+            for (int i = 0; i < memberIds.size(); i++) {
+                AttendanceStatus status = i % 4 == 0 ? AttendanceStatus.LATE : AttendanceStatus.PRESENT;
+                attendanceService.registerAttendance(new RegisterAttendanceRequest(sid, memberIds.get(i), status,
+                        status == AttendanceStatus.LATE ? 5 : null, null));
+            }
+        }
+        memberId = memberIds.get(0);
+        sessionId = sessionIds.get(0);
+    }
+
+    @Test
+    void readEndpoints_queryReduction() throws Exception {
+        List<String> endpoints = List.of(
+                "/api/v1/admin/sessions",
+                "/api/v1/admin/members/" + memberId,
+                "/api/v1/admin/attendances/sessions/" + sessionId,
+                "/api/v1/admin/attendances/sessions/" + sessionId + "/summary",
+                "/api/v1/admin/attendances/members/" + memberId,
+                "/api/v1/sessions",
+                "/api/v1/members/" + memberId,
+                "/api/v1/attendances?memberId=" + memberId,
+                "/api/v1/members/" + memberId + "/attendance-summary");
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics stats = sessionFactory.getStatistics();
+        long coldTotal = 0;
+        double warmTotal = 0;
+
+        System.out.printf("%n%-60s %8s %8s %8s%n", "endpoint", "cold", "warm", "l2 hit");
+        for (String endpoint : endpoints) {
+            sessionFactory.getCache().evictAllRegions();
+            stats.clear();
+            call(endpoint);
+            long cold = stats.getPrepareStatementCount();
+
+            call(endpoint);
+            stats.clear();
+            for (int i = 0; i < WARM_ITERATIONS; i++) call(endpoint);
+            double warm = (double) stats.getPrepareStatementCount() / WARM_ITERATIONS;
+            double hitRatio = (double) stats.getSecondLevelCacheHitCount()
+                    / Math.max(1, stats.getSecondLevelCacheHitCount() + stats.getSecondLevelCacheMissCount());
+
+            System.out.printf("%-60s %8d %8.1f %7.0f%%%n", endpoint, cold, warm, hitRatio * 100);
+            assertThat(warm).as(endpoint).isLessThanOrEqualTo(cold);
+            coldTotal += cold;
+            warmTotal += warm;
+        }
+        System.out.printf("%-60s %8d %8.1f%n%n", "TOTAL", coldTotal, warmTotal);
+        assertThat(warmTotal).isLessThan(coldTotal);
+    }
+
+    private void call(String endpoint) throws Exception {
+        mockMvc.perform(get(endpoint)).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,286 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.DepositType;
+import com.prography.backend.domain.SessionStatus;
+import com.prography.backend.dto.request.CheckInRequest;
+import com.prography.backend.dto.request.CreateMemberRequest;
+import com.prography.backend.dto.request.CreateSessionRequest;
+import com.prography.backend.dto.request.RegisterAttendanceRequest;
+import com.prography.backend.dto.request.UpdateSessionRequest;
+import com.prography.backend.dto.response.DepositHistoryResponse;
+import com.prography.backend.infrastructure.QueryCountInspector;
+import com.prography.backend.repository.CohortMemberRepository;
+import com.prography.backend.repository.OutboxEventRepository;
+import com.prography.backend.repository.QrCodeRepository;
+import com.prography.backend.service.AttendanceService;
+import com.prography.backend.service.MemberService;
+import com.prography.backend.service.SessionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 관리자 출결 일괄 등록/수정 (POST /api/v1/admin/attendances/batch)
+ *
+ * - 공결/보증금 규칙과 보증금 이력, 아웃박스 이벤트가 단건 API와 같게 남는지 확인
+ * - BEST_EFFORT는 성공 항목만, ALL_OR_NOTHING은 실패가 있으면 아무것도 쓰지 않음
+ * - 항목 수와 관계없이 JPA 조회는 일정/기수/출결/회원/CohortMember 잠금 5회 이내 (쓰기는 JDBC 배치)
+ * - 같은 회원을 건드리는 배치나 QR 체크인이 동시에 들어와도 보증금 차감이 사라지지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attendance-batch;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.session-lifecycle.enabled=false"})
+@AutoConfigureMockMvc
+class AdminAttendanceBatchTest {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SessionService sessionService;
+    @Autowired MemberService memberService;
+    @Autowired AttendanceService attendanceService;
+    @Autowired CohortMemberRepository cohortMemberRepository;
+    @Autowired OutboxEventRepository outboxEventRepository;
+    @Autowired QrCodeRepository qrCodeRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    Long sessionId;
+
+    @BeforeEach
+    void setUp() {
+        sessionId = sessionService.createSession(new CreateSessionRequest(
+                "정기 모임", LocalDate.now().plusDays(1), LocalTime.of(14, 0), "강남")).id();
+    }
+
+    @Test
+    void bestEffort_appliesValidItemsAndReportsFailures() throws Exception {
+        Long absent = member();
+        Long late = member();
+        Long corrected = attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, member(), AttendanceStatus.ABSENT, null, null)).id();
+        long outboxBefore = outboxEventRepository.count();
+
+        batch("BEST_EFFORT", """
+                {"memberId": %d, "status": "ABSENT"},
+                {"memberId": %d, "status": "LATE", "lateMinutes": 4},
+                {"memberId": %d, "status": "PRESENT"},
+                {"memberId": 999999, "status": "PRESENT"},
+                {"attendanceId": %d, "status": "EXCUSED", "reason": "병가"},
+                {"attendanceId": 999999, "status": "PRESENT"}
+                """.formatted(absent, late, absent, corrected))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.applied").value(true))
+                .andExpect(jsonPath("$.data.succeeded").value(3))
+                .andExpect(jsonPath("$.data.failed").value(3))
+                .andExpect(jsonPath("$.data.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.data.results[0].attendance.penaltyAmount").value(10_000))
+                .andExpect(jsonPath("$.data.results[1].attendance.penaltyAmount").value(2_000))
+                .andExpect(jsonPath("$.data.results[2].error.code").value("ATTENDANCE_ALREADY_CHECKED"))
+                .andExpect(jsonPath("$.data.results[3].error.code").value("MEMBER_NOT_FOUND"))
+                .andExpect(jsonPath("$.data.results[4].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.data.results[4].attendance.status").value("EXCUSED"))
+                .andExpect(jsonPath("$.data.results[5].error.code").value("ATTENDANCE_NOT_FOUND"));
+
+        assertThat(deposits(absent)).extracting(DepositHistoryResponse::balanceAfter).containsExactly(100_000, 90_000);
+        assertThat(deposits(late)).extracting(DepositHistoryResponse::balanceAfter).containsExactly(100_000, 98_000);
+        // ABSENT(-10000) → EXCUSED: 환급, 공결 1회
+        List<DepositHistoryResponse> refunded = deposits(memberOf(corrected));
+        assertThat(refunded).last().satisfies(h -> {
+            assertThat(h.type()).isEqualTo(DepositType.REFUND);
+            assertThat(h.balanceAfter()).isEqualTo(100_000);
+            assertThat(h.attendanceId()).isEqualTo(corrected);
+        });
+        assertThat(cohortMemberRepository.findById(refunded.get(0).cohortMemberId()).orElseThrow().getExcuseCount())
+                .isEqualTo(1);
+        // 등록 2건(+패널티 2건), 수정 1건(+환급 1건)
+        assertThat(outboxEventRepository.count() - outboxBefore).isEqualTo(6);
+    }
+
+    @Test
+    void allOrNothing_failureWritesNothing() throws Exception {
+        Long memberId = member();
+        long outboxBefore = outboxEventRepository.count();
+
+        batch("ALL_OR_NOTHING", """
+                {"memberId": %d, "status": "ABSENT"},
+                {"attendanceId": 999999, "status": "PRESENT"}
+                """.formatted(memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.applied").value(false))
+                .andExpect(jsonPath("$.data.succeeded").value(0))
+                .andExpect(jsonPath("$.data.results[0].outcome").value("NOT_APPLIED"))
+                .andExpect(jsonPath("$.data.results[1].outcome").value("FAILED"));
+
+        assertThat(deposits(memberId)).hasSize(1);
+        assertThat(outboxEventRepository.count()).isEqualTo(outboxBefore);
+        assertThat(attendanceService.getSessionAttendances(sessionId).attendances()).isEmpty();
+    }
+
+    /**
+     * 같은 출결을 여러 번 수정하면 항목마다 직전 상태 기준 차액만 차감/환급
+     */
+    @Test
+    void depositTrackedAcrossItems() throws Exception {
+        Long memberId = member();
+        Long attendanceId = attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, memberId, AttendanceStatus.PRESENT, null, null)).id();
+
+        batch("BEST_EFFORT", """
+                {"attendanceId": %d, "status": "LATE", "lateMinutes": 10},
+                {"attendanceId": %d, "status": "ABSENT"},
+                {"attendanceId": %d, "status": "PRESENT"}
+                """.formatted(attendanceId, attendanceId, attendanceId))
+                .andExpect(jsonPath("$.data.succeeded").value(3))
+                .andExpect(jsonPath("$.data.results[0].attendance.penaltyAmount").value(5_000))
+                .andExpect(jsonPath("$.data.results[1].attendance.penaltyAmount").value(10_000))
+                .andExpect(jsonPath("$.data.results[2].attendance.status").value("PRESENT"));
+
+        assertThat(deposits(memberId)).extracting(DepositHistoryResponse::amount)
+                .containsExactly(100_000, -5_000, -5_000, 10_000);
+        assertThat(attendanceService.getSessionAttendances(sessionId).attendances())
+                .singleElement().satisfies(a -> assertThat(a.status()).isEqualTo(AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    void readQueries_doNotGrowWithItems() throws Exception {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            if (i > 0) items.append(",");
+            items.append("{\"memberId\": %d, \"status\": \"LATE\", \"lateMinutes\": %d}".formatted(member(), i));
+        }
+        entityManagerFactory.getCache().evictAll();
+
+        try (QueryCountInspector.Scope scope = QueryCountInspector.begin()) {
+            batch("ALL_OR_NOTHING", items.toString()).andExpect(jsonPath("$.data.succeeded").value(20));
+            assertThat(scope.count()).isLessThanOrEqualTo(5);
+        }
+    }
+
+    /**
+     * 서로 다른 일정의 결석을 같은 회원에게 동시에 등록 → CohortMember 행 잠금으로 차감이 모두 반영된다
+     */
+    @Test
+    void concurrentBatches_sameMember_keepEveryDeduction() throws Exception {
+        Long memberId = member();
+        List<Long> sessionIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sessionIds.add(sessionService.createSession(new CreateSessionRequest(
+                    "동시 모임", LocalDate.now().plusDays(2 + i), LocalTime.of(14, 0), "강남")).id());
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(sessionIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (Long id : sessionIds) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/v1/admin/attendances/batch").contentType(MediaType.APPLICATION_JSON)
+                                    .content("{\"sessionId\": %d, \"items\": [{\"memberId\": %d, \"status\": \"ABSENT\"}]}"
+                                            .formatted(id, memberId)))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> f : futures) assertThat(f.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(cohortMemberRepository.findByMemberIdAndCohortId(memberId, sessionService.getCurrentCohortId())
+                .orElseThrow().getDeposit()).isEqualTo(60_000);
+        assertThat(deposits(memberId)).extracting(DepositHistoryResponse::balanceAfter)
+                .contains(90_000, 80_000, 70_000, 60_000);
+    }
+
+    /**
+     * 지난 일정 QR 체크인(지각 10000원)과 다른 일정의 배치 결석(10000원)을 같은 회원에게 동시에 → 단건 경로도 같은 행을 잠가 모두 반영된다
+     */
+    @Test
+    void concurrentCheckInAndBatch_sameMember_keepEveryDeduction() throws Exception {
+        Long memberId = member();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Long inProgress = sessionService.createSession(new CreateSessionRequest(
+                    "진행 모임", LocalDate.now().minusDays(1 + i), LocalTime.of(14, 0), "강남")).id();
+            sessionService.updateSession(inProgress, new UpdateSessionRequest(null, null, null, null, SessionStatus.IN_PROGRESS, null));
+            String hashValue = qrCodeRepository.findBySessionIdAndExpiresAtAfter(inProgress, Instant.now()).get(0).getHashValue();
+            tasks.add(() -> attendanceService.checkIn(new CheckInRequest(hashValue, memberId)).penaltyAmount());
+            Long scheduled = sessionService.createSession(new CreateSessionRequest(
+                    "동시 모임", LocalDate.now().plusDays(10 + i), LocalTime.of(14, 0), "강남")).id();
+            tasks.add(() -> mockMvc.perform(post("/api/v1/admin/attendances/batch").contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"sessionId\": %d, \"items\": [{\"memberId\": %d, \"status\": \"ABSENT\"}]}"
+                                    .formatted(scheduled, memberId)))
+                    .andReturn().getResponse().getStatus());
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (Callable<Integer> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < futures.size(); i++) {
+                // 체크인은 패널티 금액, 배치는 HTTP 상태
+                assertThat(futures.get(i).get(30, TimeUnit.SECONDS)).isEqualTo(i % 2 == 0 ? 10_000 : 200);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(cohortMemberRepository.findByMemberIdAndCohortId(memberId, sessionService.getCurrentCohortId())
+                .orElseThrow().getDeposit()).isEqualTo(60_000);
+        assertThat(deposits(memberId)).extracting(DepositHistoryResponse::balanceAfter)
+                .contains(90_000, 80_000, 70_000, 60_000);
+    }
+
+    @Test
+    void invalidRequest_rejected() throws Exception {
+        batch("BEST_EFFORT", "").andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
+
+    private ResultActions batch(String mode, String items) throws Exception {
+        return mockMvc.perform(post("/api/v1/admin/attendances/batch").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sessionId\": %d, \"mode\": \"%s\", \"items\": [%s]}".formatted(sessionId, mode, items)));
+    }
+
+    private Long member() {
+        int n = sequence.incrementAndGet();
+        return memberService.createMember(new CreateMemberRequest("batch" + n, "password1234",
+                "회원" + n, "010-1000-%04d".formatted(n), sessionService.getCurrentCohortId(), null, null)).id();
+    }
+
+    private Long memberOf(Long attendanceId) {
+        return attendanceService.getSessionAttendances(sessionId).attendances().stream()
+                .filter(a -> a.id().equals(attendanceId)).findFirst().orElseThrow().memberId();
+    }
+
+    private List<DepositHistoryResponse> deposits(Long memberId) {
+        Long cohortMemberId = cohortMemberRepository
+                .findByMemberIdAndCohortId(memberId, sessionService.getCurrentCohortId()).orElseThrow().getId();
+        return attendanceService.getDepositHistory(cohortMemberId);
+    }
+}
@@ -0,0 +1,157 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.dto.request.CreateMemberRequest;
+import com.prography.backend.dto.request.CreateSessionRequest;
+import com.prography.backend.dto.request.RegisterAttendanceRequest;
+import com.prography.backend.dto.request.UpdateAttendanceRequest;
+import com.prography.backend.dto.response.AtRiskMemberResponse;
+import com.prography.backend.infrastructure.CohortMemberRiskIndexScheduler;
+import com.prography.backend.infrastructure.OutboxDispatcher;
+import com.prography.backend.service.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 위험 회원 조회 (GET /api/v1/admin/cohort-members/at-risk)
+ *
+ * - 보증금 변경은 DepositChanged, 공결 횟수 변경은 출결 이벤트로 아웃박스 전달 시점에 색인에 반영
+ * - 회원 추가/탈퇴는 커밋 직후 바로 반영
+ * - 다른 인스턴스에 전달된 이벤트는 주기적 전체 재구성으로 따라잡음 (rebuild-interval=1h, 테스트에서 직접 호출)
+ * - 아웃박스 전달은 임대한 인스턴스 하나만 한다 (lease=0s라 이 인스턴스의 임대는 바로 끝난다)
+ * - 보증금 기준 결과(보증금 오름차순) 뒤에 공결 기준으로만 걸린 회원을 붙인다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:at-risk;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.session-lifecycle.enabled=false",
+        "app.penalty-recalculation.enabled=false",
+        "app.risk-index.rebuild-interval=1h",
+        "app.outbox.lease=0s"})
+@AutoConfigureMockMvc
+class AtRiskMemberTest {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SessionService sessionService;
+    @Autowired MemberService memberService;
+    @Autowired AttendanceService attendanceService;
+    @Autowired OutboxService outboxService;
+    @Autowired CohortMemberRiskIndex cohortMemberRiskIndex;
+    @Autowired CohortMemberRiskIndexScheduler cohortMemberRiskIndexScheduler;
+    @Autowired OutboxDispatcher outboxDispatcher;
+
+    @Test
+    void depositAndExcuseChanges_reflectedAfterDispatch() throws Exception {
+        Long s1 = session(1), s2 = session(2);
+        Long poor = member(), excused = member(), fine = member();
+        assertThat(atRisk(null, 0)).extracting(AtRiskMemberResponse::memberId).contains(poor, excused, fine);
+
+        attend(s1, poor, AttendanceStatus.ABSENT);
+        attend(s2, poor, AttendanceStatus.ABSENT);
+        Long excuse = attend(s1, excused, AttendanceStatus.EXCUSED);
+        attend(s2, excused, AttendanceStatus.EXCUSED);
+        attend(s1, fine, AttendanceStatus.PRESENT);
+        assertThat(atRisk(85_000, 2)).isEmpty();
+
+        outboxService.dispatchBatch(1000);
+        assertThat(atRisk(85_000, null)).extracting(AtRiskMemberResponse::memberId, AtRiskMemberResponse::deposit)
+                .containsExactly(tuple(poor, 80_000));
+        assertThat(atRisk(null, 2)).extracting(AtRiskMemberResponse::memberId, AtRiskMemberResponse::excuseCount)
+                .containsExactly(tuple(excused, 2));
+        assertThat(atRisk(85_000, 2)).extracting(AtRiskMemberResponse::memberId).containsExactly(poor, excused);
+
+        attendanceService.updateAttendance(excuse, new UpdateAttendanceRequest(AttendanceStatus.PRESENT, null, null));
+        outboxService.dispatchBatch(1000);
+        assertThat(atRisk(null, 2)).isEmpty();
+        assertThat(atRisk(null, 1)).extracting(AtRiskMemberResponse::memberId).containsExactly(excused);
+
+        mockMvc.perform(get("/api/v1/admin/cohort-members/at-risk").param("depositBelow", "85000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.memberId == %d)].deposit".formatted(poor)).value(80_000));
+    }
+
+    @Test
+    void withdrawnMembers_removedImmediately() {
+        Long memberId = member();
+        assertThat(atRisk(100_001, null)).extracting(AtRiskMemberResponse::memberId).contains(memberId);
+
+        memberService.deleteMember(memberId);
+
+        assertThat(atRisk(100_001, null)).extracting(AtRiskMemberResponse::memberId).doesNotContain(memberId);
+    }
+
+    @Test
+    void eventsDeliveredElsewhere_caughtUpByPeriodicRebuild() {
+        Long sessionId = session(3);
+        Long memberId = member();
+        attend(sessionId, memberId, AttendanceStatus.ABSENT);
+        assertThat(atRisk(95_000, null)).extracting(AtRiskMemberResponse::memberId).doesNotContain(memberId);
+
+        cohortMemberRiskIndexScheduler.rebuild();
+        assertThat(atRisk(95_000, null)).extracting(AtRiskMemberResponse::memberId, AtRiskMemberResponse::deposit)
+                .contains(tuple(memberId, 90_000));
+    }
+
+    /**
+     * 다른 인스턴스가 전달을 임대 중이면 이 인스턴스는 이벤트를 전달하지 않고, 임대가 끝나면 넘겨받아 전달한다
+     */
+    @Test
+    void dispatchLeasedByOtherInstance_skippedUntilLeaseExpires() {
+        Long sessionId = session(4);
+        Long memberId = member();
+        attend(sessionId, memberId, AttendanceStatus.ABSENT);
+
+        assertThat(outboxService.claimDispatch("other-instance", Duration.ofMinutes(5))).isTrue();
+        outboxDispatcher.dispatch();
+        assertThat(atRisk(95_000, null)).extracting(AtRiskMemberResponse::memberId).doesNotContain(memberId);
+
+        // 임대 만료
+        outboxService.claimDispatch("other-instance", Duration.ofSeconds(-1));
+        outboxDispatcher.dispatch();
+        assertThat(atRisk(95_000, null)).extracting(AtRiskMemberResponse::memberId, AtRiskMemberResponse::deposit)
+                .contains(tuple(memberId, 90_000));
+    }
+
+    @Test
+    void missingThresholds_rejected() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/cohort-members/at-risk"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
+
+    /** 이 테스트 클래스에서 만든 회원만 남긴다 (시드 회원 제외) */
+    private List<AtRiskMemberResponse> atRisk(Integer depositBelow, Integer excusesAtLeast) {
+        return cohortMemberRiskIndex.findAtRisk(depositBelow, excusesAtLeast).stream()
+                .filter(r -> r.memberName().startsWith("위험")).toList();
+    }
+
+    private Long session(int daysAhead) {
+        return sessionService.createSession(new CreateSessionRequest(
+                "정기 모임", LocalDate.now().plusDays(daysAhead), LocalTime.of(14, 0), "강남")).id();
+    }
+
+    private Long member() {
+        int n = sequence.incrementAndGet();
+        return memberService.createMember(new CreateMemberRequest("atrisk" + n, "password1234",
+                "위험" + n, "010-3000-%04d".formatted(n), sessionService.getCurrentCohortId(), null, null)).id();
+    }
+
+    private Long attend(Long sessionId, Long memberId, AttendanceStatus status) {
+        return attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, memberId, status, null, null)).id();
+    }
+}
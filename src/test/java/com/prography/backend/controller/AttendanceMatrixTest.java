@@ -0,0 +1,186 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.dto.request.CreateMemberRequest;
+import com.prography.backend.dto.request.CreateSessionRequest;
+import com.prography.backend.dto.request.RegisterAttendanceRequest;
+import com.prography.backend.dto.request.UpdateAttendanceRequest;
+import com.prography.backend.dto.response.GroupAttendanceRateResponse;
+import com.prography.backend.dto.response.MemberStreakResponse;
+import com.prography.backend.dto.response.SessionAttendanceRateResponse;
+import com.prography.backend.infrastructure.AttendanceMatrixScheduler;
+import com.prography.backend.service.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 현재 기수 출결 행렬과 관리자 출결 리포트 (/api/v1/admin/attendances/reports/*)
+ *
+ * - 일정/회원 구성 변경은 invalidate 후 재구성(rebuildIfStale)으로, 출결 변경은 아웃박스 이벤트로 반영
+ * - 출석률 = (출석 + 지각) / (출석 + 지각 + 결석), 공결/기록 없음 제외
+ * - 연속 출석은 결석에서 끊기고 공결/기록 없음은 건너뜀, 취소된 일정과 탈퇴 회원은 리포트에서 제외
+ * - 다른 인스턴스에 전달된 출결 이벤트는 주기적 전체 재구성으로 따라잡음
+ * - 재구성은 스케줄러 대신 테스트에서 직접 호출 (refresh-interval=1h, rebuild-interval=1h)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attendance-matrix;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.session-lifecycle.enabled=false",
+        "app.penalty-recalculation.enabled=false",
+        "app.attendance-matrix.refresh-interval=1h",
+        "app.attendance-matrix.rebuild-interval=1h"})
+@AutoConfigureMockMvc
+class AttendanceMatrixTest {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SessionService sessionService;
+    @Autowired MemberService memberService;
+    @Autowired AttendanceService attendanceService;
+    @Autowired OutboxService outboxService;
+    @Autowired ReferenceDataRegistry referenceData;
+    @Autowired AttendanceMatrix attendanceMatrix;
+    @Autowired AttendanceMatrixScheduler attendanceMatrixScheduler;
+
+    @Test
+    void reports_ratesByGroupAndStreaks() throws Exception {
+        Long cohortId = sessionService.getCurrentCohortId();
+        List<ReferenceDataRegistry.PartRef> parts = referenceData.getParts(cohortId);
+        List<ReferenceDataRegistry.TeamRef> teams = referenceData.getTeams(cohortId);
+        Long s1 = session(1), s2 = session(2), s3 = session(3);
+        Long m1 = member(parts.get(0).id(), teams.get(0).id());
+        Long m2 = member(parts.get(0).id(), teams.get(1).id());
+        Long m3 = member(parts.get(1).id(), teams.get(0).id());
+        attend(s1, m1, AttendanceStatus.PRESENT, null);
+        attend(s1, m2, AttendanceStatus.LATE, 10);
+        attend(s1, m3, AttendanceStatus.ABSENT, null);
+        attend(s2, m1, AttendanceStatus.PRESENT, null);
+        attend(s2, m2, AttendanceStatus.ABSENT, null);
+        attend(s2, m3, AttendanceStatus.EXCUSED, null);
+        attend(s3, m1, AttendanceStatus.LATE, 4);
+        attend(s3, m2, AttendanceStatus.PRESENT, null);
+        attendanceMatrix.rebuildIfStale();
+
+        assertThat(sessionRate(s1)).satisfies(r -> {
+            assertThat(r).extracting(SessionAttendanceRateResponse::present, SessionAttendanceRateResponse::late,
+                    SessionAttendanceRateResponse::absent, SessionAttendanceRateResponse::excused).containsExactly(1, 1, 1, 0);
+            assertThat(r.attendanceRate()).isEqualTo(0.667);
+            assertThat(r.averageLateMinutes()).isEqualTo(10.0);
+        });
+        assertThat(sessionRate(s3).attendanceRate()).isEqualTo(1.0);
+
+        // 파트 0(m1, m2): 출석 3, 지각 2, 결석 1 / 팀 0(m1, m3): 출석 2, 지각 1, 결석 1, 공결 1
+        assertThat(group(attendanceMatrix.partRates(), parts.get(0).id())).satisfies(r -> {
+            assertThat(r.name()).isEqualTo(parts.get(0).name());
+            assertThat(r).extracting(GroupAttendanceRateResponse::members, GroupAttendanceRateResponse::present,
+                    GroupAttendanceRateResponse::late, GroupAttendanceRateResponse::absent).containsExactly(2, 3, 2, 1);
+            assertThat(r.attendanceRate()).isEqualTo(0.833);
+        });
+        assertThat(group(attendanceMatrix.teamRates(), teams.get(0).id())).satisfies(r -> {
+            assertThat(r).extracting(GroupAttendanceRateResponse::present, GroupAttendanceRateResponse::late,
+                    GroupAttendanceRateResponse::absent, GroupAttendanceRateResponse::excused).containsExactly(2, 1, 1, 1);
+            assertThat(r.attendanceRate()).isEqualTo(0.75);
+        });
+
+        assertThat(attendanceMatrix.streaks()).filteredOn(r -> List.of(m1, m2, m3).contains(r.memberId()))
+                .extracting(MemberStreakResponse::memberId, MemberStreakResponse::currentStreak,
+                        MemberStreakResponse::longestStreak, MemberStreakResponse::currentAbsenceStreak)
+                .containsExactly(tuple(m1, 3, 3, 0), tuple(m2, 1, 1, 0), tuple(m3, 0, 0, 1));
+
+        mockMvc.perform(get("/api/v1/admin/attendances/reports/sessions")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.sessionId == %d)].attendanceRate".formatted(s1)).value(0.667));
+        mockMvc.perform(get("/api/v1/admin/attendances/reports/streaks")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.memberId == %d)].longestStreak".formatted(m1)).value(3));
+    }
+
+    @Test
+    void attendanceEvents_updateCellsWithoutRebuild() {
+        Long sessionId = session(1);
+        Long memberId = member(null, null);
+        attendanceMatrix.rebuildIfStale();
+
+        Long attendanceId = attend(sessionId, memberId, AttendanceStatus.ABSENT, null);
+        assertThat(streak(memberId).currentAbsenceStreak()).isZero();
+        outboxService.dispatchBatch(1000);
+        assertThat(streak(memberId).currentAbsenceStreak()).isEqualTo(1);
+
+        attendanceService.updateAttendance(attendanceId, new UpdateAttendanceRequest(AttendanceStatus.LATE, 7, null));
+        outboxService.dispatchBatch(1000);
+        assertThat(streak(memberId).currentStreak()).isEqualTo(1);
+        assertThat(sessionRate(sessionId).averageLateMinutes()).isEqualTo(7.0);
+    }
+
+    /**
+     * 이벤트가 다른 인스턴스로 전달돼 이 인스턴스에는 오지 않음 → 주기적 전체 재구성에서 반영
+     */
+    @Test
+    void eventsDeliveredElsewhere_caughtUpByPeriodicRebuild() {
+        Long sessionId = session(1);
+        Long memberId = member(null, null);
+        attendanceMatrix.rebuildIfStale();
+
+        attend(sessionId, memberId, AttendanceStatus.ABSENT, null);
+        assertThat(streak(memberId).currentAbsenceStreak()).isZero();
+
+        attendanceMatrixScheduler.rebuild();
+        assertThat(streak(memberId).currentAbsenceStreak()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledSessionsAndWithdrawnMembers_excludedAfterRebuild() {
+        Long sessionId = session(1);
+        Long memberId = member(null, null);
+        attendanceMatrix.rebuildIfStale();
+        assertThat(attendanceMatrix.sessionRates()).extracting(SessionAttendanceRateResponse::sessionId).contains(sessionId);
+
+        sessionService.deleteSession(sessionId);
+        memberService.deleteMember(memberId);
+        assertThat(attendanceMatrix.streaks()).extracting(MemberStreakResponse::memberId).contains(memberId);
+        attendanceMatrix.rebuildIfStale();
+
+        assertThat(attendanceMatrix.sessionRates()).extracting(SessionAttendanceRateResponse::sessionId)
+                .doesNotContain(sessionId);
+        assertThat(attendanceMatrix.streaks()).extracting(MemberStreakResponse::memberId).doesNotContain(memberId);
+    }
+
+    private SessionAttendanceRateResponse sessionRate(Long sessionId) {
+        return attendanceMatrix.sessionRates().stream().filter(r -> r.sessionId().equals(sessionId))
+                .findFirst().orElseThrow();
+    }
+
+    private MemberStreakResponse streak(Long memberId) {
+        return attendanceMatrix.streaks().stream().filter(r -> r.memberId().equals(memberId)).findFirst().orElseThrow();
+    }
+
+    private static GroupAttendanceRateResponse group(List<GroupAttendanceRateResponse> rates, Long id) {
+        return rates.stream().filter(r -> id.equals(r.id())).findFirst().orElseThrow();
+    }
+
+    private Long session(int daysAhead) {
+        return sessionService.createSession(new CreateSessionRequest(
+                "정기 모임", LocalDate.now().plusDays(daysAhead), LocalTime.of(14, 0), "강남")).id();
+    }
+
+    private Long member(Long partId, Long teamId) {
+        int n = sequence.incrementAndGet();
+        return memberService.createMember(new CreateMemberRequest("matrix" + n, "password1234",
+                "회원" + n, "010-2000-%04d".formatted(n), sessionService.getCurrentCohortId(), partId, teamId)).id();
+    }
+
+    private Long attend(Long sessionId, Long memberId, AttendanceStatus status, Integer lateMinutes) {
+        return attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, memberId, status, lateMinutes, null)).id();
+    }
+}
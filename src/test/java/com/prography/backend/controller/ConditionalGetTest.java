@@ -0,0 +1,135 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.dto.request.CreateMemberRequest;
+import com.prography.backend.dto.request.CreateSessionRequest;
+import com.prography.backend.dto.request.RegisterAttendanceRequest;
+import com.prography.backend.dto.request.UpdateAttendanceRequest;
+import com.prography.backend.dto.request.UpdateSessionRequest;
+import com.prography.backend.repository.QrCodeRepository;
+import com.prography.backend.service.AttendanceService;
+import com.prography.backend.service.MemberService;
+import com.prography.backend.service.QrCodeService;
+import com.prography.backend.service.SessionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 조건부 조회 (If-None-Match → 304)
+ *
+ * - ETag는 DB의 행 수/change_seq에서 만들므로 인스턴스 메모리에 의존하지 않는다
+ *   (이 인스턴스가 알림을 받지 않아도 커밋된 변경이면 ETag가 바뀐다)
+ * - 롤백된 쓰기는 ETag를 바꾸지 않음
+ * - 관리자 일정 목록은 QR 재발급, 일정 출결 목록은 일정 상태 변경도 반영
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conditional-get;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.session-lifecycle.enabled=false",
+        "app.penalty-recalculation.enabled=false"})
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SessionService sessionService;
+    @Autowired MemberService memberService;
+    @Autowired AttendanceService attendanceService;
+    @Autowired QrCodeService qrCodeService;
+    @Autowired QrCodeRepository qrCodeRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    // 2차 캐시는 JVM 안의 테스트 컨텍스트끼리 공유되므로, 다른 DB에서 같은 id로 캐시된 일정을 읽지 않게 비운다
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void memberAttendances_changeWithCommittedWritesOnly() throws Exception {
+        Long sessionId = session(1);
+        Long memberId = member();
+        String myAttendances = "/api/v1/attendances?memberId=" + memberId;
+        String initial = etag(get(myAttendances));
+        notModified(myAttendances, initial);
+
+        Long attendanceId = attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, memberId, AttendanceStatus.ABSENT, null, null)).id();
+        String registered = etag(get(myAttendances).header(HttpHeaders.IF_NONE_MATCH, initial));
+        assertThat(registered).isNotEqualTo(initial);
+
+        assertThatThrownBy(() -> attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, memberId, AttendanceStatus.PRESENT, null, null)))
+                .isInstanceOf(RuntimeException.class);
+        notModified(myAttendances, registered);
+
+        // 같은 행을 다시 고쳐도 change_seq가 커지므로 ETag가 바뀐다 (출결 요약도 같은 ETag)
+        attendanceService.updateAttendance(attendanceId, new UpdateAttendanceRequest(AttendanceStatus.PRESENT, null, null));
+        String updated = etag(get("/api/v1/members/{id}/attendance-summary", memberId)
+                .header(HttpHeaders.IF_NONE_MATCH, registered));
+        assertThat(updated).isNotEqualTo(registered);
+        notModified(myAttendances, updated);
+    }
+
+    @Test
+    void sessionAttendances_reflectSessionChanges() throws Exception {
+        Long sessionId = session(2);
+        String url = "/api/v1/admin/attendances/sessions/" + sessionId;
+        String initial = etag(get(url));
+
+        sessionService.updateSession(sessionId, new UpdateSessionRequest("보강 모임", null, null, null, null, null));
+
+        assertThat(etag(get(url).header(HttpHeaders.IF_NONE_MATCH, initial))).isNotEqualTo(initial);
+    }
+
+    @Test
+    void adminSessions_reflectQrRenewal() throws Exception {
+        Long sessionId = session(3);
+        String url = "/api/v1/admin/sessions";
+        String initial = etag(get(url));
+        notModified(url, initial);
+
+        Long qrCodeId = qrCodeRepository.findBySessionIdAndExpiresAtAfter(sessionId, Instant.now()).get(0).getId();
+        qrCodeService.renewQrCode(qrCodeId);
+
+        assertThat(etag(get(url).header(HttpHeaders.IF_NONE_MATCH, initial))).isNotEqualTo(initial);
+    }
+
+    private String etag(MockHttpServletRequestBuilder request) throws Exception {
+        String etag = mockMvc.perform(request).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+        return etag;
+    }
+
+    private void notModified(String url, String etag) throws Exception {
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+    }
+
+    private Long session(int daysAhead) {
+        return sessionService.createSession(new CreateSessionRequest(
+                "정기 모임", LocalDate.now().plusDays(daysAhead), LocalTime.of(14, 0), "강남")).id();
+    }
+
+    private Long member() {
+        int n = sequence.incrementAndGet();
+        return memberService.createMember(new CreateMemberRequest("etag" + n, "password1234",
+                "회원" + n, "010-5000-%04d".formatted(n), sessionService.getCurrentCohortId(), null, null)).id();
+    }
+}
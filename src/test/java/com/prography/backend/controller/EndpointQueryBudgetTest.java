@@ -0,0 +1,117 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.dto.request.CreateMemberRequest;
+import com.prography.backend.dto.request.CreateSessionRequest;
+import com.prography.backend.dto.request.RegisterAttendanceRequest;
+import com.prography.backend.infrastructure.QueryCountHeaderAdvice;
+import com.prography.backend.service.AttendanceService;
+import com.prography.backend.service.MemberService;
+import com.prography.backend.service.SessionService;
+import com.prography.backend.support.QueryBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 조회 API의 요청당 SQL 수 예산 (QueryBudget)
+ *
+ * - 일정 3개 × 회원 4명 출결 fixture에서 측정, 2차 캐시를 비운 최악의 경우 기준
+ * - 회원/일정/출결 수에 비례하는 N+1이 늘어나면 반복 SQL 형태와 함께 실패
+ * - 조회 경로는 DTO 프로젝션/상태별 집계로 행 수와 무관하게 SQL 수가 일정하다 (대시보드 2회는 목록 + count)
+ * - 별도 인메모리 DB를 써서 다른 테스트 컨텍스트와 데이터를 공유하지 않음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.query-guard.response-header=true"})
+@AutoConfigureMockMvc
+class EndpointQueryBudgetTest {
+
+    private static final AttendanceStatus[] STATUSES = {
+            AttendanceStatus.PRESENT, AttendanceStatus.LATE, AttendanceStatus.ABSENT, AttendanceStatus.PRESENT};
+
+    private static Long sessionId;
+    private static Long memberId;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SessionService sessionService;
+    @Autowired MemberService memberService;
+    @Autowired AttendanceService attendanceService;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        if (sessionId == null) seed();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @QueryBudget(3)
+    void sessionAttendanceSummary() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/attendances/sessions/{sessionId}/summary", sessionId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(4)
+    void adminSessions() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/sessions")).andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void membersDashboard() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/members")).andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void myAttendances() throws Exception {
+        mockMvc.perform(get("/api/v1/attendances").param("memberId", String.valueOf(memberId)))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * 개발 모드(app.query-guard.response-header=true)에서는 요청 SQL 수를 헤더로 노출
+     */
+    @Test
+    void responseHeader_exposesQueryCount() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/sessions"))
+                .andExpect(header().string(QueryCountHeaderAdvice.HEADER, matchesPattern("[1-9]\\d*")));
+    }
+
+    private void seed() {
+        Long cohortId = sessionService.getCurrentCohortId();
+        List<Long> sessionIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sessionIds.add(sessionService.createSession(new CreateSessionRequest(
+                    "정기 모임 " + i, LocalDate.now().plusDays(i + 1), LocalTime.of(14, 0), "강남")).id());
+        }
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < STATUSES.length; i++) {
+            memberIds.add(memberService.createMember(new CreateMemberRequest(
+                    "budget" + i, "password1234", "회원" + i, "010-0000-000" + i, cohortId, null, null)).id());
+        }
+        for (Long sid : sessionIds) {
+            for (int i = 0; i < memberIds.size(); i++) {
+                attendanceService.registerAttendance(new RegisterAttendanceRequest(
+                        sid, memberIds.get(i), STATUSES[i], STATUSES[i] == AttendanceStatus.LATE ? 5 : null, null));
+            }
+        }
+        sessionId = sessionIds.get(0);
+        memberId = memberIds.get(0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.SessionStatus;
+import com.prography.backend.dto.request.CreateMemberRequest;
+import com.prography.backend.dto.request.CreateSessionRequest;
+import com.prography.backend.dto.request.RegisterAttendanceRequest;
+import com.prography.backend.dto.request.UpdateAttendanceRequest;
+import com.prography.backend.dto.request.UpdateSessionRequest;
+import com.prography.backend.dto.response.MemberSessionResponse;
+import com.prography.backend.dto.response.MemberSyncResponse;
+import com.prography.backend.dto.response.MyAttendanceResponse;
+import com.prography.backend.service.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 회원 증분 동기화 (GET /api/v1/members/{id}/sync?since=)
+ *
+ * - 일정/출결을 바꾼 트랜잭션은 커밋 직전에 하나의 변경 순번을 받고, 응답 token은 commit-grace 이전에 받은 마지막 순번
+ *   (테스트는 commit-grace=0s로 커밋 직후 바로 보이게 한다)
+ * - since 이후 생성/수정/취소된 일정과 그 회원의 출결만 내려가고, 바뀐 것이 없으면 빈 목록과 같은 토큰
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-sync;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.session-lifecycle.enabled=false",
+        "app.penalty-recalculation.enabled=false",
+        "app.sync.commit-grace=0s"})
+@AutoConfigureMockMvc
+class MemberSyncTest {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SessionService sessionService;
+    @Autowired MemberService memberService;
+    @Autowired AttendanceService attendanceService;
+    @Autowired MemberSyncService memberSyncService;
+    @Autowired ChangeSequenceService changeSequenceService;
+
+    @Test
+    void sinceToken_returnsOnlyChanges() {
+        Long kept = session(1);
+        Long memberId = member();
+        Long other = member();
+        MemberSyncResponse initial = memberSyncService.sync(memberId, null);
+        assertThat(initial.full()).isTrue();
+        assertThat(initial.sessions()).extracting(MemberSessionResponse::id).contains(kept);
+
+        Long cancelled = session(2);
+        Long attendanceId = register(kept, memberId, AttendanceStatus.LATE, 5);
+        register(kept, other, AttendanceStatus.PRESENT, null);
+        MemberSyncResponse first = memberSyncService.sync(memberId, initial.token());
+        assertThat(first.full()).isFalse();
+        assertThat(first.token()).isGreaterThan(initial.token());
+        assertThat(first.sessions()).extracting(MemberSessionResponse::id).containsExactly(cancelled);
+        assertThat(first.attendances()).extracting(MyAttendanceResponse::id).containsExactly(attendanceId);
+
+        MemberSyncResponse unchanged = memberSyncService.sync(memberId, first.token());
+        assertThat(unchanged.sessions()).isEmpty();
+        assertThat(unchanged.attendances()).isEmpty();
+        assertThat(unchanged.token()).isEqualTo(first.token());
+
+        sessionService.deleteSession(cancelled);
+        attendanceService.updateAttendance(attendanceId, new UpdateAttendanceRequest(AttendanceStatus.PRESENT, null, null));
+        MemberSyncResponse second = memberSyncService.sync(memberId, first.token());
+        assertThat(second.sessions()).extracting(MemberSessionResponse::id, MemberSessionResponse::status)
+                .containsExactly(tuple(cancelled, SessionStatus.CANCELLED));
+        assertThat(second.attendances()).extracting(MyAttendanceResponse::status)
+                .containsExactly(AttendanceStatus.PRESENT);
+
+        // 전체 동기화에는 취소된 일정이 없다
+        assertThat(memberSyncService.sync(memberId, null).sessions()).extracting(MemberSessionResponse::id)
+                .contains(kept).doesNotContain(cancelled);
+    }
+
+    @Test
+    void rolledBackWrite_doesNotAdvanceToken() {
+        Long sessionId = session(3);
+        Long memberId = member();
+        register(sessionId, memberId, AttendanceStatus.PRESENT, null);
+        long token = memberSyncService.sync(memberId, null).token();
+
+        assertThatThrownBy(() -> register(sessionId, memberId, AttendanceStatus.ABSENT, null))
+                .isInstanceOf(RuntimeException.class);
+        sessionService.updateSession(sessionId, new UpdateSessionRequest("보강 모임", null, null, null, null, null));
+
+        MemberSyncResponse next = memberSyncService.sync(memberId, token);
+        assertThat(next.token()).isEqualTo(token + 1);
+        assertThat(next.sessions()).extracting(MemberSessionResponse::title).containsExactly("보강 모임");
+        assertThat(next.attendances()).isEmpty();
+    }
+
+    /**
+     * commit-grace 안에 받은 순번은 앞선 순번의 트랜잭션이 아직 커밋 중일 수 있으므로 토큰에 넣지 않는다
+     */
+    @Test
+    void recentSequences_heldBackByCommitGrace() {
+        Long memberId = member();
+        long token = memberSyncService.sync(memberId, null).token();
+        ReflectionTestUtils.setField(changeSequenceService, "commitGrace", Duration.ofHours(1));
+        try {
+            session(4);
+            assertThat(memberSyncService.sync(memberId, token).token()).isLessThanOrEqualTo(token);
+        } finally {
+            ReflectionTestUtils.setField(changeSequenceService, "commitGrace", Duration.ZERO);
+        }
+        assertThat(memberSyncService.sync(memberId, token).sessions()).hasSize(1);
+    }
+
+    @Test
+    void endpoint_validatesInput() throws Exception {
+        Long memberId = member();
+        mockMvc.perform(get("/api/v1/members/{id}/sync", memberId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.full").value(true))
+                .andExpect(jsonPath("$.data.token").isNumber());
+        mockMvc.perform(get("/api/v1/members/{id}/sync", memberId).param("since", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+        mockMvc.perform(get("/api/v1/members/{id}/sync", 999_999))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("MEMBER_NOT_FOUND"));
+    }
+
+    private Long session(int daysAhead) {
+        return sessionService.createSession(new CreateSessionRequest(
+                "정기 모임", LocalDate.now().plusDays(daysAhead), LocalTime.of(14, 0), "강남")).id();
+    }
+
+    private Long member() {
+        int n = sequence.incrementAndGet();
+        return memberService.createMember(new CreateMemberRequest("sync" + n, "password1234",
+                "회원" + n, "010-4000-%04d".formatted(n), sessionService.getCurrentCohortId(), null, null)).id();
+    }
+
+    private Long register(Long sessionId, Long memberId, AttendanceStatus status, Integer lateMinutes) {
+        return attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, memberId, status, lateMinutes, null)).id();
+    }
+}
@@ -0,0 +1,272 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.domain.Attendance;
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.CohortMember;
+import com.prography.backend.domain.DepositType;
+import com.prography.backend.domain.PenaltyRecalculationStatus;
+import com.prography.backend.dto.request.*;
+import com.prography.backend.dto.response.DepositHistoryResponse;
+import com.prography.backend.dto.response.PenaltyRecalculationResponse;
+import com.prography.backend.dto.response.ReconciliationReportResponse;
+import com.prography.backend.infrastructure.PenaltyRecalculationRunner;
+import com.prography.backend.repository.AttendanceRepository;
+import com.prography.backend.repository.CohortMemberRepository;
+import com.prography.backend.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 패널티 소급 재계산 (POST /api/v1/admin/cohorts/{cohortId}/penalty-recalculations)
+ *
+ * - 기존 정책(분당 500원 / 결석 10,000원)으로 기록한 출결을 새 정책으로 재계산해 차액만 PENALTY/REFUND 이력과 보증금에 반영
+ * - dryRun은 같은 합계를 돌려주고 아무것도 쓰지 않음
+ * - 묶음 1명, 병렬 2개로 실행하고, 중간에 멈춘 작업을 체크포인트부터 다시 실행해도 회원마다 한 번만 반영
+ * - 작업은 임대한 실행기 하나만 처리
+ * - 테스트마다 다른 연도의 일정을 써서 기간이 겹치지 않게 한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:penalty-recalculation;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.session-lifecycle.enabled=false",
+        "app.penalty-recalculation.enabled=false",
+        "app.penalty-recalculation.chunk-size=1",
+        "app.penalty-recalculation.parallelism=2"})
+@AutoConfigureMockMvc
+class PenaltyRecalculationTest {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SessionService sessionService;
+    @Autowired MemberService memberService;
+    @Autowired AttendanceService attendanceService;
+    @Autowired PenaltyPolicyService penaltyPolicyService;
+    @Autowired PenaltyRecalculationService penaltyRecalculationService;
+    @Autowired PenaltyRecalculationRunner penaltyRecalculationRunner;
+    @Autowired DepositReconciliationService depositReconciliationService;
+    @Autowired CohortMemberRepository cohortMemberRepository;
+    @Autowired AttendanceRepository attendanceRepository;
+
+    Long cohortId;
+
+    @BeforeEach
+    void setUp() {
+        cohortId = sessionService.getCurrentCohortId();
+        // 출결은 기본 규칙과 같은 정책으로 기록한다
+        policy(0, 10_000, 10_000, 500);
+    }
+
+    /**
+     * 면제로 바뀐 일정의 지각은 환급, 결석/지각은 새 정책 금액까지 추가 차감, 기간 밖 출결은 그대로
+     */
+    @Test
+    void dryRunThenJob_appliesDifferences() throws Exception {
+        Long waivedSession = session(LocalDate.of(2031, 3, 7));
+        Long regularSession = session(LocalDate.of(2031, 3, 14));
+        Long outside = session(LocalDate.of(2031, 5, 2));
+        Long a = member();
+        Long b = member();
+        Long refundedId = register(waivedSession, a, AttendanceStatus.LATE, 10);   // 5,000
+        register(regularSession, a, AttendanceStatus.ABSENT, null);                 // 10,000
+        Long outsideId = register(outside, a, AttendanceStatus.ABSENT, null);       // 10,000
+        register(waivedSession, b, AttendanceStatus.PRESENT, null);
+        register(regularSession, b, AttendanceStatus.LATE, 30);                     // 10,000
+        sessionService.updateSession(waivedSession, new UpdateSessionRequest(null, null, null, null, null, true));
+        // 유예 2분, 분당 1,000원, 최대 20,000원 / 결석 15,000원
+        int version = policy(2, 20_000, 15_000, 1_000);
+
+        recalculate(2031, true)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.jobId").doesNotExist())
+                .andExpect(jsonPath("$.data.policyVersion").value(version))
+                .andExpect(jsonPath("$.data.adjustedAttendances").value(3))
+                .andExpect(jsonPath("$.data.penaltyCharged").value(15_000))
+                .andExpect(jsonPath("$.data.refunded").value(5_000))
+                .andExpect(jsonPath("$.data.depositDelta").value(-10_000));
+        assertThat(deposit(a)).isEqualTo(75_000);
+        assertThat(deposit(b)).isEqualTo(90_000);
+
+        recalculate(2031, false)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("RUNNING"));
+        PenaltyRecalculationResponse job = runAll();
+
+        assertThat(job.status()).isEqualTo(PenaltyRecalculationStatus.COMPLETED);
+        assertThat(job.adjustedAttendances()).isEqualTo(3);
+        assertThat(job.depositDelta()).isEqualTo(-10_000);
+        assertThat(deposit(a)).isEqualTo(75_000);
+        assertThat(deposit(b)).isEqualTo(80_000);
+        // 일정 날짜 순으로 환급 → 추가 차감, balanceAfter가 이어진다
+        assertThat(history(a).subList(history(a).size() - 2, history(a).size()))
+                .extracting(DepositHistoryResponse::type, DepositHistoryResponse::amount, DepositHistoryResponse::balanceAfter)
+                .containsExactly(tuple(DepositType.REFUND, 5_000, 80_000), tuple(DepositType.PENALTY, -5_000, 75_000));
+        Attendance refunded = attendanceRepository.findById(refundedId).orElseThrow();
+        assertThat(refunded.getPenaltyAmount()).isZero();
+        assertThat(refunded.getPenaltyPolicyVersion()).isEqualTo(version);
+        assertThat(attendanceRepository.findById(outsideId).orElseThrow().getPenaltyAmount()).isEqualTo(10_000);
+        assertNoDrift(a, b);
+
+        // 다시 실행하면 바뀌는 출결이 없다
+        recalculate(2031, false);
+        assertThat(runAll().adjustedAttendances()).isZero();
+    }
+
+    /**
+     * 묶음 하나가 커밋된 뒤 체크포인트를 옮기기 전에 멈춘 작업 → 다시 실행해도 회원마다 한 번만 차감, 합계도 한 번만
+     */
+    @Test
+    void interruptedJob_resumesFromCheckpoint() throws Exception {
+        Long sessionId = session(LocalDate.of(2032, 3, 7));
+        List<Long> members = List.of(member(), member(), member());
+        for (Long memberId : members) register(sessionId, memberId, AttendanceStatus.ABSENT, null);
+        policy(0, 10_000, 15_000, 500);
+
+        Long jobId = penaltyRecalculationService.start(cohortId,
+                new PenaltyRecalculationRequest(LocalDate.of(2032, 1, 1), LocalDate.of(2032, 12, 31), false)).jobId();
+        penaltyRecalculationService.applyChunk(jobId, List.of(cohortMember(members.get(0)).getId()));
+
+        penaltyRecalculationRunner.runPending();
+
+        PenaltyRecalculationResponse job = penaltyRecalculationService.getJob(cohortId, jobId);
+        assertThat(job.status()).isEqualTo(PenaltyRecalculationStatus.COMPLETED);
+        assertThat(job.adjustedAttendances()).isEqualTo(3);
+        assertThat(job.penaltyCharged()).isEqualTo(15_000);
+        for (Long memberId : members) assertThat(deposit(memberId)).isEqualTo(85_000);
+        assertNoDrift(members.toArray(Long[]::new));
+    }
+
+    /**
+     * 추가 패널티가 남은 보증금보다 크면 남은 만큼만 걷고 나머지는 uncollected (다시 실행해도 한 번만)
+     */
+    @Test
+    void insufficientDeposit_chargesRemainder() throws Exception {
+        Long sessionId = session(LocalDate.of(2033, 3, 7));
+        Long memberId = member();
+        Long attendanceId = register(sessionId, memberId, AttendanceStatus.ABSENT, null);
+        CohortMember cm = cohortMember(memberId);
+        cm.setDeposit(2_000);
+        cohortMemberRepository.save(cm);
+        policy(0, 10_000, 15_000, 500);
+
+        recalculate(2033, true).andExpect(jsonPath("$.data.uncollected").value(3_000));
+        recalculate(2033, false);
+        PenaltyRecalculationResponse job = runAll();
+
+        assertThat(job.penaltyCharged()).isEqualTo(2_000);
+        assertThat(job.uncollected()).isEqualTo(3_000);
+        assertThat(deposit(memberId)).isZero();
+        assertThat(attendanceRepository.findById(attendanceId).orElseThrow().getPenaltyAmount()).isEqualTo(12_000);
+
+        // 같은 정책으로 다시 실행해도 못 걷은 차액을 또 집계하지 않는다
+        recalculate(2033, true).andExpect(jsonPath("$.data.uncollected").value(0));
+        recalculate(2033, false);
+        assertThat(runAll().uncollected()).isZero();
+    }
+
+    /**
+     * 다른 인스턴스가 임대 중인 작업은 건드리지 않고, 임대가 끝나면 넘겨받아 처리한다
+     */
+    @Test
+    void leasedJob_skippedUntilLeaseExpires() {
+        Long sessionId = session(LocalDate.of(2034, 3, 7));
+        Long memberId = member();
+        register(sessionId, memberId, AttendanceStatus.ABSENT, null);
+        policy(0, 10_000, 15_000, 500);
+        Long jobId = penaltyRecalculationService.start(cohortId,
+                new PenaltyRecalculationRequest(LocalDate.of(2034, 1, 1), LocalDate.of(2034, 12, 31), false)).jobId();
+
+        assertThat(penaltyRecalculationService.claim(jobId, "other-instance", Duration.ofMinutes(5))).isTrue();
+        penaltyRecalculationRunner.runPending();
+        assertThat(penaltyRecalculationService.getJob(cohortId, jobId).status()).isEqualTo(PenaltyRecalculationStatus.RUNNING);
+        assertThat(deposit(memberId)).isEqualTo(90_000);
+
+        // 임대 만료
+        penaltyRecalculationService.claim(jobId, "other-instance", Duration.ofSeconds(-1));
+        penaltyRecalculationRunner.runPending();
+        assertThat(penaltyRecalculationService.getJob(cohortId, jobId).status()).isEqualTo(PenaltyRecalculationStatus.COMPLETED);
+        assertThat(deposit(memberId)).isEqualTo(85_000);
+    }
+
+    @Test
+    void invalidRequests_rejected() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/cohorts/{cohortId}/penalty-recalculations", cohortId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"from\": \"2031-12-31\", \"to\": \"2031-01-01\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+        mockMvc.perform(get("/api/v1/admin/cohorts/{cohortId}/penalty-recalculations/{jobId}", cohortId, 999_999))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("PENALTY_RECALCULATION_NOT_FOUND"));
+    }
+
+    private ResultActions recalculate(int year, boolean dryRun) throws Exception {
+        return mockMvc.perform(post("/api/v1/admin/cohorts/{cohortId}/penalty-recalculations", cohortId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"from\": \"%d-01-01\", \"to\": \"%d-04-30\", \"dryRun\": %s}".formatted(year, year, dryRun)));
+    }
+
+    /** RUNNING 작업을 모두 실행하고 마지막 작업 결과를 돌려준다 */
+    private PenaltyRecalculationResponse runAll() {
+        List<Long> running = penaltyRecalculationService.findRunningJobIds();
+        assertThat(running).hasSize(1);
+        penaltyRecalculationRunner.runPending();
+        return penaltyRecalculationService.getJob(cohortId, running.get(0));
+    }
+
+    private int policy(int graceMinutes, int lateFeeCap, int absentFee, int feePerMinute) {
+        return penaltyPolicyService.createPolicy(cohortId, new CreatePenaltyPolicyRequest(graceMinutes, lateFeeCap,
+                absentFee, List.of(new CreatePenaltyPolicyRequest.Tier(0, feePerMinute)))).version();
+    }
+
+    private Long session(LocalDate date) {
+        return sessionService.createSession(new CreateSessionRequest("정기 모임", date, LocalTime.of(14, 0), "강남")).id();
+    }
+
+    private Long member() {
+        int n = sequence.incrementAndGet();
+        return memberService.createMember(new CreateMemberRequest("recalc" + n, "password1234",
+                "회원" + n, "010-2000-%04d".formatted(n), cohortId, null, null)).id();
+    }
+
+    private Long register(Long sessionId, Long memberId, AttendanceStatus status, Integer lateMinutes) {
+        return attendanceService.registerAttendance(
+                new RegisterAttendanceRequest(sessionId, memberId, status, lateMinutes, null)).id();
+    }
+
+    private CohortMember cohortMember(Long memberId) {
+        return cohortMemberRepository.findByMemberIdAndCohortId(memberId, cohortId).orElseThrow();
+    }
+
+    private int deposit(Long memberId) {
+        return cohortMember(memberId).getDeposit();
+    }
+
+    private List<DepositHistoryResponse> history(Long memberId) {
+        return attendanceService.getDepositHistory(cohortMember(memberId).getId());
+    }
+
+    private void assertNoDrift(Long... memberIds) {
+        List<Long> cohortMemberIds = Arrays.stream(memberIds).map(id -> cohortMember(id).getId()).toList();
+        assertThat(depositReconciliationService.reconcile().drifts())
+                .extracting(ReconciliationReportResponse.Drift::cohortMemberId)
+                .doesNotContainAnyElementsOf(cohortMemberIds);
+    }
+}
@@ -0,0 +1,95 @@
+package com.prography.backend.controller;
+
+import com.prography.backend.infrastructure.QueryCountInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 체크인/로그인 요청 제한
+ *
+ * - (회원(memberId, loginId), IP)별, IP별 버킷을 각각 초과하면 429 RATE_LIMITED
+ * - 회원 한도는 IP와 묶여 있어 다른 IP에서 보낸 요청이 그 회원을 막지 못함
+ * - 거부된 요청은 서비스/리포지토리에 닿지 않음 (SQL 0회)
+ */
+@SpringBootTest(properties = {
+        "app.outbox.poll-interval=1h",
+        "app.warm-up.enabled=false",
+        "app.rate-limit.period=1h",
+        "app.rate-limit.check-in.per-member=2",
+        "app.rate-limit.check-in.per-ip=3",
+        "app.rate-limit.login.per-login-id=2"})
+@AutoConfigureMockMvc
+class RateLimitTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    void checkIn_overMemberLimit_rejectedBeforeService() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(checkIn(101L, "10.0.0.1")).andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error.code").value("QR_INVALID"));
+        }
+
+        try (QueryCountInspector.Scope scope = QueryCountInspector.begin()) {
+            mockMvc.perform(checkIn(101L, "10.0.0.1")).andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.error.code").value("RATE_LIMITED"));
+            assertThat(scope.count()).isZero();
+        }
+        // 같은 회원이라도 다른 IP에서는 막히지 않음 (남의 memberId로 한도를 소진해도 본인은 체크인 가능)
+        mockMvc.perform(checkIn(101L, "10.0.0.2")).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("QR_INVALID"));
+    }
+
+    /**
+     * 회원을 바꿔가며 보내도 같은 IP면 IP 한도에서 거부
+     */
+    @Test
+    void checkIn_overIpLimit_rejectedAcrossMembers() throws Exception {
+        for (long memberId = 201; memberId <= 203; memberId++) {
+            mockMvc.perform(checkIn(memberId, "10.0.1.1")).andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(checkIn(204L, "10.0.1.1")).andExpect(status().isTooManyRequests());
+        mockMvc.perform(checkIn(204L, "10.0.1.2")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void login_overLoginIdLimit_rejectedBeforePasswordCheck() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(login("10.0.2.1")).andExpect(status().isUnauthorized());
+        }
+
+        try (QueryCountInspector.Scope scope = QueryCountInspector.begin()) {
+            mockMvc.perform(login("10.0.2.1")).andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.error.code").value("RATE_LIMITED"));
+            assertThat(scope.count()).isZero();
+        }
+        mockMvc.perform(login("10.0.2.9")).andExpect(status().isUnauthorized());
+    }
+
+    private static MockHttpServletRequestBuilder checkIn(long memberId, String ip) {
+        return post("/api/v1/attendances").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"hashValue\":\"unknown-hash\",\"memberId\":" + memberId + "}")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                });
+    }
+
+    private static MockHttpServletRequestBuilder login(String ip) {
+        return post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"loginId\":\"nobody\",\"password\":\"wrong-password\"}")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                });
+    }
+}
@@ -0,0 +1,124 @@
+package com.prography.backend.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.event.AttendanceRecorded;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * AttendanceBoardBroadcaster 단위 테스트
+ *
+ * - 스프링 컨텍스트 없이 MockMvc standalone으로 SSE 응답 본문을 읽는다
+ * - 스냅샷 조회 중에 들어온 delta도 스냅샷 뒤에 전달
+ * - 버퍼가 넘친 클라이언트는 구독 해제 후 연결 종료, 다른 일정의 이벤트는 보내지 않음
+ */
+class AttendanceBoardBroadcasterTest {
+
+    AttendanceBoardBroadcaster broadcaster;
+    Supplier<?> snapshot = () -> List.of();
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) broadcaster.shutdown();
+    }
+
+    @Test
+    void snapshot_sentBeforeDeltasArrivingDuringSnapshotQuery() throws Exception {
+        broadcaster = broadcaster(16);
+        snapshot = () -> {
+            broadcaster.handle(1L, recorded(100L, 1L));
+            return List.of("snapshot-row");
+        };
+
+        MvcResult result = subscribe(1L);
+        String body = awaitContent(result, "\"attendanceId\":100");
+
+        assertThat(body.indexOf("event:snapshot")).isNotNegative()
+                .isLessThan(body.indexOf("event:attendance"));
+    }
+
+    @Test
+    void deltas_filteredToSubscribedSession() throws Exception {
+        broadcaster = broadcaster(16);
+        MvcResult result = subscribe(1L);
+        awaitContent(result, "event:snapshot");
+
+        broadcaster.handle(1L, recorded(200L, 2L));
+        broadcaster.handle(2L, recorded(201L, 1L));
+        String body = awaitContent(result, "\"attendanceId\":201");
+
+        assertThat(body).doesNotContain("\"attendanceId\":200");
+    }
+
+    /**
+     * 스냅샷 조회 중에 버퍼(1)를 넘기면 곧바로 구독에서 빠지고, 스냅샷만 보낸 뒤 연결을 닫음 (재연결 시 새 스냅샷)
+     */
+    @Test
+    void overflowingClient_unsubscribedAndCompleted() throws Exception {
+        broadcaster = broadcaster(1);
+        snapshot = () -> {
+            broadcaster.handle(1L, recorded(300L, 1L));
+            broadcaster.handle(2L, recorded(301L, 1L));
+            assertThat(broadcaster.clientCount(1L)).isZero();
+            return List.of();
+        };
+
+        MvcResult result = subscribe(1L);
+        result.getAsyncResult(5_000);
+
+        assertThat(result.getResponse().getContentAsString()).contains("event:snapshot")
+                .doesNotContain("event:attendance");
+        assertThat(broadcaster.clientCount(1L)).isZero();
+    }
+
+    private AttendanceBoardBroadcaster broadcaster(int bufferSize) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new AttendanceBoardBroadcaster(objectMapper, 1, bufferSize, Duration.ofMinutes(1));
+    }
+
+    private MvcResult subscribe(Long sessionId) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BoardController()).build();
+        return mockMvc.perform(get("/board/{sessionId}", sessionId)).andReturn();
+    }
+
+    private static AttendanceRecorded recorded(Long attendanceId, Long sessionId) {
+        return new AttendanceRecorded(attendanceId, sessionId, 10L, 20L, AttendanceStatus.PRESENT, null, 0, Instant.now());
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected)) {
+            if (System.nanoTime() > deadline) fail("'%s' not received: %s", expected, body);
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+
+    @RestController
+    class BoardController {
+        @GetMapping("/board/{sessionId}")
+        SseEmitter stream(@PathVariable Long sessionId) {
+            return broadcaster.subscribe(sessionId, snapshot);
+        }
+    }
+}
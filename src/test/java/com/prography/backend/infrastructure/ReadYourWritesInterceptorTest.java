@@ -0,0 +1,81 @@
+package com.prography.backend.infrastructure;
+
+import com.prography.backend.service.ReadRoutingContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+import java.time.Duration;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReadYourWritesInterceptor 단위 테스트
+ *
+ * - 매칭된 경로 패턴/경로 변수는 DispatcherServlet 대신 요청 속성으로 직접 넣는다
+ * - 회원 7이 방금 쓴 상태에서 요청이 회원 7 기준 조회로 묶였는지 requiresPrimary()로 확인
+ */
+class ReadYourWritesInterceptorTest {
+
+    ReadRoutingContext context = new ReadRoutingContext();
+    ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(context);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(context, "readYourWritesWindow", Duration.ofSeconds(10));
+        context.memberWrote(7L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.unbindMember();
+    }
+
+    /**
+     * 회원 본인 API의 id 경로 변수 (/api/v1/members/{id}/sync)
+     */
+    @Test
+    void memberRouteId_bound() {
+        interceptor.preHandle(request("/api/v1/members/{id}/sync", Map.of("id", "7")), new MockHttpServletResponse(), null);
+
+        assertThat(context.requiresPrimary()).isTrue();
+    }
+
+    /**
+     * memberId 경로 변수와 쿼리 파라미터
+     */
+    @Test
+    void memberIdVariableOrParameter_bound() {
+        interceptor.preHandle(request("/api/v1/admin/attendances/members/{memberId}", Map.of("memberId", "7")),
+                new MockHttpServletResponse(), null);
+        assertThat(context.requiresPrimary()).isTrue();
+        context.unbindMember();
+
+        MockHttpServletRequest request = request("/api/v1/attendances", Map.of());
+        request.setParameter("memberId", "7");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        assertThat(context.requiresPrimary()).isTrue();
+    }
+
+    /**
+     * 다른 리소스의 id(관리자 회원 API 포함)는 회원 id로 보지 않는다
+     */
+    @Test
+    void otherRouteId_notBound() {
+        interceptor.preHandle(request("/api/v1/admin/members/{id}", Map.of("id", "7")), new MockHttpServletResponse(), null);
+        assertThat(context.requiresPrimary()).isFalse();
+
+        interceptor.preHandle(request("/api/v1/sessions/{id}", Map.of("id", "7")), new MockHttpServletResponse(), null);
+        assertThat(context.requiresPrimary()).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String pattern, Map<String, String> variables) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+        return request;
+    }
+}
@@ -0,0 +1,115 @@
+package com.prography.backend.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TokenBuckets 단위 테스트
+ *
+ * - capacity만큼 연속 허용 후 거부, period / capacity마다 토큰 1개 회복
+ * - 가득 찬 버킷만 유휴 제거, 키 수는 max-keys를 넘지 않음
+ * - 키가 가득 차면 오래 안 쓴 키부터 지우되 제한 중인 키는 남김 (마지막 사용 시각 기준이라 테스트 시계를 1ns씩 움직인다)
+ * - 동시 요청에서도 정확히 capacity개만 허용 (CAS)
+ */
+class TokenBucketsTest {
+
+    final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void tryAcquire_allowsBurstThenRefillsOneTokenPerInterval() {
+        TokenBuckets buckets = new TokenBuckets(3, Duration.ofSeconds(3), 1, 10, now::get);
+
+        assertThat(buckets.tryAcquire("a")).isTrue();
+        assertThat(buckets.tryAcquire("a")).isTrue();
+        assertThat(buckets.tryAcquire("a")).isTrue();
+        assertThat(buckets.tryAcquire("a")).isFalse();
+        assertThat(buckets.tryAcquire("b")).isTrue();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(buckets.tryAcquire("a")).isTrue();
+        assertThat(buckets.tryAcquire("a")).isFalse();
+    }
+
+    /**
+     * 토큰이 전부 회복된 버킷만 제거 - 제거 후 다시 요청해도 가득 찬 버킷과 같게 동작
+     */
+    @Test
+    void evictIdle_removesOnlyFullBuckets() {
+        TokenBuckets buckets = new TokenBuckets(2, Duration.ofSeconds(2), 2, 10, now::get);
+        buckets.tryAcquire("idle");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        buckets.tryAcquire("busy");
+        buckets.tryAcquire("busy");
+
+        assertThat(buckets.evictIdle()).isEqualTo(1);
+        assertThat(buckets.size()).isEqualTo(1);
+        assertThat(buckets.tryAcquire("busy")).isFalse();
+        assertThat(buckets.tryAcquire("idle")).isTrue();
+    }
+
+    @Test
+    void bucket_keyCountIsBounded() {
+        TokenBuckets buckets = new TokenBuckets(5, Duration.ofMinutes(1), 4, 40, now::get);
+
+        for (int i = 0; i < 1_000; i++) buckets.tryAcquire("ip-" + i);
+
+        assertThat(buckets.size()).isLessThanOrEqualTo(40);
+    }
+
+    /**
+     * stripe가 가득 차면 가장 오래 안 쓴 키를 지움 - 제한 중인 키는 건너뛰고, 전부 제한 중이면 새 키를 거부
+     */
+    @Test
+    void fullStripe_evictsLeastRecentUnthrottledKey() {
+        TokenBuckets buckets = new TokenBuckets(2, Duration.ofMinutes(1), 1, 3, now::get);
+        buckets.tryAcquire("throttled");
+        buckets.tryAcquire("throttled");
+        now.incrementAndGet();
+        buckets.tryAcquire("old");
+        now.incrementAndGet();
+        buckets.tryAcquire("recent");
+        now.incrementAndGet();
+
+        assertThat(buckets.tryAcquire("new-1")).isTrue();   // "old" 제거 ("throttled"가 더 오래됐지만 제한 중)
+        now.incrementAndGet();
+        assertThat(buckets.tryAcquire("throttled")).isFalse();
+        assertThat(buckets.tryAcquire("recent")).isTrue();  // 남아 있던 버킷의 마지막 토큰
+        assertThat(buckets.tryAcquire("new-1")).isTrue();
+        assertThat(buckets.size()).isEqualTo(3);
+
+        // 세 키 모두 토큰이 없으면 새 키는 자리를 얻지 못해 거부, 기존 제한은 그대로
+        assertThat(buckets.tryAcquire("new-2")).isFalse();
+        assertThat(buckets.tryAcquire("throttled")).isFalse();
+    }
+
+    @Test
+    void tryAcquire_concurrentRequests_allowExactlyCapacity() throws Exception {
+        TokenBuckets buckets = new TokenBuckets(100, Duration.ofHours(1), 16, 1_000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        try {
+            for (int t = 0; t < 8; t++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) if (buckets.tryAcquire("member-1")) allowed.incrementAndGet();
+                    return null;
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,140 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.repository.projection.AbsenceRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 일정 종료 결석 일괄 처리 쿼리 (INSERT ... SELECT / UPDATE) 검증
+ *
+ * - Flyway 마이그레이션으로 만든 실제 스키마(H2 MySQL 모드)에서 실행
+ * - 출결이 없는 회원만 결석, 탈퇴 회원 제외, 패널티는 남은 보증금까지, 적용한 정책 버전 기록
+ * - 이력의 balanceAfter와 차감 후 보증금이 일치
+ * - 이력/차감은 이번에 만든 결석 id만 대상으로 한다 (같은 reason/createdAt의 이전 결석은 건드리지 않음)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AbsenceBatchRepositoryTest {
+
+    static final String REASON = "미체크 자동 결석";
+
+    @Autowired EntityManager em;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired CohortMemberRepository cohortMemberRepository;
+    @Autowired DepositHistoryRepository depositHistoryRepository;
+
+    Instant now = Instant.parse("2026-03-07T08:00:00.123456Z");
+    Cohort cohort;
+    Session session;
+    CohortMember full, low, checkedIn, withdrawn;
+
+    @BeforeEach
+    void setUp() {
+        cohort = persist(Cohort.builder().generation(90).name("90기").build());
+        Cohort other = persist(Cohort.builder().generation(91).name("91기").build());
+        session = persist(Session.builder().cohort(cohort).title("정기 모임").date(LocalDate.of(2026, 3, 7))
+                .time(LocalTime.of(14, 0)).location("강남").status(SessionStatus.IN_PROGRESS).build());
+
+        full = cohortMember("full", MemberStatus.ACTIVE, cohort, 100_000);
+        low = cohortMember("low", MemberStatus.ACTIVE, cohort, 4_000);
+        checkedIn = cohortMember("checked", MemberStatus.ACTIVE, cohort, 100_000);
+        withdrawn = cohortMember("withdrawn", MemberStatus.WITHDRAWN, cohort, 100_000);
+        cohortMember("other", MemberStatus.ACTIVE, other, 100_000);
+        persist(Attendance.builder().session(session).member(checkedIn.getMember())
+                .status(AttendanceStatus.PRESENT).penaltyAmount(0).build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void absenceBatch_recordsAbsencesLedgerAndDebit() {
+        List<Long> memberIds = attendanceRepository.findMemberIdsWithoutAttendance(session.getId(), MemberStatus.WITHDRAWN);
+        assertThat(memberIds).containsExactlyInAnyOrder(full.getMember().getId(), low.getMember().getId());
+
+        int inserted = attendanceRepository.insertAbsences(session.getId(), memberIds, AttendanceStatus.ABSENT, 10_000, 3,
+                REASON, now);
+        List<Long> attendanceIds = attendanceRepository.findIdsBySessionAndMembers(session.getId(), memberIds);
+        int histories = depositHistoryRepository.insertAbsencePenalties(attendanceIds, cohort.getId(), now,
+                DepositType.PENALTY, "일정 종료 - 미체크 결석 패널티");
+        int debited = cohortMemberRepository.debitAbsences(attendanceIds, cohort.getId());
+
+        assertThat(inserted).isEqualTo(2);
+        assertThat(attendanceIds).hasSize(2);
+        assertThat(histories).isEqualTo(2);
+        assertThat(debited).isEqualTo(2);
+
+        List<AbsenceRow> rows = attendanceRepository.findAbsenceBatch(attendanceIds, cohort.getId());
+        assertThat(rows).extracting(AbsenceRow::cohortMemberId, AbsenceRow::penaltyAmount, AbsenceRow::balanceAfter)
+                .containsExactlyInAnyOrder(tuple(full.getId(), 10_000, 90_000), tuple(low.getId(), 4_000, 0));
+        assertThat(rows).allSatisfy(row -> assertThat(row.depositHistoryId()).isNotNull());
+
+        em.clear();
+        assertThat(em.find(Attendance.class, rows.get(0).attendanceId()).getPenaltyPolicyVersion()).isEqualTo(3);
+        assertThat(em.find(CohortMember.class, full.getId()).getDeposit()).isEqualTo(90_000);
+        assertThat(em.find(CohortMember.class, low.getId()).getDeposit()).isZero();
+        assertThat(em.find(CohortMember.class, checkedIn.getId()).getDeposit()).isEqualTo(100_000);
+        assertThat(em.find(CohortMember.class, withdrawn.getId()).getDeposit()).isEqualTo(100_000);
+    }
+
+    /**
+     * 다시 실행해도 이미 출결이 있는 회원은 건너뜀
+     */
+    @Test
+    void insertAbsences_secondRun_insertsNothing() {
+        List<Long> memberIds = attendanceRepository.findMemberIdsWithoutAttendance(session.getId(), MemberStatus.WITHDRAWN);
+        attendanceRepository.insertAbsences(session.getId(), memberIds, AttendanceStatus.ABSENT, 10_000, 0, REASON, now);
+
+        assertThat(attendanceRepository.insertAbsences(session.getId(), memberIds, AttendanceStatus.ABSENT, 10_000, 0,
+                REASON, now.plusSeconds(60))).isZero();
+        assertThat(attendanceRepository.findMemberIdsWithoutAttendance(session.getId(), MemberStatus.WITHDRAWN)).isEmpty();
+    }
+
+    /**
+     * 같은 reason, 같은 시각으로 만든 이전 배치의 결석은 다시 차감하지 않는다
+     */
+    @Test
+    void absenceBatch_sameReasonAndTime_onlyNewAbsencesCharged() {
+        runBatch();
+        CohortMember late = cohortMember("late", MemberStatus.ACTIVE, cohort, 100_000);
+        em.flush();
+
+        List<AbsenceRow> rows = runBatch();
+
+        assertThat(rows).extracting(AbsenceRow::cohortMemberId, AbsenceRow::balanceAfter)
+                .containsExactly(tuple(late.getId(), 90_000));
+        em.clear();
+        assertThat(em.find(CohortMember.class, full.getId()).getDeposit()).isEqualTo(90_000);
+        assertThat(em.find(CohortMember.class, late.getId()).getDeposit()).isEqualTo(90_000);
+    }
+
+    private List<AbsenceRow> runBatch() {
+        List<Long> memberIds = attendanceRepository.findMemberIdsWithoutAttendance(session.getId(), MemberStatus.WITHDRAWN);
+        attendanceRepository.insertAbsences(session.getId(), memberIds, AttendanceStatus.ABSENT, 10_000, 0, REASON, now);
+        List<Long> attendanceIds = attendanceRepository.findIdsBySessionAndMembers(session.getId(), memberIds);
+        depositHistoryRepository.insertAbsencePenalties(attendanceIds, cohort.getId(), now,
+                DepositType.PENALTY, "일정 종료 - 미체크 결석 패널티");
+        cohortMemberRepository.debitAbsences(attendanceIds, cohort.getId());
+        return attendanceRepository.findAbsenceBatch(attendanceIds, cohort.getId());
+    }
+
+    private CohortMember cohortMember(String loginId, MemberStatus status, Cohort cohort, int deposit) {
+        Member member = persist(Member.builder().loginId(loginId + cohort.getGeneration()).password("x")
+                .name(loginId).phone("010-0000-0000").status(status).role(MemberRole.MEMBER).build());
+        return persist(CohortMember.builder().member(member).cohort(cohort).deposit(deposit).excuseCount(0).build());
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
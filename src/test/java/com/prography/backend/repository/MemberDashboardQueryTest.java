@@ -0,0 +1,101 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.dto.response.MemberDashboardResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 관리자 대시보드 조회 쿼리 (MemberRepository.findDashboard) 검증
+ *
+ * - Flyway 마이그레이션으로 만든 실제 스키마(H2 MySQL 모드)에서 실행
+ * - 회원마다 가장 최근 기수의 소속/보증금만 붙고, 기수가 없는 회원도 포함
+ * - 기수/파트/팀/검색 조건을 DB에서 걸러 페이지와 totalElements가 필터 결과 기준
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemberDashboardQueryTest {
+
+    @Autowired EntityManager em;
+    @Autowired MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        Cohort c80 = persist(Cohort.builder().generation(80).name("80기").build());
+        Cohort c81 = persist(Cohort.builder().generation(81).name("81기").build());
+        Part server = persist(Part.builder().cohort(c81).name("SERVER").build());
+        Team alpha = persist(Team.builder().cohort(c81).name("Alpha").build());
+
+        Member moved = member("dash-moved", MemberStatus.ACTIVE);
+        cohortMember(moved, c80, null, null, 50_000);
+        cohortMember(moved, c81, server, alpha, 90_000);
+        cohortMember(member("dash-old", MemberStatus.ACTIVE), c80, null, null, 100_000);
+        cohortMember(member("dash-left", MemberStatus.WITHDRAWN), c81, server, null, 100_000);
+        member("dash-none", MemberStatus.ACTIVE);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void findDashboard_joinsLatestCohortOnly() {
+        Page<MemberDashboardResponse> page = dashboard(null, null, null, null, 0, 10);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent())
+                .extracting(MemberDashboardResponse::loginId, MemberDashboardResponse::generation,
+                        MemberDashboardResponse::partName, MemberDashboardResponse::teamName,
+                        MemberDashboardResponse::deposit)
+                .containsExactly(
+                        tuple("dash-moved", 81, "SERVER", "Alpha", 90_000),
+                        tuple("dash-old", 80, null, null, 100_000),
+                        tuple("dash-left", 81, "SERVER", null, 100_000),
+                        tuple("dash-none", null, null, null, null));
+    }
+
+    /**
+     * 이전 기수 소속(80기)으로는 최근 기수가 81기인 회원이 걸리지 않고, 필터 후 건수로 페이지를 나눈다
+     */
+    @Test
+    void findDashboard_filtersBeforePaging() {
+        assertThat(dashboard(null, 80, null, null, 0, 10).getContent())
+                .extracting(MemberDashboardResponse::loginId).containsExactly("dash-old");
+
+        Page<MemberDashboardResponse> server = dashboard(null, 81, "SERVER", null, 0, 1);
+        assertThat(server.getTotalElements()).isEqualTo(2);
+        assertThat(server.getTotalPages()).isEqualTo(2);
+        assertThat(server.getContent()).extracting(MemberDashboardResponse::loginId).containsExactly("dash-moved");
+
+        assertThat(dashboard(MemberStatus.ACTIVE, 81, "SERVER", "Alpha", 0, 10).getContent())
+                .extracting(MemberDashboardResponse::loginId).containsExactly("dash-moved");
+        assertThat(dashboard(MemberStatus.WITHDRAWN, null, null, null, 0, 10).getContent())
+                .extracting(MemberDashboardResponse::loginId).containsExactly("dash-left");
+    }
+
+    private Page<MemberDashboardResponse> dashboard(MemberStatus status, Integer generation, String partName,
+                                                    String teamName, int page, int size) {
+        return memberRepository.findDashboard(status, null, "dash-", null, generation, partName, teamName,
+                PageRequest.of(page, size));
+    }
+
+    private Member member(String loginId, MemberStatus status) {
+        return persist(Member.builder().loginId(loginId).password("x").name(loginId).phone("010-0000-0000")
+                .status(status).role(MemberRole.MEMBER).build());
+    }
+
+    private void cohortMember(Member member, Cohort cohort, Part part, Team team, int deposit) {
+        persist(CohortMember.builder().member(member).cohort(cohort).part(part).team(team)
+                .deposit(deposit).excuseCount(0).build());
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,156 @@
+package com.prography.backend.repository;
+
+import com.prography.backend.domain.SessionStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 리포지토리 쿼리의 인덱스 사용 검증 (H2 EXPLAIN)
+ *
+ * - Flyway 마이그레이션으로 만든 실제 스키마(H2 MySQL 모드)에서 실행
+ * - Hibernate가 실제로 만든 SQL을 StatementInspector로 가로채 그대로 EXPLAIN
+ * - 실행 계획이 기대 조건으로 인덱스를 탐색하고 tableScan이 없어야 통과
+ * - 회원 이름/아이디/전화번호 부분 검색(LIKE '%..%')은 인덱스를 쓸 수 없으므로 대상에서 제외
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.prography.backend.repository.RepositoryIndexUsageTest$CapturingInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryIndexUsageTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired AttendanceRepository attendanceRepository;
+    @Autowired CohortMemberRepository cohortMemberRepository;
+    @Autowired CohortRepository cohortRepository;
+    @Autowired DepositCheckpointRepository depositCheckpointRepository;
+    @Autowired DepositHistoryRepository depositHistoryRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired OutboxEventRepository outboxEventRepository;
+    @Autowired QrCodeRepository qrCodeRepository;
+    @Autowired SessionRepository sessionRepository;
+
+    /** Hibernate가 실행하는 SQL을 그대로 모아 둔다 (프로퍼티로 등록되므로 정적 저장소 사용) */
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        CapturingInspector.statements.clear();
+    }
+
+    @Test
+    void attendances_sessionMember() {
+        assertIndexUsed(() -> attendanceRepository.existsBySessionIdAndMemberId(1L, 1L), "session_id =");
+        assertIndexUsed(() -> attendanceRepository.findBySessionIdAndMemberId(1L, 1L), "session_id =");
+        assertIndexUsed(() -> attendanceRepository.findResponsesBySessionId(1L), "session_id =");
+        assertIndexUsed(() -> attendanceRepository.countBySessionIds(List.of(1L, 2L)), "session_id in(");
+    }
+
+    @Test
+    void attendances_memberCreated() {
+        assertIndexUsed(() -> attendanceRepository.findMyAttendances(1L), "member_id =");
+        assertIndexUsed(() -> attendanceRepository.findResponsesByMemberId(1L), "member_id =");
+        assertIndexUsed(() -> attendanceRepository.countByMemberId(1L), "member_id =");
+    }
+
+    @Test
+    void attendances_qrCode() {
+        assertIndexUsed(() -> attendanceRepository.findReferencedQrCodeIds(List.of(1L, 2L)), "qr_code_id in(");
+    }
+
+    @Test
+    void cohortMembers_memberCohort() {
+        assertIndexUsed(() -> cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L), "member_id =");
+        assertIndexUsed(() -> cohortMemberRepository.findByMemberIdOrderByGenerationDesc(1L), "member_id =");
+    }
+
+    @Test
+    void cohorts_generation() {
+        assertIndexUsed(() -> cohortRepository.findByGeneration(11), "generation =");
+    }
+
+    @Test
+    void depositHistories_cohortMemberCreated() {
+        assertIndexUsed(() -> depositHistoryRepository.findResponsesByCohortMemberId(1L),
+                "cohort_member_id =");
+        assertIndexUsed(() -> depositHistoryRepository.findLedgerEntriesAfter(1L, 0L, Instant.now()),
+                "cohort_member_id =");
+    }
+
+    @Test
+    void depositCheckpoints_cohortMemberAt() {
+        assertIndexUsed(() -> depositCheckpointRepository.latestCheckpointAtOrBefore(1L, Instant.now()),
+                "cohort_member_id =");
+    }
+
+    @Test
+    void members_loginId() {
+        assertIndexUsed(() -> memberRepository.findByLoginId("admin"), "login_id =");
+        assertIndexUsed(() -> memberRepository.existsByLoginId("admin"), "login_id =");
+    }
+
+    @Test
+    void outboxEvents_unpublished() {
+        assertIndexUsed(() -> outboxEventRepository.findDeliverable(0L, List.of(0L), PageRequest.of(0, 10)),
+                "published_at is null");
+    }
+
+    @Test
+    void qrCodes_hashAndSessionExpiry() {
+        assertIndexUsed(() -> qrCodeRepository.findByHashValue("hash"), "hash_value =");
+        assertIndexUsed(() -> qrCodeRepository.existsBySessionIdAndExpiresAtAfter(1L, Instant.now()),
+                "session_id =");
+        assertIndexUsed(() -> qrCodeRepository.findBySessionIdAndExpiresAtAfter(1L, Instant.now()),
+                "session_id =");
+        assertIndexUsed(() -> qrCodeRepository.findSessionIdsWithActiveQr(List.of(1L, 2L), Instant.now()),
+                "session_id in(");
+        assertIndexUsed(() -> qrCodeRepository.findExpiredIds(Instant.now(), PageRequest.of(0, 10)),
+                "expires_at <");
+    }
+
+    @Test
+    void sessions_cohortDate() {
+        assertIndexUsed(() -> sessionRepository.findByCohortIdAndStatusNot(2L, SessionStatus.CANCELLED),
+                "cohort_id =");
+        assertIndexUsed(() -> sessionRepository.findByCohortIdWithFilters(2L, null,
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)), "cohort_id =");
+    }
+
+    /**
+     * H2는 FK를 만들 때 쓸 만한 인덱스가 없으면 FK 전용 인덱스를 자동 생성하고,
+     * 같은 선두 컬럼의 복합 인덱스와 비용이 같으면 그쪽을 고르기도 한다.
+     * 그래서 인덱스 이름 대신 "어떤 인덱스든 해당 조건으로 탐색하는지"를 확인한다
+     */
+    private void assertIndexUsed(Runnable query, String indexCondition) {
+        CapturingInspector.statements.clear();
+        query.run();
+        List<String> selects = CapturingInspector.statements.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select")).toList();
+        assertThat(selects).as("실행된 SELECT").isNotEmpty();
+
+        for (String sql : selects) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase(Locale.ROOT);
+            assertThat(plan).as(sql).containsPattern("/\\* public\\.\\w+: [^*]*" + Pattern.quote(indexCondition))
+                    .doesNotContain("tablescan");
+        }
+    }
+}
@@ -5,9 +5,12 @@ import com.prography.backend.dto.request.CheckInRequest;
 import com.prography.backend.dto.request.RegisterAttendanceRequest;
 import com.prography.backend.dto.request.UpdateAttendanceRequest;
 import com.prography.backend.dto.response.AttendanceResponse;
+import com.prography.backend.event.AttendanceUpdated;
+import com.prography.backend.event.DepositChanged;
 import com.prography.backend.exception.AppException;
 import com.prography.backend.exception.ErrorCode;
 import com.prography.backend.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,12 +45,21 @@ class AttendanceServiceTest {
     @Mock CohortMemberRepository cohortMemberRepository;
     @Mock DepositHistoryRepository depositHistoryRepository;
     @Mock CohortRepository cohortRepository;
+    @Mock OutboxService outboxService;
+    @Mock ChangeSequenceService changeSequence;
+    @Mock ReferenceDataRegistry referenceData;
+    @Mock PenaltyPolicyRegistry penaltyPolicies;
+    @Mock ReadRoutingContext readRoutingContext;
 
     @BeforeEach
     void setUp() {
         // int 타입 currentCohortGeneration은 Mock 불가 → 리터럴 값(11) 직접 전달
         attendanceService = new AttendanceService(qrCodeRepository, sessionRepository, memberRepository,
-                attendanceRepository, cohortMemberRepository, depositHistoryRepository, cohortRepository, 11);
+                attendanceRepository, cohortMemberRepository, depositHistoryRepository, cohortRepository,
+                outboxService, changeSequence, referenceData, penaltyPolicies, readRoutingContext,
+                new CheckInMetrics(new SimpleMeterRegistry(), sessionRepository, Duration.ofSeconds(30)), 11);
+        // 기수 정책이 없는 경우 = 기본 규칙(버전 0)
+        lenient().when(penaltyPolicies.forSession(any())).thenReturn(PenaltyCalculator.DEFAULT_POLICY);
     }
 
     // ─── 패널티 계산 테스트 ────────────────────────────────────────────────────
@@ -210,7 +222,7 @@ class AttendanceServiceTest {
         when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
         when(attendanceRepository.existsBySessionIdAndMemberId(1L, 1L)).thenReturn(false);
         when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
-        when(cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L)).thenReturn(Optional.of(cm));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
         when(attendanceRepository.save(any())).thenReturn(saved);
 
         AttendanceResponse result = attendanceService.checkIn(new CheckInRequest("hash", 1L));
@@ -247,7 +259,7 @@ class AttendanceServiceTest {
         when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
         when(attendanceRepository.existsBySessionIdAndMemberId(1L, 1L)).thenReturn(false);
         when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
-        when(cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L)).thenReturn(Optional.of(cm));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
         when(attendanceRepository.save(any())).thenReturn(saved);
         when(depositHistoryRepository.save(any())).thenReturn(null);
 
@@ -284,7 +296,7 @@ class AttendanceServiceTest {
 
         when(attendanceRepository.findById(1L)).thenReturn(Optional.of(attendance));
         when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
-        when(cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L)).thenReturn(Optional.of(cm));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
         when(depositHistoryRepository.save(any())).thenReturn(null);
 
         AttendanceResponse result = attendanceService.updateAttendance(1L,
@@ -310,7 +322,7 @@ class AttendanceServiceTest {
 
         when(attendanceRepository.findById(1L)).thenReturn(Optional.of(attendance));
         when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
-        when(cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L)).thenReturn(Optional.of(cm));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
         when(depositHistoryRepository.save(any())).thenReturn(null);
 
         AttendanceResponse result = attendanceService.updateAttendance(1L,
@@ -337,7 +349,7 @@ class AttendanceServiceTest {
 
         when(attendanceRepository.findById(1L)).thenReturn(Optional.of(attendance));
         when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
-        when(cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L)).thenReturn(Optional.of(cm));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
 
         AttendanceResponse result = attendanceService.updateAttendance(1L,
                 new UpdateAttendanceRequest(AttendanceStatus.ABSENT, null, null));
@@ -348,6 +360,33 @@ class AttendanceServiceTest {
         verify(depositHistoryRepository, never()).save(any());
     }
 
+    /**
+     * 출결 수정 시 아웃박스 이벤트 기록
+     * - PRESENT → LATE(10분, 5,000원): AttendanceUpdated + DepositChanged(PENALTY -5,000) 2건
+     * - AttendanceUpdated에는 변경 전 상태/패널티가 함께 기록됨
+     */
+    @Test
+    void updateAttendance_recordsOutboxEvents() {
+        Cohort cohort = Cohort.builder().id(2L).generation(11).build();
+        Member member = Member.builder().id(1L).build();
+        Session session = Session.builder().id(1L).build();
+        Attendance attendance = Attendance.builder().id(1L).member(member).session(session)
+                .status(AttendanceStatus.PRESENT).penaltyAmount(0).build();
+        CohortMember cm = CohortMember.builder().id(1L).member(member).cohort(cohort)
+                .deposit(100_000).excuseCount(0).build();
+
+        when(attendanceRepository.findById(1L)).thenReturn(Optional.of(attendance));
+        when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
+
+        attendanceService.updateAttendance(1L, new UpdateAttendanceRequest(AttendanceStatus.LATE, 10, null));
+
+        verify(outboxService).record(argThat(e -> e instanceof AttendanceUpdated u
+                && u.previousStatus() == AttendanceStatus.PRESENT && u.penaltyAmount() == 5_000));
+        verify(outboxService).record(argThat(e -> e instanceof DepositChanged d
+                && d.type() == DepositType.PENALTY && d.amount() == -5_000 && d.balanceAfter() == 95_000));
+    }
+
     // ─── 관리자 출결 등록 테스트 ──────────────────────────────────────────────
 
     /**
@@ -370,7 +409,7 @@ class AttendanceServiceTest {
         when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
         when(attendanceRepository.existsBySessionIdAndMemberId(1L, 1L)).thenReturn(false);
         when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
-        when(cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L)).thenReturn(Optional.of(cm));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
         when(attendanceRepository.save(any())).thenReturn(saved);
         when(depositHistoryRepository.save(any())).thenReturn(null);
 
@@ -421,7 +460,7 @@ class AttendanceServiceTest {
 
         when(attendanceRepository.findById(1L)).thenReturn(Optional.of(attendance));
         when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(cohort));
-        when(cohortMemberRepository.findByMemberIdAndCohortId(1L, 2L)).thenReturn(Optional.of(cm));
+        when(cohortMemberRepository.findByMemberIdAndCohortIdForUpdate(1L, 2L)).thenReturn(Optional.of(cm));
 
         assertThatThrownBy(() -> attendanceService.updateAttendance(1L,
                 new UpdateAttendanceRequest(AttendanceStatus.EXCUSED, null, null)))
@@ -0,0 +1,69 @@
+package com.prography.backend.service;
+
+import com.prography.backend.dto.response.CacheStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheStatisticsService 단위 테스트
+ *
+ * - EntityManagerFactory → SessionFactory → Statistics 체인을 Mock으로 구성
+ * - SessionFactory도 EntityManagerFactory 타입이라 @InjectMocks가 잘못 주입할 수 있으므로 직접 생성
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheStatisticsServiceTest {
+
+    CacheStatisticsService cacheStatisticsService;
+    @Mock EntityManagerFactory entityManagerFactory;
+    @Mock SessionFactory sessionFactory;
+    @Mock Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cacheStatisticsService = new CacheStatisticsService(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    /**
+     * 리전별 히트율 계산
+     * - 리전 이름 순으로 정렬되고, 조회 기록이 없는 리전의 히트율은 0으로 반환되는지 검증
+     */
+    @Test
+    void getStatistics_regionsSortedWithHitRatio() {
+        CacheRegionStatistics session = mock(CacheRegionStatistics.class);
+        CacheRegionStatistics member = mock(CacheRegionStatistics.class);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"session", "member"});
+        when(statistics.getCacheRegionStatistics("session")).thenReturn(session);
+        when(statistics.getCacheRegionStatistics("member")).thenReturn(member);
+        when(session.getHitCount()).thenReturn(3L);
+        when(session.getMissCount()).thenReturn(1L);
+        when(statistics.getSecondLevelCacheHitCount()).thenReturn(3L);
+
+        CacheStatisticsResponse result = cacheStatisticsService.getStatistics();
+
+        assertThat(result.secondLevelHits()).isEqualTo(3L);
+        assertThat(result.regions()).extracting(CacheStatisticsResponse.RegionStats::region)
+                .containsExactly("member", "session");
+        assertThat(result.regions().get(0).hitRatio()).isZero();
+        assertThat(result.regions().get(1).hitRatio()).isEqualTo(0.75);
+    }
+
+    /**
+     * 통계 초기화 시 Hibernate 누적 카운터를 비우는지 검증
+     */
+    @Test
+    void reset_clearsStatistics() {
+        cacheStatisticsService.reset();
+        verify(statistics).clear();
+    }
+}
@@ -0,0 +1,138 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.SessionStatus;
+import com.prography.backend.repository.SessionRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Clock;
+import java.time.Duration;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CheckInMetrics 단위 테스트
+ *
+ * - 단계별 Timer는 직전 lap 이후 경과 시간을 기록
+ * - 분당 체크인 수는 커밋된 체크인만 최근 60초 기준으로 집계
+ * - 워밍업 중에는 단계 시간을 기록하지 않고, 진행 중 일정 수는 refresh 동안 재사용
+ */
+@ExtendWith(MockitoExtension.class)
+class CheckInMetricsTest {
+
+    @Mock SessionRepository sessionRepository;
+    @Mock Clock clock;
+
+    SimpleMeterRegistry registry;
+    CheckInMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new CheckInMetrics(registry, sessionRepository, Duration.ofSeconds(30), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    /**
+     * lap한 단계만 1회씩 기록되고, 예외로 끝난 이후 단계는 기록되지 않음
+     */
+    @Test
+    void stopwatch_recordsOnlyCompletedStages() {
+        CheckInMetrics.Stopwatch stopwatch = metrics.start();
+        stopwatch.lap(CheckInMetrics.Stage.QR_LOOKUP);
+        stopwatch.lap(CheckInMetrics.Stage.QR_EXPIRY);
+
+        assertThat(stageTimer("qr_lookup").count()).isEqualTo(1);
+        assertThat(stageTimer("qr_expiry").count()).isEqualTo(1);
+        assertThat(stageTimer("session_state").count()).isZero();
+        assertThat(registry.get("attendance.checkin.stage").timers()).hasSize(CheckInMetrics.Stage.values().length);
+    }
+
+    /**
+     * 60초가 지난 체크인은 분당 집계에서 빠짐
+     */
+    @Test
+    void checkInsPerMinute_slidesOverSixtySeconds() {
+        when(clock.millis()).thenReturn(1_000_000L);
+        metrics.checkInRecorded();
+        metrics.checkInRecorded();
+        when(clock.millis()).thenReturn(1_030_000L);
+        metrics.checkInRecorded();
+
+        assertThat(gauge("attendance.checkins.per_minute")).isEqualTo(3);
+
+        when(clock.millis()).thenReturn(1_061_000L);
+        assertThat(gauge("attendance.checkins.per_minute")).isEqualTo(1);
+    }
+
+    /**
+     * 트랜잭션 안에서는 커밋된 체크인만 집계 (워밍업처럼 롤백되면 제외)
+     */
+    @Test
+    void checkInRecorded_countsOnlyAfterCommit() {
+        when(clock.millis()).thenReturn(1_000_000L);
+        TransactionSynchronizationManager.initSynchronization();
+        metrics.checkInRecorded();
+        metrics.checkInRecorded();
+
+        assertThat(gauge("attendance.checkins.per_minute")).isZero();
+
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(0).afterCommit();
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(gauge("attendance.checkins.per_minute")).isEqualTo(1);
+    }
+
+    /**
+     * scrape마다 조회하지 않고 refresh(30초) 동안 마지막 값을 재사용
+     */
+    @Test
+    void inProgressSessionsGauge_cachedForRefreshInterval() {
+        when(clock.millis()).thenReturn(1_000_000L);
+        when(sessionRepository.countByStatus(SessionStatus.IN_PROGRESS)).thenReturn(2L, 3L);
+
+        assertThat(gauge("attendance.sessions.in_progress")).isEqualTo(2);
+        when(clock.millis()).thenReturn(1_029_000L);
+        assertThat(gauge("attendance.sessions.in_progress")).isEqualTo(2);
+        verify(sessionRepository, times(1)).countByStatus(SessionStatus.IN_PROGRESS);
+
+        when(clock.millis()).thenReturn(1_030_000L);
+        assertThat(gauge("attendance.sessions.in_progress")).isEqualTo(3);
+    }
+
+    /**
+     * 워밍업(withoutRecording) 중 시작한 Stopwatch는 기록하지 않고, 끝난 뒤에는 다시 기록
+     */
+    @Test
+    void withoutRecording_skipsStageTimers() {
+        metrics.withoutRecording(() -> {
+            metrics.start().lap(CheckInMetrics.Stage.QR_LOOKUP);
+            return null;
+        });
+        assertThat(stageTimer("qr_lookup").count()).isZero();
+
+        metrics.start().lap(CheckInMetrics.Stage.QR_LOOKUP);
+        assertThat(stageTimer("qr_lookup").count()).isEqualTo(1);
+    }
+
+    private Timer stageTimer(String stage) {
+        return registry.get("attendance.checkin.stage").tag("stage", stage).timer();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+}
@@ -12,38 +12,44 @@ import com.prography.backend.repository.PartRepository;
 import com.prography.backend.repository.TeamRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
-import java.util.Optional;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
  * CohortService 단위 테스트
  *
- * - CohortService는 int 타입 필드가 없어 @InjectMocks 사용 가능
- * - @InjectMocks: @Mock 객체들을 CohortService 생성자에 자동 주입
+ * - CohortService는 ReferenceDataRegistry에서만 읽으므로, Mock 저장소로 레지스트리를 로드한 뒤 직접 생성
+ * - 레지스트리 로드 이후 조회는 저장소를 다시 호출하지 않아야 함
  */
 @ExtendWith(MockitoExtension.class)
 class CohortServiceTest {
 
-    @InjectMocks CohortService cohortService;   // @Mock 객체들이 자동 주입된 진짜 서비스
     @Mock CohortRepository cohortRepository;
     @Mock PartRepository partRepository;
     @Mock TeamRepository teamRepository;
 
+    private CohortService load(List<Cohort> cohorts, List<Part> parts, List<Team> teams) {
+        when(cohortRepository.findAll()).thenReturn(cohorts);
+        when(partRepository.findAll()).thenReturn(parts);
+        when(teamRepository.findAll()).thenReturn(teams);
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(cohortRepository, partRepository, teamRepository);
+        registry.refresh();
+        return new CohortService(registry);
+    }
+
     /**
      * 기수 목록 조회 성공
-     * - findAll()이 2개의 Cohort를 반환하면 2개의 CohortResponse DTO로 변환되는지 검증
+     * - 레지스트리에 Cohort 2개가 로드되면 2개의 CohortResponse DTO로 변환되는지 검증
      * - 첫 번째 항목의 generation 값이 올바르게 매핑됐는지 확인
      */
     @Test
     void getCohorts_returnsList() {
         Cohort c1 = Cohort.builder().id(1L).generation(10).name("10기").build();
         Cohort c2 = Cohort.builder().id(2L).generation(11).name("11기").build();
-        when(cohortRepository.findAll()).thenReturn(List.of(c1, c2));
+        CohortService cohortService = load(List.of(c1, c2), List.of(), List.of());
 
         List<CohortResponse> result = cohortService.getCohorts();
         assertThat(result).hasSize(2);
@@ -52,11 +58,11 @@ class CohortServiceTest {
 
     /**
      * 존재하지 않는 기수 상세 조회 시 예외 발생
-     * - findById()가 Optional.empty() 반환 → COHORT_NOT_FOUND 예외를 던지는지 검증
+     * - 레지스트리에 없는 id → COHORT_NOT_FOUND 예외를 던지는지 검증
      */
     @Test
     void getCohortDetail_notFound_throwsException() {
-        when(cohortRepository.findById(99L)).thenReturn(Optional.empty());
+        CohortService cohortService = load(List.of(), List.of(), List.of());
         assertThatThrownBy(() -> cohortService.getCohortDetail(99L))
                 .isInstanceOf(AppException.class)
                 .hasMessage(ErrorCode.COHORT_NOT_FOUND.getMessage());
@@ -64,22 +70,39 @@ class CohortServiceTest {
 
     /**
      * 기수 상세 조회 성공 (파트 + 팀 포함)
-     * - 기수, 파트 목록, 팀 목록을 각각 Mock에서 반환
-     * - 서비스가 세 가지 조회 결과를 하나의 CohortDetailResponse로 조합하는지 검증
+     * - 다른 기수의 파트/팀은 제외하고 해당 기수의 것만 CohortDetailResponse로 조합하는지 검증
+     * - 로드 이후 상세 조회에서는 저장소 쿼리가 추가로 발생하지 않아야 함
      */
     @Test
     void getCohortDetail_success() {
+        Cohort cohort10 = Cohort.builder().id(1L).generation(10).name("10기").build();
         Cohort cohort = Cohort.builder().id(2L).generation(11).name("11기").build();
         Part part = Part.builder().id(1L).cohort(cohort).name("SERVER").build();
+        Part otherPart = Part.builder().id(2L).cohort(cohort10).name("WEB").build();
         Team team = Team.builder().id(1L).cohort(cohort).name("Team A").build();
-
-        when(cohortRepository.findById(2L)).thenReturn(Optional.of(cohort));
-        when(partRepository.findByCohortId(2L)).thenReturn(List.of(part));
-        when(teamRepository.findByCohortId(2L)).thenReturn(List.of(team));
+        CohortService cohortService = load(List.of(cohort10, cohort), List.of(part, otherPart), List.of(team));
 
         CohortDetailResponse result = cohortService.getCohortDetail(2L);
         assertThat(result.generation()).isEqualTo(11);
         assertThat(result.parts()).hasSize(1);   // 파트 1개 포함 확인
+        assertThat(result.parts().get(0).name()).isEqualTo("SERVER");
         assertThat(result.teams()).hasSize(1);   // 팀 1개 포함 확인
+        verify(cohortRepository, times(1)).findAll();
+        verifyNoMoreInteractions(cohortRepository, partRepository, teamRepository);
+    }
+
+    /**
+     * 레지스트리 갱신
+     * - refresh() 이후 새로 추가된 기수가 조회 결과에 반영되는지 검증
+     */
+    @Test
+    void refreshReferenceData_reloadsCohorts() {
+        Cohort c1 = Cohort.builder().id(1L).generation(10).name("10기").build();
+        CohortService cohortService = load(List.of(c1), List.of(), List.of());
+        Cohort c2 = Cohort.builder().id(2L).generation(11).name("11기").build();
+        when(cohortRepository.findAll()).thenReturn(List.of(c1, c2));
+
+        assertThat(cohortService.refreshReferenceData()).hasSize(2);
+        assertThat(cohortService.getCohortDetail(2L).name()).isEqualTo("11기");
     }
 }
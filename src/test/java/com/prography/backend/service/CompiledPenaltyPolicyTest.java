@@ -0,0 +1,96 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.LateFeeTier;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CompiledPenaltyPolicy 단위 테스트
+ *
+ * - 기본 규칙(버전 0)은 기존 공식(지각 분당 500원, 최대 10,000원 / 결석 10,000원)과 같은 금액
+ * - 유예 시간, 구간별 분당 금액, 상한이 조회 테이블에 반영되는지 검증
+ * - 테이블은 상한에 닿거나 금액이 더 이상 늘지 않는 지점까지만 만든다
+ */
+class CompiledPenaltyPolicyTest {
+
+    /**
+     * 0~100분 모든 지각, 결석/출석/공결이 기존 공식과 일치
+     */
+    @Test
+    void defaultPolicy_matchesLegacyFormula() {
+        CompiledPenaltyPolicy policy = PenaltyCalculator.DEFAULT_POLICY;
+
+        for (int minutes = 0; minutes <= 100; minutes++) {
+            assertThat(policy.charge(AttendanceStatus.LATE, minutes)).isEqualTo(Math.min(minutes * 500, 10_000));
+        }
+        assertThat(policy.charge(AttendanceStatus.LATE, null)).isZero();
+        assertThat(policy.charge(AttendanceStatus.ABSENT, null)).isEqualTo(10_000);
+        assertThat(policy.charge(AttendanceStatus.PRESENT, null)).isZero();
+        assertThat(policy.charge(AttendanceStatus.EXCUSED, null)).isZero();
+        assertThat(policy.version()).isZero();
+        assertThat(policy.tableLength()).isEqualTo(21);
+    }
+
+    /**
+     * 유예 5분, 10분 이후 분당 1,000원 (그 전 300원), 상한 8,000원
+     * - 5분까지 0원, 6~10분 300원씩, 11분부터 1,000원씩
+     */
+    @Test
+    void graceAndTiers() {
+        CompiledPenaltyPolicy policy = CompiledPenaltyPolicy.compile(3, 5, 8_000, 20_000,
+                List.of(new LateFeeTier(10, 1_000), new LateFeeTier(0, 300)));
+
+        assertThat(policy.charge(AttendanceStatus.LATE, 5)).isZero();
+        assertThat(policy.charge(AttendanceStatus.LATE, 6)).isEqualTo(300);
+        assertThat(policy.charge(AttendanceStatus.LATE, 10)).isEqualTo(1_500);
+        assertThat(policy.charge(AttendanceStatus.LATE, 11)).isEqualTo(2_500);
+        assertThat(policy.charge(AttendanceStatus.LATE, 16)).isEqualTo(7_500);
+        assertThat(policy.charge(AttendanceStatus.LATE, 17)).isEqualTo(8_000);
+        assertThat(policy.charge(AttendanceStatus.LATE, 600)).isEqualTo(8_000);
+        assertThat(policy.charge(AttendanceStatus.ABSENT, null)).isEqualTo(20_000);
+        assertThat(policy.tableLength()).isEqualTo(18);
+    }
+
+    /**
+     * 마지막 구간이 0원이면 그 이후는 고정 금액 (상한에 닿지 않아도 테이블이 끝남)
+     */
+    @Test
+    void zeroRateLastTier_stopsGrowing() {
+        CompiledPenaltyPolicy policy = CompiledPenaltyPolicy.compile(1, 0, 100_000, 10_000,
+                List.of(new LateFeeTier(0, 1_000), new LateFeeTier(3, 0)));
+
+        assertThat(policy.charge(AttendanceStatus.LATE, 3)).isEqualTo(3_000);
+        assertThat(policy.charge(AttendanceStatus.LATE, 1_000)).isEqualTo(3_000);
+        assertThat(policy.tableLength()).isEqualTo(5);
+    }
+
+    /**
+     * 상한이 매우 커도 테이블은 하루(1440분)에서 멈추고, 그 이후 분은 마지막 금액
+     */
+    @Test
+    void uncappedPolicy_tableBounded() {
+        CompiledPenaltyPolicy policy = CompiledPenaltyPolicy.compile(1, 0, Integer.MAX_VALUE, 10_000,
+                List.of(new LateFeeTier(0, 10)));
+
+        assertThat(policy.tableLength()).isEqualTo(CompiledPenaltyPolicy.MAX_LATE_MINUTES + 1);
+        assertThat(policy.charge(AttendanceStatus.LATE, 5_000)).isEqualTo(CompiledPenaltyPolicy.MAX_LATE_MINUTES * 10);
+        assertThat(policy.charge(AttendanceStatus.LATE, -3)).isZero();
+    }
+
+    /**
+     * 면제 정책은 같은 버전에 모든 금액 0원, 구간이 없으면 지각 패널티 없음
+     */
+    @Test
+    void waivedAndEmptyTiers() {
+        CompiledPenaltyPolicy policy = CompiledPenaltyPolicy.compile(4, 0, 10_000, 10_000, List.of());
+
+        assertThat(policy.charge(AttendanceStatus.LATE, 30)).isZero();
+        assertThat(policy.tableLength()).isEqualTo(1);
+        assertThat(policy.waived().version()).isEqualTo(4);
+        assertThat(policy.waived().charge(AttendanceStatus.ABSENT, null)).isZero();
+        assertThat(PenaltyCalculator.DEFAULT_POLICY.waived().charge(AttendanceStatus.LATE, 15)).isZero();
+        assertThat(policy.waived().waived()).isSameAs(policy.waived());
+    }
+}
@@ -0,0 +1,128 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.dto.response.DepositBalanceResponse;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.*;
+import com.prography.backend.repository.projection.LedgerEntryRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DepositLedgerService 단위 테스트
+ *
+ * - 시점 잔액 = 가장 가까운 체크포인트 + 체크포인트 이후 이력(tail)
+ * - 체크포인트는 settle 이전 이력 minEntries건마다 생성 (체크포인트 사이 간격 제한)
+ */
+@ExtendWith(MockitoExtension.class)
+class DepositLedgerServiceTest {
+
+    @InjectMocks DepositLedgerService depositLedgerService;
+    @Mock CohortMemberRepository cohortMemberRepository;
+    @Mock DepositHistoryRepository depositHistoryRepository;
+    @Mock DepositCheckpointRepository depositCheckpointRepository;
+
+    private static final Instant AT = Instant.parse("2026-03-01T00:00:00Z");
+
+    /**
+     * 존재하지 않는 CohortMember → COHORT_MEMBER_NOT_FOUND
+     */
+    @Test
+    void getBalanceAt_cohortMemberNotFound() {
+        when(cohortMemberRepository.findById(99L)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> depositLedgerService.getBalanceAt(99L, AT))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.COHORT_MEMBER_NOT_FOUND.getMessage());
+    }
+
+    /**
+     * 체크포인트(잔액 90,000 / 누적 패널티 10,000, lastHistoryId=5) 이후
+     * 패널티 3,000 → 환급 1,000 이력 적용
+     * - 잔액은 마지막 이력의 balanceAfter(88,000)
+     * - 누적 패널티 13,000 / 누적 환급 1,000
+     * - tail 조회는 lastHistoryId(5) 이후부터
+     */
+    @Test
+    void getBalanceAt_checkpointPlusTail() {
+        when(cohortMemberRepository.findById(1L)).thenReturn(Optional.of(CohortMember.builder().id(1L).build()));
+        DepositCheckpoint cp = DepositCheckpoint.builder()
+                .balance(90_000).totalPenalty(10_000).totalRefund(0).lastHistoryId(5L).build();
+        when(depositCheckpointRepository.latestCheckpointAtOrBefore(1L, AT))
+                .thenReturn(Optional.of(cp));
+        when(depositHistoryRepository.findLedgerEntriesAfter(1L, 5L, AT)).thenReturn(List.of(
+                new LedgerEntryRow(6L, DepositType.PENALTY, -3_000, 87_000, AT),
+                new LedgerEntryRow(7L, DepositType.REFUND, 1_000, 88_000, AT)));
+
+        DepositBalanceResponse result = depositLedgerService.getBalanceAt(1L, AT);
+
+        assertThat(result.balance()).isEqualTo(88_000);
+        assertThat(result.totalPenalty()).isEqualTo(13_000);
+        assertThat(result.totalRefund()).isEqualTo(1_000);
+        assertThat(result.lastHistoryId()).isEqualTo(7L);
+    }
+
+    /**
+     * 체크포인트 이후 이력이 minEntries 미만이면 체크포인트를 만들지 않음
+     */
+    @Test
+    void checkpoint_belowMinEntries_skipped() {
+        when(depositCheckpointRepository.latestCheckpoint(1L))
+                .thenReturn(Optional.empty());
+        when(depositHistoryRepository.findLedgerEntriesAfter(1L, 0L, AT))
+                .thenReturn(List.of(new LedgerEntryRow(1L, DepositType.INITIAL, 100_000, 100_000, AT)));
+
+        assertThat(depositLedgerService.checkpoint(1L, AT, 2)).isZero();
+        verify(depositCheckpointRepository, never()).save(any());
+    }
+
+    /**
+     * 초기 보증금 + 패널티 이력 → 체크포인트 저장
+     * - lastHistoryId / checkpointAt은 마지막 이력 기준
+     */
+    @Test
+    void checkpoint_savesAccumulatedLedger() {
+        when(depositCheckpointRepository.latestCheckpoint(1L))
+                .thenReturn(Optional.empty());
+        when(depositHistoryRepository.findLedgerEntriesAfter(1L, 0L, AT)).thenReturn(List.of(
+                new LedgerEntryRow(1L, DepositType.INITIAL, 100_000, 100_000, AT.minusSeconds(60)),
+                new LedgerEntryRow(2L, DepositType.PENALTY, -10_000, 90_000, AT.minusSeconds(30))));
+
+        assertThat(depositLedgerService.checkpoint(1L, AT, 2)).isEqualTo(1);
+        verify(depositCheckpointRepository).save(argThat(cp -> cp.getBalance() == 90_000
+                && cp.getTotalPenalty() == 10_000 && cp.getLastHistoryId() == 2L
+                && cp.getCheckpointAt().equals(AT.minusSeconds(30))));
+    }
+
+    /**
+     * 체크포인트 이후 이력이 많이 쌓였으면 minEntries건마다 하나씩 만들어 체크포인트 사이 간격을 제한
+     * - 이력 5건, minEntries 2 → 2번째/4번째 이력에 체크포인트, 5번째는 다음 실행으로
+     */
+    @Test
+    void checkpoint_everyMinEntries_boundsGap() {
+        when(depositCheckpointRepository.latestCheckpoint(1L))
+                .thenReturn(Optional.empty());
+        when(depositHistoryRepository.findLedgerEntriesAfter(1L, 0L, AT)).thenReturn(List.of(
+                new LedgerEntryRow(1L, DepositType.INITIAL, 100_000, 100_000, AT.minusSeconds(50)),
+                new LedgerEntryRow(2L, DepositType.PENALTY, -1_000, 99_000, AT.minusSeconds(40)),
+                new LedgerEntryRow(3L, DepositType.PENALTY, -2_000, 97_000, AT.minusSeconds(30)),
+                new LedgerEntryRow(4L, DepositType.REFUND, 1_000, 98_000, AT.minusSeconds(20)),
+                new LedgerEntryRow(5L, DepositType.PENALTY, -500, 97_500, AT.minusSeconds(10))));
+
+        assertThat(depositLedgerService.checkpoint(1L, AT, 2)).isEqualTo(2);
+        verify(depositCheckpointRepository).save(argThat(cp -> cp.getLastHistoryId() == 2L
+                && cp.getBalance() == 99_000 && cp.getTotalPenalty() == 1_000));
+        verify(depositCheckpointRepository).save(argThat(cp -> cp.getLastHistoryId() == 4L
+                && cp.getBalance() == 98_000 && cp.getTotalPenalty() == 3_000 && cp.getTotalRefund() == 1_000
+                && cp.getCheckpointAt().equals(AT.minusSeconds(20))));
+    }
+}
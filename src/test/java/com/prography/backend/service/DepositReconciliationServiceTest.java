@@ -0,0 +1,114 @@
+package com.prography.backend.service;
+
+import com.prography.backend.dto.response.ReconciliationReportResponse;
+import com.prography.backend.dto.response.ReconciliationReportResponse.DriftType;
+import com.prography.backend.repository.*;
+import com.prography.backend.repository.projection.LedgerRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.List;
+import java.util.stream.LongStream;
+import static com.prography.backend.domain.DepositType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DepositReconciliationService 단위 테스트
+ *
+ * - @Value 필드(chunkSize, parallelism, maxReportedDrifts)는 ReflectionTestUtils로 주입
+ * - chunkSize=1로 두어 CohortMember마다 별도 청크(fork)로 검증되는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class DepositReconciliationServiceTest {
+
+    @InjectMocks DepositReconciliationService reconciliationService;
+    @Mock CohortMemberRepository cohortMemberRepository;
+    @Mock DepositHistoryRepository depositHistoryRepository;
+    @Mock AttendanceRepository attendanceRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciliationService, "chunkSize", 1);
+        ReflectionTestUtils.setField(reconciliationService, "parallelism", 2);
+        ReflectionTestUtils.setField(reconciliationService, "maxReportedDrifts", 100);
+    }
+
+    /**
+     * 정상 원장: 초기 100,000 → 패널티 -5,000 (출결 패널티 5,000) → 잔액 95,000
+     * - 불일치 0건, 이력 2건
+     */
+    @Test
+    void reconcile_consistentLedger_noDrift() {
+        when(cohortMemberRepository.findAllIds()).thenReturn(List.of(1L));
+        when(depositHistoryRepository.findLedgerRows(List.of(1L))).thenReturn(List.of(
+                new LedgerRow(1L, 95_000, 1L, INITIAL, 100_000, 100_000, null, null),
+                new LedgerRow(1L, 95_000, 2L, PENALTY, -5_000, 95_000, 10L, 5_000)));
+        when(attendanceRepository.findPenalizedIdsWithoutLedger()).thenReturn(List.of());
+
+        ReconciliationReportResponse report = reconciliationService.reconcile();
+
+        assertThat(report.histories()).isEqualTo(2);
+        assertThat(report.driftCount()).isZero();
+    }
+
+    /**
+     * 회원 1: balanceAfter 체인 끊김 + 최종 잔액 불일치
+     * 회원 2: 출결 패널티(10,000)와 원장 차감액(5,000) 불일치
+     * 패널티가 있지만 원장이 없는 출결(30) → MISSING_LEDGER
+     */
+    @Test
+    void reconcile_reportsEachDriftType() {
+        when(cohortMemberRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(depositHistoryRepository.findLedgerRows(List.of(1L))).thenReturn(List.of(
+                new LedgerRow(1L, 100_000, 1L, INITIAL, 100_000, 100_000, null, null),
+                new LedgerRow(1L, 100_000, 2L, PENALTY, -5_000, 96_000, 10L, 5_000)));
+        when(depositHistoryRepository.findLedgerRows(List.of(2L))).thenReturn(List.of(
+                new LedgerRow(2L, 95_000, 3L, INITIAL, 100_000, 100_000, null, null),
+                new LedgerRow(2L, 95_000, 4L, PENALTY, -5_000, 95_000, 20L, 10_000)));
+        when(attendanceRepository.findPenalizedIdsWithoutLedger()).thenReturn(List.of(30L));
+
+        ReconciliationReportResponse report = reconciliationService.reconcile();
+
+        assertThat(report.driftCount()).isEqualTo(4);
+        assertThat(report.drifts()).extracting(ReconciliationReportResponse.Drift::type)
+                .containsExactlyInAnyOrder(DriftType.BALANCE_CHAIN_BROKEN, DriftType.FINAL_BALANCE_MISMATCH,
+                        DriftType.PENALTY_MISMATCH, DriftType.MISSING_LEDGER);
+    }
+
+    /**
+     * 원장 없는 출결이 많아도 전부 세되, 보고 목록은 max-reported-drifts개까지
+     */
+    @Test
+    void reconcile_manyMissingLedgers_countedButCapped() {
+        ReflectionTestUtils.setField(reconciliationService, "maxReportedDrifts", 10);
+        when(cohortMemberRepository.findAllIds()).thenReturn(List.of());
+        when(attendanceRepository.findPenalizedIdsWithoutLedger())
+                .thenReturn(LongStream.rangeClosed(1, 5_000).boxed().toList());
+
+        ReconciliationReportResponse report = reconciliationService.reconcile();
+
+        assertThat(report.driftCount()).isEqualTo(5_000);
+        assertThat(report.drifts()).hasSize(10)
+                .allSatisfy(d -> assertThat(d.type()).isEqualTo(DriftType.MISSING_LEDGER));
+    }
+
+    /**
+     * 이력이 하나도 없는 CohortMember(LEFT JOIN null 행) → 최종 잔액 0과 deposit 비교
+     */
+    @Test
+    void verify_memberWithoutHistory_finalBalanceMismatch() {
+        var result = reconciliationService.verify(List.of(
+                new LedgerRow(1L, 100_000, null, null, null, null, null, null)));
+
+        assertThat(result.histories()).isZero();
+        assertThat(result.drifts()).singleElement()
+                .extracting(ReconciliationReportResponse.Drift::type)
+                .isEqualTo(DriftType.FINAL_BALANCE_MISMATCH);
+    }
+}
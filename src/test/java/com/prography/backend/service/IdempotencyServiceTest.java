@@ -0,0 +1,155 @@
+package com.prography.backend.service;
+
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * IdempotencyService 단위 테스트
+ *
+ * - 같은 키 재시도는 첫 결과를 재생하고 action을 다시 실행하지 않음
+ * - 동시에 온 같은 키는 한 번만 실행
+ * - 실패는 보관하지 않고, TTL이 지나면 다시 실행
+ * - 호출자가 다르면 같은 키라도 별개, 보관 한도를 넘으면 503
+ */
+class IdempotencyServiceTest {
+
+    Instant now = Instant.parse("2026-03-01T05:00:00Z");
+    IdempotencyService idempotencyService;
+    AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(inv -> now);
+        idempotencyService = new IdempotencyService(clock);
+        ReflectionTestUtils.setField(idempotencyService, "ttl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 100);
+    }
+
+    @Test
+    void execute_sameKey_replaysFirstResult() {
+        String first = idempotencyService.execute("check-in", "member:1", "k1", "body", this::run);
+        String retry = idempotencyService.execute("check-in", "member:1", "k1", "body", this::run);
+
+        assertThat(retry).isSameAs(first);
+        assertThat(executions.get()).isEqualTo(1);
+        // 키가 없거나 엔드포인트가 다르면 별개 요청
+        idempotencyService.execute("admin-attendance", "member:1", "k1", "body", this::run);
+        idempotencyService.execute("check-in", "member:1", null, "body", this::run);
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    @Test
+    void execute_sameKeyDifferentBody_throwsKeyReused() {
+        idempotencyService.execute("check-in", "member:1", "k1", "body", this::run);
+
+        assertThatThrownBy(() -> idempotencyService.execute("check-in", "member:1", "k1", "other", this::run))
+                .isInstanceOf(AppException.class)
+                .extracting(e -> ((AppException) e).getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    /**
+     * 실패한 요청은 보관하지 않음 → 같은 키 재시도는 다시 실행
+     */
+    @Test
+    void execute_failure_isNotStored() {
+        assertThatThrownBy(() -> idempotencyService.execute("check-in", "member:1", "k1", "body", () -> {
+            throw new AppException(ErrorCode.QR_EXPIRED);
+        })).isInstanceOf(AppException.class);
+
+        assertThat(idempotencyService.execute("check-in", "member:1", "k1", "body", this::run)).isEqualTo("result-1");
+    }
+
+    @Test
+    void execute_afterTtl_runsAgain() {
+        idempotencyService.execute("check-in", "member:1", "k1", "body", this::run);
+        now = now.plus(Duration.ofMinutes(11));
+
+        assertThat(idempotencyService.execute("check-in", "member:1", "k1", "body", this::run)).isEqualTo("result-2");
+        idempotencyService.purgeExpired();
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    /**
+     * 다른 회원이 같은 키를 보내도 남의 응답을 재생하거나 KEY_REUSED로 막히지 않음
+     */
+    @Test
+    void execute_sameKeyDifferentCaller_isSeparate() {
+        String mine = idempotencyService.execute("check-in", "member:1", "k1", "body-1", this::run);
+        String theirs = idempotencyService.execute("check-in", "member:2", "k1", "body-2", this::run);
+
+        assertThat(theirs).isNotEqualTo(mine);
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    /**
+     * 보관 한도를 넘으면 키 없이 실행하지 않고 IDEMPOTENCY_STORE_FULL (만료 항목을 비운 뒤에도 가득 찬 경우)
+     */
+    @Test
+    void execute_storeFull_rejectedInsteadOfRunningWithoutKey() {
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 2);
+        idempotencyService.execute("check-in", "member:1", "k1", "body", this::run);
+        idempotencyService.execute("check-in", "member:1", "k2", "body", this::run);
+
+        assertThatThrownBy(() -> idempotencyService.execute("check-in", "member:1", "k3", "body", this::run))
+                .isInstanceOf(AppException.class)
+                .extracting(e -> ((AppException) e).getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_STORE_FULL);
+        assertThat(executions.get()).isEqualTo(2);
+        // 키 없는 요청은 보관하지 않으므로 그대로 실행
+        assertThat(idempotencyService.execute("check-in", "member:1", null, "body", this::run)).isEqualTo("result-3");
+
+        now = now.plus(Duration.ofMinutes(11));
+        assertThat(idempotencyService.execute("check-in", "member:1", "k3", "body", this::run)).isEqualTo("result-4");
+    }
+
+    /**
+     * 첫 요청 처리 중 같은 키가 오면 실행하지 않고 첫 결과를 기다림
+     */
+    @Test
+    void execute_concurrentDuplicates_collapseIntoOneExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = pool.submit(() -> idempotencyService.execute("check-in", "member:1", "k1", "body", () -> {
+                started.countDown();
+                await(release);
+                return run();
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> duplicate = pool.submit(() -> idempotencyService.execute("check-in", "member:1", "k1", "body", this::run));
+
+            Thread.sleep(100);
+            assertThat(duplicate).isNotDone();
+            release.countDown();
+
+            assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private String run() {
+        return "result-" + executions.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.prography.backend.dto.response.MemberDetailResponse;
 import com.prography.backend.dto.response.MemberResponse;
 import com.prography.backend.dto.response.PageResponse;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.prography.backend.exception.AppException;
 import com.prography.backend.exception.ErrorCode;
@@ -43,12 +44,29 @@ class MemberServiceTest {
     @Mock CohortMemberRepository cohortMemberRepository;
     @Mock DepositHistoryRepository depositHistoryRepository;
     @Mock BCryptPasswordEncoder passwordEncoder;
+    @Mock OutboxService outboxService;
+    @Mock AttendanceMatrix attendanceMatrix;
+    @Mock CohortMemberRiskIndex cohortMemberRiskIndex;
 
     @BeforeEach
     void setUp() {
+        // 참조 데이터 레지스트리는 10기(id=1), 11기(id=2)가 로드된 실제 객체를 사용
+        // (테스트의 cohortRepository Mock과 섞이지 않도록 별도 Mock 저장소로 로드)
+        CohortRepository registryCohorts = mock(CohortRepository.class);
+        PartRepository registryParts = mock(PartRepository.class);
+        TeamRepository registryTeams = mock(TeamRepository.class);
+        when(registryCohorts.findAll()).thenReturn(List.of(
+                Cohort.builder().id(1L).generation(10).name("10기").build(),
+                Cohort.builder().id(2L).generation(11).name("11기").build()));
+        when(registryParts.findAll()).thenReturn(List.of());
+        when(registryTeams.findAll()).thenReturn(List.of());
+        ReferenceDataRegistry referenceData = new ReferenceDataRegistry(registryCohorts, registryParts, registryTeams);
+        referenceData.refresh();
+
         // int 타입 currentCohortGeneration은 Mock 불가 → 리터럴 값(11) 직접 전달
         memberService = new MemberService(memberRepository, cohortRepository, partRepository,
-                teamRepository, cohortMemberRepository, depositHistoryRepository, passwordEncoder, 11);
+                teamRepository, cohortMemberRepository, depositHistoryRepository, passwordEncoder, outboxService,
+                referenceData, attendanceMatrix, cohortMemberRiskIndex, 11);
     }
 
     /**
@@ -193,6 +211,28 @@ class MemberServiceTest {
         assertThat(result.name()).isEqualTo("새이름");
     }
 
+    /**
+     * 새 기수로 소속 변경 시 CohortMember 생성 + 등록과 같은 초기 보증금 이력(INITIAL 100,000원) 기록
+     * - 이력이 없으면 보증금 정합성 검사가 시작 잔액을 몰라 FINAL_BALANCE_MISMATCH로 보고함
+     */
+    @Test
+    void updateMember_newCohort_writesInitialDepositHistory() {
+        Cohort cohort = Cohort.builder().id(2L).generation(11).name("11기").build();
+        Member member = Member.builder().id(1L).loginId("user").name("이름")
+                .phone("010-0000-0000").status(MemberStatus.ACTIVE).role(MemberRole.MEMBER).build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(cohortRepository.findById(2L)).thenReturn(Optional.of(cohort));
+        when(cohortMemberRepository.findByMemberAndCohortId(member, 2L)).thenReturn(Optional.empty());
+
+        MemberDetailResponse result = memberService.updateMember(1L, new UpdateMemberRequest(null, null, 2L, null, null));
+
+        assertThat(result.generation()).isEqualTo(11);
+        verify(cohortMemberRepository).save(argThat(cm -> cm.getDeposit() == 100_000));
+        verify(depositHistoryRepository).save(argThat(h -> h.getType() == DepositType.INITIAL
+                && h.getAmount() == 100_000 && h.getBalanceAfter() == 100_000 && h.getCohortMember().getMember() == member));
+        verify(outboxService).record(any());
+    }
+
     /**
      * 존재하지 않는 파트로 회원 등록 시도 시 예외 발생
      * - loginId 중복 검사, 기수 조회는 성공
@@ -213,37 +253,24 @@ class MemberServiceTest {
     }
 
     /**
-     * 대시보드 generation 필터 — 메모리 후처리로 11기만 반환
-     * - DB에서 회원 2명 반환 (11기, 10기)
-     * - generation=11 필터 적용 후 11기 회원 1명만 결과에 포함
-     * - 핵심: totalElements가 DB 결과(2)가 아닌 필터 후(1)로 재계산됐는지 검증
-     *   서비스 내부: filtered.size()로 재계산 → new PageResponse(..., filtered.size(), ...)
+     * 대시보드 조회 — 검색/기수/파트/팀 조건을 그대로 DB 쿼리로 넘김
+     * - searchType=name이면 name 파라미터에만 검색어가 들어가고 나머지 검색 파라미터는 null
+     * - 필터는 DB에서 적용되므로 totalElements/totalPages는 쿼리 결과(Page)의 값을 그대로 사용
+     *   (실제 필터링은 MemberDashboardQueryTest에서 검증)
      */
     @Test
-    void getMembersDashboard_generationFilter_returnsFiltered() {
-        Cohort cohort11 = Cohort.builder().id(2L).generation(11).name("11기").build();
-        Cohort cohort10 = Cohort.builder().id(1L).generation(10).name("10기").build();
-        Member m1 = Member.builder().id(1L).loginId("user1").name("11기회원").phone("010-1111-1111")
-                .status(MemberStatus.ACTIVE).role(MemberRole.MEMBER).build();
-        Member m2 = Member.builder().id(2L).loginId("user2").name("10기회원").phone("010-2222-2222")
-                .status(MemberStatus.ACTIVE).role(MemberRole.MEMBER).build();
-        CohortMember cm1 = CohortMember.builder().id(1L).member(m1).cohort(cohort11)
-                .deposit(100_000).excuseCount(0).build();
-        CohortMember cm2 = CohortMember.builder().id(2L).member(m2).cohort(cohort10)
-                .deposit(100_000).excuseCount(0).build();
-
-        // DB에서 2명 반환 (status/search 필터 없음 → findAll 호출)
-        when(memberRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(m1, m2)));
-        // 각 회원의 최신 기수 정보 반환
-        when(cohortMemberRepository.findByMemberIdOrderByGenerationDesc(1L)).thenReturn(List.of(cm1));
-        when(cohortMemberRepository.findByMemberIdOrderByGenerationDesc(2L)).thenReturn(List.of(cm2));
+    void getMembersDashboard_passesFiltersToQuery() {
+        MemberDashboardResponse row = new MemberDashboardResponse(1L, "user1", "11기회원", "010-1111-1111",
+                MemberStatus.ACTIVE, MemberRole.MEMBER, 11, null, null, 100_000, null, null);
+        when(memberRepository.findDashboard(isNull(), eq("회원"), isNull(), isNull(), eq(11), isNull(), isNull(),
+                any(Pageable.class))).thenReturn(new PageImpl<>(List.of(row), PageRequest.of(1, 1), 3));
 
         PageResponse<MemberDashboardResponse> result =
-                memberService.getMembersDashboard(0, 10, null, null, 11, null, null, null);
+                memberService.getMembersDashboard(1, 1, "name", "회원", 11, null, null, null);
 
-        // DB 결과 2명 → generation=11 메모리 필터 → 1명만 남아야 함
-        assertThat(result.totalElements()).isEqualTo(1);
-        assertThat(result.content()).hasSize(1);
-        assertThat(result.content().get(0).loginId()).isEqualTo("user1");
+        assertThat(result.totalElements()).isEqualTo(3);
+        assertThat(result.totalPages()).isEqualTo(3);
+        assertThat(result.page()).isEqualTo(1);
+        assertThat(result.content()).extracting(MemberDashboardResponse::loginId).containsExactly("user1");
     }
 }
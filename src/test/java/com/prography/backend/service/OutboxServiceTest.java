@@ -0,0 +1,139 @@
+package com.prography.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.DepositType;
+import com.prography.backend.domain.OutboxEvent;
+import com.prography.backend.event.*;
+import com.prography.backend.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxService 단위 테스트
+ *
+ * - ObjectMapper는 실제 객체 사용 (이벤트 JSON 직렬화/역직렬화까지 검증)
+ * - 구독자는 ObjectProvider Mock으로 주입
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    OutboxService outboxService;
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @Mock OutboxEventRepository outboxEventRepository;
+    @Mock ObjectProvider<DomainEventSubscriber> subscribers;
+    @Mock DomainEventSubscriber subscriber;
+    @Mock JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxService(outboxEventRepository, objectMapper, subscribers, jdbcTemplate);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+    }
+
+    /**
+     * 이벤트 기록 → 타입/cohortMemberId/JSON payload로 저장
+     */
+    @Test
+    void record_savesSerializedEvent() {
+        outboxService.record(new DepositChanged(7L, 1L, DepositType.PENALTY, -500, 99_500, 3L, Instant.now()));
+
+        verify(outboxEventRepository).save(argThat(e -> e.getEventType() == DomainEventType.DEPOSIT_CHANGED
+                && e.getCohortMemberId() == 7L && e.getPayload().contains("\"balanceAfter\":99500")));
+    }
+
+    /**
+     * 여러 이벤트 → 순서대로 JDBC 배치 INSERT 한 번
+     */
+    @Test
+    void recordAll_insertsInOneBatch() {
+        outboxService.recordAll(List.of(
+                new AttendanceRecorded(1L, 2L, 3L, 7L, AttendanceStatus.ABSENT, null, 10_000, Instant.now()),
+                new DepositChanged(7L, 5L, DepositType.PENALTY, -10_000, 90_000, 1L, Instant.now())));
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO outbox_events"), argThat((List<Object[]> rows) ->
+                rows.size() == 2 && rows.get(0)[0].equals("ATTENDANCE_RECORDED") && rows.get(1)[0].equals("DEPOSIT_CHANGED")));
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    /**
+     * cohortMember 1의 첫 이벤트 전달 실패 → 같은 회원의 두 번째 이벤트는 보류
+     * - 다른 회원(2)의 이벤트는 정상 발행
+     * - 실패 이벤트는 markFailed, 성공 이벤트만 markPublished
+     */
+    @Test
+    void dispatchBatch_failureBlocksSameCohortMemberOnly() throws Exception {
+        OutboxEvent first = event(1L, 1L, 10L);
+        OutboxEvent second = event(2L, 1L, 11L);
+        OutboxEvent other = event(3L, 2L, 12L);
+        when(outboxEventRepository.findDeliverable(eq(0L), any(), any())).thenReturn(List.of(first, second, other));
+        when(subscribers.orderedStream()).thenAnswer(inv -> Stream.of(subscriber));
+        doThrow(new IllegalStateException("down")).when(subscriber).handle(eq(1L), any());
+
+        int attempted = outboxService.dispatchBatch(10);
+
+        assertThat(attempted).isEqualTo(2);
+        verify(subscriber, never()).handle(eq(2L), any());
+        verify(subscriber).handle(eq(3L), argThat(e -> ((AttendanceRecorded) e).attendanceId() == 12L));
+        verify(outboxEventRepository).markFailed(1L, "down", null);
+        verify(outboxEventRepository).markPublished(eq(List.of(3L)), any());
+    }
+
+    /**
+     * 한 페이지가 실패한 회원의 이벤트로 가득 차도 다음 페이지를 그 회원을 빼고 이어 읽는다
+     * - 두 번째 조회는 마지막 id 이후 + 실패 회원 제외 조건
+     */
+    @Test
+    void dispatchBatch_readsPastBlockedCohortMember() throws Exception {
+        OutboxEvent failing = event(1L, 1L, 10L);
+        OutboxEvent queued = event(2L, 1L, 11L);
+        OutboxEvent other = event(3L, 2L, 12L);
+        when(outboxEventRepository.findDeliverable(eq(0L), any(), any())).thenReturn(List.of(failing, queued));
+        when(outboxEventRepository.findDeliverable(eq(2L), argThat(blocked -> blocked.contains(1L)), any()))
+                .thenReturn(List.of(other));
+        when(subscribers.orderedStream()).thenAnswer(inv -> Stream.of(subscriber));
+        doThrow(new IllegalStateException("down")).when(subscriber).handle(eq(1L), any());
+
+        int attempted = outboxService.dispatchBatch(2);
+
+        assertThat(attempted).isEqualTo(2);
+        verify(subscriber).handle(eq(3L), any());
+        verify(outboxEventRepository).markPublished(eq(List.of(3L)), any());
+    }
+
+    /**
+     * 재시도 상한에 도달한 실패 → parked_at을 함께 기록
+     */
+    @Test
+    void dispatchBatch_parksAfterMaxAttempts() throws Exception {
+        OutboxEvent exhausted = event(1L, 1L, 10L);
+        exhausted.setAttempts(2);
+        when(outboxEventRepository.findDeliverable(eq(0L), any(), any())).thenReturn(List.of(exhausted));
+        when(subscribers.orderedStream()).thenAnswer(inv -> Stream.of(subscriber));
+        doThrow(new IllegalStateException("down")).when(subscriber).handle(eq(1L), any());
+
+        outboxService.dispatchBatch(10);
+
+        verify(outboxEventRepository).markFailed(eq(1L), eq("down"), notNull());
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+    }
+
+    private OutboxEvent event(Long id, Long cohortMemberId, Long attendanceId) throws Exception {
+        AttendanceRecorded payload = new AttendanceRecorded(attendanceId, 1L, 1L, cohortMemberId,
+                AttendanceStatus.PRESENT, null, 0, Instant.now());
+        return OutboxEvent.builder().id(id).eventType(DomainEventType.ATTENDANCE_RECORDED)
+                .cohortMemberId(cohortMemberId).payload(objectMapper.writeValueAsString(payload)).build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.AttendanceStatus;
+import com.prography.backend.domain.Cohort;
+import com.prography.backend.domain.LateFeeTier;
+import com.prography.backend.domain.PenaltyPolicy;
+import com.prography.backend.domain.Session;
+import com.prography.backend.dto.request.CreatePenaltyPolicyRequest;
+import com.prography.backend.dto.response.PenaltyPolicyResponse;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.CohortRepository;
+import com.prography.backend.repository.PenaltyPolicyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.util.List;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * PenaltyPolicyService / PenaltyPolicyRegistry 단위 테스트
+ *
+ * - 정책은 수정하지 않고 기수별 버전을 1씩 올려 추가
+ * - 레지스트리는 기수의 최신 버전을 적용하고, 정책이 없는 기수는 기본 규칙(버전 0)
+ * - 버전 충돌은 409, 다른 인스턴스의 추가는 정책 건수 비교로 다시 읽음
+ */
+@ExtendWith(MockitoExtension.class)
+class PenaltyPolicyServiceTest {
+
+    @InjectMocks PenaltyPolicyService penaltyPolicyService;
+    @Mock PenaltyPolicyRepository penaltyPolicyRepository;
+    @Mock CohortRepository cohortRepository;
+    @Mock PenaltyPolicyRegistry penaltyPolicies;
+
+    Cohort cohort = Cohort.builder().id(2L).generation(11).name("11기").build();
+
+    /**
+     * 기존 최신 버전이 2면 새 정책은 버전 3, 저장 후 레지스트리를 다시 읽음
+     */
+    @Test
+    void createPolicy_nextVersion() {
+        when(cohortRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(cohort));
+        when(penaltyPolicyRepository.findLatestVersion(2L)).thenReturn(2);
+        when(penaltyPolicyRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        PenaltyPolicyResponse response = penaltyPolicyService.createPolicy(2L, new CreatePenaltyPolicyRequest(5, 8_000,
+                20_000, List.of(new CreatePenaltyPolicyRequest.Tier(10, 1_000), new CreatePenaltyPolicyRequest.Tier(0, 300))));
+
+        assertThat(response.version()).isEqualTo(3);
+        assertThat(response.active()).isTrue();
+        assertThat(response.lateFeeTiers()).extracting(PenaltyPolicyResponse.Tier::fromMinute).containsExactly(0, 10);
+        verify(penaltyPolicies).refresh();
+    }
+
+    /**
+     * 같은 fromMinute 구간이 두 개면 INVALID_INPUT, 저장하지 않음
+     */
+    @Test
+    void createPolicy_duplicateTier_rejected() {
+        when(cohortRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(cohort));
+
+        assertThatThrownBy(() -> penaltyPolicyService.createPolicy(2L, new CreatePenaltyPolicyRequest(0, 10_000, 10_000,
+                List.of(new CreatePenaltyPolicyRequest.Tier(0, 500), new CreatePenaltyPolicyRequest.Tier(0, 300)))))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.INVALID_INPUT.getMessage());
+        verify(penaltyPolicyRepository, never()).saveAndFlush(any());
+    }
+
+    /**
+     * (cohort_id, version) 유니크 제약 위반은 500이 아니라 PENALTY_POLICY_VERSION_CONFLICT, 레지스트리는 다시 읽지 않음
+     */
+    @Test
+    void createPolicy_versionConflict_mappedToErrorCode() {
+        when(cohortRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(cohort));
+        when(penaltyPolicyRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_penalty_policies_cohort_version"));
+
+        assertThatThrownBy(() -> penaltyPolicyService.createPolicy(2L, new CreatePenaltyPolicyRequest(0, 10_000, 10_000,
+                List.of(new CreatePenaltyPolicyRequest.Tier(0, 500)))))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.PENALTY_POLICY_VERSION_CONFLICT.getMessage());
+        verify(penaltyPolicies, never()).refresh();
+    }
+
+    /**
+     * 레지스트리: 최신 버전 적용, 이전 버전도 조회 가능, 정책 없는 기수와 면제 일정
+     */
+    @Test
+    void registry_latestPerCohort() {
+        when(penaltyPolicyRepository.findAllWithTiers()).thenReturn(List.of(
+                policy(1, 10_000), policy(2, 15_000)));
+        PenaltyPolicyRegistry registry = new PenaltyPolicyRegistry(penaltyPolicyRepository);
+
+        assertThat(registry.latest(2L).version()).isEqualTo(2);
+        assertThat(registry.find(2L, 1)).get().satisfies(p ->
+                assertThat(p.charge(AttendanceStatus.ABSENT, null)).isEqualTo(10_000));
+        assertThat(registry.find(2L, 0)).contains(PenaltyCalculator.DEFAULT_POLICY);
+        assertThat(registry.find(2L, 9)).isEmpty();
+        assertThat(registry.latest(99L)).isSameAs(PenaltyCalculator.DEFAULT_POLICY);
+
+        Session waived = Session.builder().id(1L).cohort(cohort).penaltyWaived(true).build();
+        assertThat(registry.forSession(waived).version()).isEqualTo(2);
+        assertThat(registry.forSession(waived).charge(AttendanceStatus.ABSENT, null)).isZero();
+        verify(penaltyPolicyRepository, times(1)).findAllWithTiers();
+    }
+
+    /**
+     * 다른 인스턴스에서 정책이 추가되어 건수가 바뀌었을 때만 다시 읽음
+     */
+    @Test
+    void registry_refreshIfChanged_reloadsOnlyWhenCountChanges() {
+        when(penaltyPolicyRepository.findAllWithTiers())
+                .thenReturn(List.of(policy(1, 10_000)))
+                .thenReturn(List.of(policy(1, 10_000), policy(2, 15_000)));
+        PenaltyPolicyRegistry registry = new PenaltyPolicyRegistry(penaltyPolicyRepository);
+        registry.refresh();
+
+        when(penaltyPolicyRepository.countAll()).thenReturn(1L);
+        registry.refreshIfChanged();
+        assertThat(registry.latest(2L).version()).isEqualTo(1);
+
+        when(penaltyPolicyRepository.countAll()).thenReturn(2L);
+        registry.refreshIfChanged();
+        assertThat(registry.latest(2L).version()).isEqualTo(2);
+        verify(penaltyPolicyRepository, times(2)).findAllWithTiers();
+    }
+
+    private PenaltyPolicy policy(int version, int absentFee) {
+        return PenaltyPolicy.builder().id((long) version).cohort(cohort).version(version).graceMinutes(0)
+                .lateFeeCap(10_000).absentFee(absentFee).lateFeeTiers(List.of(new LateFeeTier(0, 500))).build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.prography.backend.service;
+
+import com.prography.backend.repository.AttendanceRepository;
+import com.prography.backend.repository.QrCodeHistoryRepository;
+import com.prography.backend.repository.QrCodeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Instant;
+import java.util.List;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QrCodePurgeService 단위 테스트
+ *
+ * - 만료 QR 정리 규칙:
+ *   1. 출결 기록이 참조하지 않는 QR → 바로 삭제
+ *   2. 출결 기록이 참조하는 QR → qr_code_histories로 보관 후 삭제
+ */
+@ExtendWith(MockitoExtension.class)
+class QrCodePurgeServiceTest {
+
+    @InjectMocks QrCodePurgeService qrCodePurgeService;
+    @Mock QrCodeRepository qrCodeRepository;
+    @Mock QrCodeHistoryRepository qrCodeHistoryRepository;
+    @Mock AttendanceRepository attendanceRepository;
+
+    /**
+     * 정리 대상이 없으면 삭제/보관 쿼리를 실행하지 않음
+     */
+    @Test
+    void purgeBatch_nothingExpired_noop() {
+        when(qrCodeRepository.findExpiredIds(any(), any())).thenReturn(List.of());
+
+        QrCodePurgeService.BatchResult result = qrCodePurgeService.purgeBatch(Instant.now(), 100);
+
+        assertThat(result.total()).isZero();
+        verify(qrCodeRepository, never()).deleteByIds(any());
+        verify(qrCodeHistoryRepository, never()).archiveByIds(any(), any());
+    }
+
+    /**
+     * 참조 QR(2)은 보관, 미참조 QR(1, 3)은 삭제만
+     * - 보관 쿼리에는 참조 QR id만 전달
+     * - 삭제 쿼리에는 배치 전체 id 전달
+     */
+    @Test
+    void purgeBatch_archivesOnlyReferenced() {
+        when(qrCodeRepository.findExpiredIds(any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(attendanceRepository.findReferencedQrCodeIds(List.of(1L, 2L, 3L))).thenReturn(List.of(2L));
+
+        QrCodePurgeService.BatchResult result = qrCodePurgeService.purgeBatch(Instant.now(), 100);
+
+        assertThat(result.deleted()).isEqualTo(2);
+        assertThat(result.archived()).isEqualTo(1);
+        verify(qrCodeHistoryRepository).archiveByIds(eq(List.of(2L)), any());
+        verify(qrCodeRepository).deleteByIds(List.of(1L, 2L, 3L));
+    }
+}
@@ -0,0 +1,86 @@
+package com.prography.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReadRoutingContext 단위 테스트
+ *
+ * - 의존성이 없는 인메모리 컴포넌트이므로 직접 생성, @Value 필드는 ReflectionTestUtils로 주입
+ */
+class ReadRoutingContextTest {
+
+    ReadRoutingContext context = new ReadRoutingContext();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(context, "readYourWritesWindow", Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.unbindMember();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * 체크인한 회원 본인의 조회만 primary로 고정, 다른 회원 조회는 replica 사용
+     */
+    @Test
+    void memberWrote_pinsOnlyThatMember() {
+        context.memberWrote(1L);
+
+        context.bindMember(1L);
+        assertThat(context.requiresPrimary()).isTrue();
+        context.bindMember(2L);
+        assertThat(context.requiresPrimary()).isFalse();
+        context.unbindMember();
+        assertThat(context.requiresPrimary()).isFalse();
+    }
+
+    /**
+     * 트랜잭션 안에서의 쓰기는 커밋 이후에만 고정 (롤백되면 고정하지 않음)
+     */
+    @Test
+    void memberWrote_insideTransaction_appliedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        context.memberWrote(1L);
+        context.bindMember(1L);
+        assertThat(context.requiresPrimary()).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(context.requiresPrimary()).isTrue();
+    }
+
+    /**
+     * read-your-writes 구간이 지나면 다시 replica 사용
+     */
+    @Test
+    void memberWrote_windowExpires() {
+        ReflectionTestUtils.setField(context, "readYourWritesWindow", Duration.ZERO);
+        context.memberWrote(1L);
+        context.bindMember(1L);
+        assertThat(context.requiresPrimary()).isFalse();
+    }
+
+    /**
+     * onPrimary 구간 안에서만 primary 강제, 중첩 호출 후에도 바깥 구간 상태 유지
+     */
+    @Test
+    void onPrimary_scopesToSupplier() {
+        boolean nested = context.onPrimary(() -> {
+            context.onPrimary(() -> null);
+            return context.requiresPrimary();
+        });
+        assertThat(nested).isTrue();
+        assertThat(context.requiresPrimary()).isFalse();
+    }
+}
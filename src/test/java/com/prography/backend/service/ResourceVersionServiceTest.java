@@ -0,0 +1,39 @@
+package com.prography.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Instant;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResourceVersionService 단위 테스트
+ *
+ * - 버전 조회(SQL)는 ConditionalGetTest에서 실제 DB로 확인하고, 여기서는 관리자 일정 목록 ETag의 만료 처리만 본다
+ */
+@ExtendWith(MockitoExtension.class)
+class ResourceVersionServiceTest {
+
+    @InjectMocks ResourceVersionService versions;
+    @Mock JdbcTemplate jdbcTemplate;
+
+    /**
+     * 관리자 일정 목록 ETag는 다음 QR 만료 시각 전까지만 유효
+     * - 버전이 바뀌면 만료 전이라도 무효
+     */
+    @Test
+    void validAdminSessionsEtag_expiresWithQrCode() {
+        Instant now = Instant.parse("2026-03-01T00:00:00Z");
+        String base = "W/\"3-12-40-95-3-6";
+        String etag = versions.adminSessionsEtag(base, now.plusSeconds(60));
+
+        assertThat(versions.validAdminSessionsEtag(base, etag, now)).isEqualTo(etag);
+        assertThat(versions.validAdminSessionsEtag(base, etag, now.plusSeconds(61))).isNull();
+
+        String newBase = "W/\"3-12-40-95-4-10";
+        assertThat(versions.validAdminSessionsEtag(newBase, etag, now)).isNull();
+    }
+}
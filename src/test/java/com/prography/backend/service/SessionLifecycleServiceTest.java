@@ -0,0 +1,152 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.*;
+import com.prography.backend.event.AttendanceRecorded;
+import com.prography.backend.event.DepositChanged;
+import com.prography.backend.repository.AttendanceRepository;
+import com.prography.backend.repository.CohortMemberRepository;
+import com.prography.backend.repository.DepositHistoryRepository;
+import com.prography.backend.repository.SessionRepository;
+import com.prography.backend.repository.projection.AbsenceRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.*;
+import java.util.List;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SessionLifecycleService 단위 테스트
+ *
+ * - 시작 10분 전부터 IN_PROGRESS, 시작 3시간 후 COMPLETED (Asia/Seoul)
+ * - 종료 시 결석 → 패널티 이력 → 보증금 차감 순서로 일괄 처리하고 회원별 이벤트를 남김
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionLifecycleServiceTest {
+
+    @InjectMocks SessionLifecycleService sessionLifecycleService;
+    @Mock SessionRepository sessionRepository;
+    @Mock AttendanceRepository attendanceRepository;
+    @Mock DepositHistoryRepository depositHistoryRepository;
+    @Mock CohortMemberRepository cohortMemberRepository;
+    @Mock OutboxService outboxService;
+    @Mock ChangeSequenceService changeSequence;
+    @Mock PenaltyPolicyRegistry penaltyPolicies;
+
+    Cohort cohort11 = Cohort.builder().id(2L).generation(11).name("11기").build();
+    // 2026-03-07 14:00 KST
+    Instant now = Instant.parse("2026-03-07T04:55:00Z");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sessionLifecycleService, "openBefore", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(sessionLifecycleService, "duration", Duration.ofHours(3));
+    }
+
+    /**
+     * 14:00 일정은 13:55에 시작, 오늘 15:00 일정은 아직 SCHEDULED
+     */
+    @Test
+    void startDueSessions_opensOnlySessionsWithinOpenBefore() {
+        Session due = session(1L, LocalTime.of(14, 0), SessionStatus.SCHEDULED);
+        Session later = session(2L, LocalTime.of(15, 0), SessionStatus.SCHEDULED);
+        when(sessionRepository.findByStatusAndDateOnOrBefore(SessionStatus.SCHEDULED, LocalDate.of(2026, 3, 7)))
+                .thenReturn(List.of(due, later));
+
+        assertThat(sessionLifecycleService.startDueSessions(now)).isEqualTo(1);
+
+        assertThat(due.getStatus()).isEqualTo(SessionStatus.IN_PROGRESS);
+        assertThat(later.getStatus()).isEqualTo(SessionStatus.SCHEDULED);
+        verify(changeSequence).sessionChanged(1L);
+        verify(changeSequence, never()).sessionChanged(2L);
+    }
+
+    @Test
+    void findSessionIdsToComplete_afterDuration() {
+        when(sessionRepository.findByStatusAndDateOnOrBefore(SessionStatus.IN_PROGRESS, LocalDate.of(2026, 3, 7)))
+                .thenReturn(List.of(session(1L, LocalTime.of(10, 0), SessionStatus.IN_PROGRESS),
+                        session(2L, LocalTime.of(13, 0), SessionStatus.IN_PROGRESS)));
+
+        assertThat(sessionLifecycleService.findSessionIdsToComplete(now)).containsExactly(1L);
+    }
+
+    /**
+     * 결석 2명 중 보증금이 없는 회원은 패널티 이력/차감 이벤트 없음
+     */
+    @Test
+    void completeSession_bulkAbsencesThenEvents() {
+        Session session = session(1L, LocalTime.of(10, 0), SessionStatus.IN_PROGRESS);
+        when(sessionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(session));
+        when(penaltyPolicies.forSession(session)).thenReturn(PenaltyCalculator.DEFAULT_POLICY);
+        when(attendanceRepository.findMemberIdsWithoutAttendance(1L, MemberStatus.WITHDRAWN)).thenReturn(List.of(10L, 11L));
+        when(attendanceRepository.insertAbsences(eq(1L), eq(List.of(10L, 11L)), eq(AttendanceStatus.ABSENT), eq(10_000),
+                eq(0), anyString(), eq(now))).thenReturn(2);
+        when(attendanceRepository.findIdsBySessionAndMembers(1L, List.of(10L, 11L))).thenReturn(List.of(100L, 101L));
+        when(attendanceRepository.findAbsenceBatch(List.of(100L, 101L), 2L)).thenReturn(List.of(
+                new AbsenceRow(100L, 10L, 20L, 10_000, 300L, 90_000),
+                new AbsenceRow(101L, 11L, 21L, 0, null, null)));
+
+        SessionLifecycleService.Completion result = sessionLifecycleService.completeSession(1L, now);
+
+        assertThat(result).isEqualTo(new SessionLifecycleService.Completion(2, 1, 10_000));
+        assertThat(session.getStatus()).isEqualTo(SessionStatus.COMPLETED);
+        InOrder inOrder = inOrder(attendanceRepository, depositHistoryRepository, cohortMemberRepository);
+        inOrder.verify(attendanceRepository).insertAbsences(anyLong(), any(), any(), anyInt(), anyInt(), anyString(), any());
+        inOrder.verify(depositHistoryRepository).insertAbsencePenalties(eq(List.of(100L, 101L)), eq(2L), eq(now),
+                eq(DepositType.PENALTY), anyString());
+        inOrder.verify(cohortMemberRepository).debitAbsences(List.of(100L, 101L), 2L);
+        verify(outboxService, times(2)).record(any(AttendanceRecorded.class));
+        verify(outboxService).record(new DepositChanged(20L, 300L, DepositType.PENALTY, -10_000, 90_000, 100L, now));
+        verify(changeSequence).attendancesChanged(List.of(100L, 101L));
+        verify(changeSequence).sessionChanged(1L);
+    }
+
+    /**
+     * 패널티 면제 일정은 결석만 기록하고 (0원) 이력/차감 없음. 정책 버전은 그대로 남김
+     */
+    @Test
+    void completeSession_penaltyWaived_recordsZeroPenalty() {
+        Session session = session(1L, LocalTime.of(10, 0), SessionStatus.IN_PROGRESS);
+        CompiledPenaltyPolicy policy = CompiledPenaltyPolicy.compile(2, 5, 20_000, 15_000, List.of());
+        when(sessionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(session));
+        when(penaltyPolicies.forSession(session)).thenReturn(policy.waived());
+        when(attendanceRepository.findMemberIdsWithoutAttendance(1L, MemberStatus.WITHDRAWN)).thenReturn(List.of(10L));
+        when(attendanceRepository.insertAbsences(eq(1L), eq(List.of(10L)), eq(AttendanceStatus.ABSENT), eq(0), eq(2),
+                anyString(), eq(now))).thenReturn(1);
+        when(attendanceRepository.findIdsBySessionAndMembers(1L, List.of(10L))).thenReturn(List.of(100L));
+        when(attendanceRepository.findAbsenceBatch(List.of(100L), 2L))
+                .thenReturn(List.of(new AbsenceRow(100L, 10L, 20L, 0, null, null)));
+
+        assertThat(sessionLifecycleService.completeSession(1L, now))
+                .isEqualTo(new SessionLifecycleService.Completion(1, 0, 0));
+
+        verify(outboxService, never()).record(any(DepositChanged.class));
+        assertThat(session.getStatus()).isEqualTo(SessionStatus.COMPLETED);
+    }
+
+    /**
+     * 다른 인스턴스가 먼저 종료했거나 관리자가 상태를 바꾼 일정은 건드리지 않음
+     */
+    @Test
+    void completeSession_notInProgress_skipped() {
+        Session session = session(1L, LocalTime.of(10, 0), SessionStatus.COMPLETED);
+        when(sessionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(session));
+
+        assertThat(sessionLifecycleService.completeSession(1L, now).absences()).isZero();
+
+        verifyNoInteractions(attendanceRepository, depositHistoryRepository, cohortMemberRepository, outboxService);
+    }
+
+    private Session session(Long id, LocalTime time, SessionStatus status) {
+        return Session.builder().id(id).cohort(cohort11).title("정기 모임").date(LocalDate.of(2026, 3, 7))
+                .time(time).location("강남").status(status).build();
+    }
+}
@@ -33,6 +33,9 @@ class SessionServiceTest {
     @Mock CohortRepository cohortRepository;
     @Mock QrCodeRepository qrCodeRepository;
     @Mock AttendanceRepository attendanceRepository;
+    @Mock ChangeSequenceService changeSequence;
+    @Mock ReferenceDataRegistry referenceData;
+    @Mock AttendanceMatrix attendanceMatrix;
 
     // 여러 테스트에서 공유하는 11기 기수 객체
     Cohort cohort11 = Cohort.builder().id(2L).generation(11).name("11기").build();
@@ -40,7 +43,7 @@ class SessionServiceTest {
     @BeforeEach
     void setUp() {
         sessionService = new SessionService(sessionRepository, cohortRepository,
-                qrCodeRepository, attendanceRepository, 11);
+                qrCodeRepository, attendanceRepository, changeSequence, referenceData, attendanceMatrix, 11);
     }
 
     /**
@@ -59,8 +62,8 @@ class SessionServiceTest {
         when(sessionRepository.save(any())).thenReturn(savedSession);
         when(qrCodeRepository.save(any())).thenReturn(null);
         // toSessionResponse()에서 출결 집계와 QR 활성 여부를 조회하므로 반환값 설정
-        when(attendanceRepository.findBySessionId(anyLong())).thenReturn(List.of());
-        when(qrCodeRepository.existsBySessionIdAndExpiresAtAfter(anyLong(), any())).thenReturn(false);
+        when(attendanceRepository.countBySessionIds(anyCollection())).thenReturn(List.of());
+        when(qrCodeRepository.findSessionIdsWithActiveQr(anyCollection(), any())).thenReturn(List.of());
 
         SessionResponse result = sessionService.createSession(
                 new CreateSessionRequest("1회 세션", LocalDate.of(2026, 3, 1), LocalTime.of(14, 0), "강남"));
@@ -80,7 +83,7 @@ class SessionServiceTest {
         when(sessionRepository.findById(1L)).thenReturn(Optional.of(session));
 
         assertThatThrownBy(() -> sessionService.updateSession(1L,
-                new UpdateSessionRequest("새 제목", null, null, null, null)))
+                new UpdateSessionRequest("새 제목", null, null, null, null, null)))
                 .isInstanceOf(AppException.class)
                 .hasMessage(ErrorCode.SESSION_ALREADY_CANCELLED.getMessage());
     }
@@ -109,11 +112,11 @@ class SessionServiceTest {
                 .title("원래 제목").date(LocalDate.of(2026, 3, 1))
                 .time(LocalTime.of(14, 0)).location("강남").status(SessionStatus.SCHEDULED).build();
         when(sessionRepository.findById(1L)).thenReturn(Optional.of(session));
-        when(attendanceRepository.findBySessionId(anyLong())).thenReturn(List.of());
-        when(qrCodeRepository.existsBySessionIdAndExpiresAtAfter(anyLong(), any())).thenReturn(false);
+        when(attendanceRepository.countBySessionIds(anyCollection())).thenReturn(List.of());
+        when(qrCodeRepository.findSessionIdsWithActiveQr(anyCollection(), any())).thenReturn(List.of());
 
         SessionResponse result = sessionService.updateSession(1L,
-                new UpdateSessionRequest("새 제목", null, null, null, null));
+                new UpdateSessionRequest("새 제목", null, null, null, null, null));
 
         assertThat(result.title()).isEqualTo("새 제목");
         assertThat(result.status()).isEqualTo(SessionStatus.SCHEDULED);  // null이었으므로 변경 없음
@@ -134,8 +137,8 @@ class SessionServiceTest {
         when(sessionRepository.findById(1L)).thenReturn(Optional.of(session));
         // 활성 QR 없음 → 만료 처리 루프 스킵
         when(qrCodeRepository.findBySessionIdAndExpiresAtAfter(anyLong(), any())).thenReturn(List.of());
-        when(attendanceRepository.findBySessionId(anyLong())).thenReturn(List.of());
-        when(qrCodeRepository.existsBySessionIdAndExpiresAtAfter(anyLong(), any())).thenReturn(false);
+        when(attendanceRepository.countBySessionIds(anyCollection())).thenReturn(List.of());
+        when(qrCodeRepository.findSessionIdsWithActiveQr(anyCollection(), any())).thenReturn(List.of());
 
         SessionResponse result = sessionService.deleteSession(1L);
         // DB 저장 없이 Java 객체의 status가 변경됐는지 결과 DTO로 검증
@@ -0,0 +1,181 @@
+package com.prography.backend.service;
+
+import com.prography.backend.domain.AttendanceStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SyntheticDatasetService 단위 테스트
+ *
+ * - JdbcTemplate 배치 INSERT 인자를 가로채 생성된 행을 검사
+ * - 패널티/보증금/공결 횟수가 AttendanceService 규칙과 일치해야 함
+ * - 같은 seed면 같은 행이 만들어져야 함
+ */
+@ExtendWith(MockitoExtension.class)
+class SyntheticDatasetServiceTest {
+
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock BCryptPasswordEncoder passwordEncoder;
+    @Mock EntityManagerFactory entityManagerFactory;
+
+    SyntheticDatasetService datasetService;
+    Map<String, List<Object[]>> inserted;
+
+    // 결석/지각 비중을 높여 잔액 부족·공결 한도 분기가 자주 일어나게 한다
+    static final SyntheticDatasetService.Spec SPEC = new SyntheticDatasetService.Spec(
+            2, 40, 12, 0.3, 0.3, 0.25, 0.15, 0.1, "password1234", 7L, 100);
+
+    @BeforeEach
+    void setUp() {
+        datasetService = new SyntheticDatasetService(jdbcTemplate, passwordEncoder, entityManagerFactory, 11);
+        inserted = new HashMap<>();
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$12$hash");
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(id), 0)"), eq(Long.class))).thenReturn(0L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            String table = sql.trim().split("\\s+")[2];
+            inserted.computeIfAbsent(table, k -> new ArrayList<>()).addAll(inv.<List<Object[]>>getArgument(1));
+            return new int[0];
+        });
+    }
+
+    /**
+     * 출결 패널티는 PenaltyCalculator와 같고,
+     * CohortMember 보증금 = 100,000 - 패널티 합 (음수 불가), 공결 횟수 = EXCUSED 수 (최대 3)
+     */
+    @Test
+    void generate_penaltiesAndDepositsFollowServiceRules() {
+        generate(SPEC);
+
+        List<Object[]> attendances = inserted.get("attendances");
+        assertThat(attendances).isNotEmpty();
+        Map<Object, Integer> penaltyByMember = new HashMap<>();
+        Map<Object, Integer> excusedByMember = new HashMap<>();
+        for (Object[] row : attendances) {
+            AttendanceStatus status = AttendanceStatus.valueOf((String) row[4]);
+            assertThat(row[6]).isEqualTo(PenaltyCalculator.calculate(status, (Integer) row[5]));
+            penaltyByMember.merge(row[2], (Integer) row[6], Integer::sum);
+            if (status == AttendanceStatus.EXCUSED) excusedByMember.merge(row[2], 1, Integer::sum);
+        }
+
+        for (Object[] cm : inserted.get("cohort_members")) {
+            int deposit = (Integer) cm[5];
+            assertThat(deposit).isEqualTo(100_000 - penaltyByMember.getOrDefault(cm[1], 0)).isNotNegative();
+            assertThat(cm[6]).isEqualTo(excusedByMember.getOrDefault(cm[1], 0));
+            assertThat((Integer) cm[6]).isLessThanOrEqualTo(3);
+        }
+        verify(passwordEncoder, times(1)).encode("password1234");
+    }
+
+    /**
+     * 보증금 이력: 회원마다 INITIAL 1건 + 패널티 출결마다 PENALTY 1건,
+     * balance_after는 직전 잔액에서 차감액만큼 줄어든 값
+     */
+    @Test
+    void generate_depositHistoriesMatchPenalizedAttendances() {
+        generate(SPEC);
+
+        Map<Object, Object[]> attendanceById = new HashMap<>();
+        inserted.get("attendances").forEach(row -> attendanceById.put(row[0], row));
+        long penalized = inserted.get("attendances").stream().filter(row -> (Integer) row[6] > 0).count();
+
+        Map<Object, Integer> balanceByCohortMember = new HashMap<>();
+        long penaltyHistories = 0;
+        for (Object[] history : inserted.get("deposit_histories")) {
+            if ("INITIAL".equals(history[2])) {
+                assertThat(history[4]).isEqualTo(100_000);
+                balanceByCohortMember.put(history[1], 100_000);
+                continue;
+            }
+            penaltyHistories++;
+            Object[] attendance = attendanceById.get(history[5]);
+            assertThat(history[3]).isEqualTo(-(Integer) attendance[6]);
+            int balance = balanceByCohortMember.get(history[1]) + (Integer) history[3];
+            assertThat(history[4]).isEqualTo(balance);
+            balanceByCohortMember.put(history[1], balance);
+        }
+        assertThat(penaltyHistories).isEqualTo(penalized);
+        assertThat(balanceByCohortMember).hasSize(inserted.get("cohort_members").size());
+    }
+
+    /**
+     * 현재 기수(11)는 일정 절반만 지나 출결이 있고, 이전 기수(10)는 전부 COMPLETED
+     */
+    @Test
+    void generate_currentCohortHasUpcomingSessions() {
+        generate(SPEC);
+
+        List<Object[]> sessions = inserted.get("sessions");
+        assertThat(sessions).hasSize(24);
+        long completed = sessions.stream().filter(row -> "COMPLETED".equals(row[6])).count();
+        assertThat(completed).isEqualTo(12 + 6);
+        assertThat(inserted.get("qr_codes")).hasSize((int) completed);
+        assertThat(inserted.get("attendances")).hasSize((int) (40 * completed));
+    }
+
+    /**
+     * 시드로 이미 있는 기수는 새로 만들지 않고 파트/팀을 재사용
+     */
+    @Test
+    void prepareCohort_existingCohort_reusesParts() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM cohorts"), eq(Long.class), eq(11)))
+                .thenReturn(List.of(2L));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM parts"), eq(Long.class), eq(2L)))
+                .thenReturn(List.of(6L, 7L));
+
+        SyntheticDatasetService.Run run = datasetService.begin(SPEC);
+        SyntheticDatasetService.CohortPlan cohort = datasetService.prepareCohort(run, 11);
+        datasetService.writeMembers(run, cohort, 10);
+
+        assertThat(cohort.cohortId()).isEqualTo(2L);
+        assertThat(inserted).doesNotContainKeys("parts", "teams");
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO cohorts"), any(Object[].class));
+        assertThat(inserted.get("cohort_members"))
+                .allSatisfy(cm -> {
+                    assertThat(cm[2]).isEqualTo(2L);
+                    assertThat(cm[3]).isIn(6L, 7L);
+                    assertThat(cm[4]).isNull();
+                });
+    }
+
+    /**
+     * 같은 Spec(seed)이면 같은 출결/보증금 이력
+     */
+    @Test
+    void generate_sameSeed_sameRows() {
+        generate(SPEC);
+        Map<String, List<Object[]>> first = inserted;
+        inserted = new HashMap<>();
+
+        generate(SPEC);
+
+        for (String table : List.of("members", "attendances", "deposit_histories", "qr_codes")) {
+            assertThat(inserted.get(table)).as(table).hasSameSizeAs(first.get(table));
+            for (int i = 0; i < first.get(table).size(); i++) {
+                assertThat(inserted.get(table).get(i)).as(table).containsExactly(first.get(table).get(i));
+            }
+        }
+    }
+
+    private void generate(SyntheticDatasetService.Spec spec) {
+        SyntheticDatasetService.Run run = datasetService.begin(spec);
+        for (int generation = 12 - spec.cohorts(); generation <= 11; generation++) {
+            SyntheticDatasetService.CohortPlan cohort = datasetService.prepareCohort(run, generation);
+            for (int written = 0; written < spec.membersPerCohort(); ) {
+                written += datasetService.writeMembers(run, cohort,
+                        Math.min(spec.batchSize(), spec.membersPerCohort() - written));
+            }
+        }
+    }
+}
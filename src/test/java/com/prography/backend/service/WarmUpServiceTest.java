@@ -0,0 +1,111 @@
+package com.prography.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prography.backend.domain.*;
+import com.prography.backend.dto.request.CheckInRequest;
+import com.prography.backend.dto.response.AttendanceResponse;
+import com.prography.backend.exception.AppException;
+import com.prography.backend.exception.ErrorCode;
+import com.prography.backend.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * WarmUpService 단위 테스트
+ *
+ * - 라운드마다 임시 일정/QR/회원을 만들고 회원 수만큼 실제 체크인 경로를 호출
+ * - 트랜잭션은 항상 롤백으로 표시되어야 함 (실패해도 마찬가지)
+ */
+@ExtendWith(MockitoExtension.class)
+class WarmUpServiceTest {
+
+    @Mock CohortRepository cohortRepository;
+    @Mock MemberRepository memberRepository;
+    @Mock CohortMemberRepository cohortMemberRepository;
+    @Mock SessionRepository sessionRepository;
+    @Mock QrCodeRepository qrCodeRepository;
+    @Mock AttendanceService attendanceService;
+    @Mock TransactionStatus transactionStatus;
+
+    WarmUpService warmUpService;
+    MockedStatic<TransactionAspectSupport> transactionAspect;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        warmUpService = new WarmUpService(cohortRepository, memberRepository, cohortMemberRepository,
+                sessionRepository, qrCodeRepository, attendanceService, objectMapper, 11);
+        transactionAspect = mockStatic(TransactionAspectSupport.class);
+        transactionAspect.when(TransactionAspectSupport::currentTransactionStatus).thenReturn(transactionStatus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionAspect.close();
+    }
+
+    /**
+     * 회원 3명 → 체크인 3회 + 관리자/회원 조회 4종, 모두 같은 QR 해시로 체크인
+     */
+    @Test
+    void runRound_checksInEveryMember_andRollsBack() {
+        when(cohortRepository.findByGeneration(11)).thenReturn(Optional.of(Cohort.builder().id(2L).generation(11).build()));
+        when(sessionRepository.save(any())).thenAnswer(inv -> {
+            Session session = inv.getArgument(0);
+            session.setId(100L);
+            return session;
+        });
+        when(qrCodeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        AtomicLong memberIds = new AtomicLong();
+        when(memberRepository.save(any())).thenAnswer(inv -> {
+            Member member = inv.getArgument(0);
+            member.setId(memberIds.incrementAndGet());
+            return member;
+        });
+        when(attendanceService.checkIn(any())).thenAnswer(inv -> new AttendanceResponse(1L, 100L,
+                inv.<CheckInRequest>getArgument(0).memberId(), AttendanceStatus.LATE, 5, 2500, 0, null, null, null, null));
+        when(attendanceService.getSessionAttendanceSummary(100L)).thenReturn(List.of());
+
+        WarmUpService.RoundResult result = warmUpService.runRound(3);
+
+        assertThat(result.checkIns()).isEqualTo(3);
+        assertThat(result.reads()).isEqualTo(4);
+        assertThat(result.serializedBytes()).isPositive();
+        ArgumentCaptor<CheckInRequest> requests = ArgumentCaptor.forClass(CheckInRequest.class);
+        verify(attendanceService, times(3)).checkIn(requests.capture());
+        assertThat(requests.getAllValues()).extracting(CheckInRequest::memberId).containsExactly(1L, 2L, 3L);
+        assertThat(requests.getAllValues()).extracting(CheckInRequest::hashValue).doesNotContainNull().hasSize(3)
+                .allMatch(hash -> hash.equals(requests.getAllValues().get(0).hashValue()));
+        verify(cohortMemberRepository, times(3)).save(argThat(cm -> cm.getDeposit() == 100_000));
+        verify(transactionStatus).setRollbackOnly();
+    }
+
+    /**
+     * 현재 기수가 없으면 예외 - 롤백 표시는 시작 시점에 이미 되어 있음
+     */
+    @Test
+    void runRound_noCurrentCohort_throwsAfterMarkingRollback() {
+        when(cohortRepository.findByGeneration(11)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> warmUpService.runRound(3))
+                .isInstanceOf(AppException.class)
+                .extracting(e -> ((AppException) e).getErrorCode()).isEqualTo(ErrorCode.COHORT_NOT_FOUND);
+        verify(transactionStatus).setRollbackOnly();
+        verifyNoInteractions(attendanceService);
+    }
+}
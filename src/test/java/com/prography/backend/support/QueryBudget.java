@@ -0,0 +1,19 @@
+package com.prography.backend.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 안에서 실행되는 Hibernate SQL 수 상한.
+ * 초과하면 반복 상위 SQL 형태와 함께 테스트가 실패한다 (QueryBudgetExtension).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int value();
+}
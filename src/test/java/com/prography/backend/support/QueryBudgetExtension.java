@@ -0,0 +1,39 @@
+package com.prography.backend.support;
+
+import com.prography.backend.infrastructure.QueryCountInspector;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import java.util.stream.Collectors;
+
+/**
+ * @QueryBudget이 붙은 테스트 메서드 본문(@BeforeEach 준비 제외) 동안 QueryCountInspector Scope를 열고,
+ * 끝나면 상한 초과 여부를 검사한다.
+ * MockMvc 요청은 테스트 스레드에서 실행되므로 요청 중 SQL도 함께 세어진다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCountInspector.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCountInspector.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), QueryCountInspector.Scope.class);
+        if (scope == null) return;
+        scope.close();
+        if (context.getExecutionException().isPresent()) return;
+
+        int budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).value();
+        if (scope.count() > budget) {
+            String top = scope.topShapes(5).stream()
+                    .map(s -> "  " + s.count() + "x " + s.shape())
+                    .collect(Collectors.joining("\n"));
+            throw new AssertionError("SQL " + scope.count() + "회 실행 - 예산 " + budget + "회 초과\n" + top);
+        }
+    }
+}